@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.benchmarks.pfa;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.ai.benchmarks.pfa.TiledBenchmarkMaps.HeuristicType;
+import com.badlogic.gdx.ai.benchmarks.pfa.TiledBenchmarkMaps.PathLength;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.HierarchicalPathFinder;
+import com.badlogic.gdx.ai.pfa.PathFinder;
+import com.badlogic.gdx.ai.pfa.grid.GridPartitioner;
+import com.badlogic.gdx.ai.pfa.indexed.ClusteredHierarchicalGraph;
+import com.badlogic.gdx.ai.pfa.indexed.HierarchicalGraphBuilder;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.TiledSmoothableGraphPath;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.flat.FlatTiledGraph;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.flat.FlatTiledNode;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.hrchy.HierarchicalTiledGraph;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.hrchy.HierarchicalTiledNode;
+import com.badlogic.gdx.utils.Array;
+
+/** Benchmarks the {@link HierarchicalPathFinder} across heuristics and path lengths, both on the two level dungeon of the demos
+ * and on flat dungeons of several sizes abstracted by a {@link HierarchicalGraphBuilder}. Each invocation searches the next of
+ * {@link TiledBenchmarkMaps#QUERY_COUNT} queries. Notice that a hierarchical path finder returns the first steps of the path
+ * only, so the results are not comparable with the ones of the {@link IndexedAStarPathFinderBenchmark}. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HierarchicalPathFinderBenchmark {
+
+	@State(Scope.Thread)
+	public static class TiledState {
+
+		@Param({"MANHATTAN", "EUCLIDEAN", "DIJKSTRA"})
+		public HeuristicType heuristicType;
+
+		@Param({"SHORT", "MEDIUM", "LONG"})
+		public PathLength pathLength;
+
+		HierarchicalPathFinder<HierarchicalTiledNode> pathFinder;
+		Heuristic<HierarchicalTiledNode> heuristic;
+		TiledSmoothableGraphPath<HierarchicalTiledNode>[] queries;
+		DefaultGraphPath<HierarchicalTiledNode> path;
+		int query;
+
+		@SuppressWarnings("unchecked")
+		@Setup
+		public void setup () {
+			HierarchicalTiledGraph map = TiledBenchmarkMaps.createHierarchicalMap();
+			queries = new TiledSmoothableGraphPath[TiledBenchmarkMaps.QUERY_COUNT];
+			TiledBenchmarkMaps.createQueries(map, HierarchicalTiledGraph.sizeX[0], HierarchicalTiledGraph.sizeY[0], pathLength,
+				queries);
+			pathFinder = new HierarchicalPathFinder<HierarchicalTiledNode>(map,
+				new IndexedAStarPathFinder<HierarchicalTiledNode>(map));
+			heuristic = heuristicType.create();
+			path = new DefaultGraphPath<HierarchicalTiledNode>();
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class ClusteredState {
+
+		@Param({"125x75", "250x150", "500x300"})
+		public String mapSize;
+
+		@Param({"MANHATTAN", "EUCLIDEAN", "DIJKSTRA"})
+		public HeuristicType heuristicType;
+
+		@Param({"SHORT", "MEDIUM", "LONG"})
+		public PathLength pathLength;
+
+		HierarchicalPathFinder<FlatTiledNode> pathFinder;
+		Heuristic<FlatTiledNode> heuristic;
+		TiledSmoothableGraphPath<FlatTiledNode>[] queries;
+		DefaultGraphPath<FlatTiledNode> path;
+		int query;
+
+		@SuppressWarnings("unchecked")
+		@Setup
+		public void setup () {
+			FlatTiledGraph map = TiledBenchmarkMaps.createFlatMap(mapSize);
+			queries = new TiledSmoothableGraphPath[TiledBenchmarkMaps.QUERY_COUNT];
+			TiledBenchmarkMaps.createQueries(map, map.getWidth(), map.getHeight(), pathLength, queries);
+			Array<FlatTiledNode> nodes = new Array<FlatTiledNode>(map.getNodeCount());
+			for (int i = 0; i < map.getNodeCount(); i++)
+				nodes.add(map.getNode(i));
+			final ClusteredHierarchicalGraph<FlatTiledNode> hierarchy = new HierarchicalGraphBuilder<FlatTiledNode>(map, nodes,
+				new GridPartitioner<FlatTiledNode>(map, 16, 16)).build(3);
+			pathFinder = new HierarchicalPathFinder<FlatTiledNode>(hierarchy,
+				new HierarchicalPathFinder.LevelPathFinderFactory<FlatTiledNode>() {
+					@Override
+					public PathFinder<FlatTiledNode> newLevelPathFinder (int level) {
+						return new IndexedAStarPathFinder<FlatTiledNode>(hierarchy.getLevelView(level));
+					}
+				});
+			pathFinder.refineInCorridor = true;
+			heuristic = heuristicType.create();
+			path = new DefaultGraphPath<FlatTiledNode>();
+		}
+	}
+
+	@Benchmark
+	public boolean searchNodePathOnTiledHierarchy (TiledState state) {
+		TiledSmoothableGraphPath<HierarchicalTiledNode> q = state.queries[state.query];
+		state.query = (state.query + 1) % state.queries.length;
+		state.path.clear();
+		return state.pathFinder.searchNodePath(q.get(0), q.get(q.getCount() - 1), state.heuristic, state.path);
+	}
+
+	@Benchmark
+	public boolean searchNodePathOnClusteredHierarchy (ClusteredState state) {
+		TiledSmoothableGraphPath<FlatTiledNode> q = state.queries[state.query];
+		state.query = (state.query + 1) % state.queries.length;
+		state.path.clear();
+		return state.pathFinder.searchNodePath(q.get(0), q.get(q.getCount() - 1), state.heuristic, state.path);
+	}
+}
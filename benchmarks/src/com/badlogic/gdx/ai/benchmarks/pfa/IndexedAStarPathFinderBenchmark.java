@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.benchmarks.pfa;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.ai.benchmarks.pfa.TiledBenchmarkMaps.HeuristicType;
+import com.badlogic.gdx.ai.benchmarks.pfa.TiledBenchmarkMaps.PathLength;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.TiledSmoothableGraphPath;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.flat.FlatTiledGraph;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.flat.FlatTiledNode;
+
+/** Benchmarks the {@link IndexedAStarPathFinder} on flat dungeons across map sizes, heuristics and path lengths. Each invocation
+ * searches the next of {@link TiledBenchmarkMaps#QUERY_COUNT} queries. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexedAStarPathFinderBenchmark {
+
+	@Param({"125x75", "250x150", "500x300"})
+	public String mapSize;
+
+	@Param({"MANHATTAN", "EUCLIDEAN", "DIJKSTRA"})
+	public HeuristicType heuristicType;
+
+	@Param({"SHORT", "MEDIUM", "LONG"})
+	public PathLength pathLength;
+
+	FlatTiledGraph map;
+	IndexedAStarPathFinder<FlatTiledNode> pathFinder;
+	Heuristic<FlatTiledNode> heuristic;
+	TiledSmoothableGraphPath<FlatTiledNode>[] queries;
+	DefaultGraphPath<FlatTiledNode> path;
+	int query;
+
+	@SuppressWarnings("unchecked")
+	@Setup
+	public void setup () {
+		map = TiledBenchmarkMaps.createFlatMap(mapSize);
+		queries = new TiledSmoothableGraphPath[TiledBenchmarkMaps.QUERY_COUNT];
+		TiledBenchmarkMaps.createQueries(map, map.getWidth(), map.getHeight(), pathLength, queries);
+		pathFinder = new IndexedAStarPathFinder<FlatTiledNode>(map);
+		heuristic = heuristicType.create();
+		path = new DefaultGraphPath<FlatTiledNode>();
+	}
+
+	@Benchmark
+	public boolean searchNodePath () {
+		TiledSmoothableGraphPath<FlatTiledNode> q = queries[query];
+		query = (query + 1) % queries.length;
+		path.clear();
+		return pathFinder.searchNodePath(q.get(0), q.get(q.getCount() - 1), heuristic, path);
+	}
+}
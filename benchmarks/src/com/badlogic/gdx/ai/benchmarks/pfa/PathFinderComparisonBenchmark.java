@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.benchmarks.pfa;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.ai.benchmarks.pfa.TiledBenchmarkMaps.PathLength;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.PathFinder;
+import com.badlogic.gdx.ai.pfa.grid.JumpPointSearchPathFinder;
+import com.badlogic.gdx.ai.pfa.grid.JumpPointSearchPlusPathFinder;
+import com.badlogic.gdx.ai.pfa.indexed.CompiledAStarPathFinder;
+import com.badlogic.gdx.ai.pfa.indexed.CompiledIndexedGraph;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import com.badlogic.gdx.ai.pfa.indexed.PrimitiveIndexedAStarPathFinder;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.TiledManhattanDistance;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.TiledSmoothableGraphPath;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.flat.FlatTiledGraph;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.flat.FlatTiledNode;
+import com.badlogic.gdx.utils.Array;
+
+/** Compares the path finders able to search a uniform-cost grid, from the {@link IndexedAStarPathFinder} to the
+ * {@link JumpPointSearchPlusPathFinder}, on the same flat dungeons and queries with the Manhattan heuristic. Each invocation
+ * searches the next of {@link TiledBenchmarkMaps#QUERY_COUNT} queries. Run it with the gc profiler to compare the memory
+ * allocated by each finder too. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathFinderComparisonBenchmark {
+
+	/** The path finders compared by this benchmark. */
+	public enum PathFinderType {
+		INDEXED_A_STAR, PRIMITIVE_INDEXED_A_STAR, COMPILED_A_STAR, JUMP_POINT_SEARCH, JUMP_POINT_SEARCH_PLUS;
+
+		PathFinder<FlatTiledNode> create (FlatTiledGraph map) {
+			switch (this) {
+			case INDEXED_A_STAR:
+				return new IndexedAStarPathFinder<FlatTiledNode>(map);
+			case PRIMITIVE_INDEXED_A_STAR:
+				return new PrimitiveIndexedAStarPathFinder<FlatTiledNode>(map);
+			case COMPILED_A_STAR:
+				Array<FlatTiledNode> nodes = new Array<FlatTiledNode>(map.getNodeCount());
+				for (int i = 0; i < map.getNodeCount(); i++)
+					nodes.add(map.getNode(i));
+				return new CompiledAStarPathFinder<FlatTiledNode>(new CompiledIndexedGraph<FlatTiledNode>(map, nodes));
+			case JUMP_POINT_SEARCH:
+				return new JumpPointSearchPathFinder<FlatTiledNode>(map, false);
+			default:
+				return new JumpPointSearchPlusPathFinder<FlatTiledNode>(map, false);
+			}
+		}
+	}
+
+	@Param({"125x75", "250x150", "500x300"})
+	public String mapSize;
+
+	@Param({"SHORT", "MEDIUM", "LONG"})
+	public PathLength pathLength;
+
+	@Param({"INDEXED_A_STAR", "PRIMITIVE_INDEXED_A_STAR", "COMPILED_A_STAR", "JUMP_POINT_SEARCH", "JUMP_POINT_SEARCH_PLUS"})
+	public PathFinderType pathFinderType;
+
+	FlatTiledGraph map;
+	PathFinder<FlatTiledNode> pathFinder;
+	TiledManhattanDistance<FlatTiledNode> heuristic;
+	TiledSmoothableGraphPath<FlatTiledNode>[] queries;
+	DefaultGraphPath<FlatTiledNode> path;
+	int query;
+
+	@SuppressWarnings("unchecked")
+	@Setup
+	public void setup () {
+		map = TiledBenchmarkMaps.createFlatMap(mapSize);
+		queries = new TiledSmoothableGraphPath[TiledBenchmarkMaps.QUERY_COUNT];
+		TiledBenchmarkMaps.createQueries(map, map.getWidth(), map.getHeight(), pathLength, queries);
+		pathFinder = pathFinderType.create(map);
+		heuristic = new TiledManhattanDistance<FlatTiledNode>();
+		path = new DefaultGraphPath<FlatTiledNode>();
+	}
+
+	@Benchmark
+	public boolean searchNodePath () {
+		TiledSmoothableGraphPath<FlatTiledNode> q = queries[query];
+		query = (query + 1) % queries.length;
+		path.clear();
+		return pathFinder.searchNodePath(q.get(0), q.get(q.getCount() - 1), heuristic, path);
+	}
+}
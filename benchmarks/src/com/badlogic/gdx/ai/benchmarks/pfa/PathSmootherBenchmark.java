@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.benchmarks.pfa;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.ai.benchmarks.pfa.TiledBenchmarkMaps.PathLength;
+import com.badlogic.gdx.ai.pfa.PathSmoother;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.TiledRaycastCollisionDetector;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.TiledSmoothableGraphPath;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.flat.FlatTiledGraph;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.flat.FlatTiledNode;
+import com.badlogic.gdx.math.Vector2;
+
+/** Benchmarks the {@link PathSmoother} on the optimal paths of flat dungeons across map sizes and path lengths. Each invocation
+ * copies the next of {@link TiledBenchmarkMaps#QUERY_COUNT} paths and smoothes it. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathSmootherBenchmark {
+
+	@Param({"125x75", "250x150", "500x300"})
+	public String mapSize;
+
+	@Param({"SHORT", "MEDIUM", "LONG"})
+	public PathLength pathLength;
+
+	PathSmoother<FlatTiledNode, Vector2> pathSmoother;
+	TiledSmoothableGraphPath<FlatTiledNode>[] paths;
+	TiledSmoothableGraphPath<FlatTiledNode> path;
+	int query;
+
+	@SuppressWarnings("unchecked")
+	@Setup
+	public void setup () {
+		FlatTiledGraph map = TiledBenchmarkMaps.createFlatMap(mapSize);
+		paths = new TiledSmoothableGraphPath[TiledBenchmarkMaps.QUERY_COUNT];
+		TiledBenchmarkMaps.createQueries(map, map.getWidth(), map.getHeight(), pathLength, paths);
+		pathSmoother = new PathSmoother<FlatTiledNode, Vector2>(new TiledRaycastCollisionDetector<FlatTiledNode>(map));
+		path = new TiledSmoothableGraphPath<FlatTiledNode>();
+	}
+
+	@Benchmark
+	public int smoothPath () {
+		path.clear();
+		path.nodes.addAll(paths[query].nodes);
+		query = (query + 1) % paths.length;
+		return pathSmoother.smoothPath(path);
+	}
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.benchmarks.pfa;
+
+import java.util.Random;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.TiledGraph;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.TiledManhattanDistance;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.TiledNode;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.TiledSmoothableGraphPath;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.flat.FlatTiledGraph;
+import com.badlogic.gdx.ai.tests.pfa.tests.tiled.hrchy.HierarchicalTiledGraph;
+import com.badlogic.gdx.math.MathUtils;
+
+/** Creates the dungeons and the queries shared by the path finding benchmarks. Maps are generated by the same
+ * {@code DungeonUtils} used by the demos, seeded so that every run benchmarks the same maps. */
+public final class TiledBenchmarkMaps {
+
+	/** The seed of the generated dungeons and queries. */
+	public static final long SEED = 0x5eedL;
+
+	/** The number of queries cycled through by each benchmark. */
+	public static final int QUERY_COUNT = 64;
+
+	/** The path length of the queries, relative to the sum of the width and the height of the map. */
+	public enum PathLength {
+		/** Up to 10% of the sum of the map sides. */
+		SHORT(0, .1f),
+		/** From 10% to 40% of the sum of the map sides. */
+		MEDIUM(.1f, .4f),
+		/** More than 40% of the sum of the map sides. */
+		LONG(.4f, Float.POSITIVE_INFINITY);
+
+		final float min;
+		final float max;
+
+		PathLength (float min, float max) {
+			this.min = min;
+			this.max = max;
+		}
+	}
+
+	/** The heuristics the benchmarks can search with. */
+	public enum HeuristicType {
+		MANHATTAN, EUCLIDEAN, DIJKSTRA;
+
+		public <N extends TiledNode<N>> Heuristic<N> create () {
+			switch (this) {
+			case MANHATTAN:
+				return new TiledManhattanDistance<N>();
+			case EUCLIDEAN:
+				return new Heuristic<N>() {
+					@Override
+					public float estimate (N node, N endNode) {
+						float dx = endNode.x - node.x;
+						float dy = endNode.y - node.y;
+						return (float)Math.sqrt(dx * dx + dy * dy);
+					}
+				};
+			default:
+				return new Heuristic<N>() {
+					@Override
+					public float estimate (N node, N endNode) {
+						return 0;
+					}
+				};
+			}
+		}
+	}
+
+	private TiledBenchmarkMaps () {
+	}
+
+	/** Creates a flat dungeon of the given size, whose number of rooms is proportional to its area. All connections cost 1.
+	 * @param mapSize the size of the map in the form {@code <width>x<height>}, for instance {@code 125x75} */
+	public static FlatTiledGraph createFlatMap (String mapSize) {
+		int separator = mapSize.indexOf('x');
+		int width = Integer.parseInt(mapSize.substring(0, separator));
+		int height = Integer.parseInt(mapSize.substring(separator + 1));
+		float scale = (float)(width * height) / (FlatTiledGraph.sizeX * FlatTiledGraph.sizeY);
+
+		MathUtils.random.setSeed(SEED);
+		FlatTiledGraph map = new FlatTiledGraph(width, height);
+		map.init((int)(115 * scale), 3, 15, 100);
+		map.diagonal = true;
+		return map;
+	}
+
+	/** Creates a two level hierarchical dungeon of the default size used by the demos. All connections cost 1. */
+	public static HierarchicalTiledGraph createHierarchicalMap () {
+		MathUtils.random.setSeed(SEED);
+		HierarchicalTiledGraph map = new HierarchicalTiledGraph();
+		map.init(100, 2, 8, 100);
+		map.setLevel(0);
+		map.diagonal = true;
+		return map;
+	}
+
+	/** Picks {@link #QUERY_COUNT} pairs of floor tiles connected by a path of the given length.
+	 * @param map the map, which must be at level 0 if hierarchical
+	 * @param width the width of the map
+	 * @param height the height of the map
+	 * @param pathLength the length of the paths
+	 * @param paths the output paths, which are filled with the optimal path of each query */
+	public static <N extends TiledNode<N>> void createQueries (TiledGraph<N> map, int width, int height, PathLength pathLength,
+		TiledSmoothableGraphPath<N>[] paths) {
+		Random random = new Random(SEED);
+		IndexedAStarPathFinder<N> pathFinder = new IndexedAStarPathFinder<N>(map);
+		Heuristic<N> heuristic = new TiledManhattanDistance<N>();
+		float min = pathLength.min * (width + height);
+		float max = pathLength.max * (width + height);
+		DefaultGraphPath<N> path = new DefaultGraphPath<N>();
+		int count = 0;
+		for (int attempts = 0; count < paths.length; attempts++) {
+			if (attempts == 1000000)
+				throw new IllegalStateException("Cannot find " + paths.length + " " + pathLength + " paths on this map");
+			N startNode = map.getNode(random.nextInt(width), random.nextInt(height));
+			N endNode = map.getNode(random.nextInt(width), random.nextInt(height));
+			if (startNode == endNode || startNode.type != TiledNode.TILE_FLOOR || endNode.type != TiledNode.TILE_FLOOR) continue;
+			path.clear();
+			if (!pathFinder.searchNodePath(startNode, endNode, heuristic, path)) continue;
+			int length = path.getCount() - 1;
+			if (length <= min || length > max) continue;
+			paths[count] = new TiledSmoothableGraphPath<N>();
+			paths[count].nodes.addAll(path.nodes);
+			count++;
+		}
+	}
+}
@@ -0,0 +1,336 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** A {@code CachingPathFinder} is a {@link PathFinder} decorator that memoizes the results of the searches performed by the
+ * wrapped path finder, so that asking for the same path again costs just a lookup and a copy. Results are keyed on start node,
+ * end node and heuristic, and both successful and failed searches are cached. Nodes are compared through their {@code equals}
+ * and {@code hashCode} methods, while heuristics are usually compared by identity.
+ * <p>
+ * Memory is bounded by the capacity of the cache: when it's full the least recently used entry is evicted. A node path can be
+ * served from a cached connection path, but not vice versa.
+ * <p>
+ * If the graph is a {@link VersionedGraph} the cache is invalidated as soon as the graph version changes. Otherwise you have to
+ * call {@link #clear()} yourself whenever the graph is modified.
+ * <p>
+ * Since this class implements the interruptible {@link #search(PathFinderRequest, long) search} too, it can be used by a
+ * {@link PathFinderQueue} without any change. Cache hits complete immediately.
+ * 
+ * @param <N> Type of node */
+public class CachingPathFinder<N> implements PathFinder<N> {
+
+	/** The decorated path finder. */
+	protected final PathFinder<N> pathFinder;
+
+	/** The graph whose version is checked to invalidate the cache; it can be {@code null}. */
+	protected final VersionedGraph<N> graph;
+
+	private final int capacity;
+	private final ObjectMap<CacheKey<N>, CacheEntry<N>> entries;
+	private final CacheKey<N> tmpKey;
+
+	/** The most recently used entry. */
+	private CacheEntry<N> head;
+
+	/** The least recently used entry. */
+	private CacheEntry<N> tail;
+
+	/** The graph version the cached results refer to. */
+	private int version;
+
+	/** The graph version at the beginning of the interruptible search in progress. */
+	private int requestVersion;
+
+	/** The size of the result path of the request in progress before the search began. */
+	private int requestPathOffset;
+
+	private int hitCount;
+	private int missCount;
+
+	/** Creates a {@code CachingPathFinder} that has to be {@link #clear() cleared} manually when the graph changes.
+	 * @param pathFinder the path finder to decorate
+	 * @param capacity the maximum number of cached results
+	 * @throws IllegalArgumentException if {@code capacity} is less than 1 */
+	public CachingPathFinder (PathFinder<N> pathFinder, int capacity) {
+		this(pathFinder, null, capacity);
+	}
+
+	/** Creates a {@code CachingPathFinder} that is invalidated whenever the version of the given graph changes.
+	 * @param pathFinder the path finder to decorate
+	 * @param graph the graph searched by the path finder; it can be {@code null}
+	 * @param capacity the maximum number of cached results
+	 * @throws IllegalArgumentException if {@code capacity} is less than 1 */
+	public CachingPathFinder (PathFinder<N> pathFinder, VersionedGraph<N> graph, int capacity) {
+		if (capacity < 1) throw new IllegalArgumentException("capacity must be at least 1");
+		this.pathFinder = pathFinder;
+		this.graph = graph;
+		this.capacity = capacity;
+		this.entries = new ObjectMap<CacheKey<N>, CacheEntry<N>>(capacity);
+		this.tmpKey = new CacheKey<N>();
+		if (graph != null) this.version = graph.getVersion();
+	}
+
+	@Override
+	public boolean searchConnectionPath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<Connection<N>> outPath) {
+		validate();
+		CacheEntry<N> entry = get(startNode, endNode, heuristic);
+		if (entry != null && (!entry.found || entry.connectionPath != null)) {
+			hitCount++;
+			if (entry.found) {
+				Array<Connection<N>> connectionPath = entry.connectionPath;
+				for (int i = 0; i < connectionPath.size; i++)
+					outPath.add(connectionPath.get(i));
+			}
+			return entry.found;
+		}
+		missCount++;
+
+		// Perform the actual search and store its result
+		int offset = outPath.getCount();
+		boolean found = pathFinder.searchConnectionPath(startNode, endNode, heuristic, outPath);
+		entry = put(startNode, endNode, heuristic, found);
+		if (found) {
+			entry.connectionPath = copy(outPath, offset);
+		}
+		return found;
+	}
+
+	@Override
+	public boolean searchNodePath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<N> outPath) {
+		validate();
+		CacheEntry<N> entry = get(startNode, endNode, heuristic);
+		if (entry != null) {
+			hitCount++;
+			if (entry.found) copyNodePath(entry, outPath);
+			return entry.found;
+		}
+		missCount++;
+
+		// Perform the actual search and store its result
+		int offset = outPath.getCount();
+		boolean found = pathFinder.searchNodePath(startNode, endNode, heuristic, outPath);
+		entry = put(startNode, endNode, heuristic, found);
+		if (found) {
+			entry.nodePath = copy(outPath, offset);
+		}
+		return found;
+	}
+
+	@Override
+	public boolean search (PathFinderRequest<N> request, long timeToRun) {
+
+		// Look the result up when the search begins
+		if (request.statusChanged) {
+			validate();
+			CacheEntry<N> entry = get(request.startNode, request.endNode, request.heuristic);
+			if (entry != null) {
+				hitCount++;
+				request.pathFound = entry.found;
+				if (entry.found) copyNodePath(entry, request.resultPath);
+				request.statusChanged = false;
+				return true;
+			}
+			missCount++;
+			requestVersion = graph != null ? graph.getVersion() : 0;
+			requestPathOffset = request.resultPath.getCount();
+		}
+
+		// Advance the actual search
+		if (!pathFinder.search(request, timeToRun)) return false;
+
+		// Store the result unless the graph has changed in the meantime
+		if (graph == null || graph.getVersion() == requestVersion) {
+			validate();
+			CacheEntry<N> entry = put(request.startNode, request.endNode, request.heuristic, request.pathFound);
+			if (request.pathFound) {
+				entry.nodePath = copy(request.resultPath, requestPathOffset);
+			}
+		}
+		return true;
+	}
+
+	/** Removes all the cached results. */
+	public void clear () {
+		entries.clear();
+		head = tail = null;
+	}
+
+	/** Returns the number of cached results. */
+	public int size () {
+		return entries.size;
+	}
+
+	/** Returns the maximum number of cached results. */
+	public int getCapacity () {
+		return capacity;
+	}
+
+	/** Returns the number of searches served by the cache since the creation of this path finder or the last call to
+	 * {@link #resetStatistics()}. */
+	public int getHitCount () {
+		return hitCount;
+	}
+
+	/** Returns the number of searches delegated to the decorated path finder since the creation of this path finder or the last
+	 * call to {@link #resetStatistics()}. */
+	public int getMissCount () {
+		return missCount;
+	}
+
+	/** Resets the hit and miss counters. */
+	public void resetStatistics () {
+		hitCount = 0;
+		missCount = 0;
+	}
+
+	/** Clears the cache if the graph version has changed. */
+	private void validate () {
+		if (graph != null) {
+			int currentVersion = graph.getVersion();
+			if (currentVersion != version) {
+				clear();
+				version = currentVersion;
+			}
+		}
+	}
+
+	/** Returns the entry for the given search, marking it as the most recently used, or {@code null} if there's no such entry. */
+	private CacheEntry<N> get (N startNode, N endNode, Heuristic<N> heuristic) {
+		CacheEntry<N> entry = entries.get(tmpKey.set(startNode, endNode, heuristic));
+		tmpKey.set(null, null, null);
+		if (entry != null) moveToHead(entry);
+		return entry;
+	}
+
+	/** Returns the entry for the given search, creating it or recycling the least recently used one if needed. The cached paths
+	 * of a new entry, or of an entry whose result differs from the given one, are discarded. */
+	private CacheEntry<N> put (N startNode, N endNode, Heuristic<N> heuristic, boolean found) {
+		CacheEntry<N> entry = get(startNode, endNode, heuristic);
+		if (entry == null) {
+			if (entries.size >= capacity) {
+				// Recycle the least recently used entry
+				entry = tail;
+				entries.remove(entry.key);
+				unlink(entry);
+			} else {
+				entry = new CacheEntry<N>();
+			}
+			entry.key.set(startNode, endNode, heuristic);
+			entries.put(entry.key, entry);
+			linkAtHead(entry);
+		} else if (entry.found == found) {
+			return entry;
+		}
+		entry.found = found;
+		entry.nodePath = null;
+		entry.connectionPath = null;
+		return entry;
+	}
+
+	private void moveToHead (CacheEntry<N> entry) {
+		if (entry == head) return;
+		unlink(entry);
+		linkAtHead(entry);
+	}
+
+	private void linkAtHead (CacheEntry<N> entry) {
+		entry.prev = null;
+		entry.next = head;
+		if (head != null) head.prev = entry;
+		head = entry;
+		if (tail == null) tail = entry;
+	}
+
+	private void unlink (CacheEntry<N> entry) {
+		if (entry.prev != null)
+			entry.prev.next = entry.next;
+		else
+			head = entry.next;
+		if (entry.next != null)
+			entry.next.prev = entry.prev;
+		else
+			tail = entry.prev;
+		entry.prev = entry.next = null;
+	}
+
+	private static <T> Array<T> copy (GraphPath<T> path, int offset) {
+		Array<T> out = new Array<T>(path.getCount() - offset);
+		for (int i = offset, n = path.getCount(); i < n; i++)
+			out.add(path.get(i));
+		return out;
+	}
+
+	private static <N> void copyNodePath (CacheEntry<N> entry, GraphPath<N> outPath) {
+		if (entry.nodePath != null) {
+			Array<N> nodePath = entry.nodePath;
+			for (int i = 0; i < nodePath.size; i++)
+				outPath.add(nodePath.get(i));
+		} else {
+			// Build the node path from the connection path
+			Array<Connection<N>> connectionPath = entry.connectionPath;
+			outPath.add(entry.key.startNode);
+			for (int i = 0; i < connectionPath.size; i++)
+				outPath.add(connectionPath.get(i).getToNode());
+		}
+	}
+
+	/** The key of a cached search.
+	 * 
+	 * @param <N> Type of node */
+	static class CacheKey<N> {
+		N startNode;
+		N endNode;
+		Heuristic<N> heuristic;
+
+		CacheKey<N> set (N startNode, N endNode, Heuristic<N> heuristic) {
+			this.startNode = startNode;
+			this.endNode = endNode;
+			this.heuristic = heuristic;
+			return this;
+		}
+
+		@Override
+		public int hashCode () {
+			int result = 31 + startNode.hashCode();
+			result = 31 * result + endNode.hashCode();
+			return 31 * result + heuristic.hashCode();
+		}
+
+		@Override
+		public boolean equals (Object obj) {
+			if (this == obj) return true;
+			if (!(obj instanceof CacheKey)) return false;
+			CacheKey<?> other = (CacheKey<?>)obj;
+			return startNode.equals(other.startNode) && endNode.equals(other.endNode) && heuristic.equals(other.heuristic);
+		}
+	}
+
+	/** A cached search result, which is also a node of the LRU list.
+	 * 
+	 * @param <N> Type of node */
+	static class CacheEntry<N> {
+		final CacheKey<N> key = new CacheKey<N>();
+		boolean found;
+		Array<N> nodePath;
+		Array<Connection<N>> connectionPath;
+		CacheEntry<N> prev;
+		CacheEntry<N> next;
+	}
+}
@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.badlogic.gdx.ai.msg.MessageDispatcher;
+import com.badlogic.gdx.ai.msg.MessageManager;
+import com.badlogic.gdx.ai.msg.Telegram;
+import com.badlogic.gdx.ai.msg.Telegraph;
+import com.badlogic.gdx.ai.sched.Schedulable;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** A {@code ConcurrentPathFinderQueue} is a multi-threaded alternative to the {@link PathFinderQueue}. It owns a pool of worker
+ * threads, each one with its own {@link PathFinder} instance, so that many pathfinding requests can be served in parallel over a
+ * graph shared by all the workers.
+ * <p>
+ * Requests can be submitted from any thread, either through {@link #submit(PathFinderRequest)} or by sending a
+ * {@link Telegram} to this queue just like you would do with a {@link PathFinderQueue}. Workers run both the initialization and
+ * the search of a request without time limits. Instead, the finalization of completed requests and the delivery of the results
+ * to their clients through the request's {@link MessageDispatcher} take place on the thread calling {@link #run(long)}, typically
+ * the game thread, within the given time budget.
+ * <p>
+ * Since the graph is accessed concurrently by the workers, it must not be modified while requests are being served, and its
+ * methods must not rely on shared mutable state. For example, a graph returning the same array instance from
+ * {@link Graph#getConnections(Object) getConnections} cannot be shared. The same holds for the heuristic of the requests.
+ * <p>
+ * Worker threads are daemon threads. Call {@link #dispose()} to stop them when this queue is no longer needed.
+ * <p>
+ * Notice that this class is not available on the GWT backend.
+ * 
+ * @param <N> Type of node */
+public class ConcurrentPathFinderQueue<N> implements Schedulable, Telegraph, Disposable {
+
+	/** The requests waiting to be served by a worker. */
+	final BlockingQueue<PathFinderRequest<N>> pendingRequests;
+
+	/** The requests whose search has been completed by a worker, waiting to be finalized. */
+	final ConcurrentLinkedQueue<PathFinderRequest<N>> completedRequests;
+
+	/** The number of requests submitted and not yet finalized. */
+	final AtomicInteger size;
+
+	/** The completed request whose finalization has been interrupted. */
+	PathFinderRequest<N> currentRequest;
+
+	/** The first error thrown by a worker, if any. */
+	volatile Throwable failure;
+
+	private final Thread[] workers;
+
+	/** Creates a {@code ConcurrentPathFinderQueue} with as many workers as available processors.
+	 * @param pathFinderFactory the factory used to create the path finder of each worker */
+	public ConcurrentPathFinderQueue (PathFinderFactory<N> pathFinderFactory) {
+		this(pathFinderFactory, Runtime.getRuntime().availableProcessors());
+	}
+
+	/** Creates a {@code ConcurrentPathFinderQueue} with the given number of workers.
+	 * @param pathFinderFactory the factory used to create the path finder of each worker
+	 * @param workerCount the number of worker threads
+	 * @throws IllegalArgumentException if {@code workerCount} is less than 1 */
+	public ConcurrentPathFinderQueue (PathFinderFactory<N> pathFinderFactory, int workerCount) {
+		if (workerCount < 1) throw new IllegalArgumentException("workerCount must be at least 1");
+		this.pendingRequests = new LinkedBlockingQueue<PathFinderRequest<N>>();
+		this.completedRequests = new ConcurrentLinkedQueue<PathFinderRequest<N>>();
+		this.size = new AtomicInteger();
+		this.workers = new Thread[workerCount];
+		for (int i = 0; i < workerCount; i++) {
+			Thread worker = new Thread(new Worker(pathFinderFactory.newPathFinder()), "PathFinderWorker-" + i);
+			worker.setDaemon(true);
+			workers[i] = worker;
+			worker.start();
+		}
+	}
+
+	/** Finalizes the requests completed by the workers and sends the results to their clients. This method must be called on the
+	 * thread the clients expect to be notified on, typically the game thread.
+	 * @param timeToRun the maximum time in nanoseconds this method can run on the current frame
+	 * @throws GdxRuntimeException if a worker has failed serving a request */
+	@Override
+	public void run (long timeToRun) {
+		Throwable failure = this.failure;
+		if (failure != null) {
+			this.failure = null;
+			throw new GdxRuntimeException("Pathfinding request failed", failure);
+		}
+
+		long lastTime = TimeUtils.nanoTime();
+
+		// If no finalization in progress, take the next completed request
+		if (currentRequest == null) currentRequest = completedRequests.poll();
+
+		while (currentRequest != null) {
+			PathFinderRequest<N> request = currentRequest;
+
+			// Check the available time
+			long currentTime = TimeUtils.nanoTime();
+			timeToRun -= currentTime - lastTime;
+			if (timeToRun <= PathFinderQueue.TIME_TOLERANCE) return;
+
+			request.executionFrames++;
+			if (!request.finalizeSearch(timeToRun)) return;
+			request.changeStatus(PathFinderRequest.SEARCH_FINALIZED);
+			size.decrementAndGet();
+
+			// Search finished, send result to the client
+			MessageDispatcher dispatcher = request.dispatcher != null ? request.dispatcher : MessageManager.getInstance();
+			dispatcher.dispatchMessage(this, request.client, request.responseMessageCode, request);
+
+			// The client may have renewed the request on receipt of the result
+			if (request.statusChanged && request.status == PathFinderRequest.SEARCH_NEW) enqueue(request);
+
+			lastTime = currentTime;
+
+			// Read next completed request
+			currentRequest = completedRequests.poll();
+		}
+	}
+
+	@Override
+	public boolean handleMessage (Telegram telegram) {
+		@SuppressWarnings("unchecked")
+		PathFinderRequest<N> pfr = (PathFinderRequest<N>)telegram.extraInfo;
+		pfr.client = telegram.sender; // set the client to be notified once the request has completed
+		submit(pfr);
+		return true;
+	}
+
+	/** Submits the given request to this queue. The client to be notified once the request has completed must have been set
+	 * already. This method is thread-safe.
+	 * @param request the request to serve */
+	public void submit (PathFinderRequest<N> request) {
+		request.status = PathFinderRequest.SEARCH_NEW; // Reset status
+		request.statusChanged = true; // Status has just changed
+		request.executionFrames = 0; // Reset execution frames counter
+		enqueue(request);
+	}
+
+	/** Returns the number of requests submitted to this queue and not yet finalized. */
+	public int size () {
+		return size.get();
+	}
+
+	/** Stops the worker threads. Requests not yet completed are discarded. */
+	@Override
+	public void dispose () {
+		for (int i = 0; i < workers.length; i++)
+			workers[i].interrupt();
+		pendingRequests.clear();
+	}
+
+	private void enqueue (PathFinderRequest<N> request) {
+		size.incrementAndGet();
+		pendingRequests.add(request);
+	}
+
+	/** A factory creating the path finder of each worker.
+	 * 
+	 * @param <N> Type of node */
+	public interface PathFinderFactory<N> {
+
+		/** Returns a new path finder. Each call must return a distinct instance since path finders are not thread-safe. */
+		public PathFinder<N> newPathFinder ();
+	}
+
+	/** A worker serving pending requests with its own path finder. */
+	private class Worker implements Runnable {
+		private final PathFinder<N> pathFinder;
+
+		Worker (PathFinder<N> pathFinder) {
+			this.pathFinder = pathFinder;
+		}
+
+		@Override
+		public void run () {
+			try {
+				while (true) {
+					PathFinderRequest<N> request = pendingRequests.take();
+					try {
+						// Initialize and search without time limits
+						while (!request.initializeSearch(Long.MAX_VALUE)) {
+						}
+						request.changeStatus(PathFinderRequest.SEARCH_INITIALIZED);
+						while (!request.search(pathFinder, Long.MAX_VALUE)) {
+						}
+						request.changeStatus(PathFinderRequest.SEARCH_DONE);
+						completedRequests.add(request);
+					} catch (Throwable t) {
+						size.decrementAndGet();
+						if (failure == null) failure = t;
+					}
+				}
+			} catch (InterruptedException e) {
+				// The queue has been disposed
+			}
+		}
+	}
+}
@@ -32,6 +32,13 @@ public interface HierarchicalGraph<N> extends Graph<N> {
 	 * @param level the level to set */
 	public void setLevel (int level);
 
+	/** Returns a graph acting as this hierarchical graph at the given level, regardless of the level set through
+	 * {@link #setLevel(int)}. Searching a level view never changes the state of this graph, so several searches can run at once
+	 * on different views of the same hierarchy as long as the latter is not modified.
+	 * @param level the level of the view
+	 * @return the view of the given level. */
+	public Graph<N> getLevelView (int level);
+
 	/** Converts the node at the input level into a node at the output level.
 	 * @param inputLevel the input level
 	 * @param node the node at the input level
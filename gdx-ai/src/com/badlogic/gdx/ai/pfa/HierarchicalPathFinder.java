@@ -25,11 +25,22 @@ import com.badlogic.gdx.utils.TimeUtils;
  * Pathfinding on a hierarchical graph applies the level path finder algorithm several times, starting at a high level of the
  * hierarchy and working down. The results at high levels are used to limit the work it needs to do at lower levels.
  * <p>
- * Note that the hierarchical path finder calls the {@link HierarchicalGraph#setLevel(int)} method to switch the graph into a
- * particular level. All future calls to the {@link HierarchicalGraph#getConnections(Object) getConnections} method of the
- * hierarchical graph then act as if the graph was just a simple, non-hierarchical graph at that level. This way, the level path
- * finder has no way of telling that it is working with a hierarchical graph and it doesn't need to, meaning that you can use any
- * path finder implementation for the level path finder.
+ * The preferred way to create a hierarchical path finder is through a {@link LevelPathFinderFactory}, which provides a distinct
+ * level path finder for each level, typically searching the {@link HierarchicalGraph#getLevelView(int) level view} of the
+ * hierarchical graph. Since level views act as simple, non-hierarchical graphs at their level, the level path finders have no way
+ * of telling that they are working with a hierarchical graph and they don't need to, meaning that you can use any path finder
+ * implementation. Moreover, the hierarchical graph is never modified by the search, so several hierarchical path finders, for
+ * instance one per worker of a {@link ConcurrentPathFinderQueue}, can search the same hierarchy at once.
+ * <p>
+ * Alternatively, a single level path finder searching the hierarchical graph itself can be used. In this case the hierarchical
+ * path finder calls the {@link HierarchicalGraph#setLevel(int)} method to switch the graph into a particular level before
+ * searching it, so the hierarchical graph cannot be shared by other searches running at the same time.
+ * <p>
+ * By default the first move planned at each level becomes the end node of the search at the level below, which works well for
+ * hand-built hierarchies whose nodes at higher levels are small, convex areas. Hierarchies built by the
+ * {@link com.badlogic.gdx.ai.pfa.indexed.HierarchicalGraphBuilder HierarchicalGraphBuilder} have one node per region of a cluster
+ * instead, and an agent replanning after each move can go back and forth between two regions. For such hierarchies set
+ * {@link #refineInCorridor} to {@code true}.
  * 
  * @param <N> Type of node
  * 
@@ -40,15 +51,58 @@ public class HierarchicalPathFinder<N> implements PathFinder<N> {
 	public static boolean DEBUG = false;
 
 	HierarchicalGraph<N> graph;
-	PathFinder<N> levelPathFinder;
+	PathFinder<N>[] levelPathFinders;
+	boolean switchLevel;
 	LevelPathFinderRequest<N> levelRequest;
 	PathFinderRequestControl<N> levelRequestControl;
 
+	/** The sink the metrics of the level searches are reported to; {@code null} if metrics are disabled. */
+	public PathFinderMetricsSink metricsSink;
+
+	/** Whether the search at each level is kept inside the corridor planned at the higher levels. When enabled, the first move
+	 * planned at a level is used as the end node at the level below only if it belongs, at each higher level, to the start node or
+	 * to the node moved towards; otherwise the end node of the level above is kept. Moreover, the actual end node is aimed at as
+	 * soon as its node is one move away or a level is skipped. This makes repeated searches from the nodes along the path
+	 * converge on hierarchies with one node per region, like the ones built by the
+	 * {@link com.badlogic.gdx.ai.pfa.indexed.HierarchicalGraphBuilder HierarchicalGraphBuilder}. Defaults to {@code false}, which
+	 * is the classic behavior. */
+	public boolean refineInCorridor;
+
+	/** The start node and the node moved towards at each level of the current search; only used to refine in the corridor. */
+	N[] corridorStarts;
+	N[] corridorEnds;
+
+	/** Creates a {@code HierarchicalPathFinder} using the given level path finder on all levels. The level path finder is expected
+	 * to search the given hierarchical graph, which is switched into the proper level before each search.
+	 * @param graph the hierarchical graph
+	 * @param levelPathFinder the path finder searching the hierarchical graph */
+	@SuppressWarnings("unchecked")
 	public HierarchicalPathFinder (HierarchicalGraph<N> graph, PathFinder<N> levelPathFinder) {
+		this(graph, (PathFinder<N>[])new PathFinder[graph.getLevelCount()], true);
+		for (int i = 0; i < levelPathFinders.length; i++)
+			levelPathFinders[i] = levelPathFinder;
+	}
+
+	/** Creates a {@code HierarchicalPathFinder} using a distinct level path finder on each level. The level of the hierarchical
+	 * graph is never changed, provided that the level path finders search the level views of the graph.
+	 * @param graph the hierarchical graph
+	 * @param levelPathFinderFactory the factory used to create the path finder of each level */
+	@SuppressWarnings("unchecked")
+	public HierarchicalPathFinder (HierarchicalGraph<N> graph, LevelPathFinderFactory<N> levelPathFinderFactory) {
+		this(graph, (PathFinder<N>[])new PathFinder[graph.getLevelCount()], false);
+		for (int i = 0; i < levelPathFinders.length; i++)
+			levelPathFinders[i] = levelPathFinderFactory.newLevelPathFinder(i);
+	}
+
+	@SuppressWarnings("unchecked")
+	private HierarchicalPathFinder (HierarchicalGraph<N> graph, PathFinder<N>[] levelPathFinders, boolean switchLevel) {
 		this.graph = graph;
-		this.levelPathFinder = levelPathFinder;
+		this.levelPathFinders = levelPathFinders;
+		this.switchLevel = switchLevel;
 		this.levelRequest = null;
 		this.levelRequestControl = null;
+		this.corridorStarts = (N[])new Object[graph.getLevelCount()];
+		this.corridorEnds = (N[])new Object[graph.getLevelCount()];
 	}
 
 	@Override
@@ -70,6 +124,7 @@ public class HierarchicalPathFinder<N> implements PathFinder<N> {
 			// Find the end node at current level
 			// Note that if we're examining level 0 and the current end node, the end node and the
 			// start node have the same parent at level 1 then we can use the end node directly.
+			boolean actualEndNode = levelOfNodes == 0;
 			currentEndNode = graph.convertNodeBetweenLevels(levelOfNodes, currentEndNode, currentLevel);
 			if (currentLevel == 0) {
 				N currentEndNodeParent = graph.convertNodeBetweenLevels(0, currentEndNode, 1);
@@ -82,17 +137,44 @@ public class HierarchicalPathFinder<N> implements PathFinder<N> {
 			// Decrease current level and skip it if start and end node are the same
 			levelOfNodes = currentLevel;
 			currentLevel--;
-			if (currentStartNode == currentEndNode) continue;
+			if (currentStartNode == currentEndNode) {
+				if (refineInCorridor) {
+					// The path lies inside this node, so aim at the actual end node at the next level
+					corridorStarts[levelOfNodes] = corridorEnds[levelOfNodes] = currentStartNode;
+					currentEndNode = endNode;
+					levelOfNodes = 0;
+				}
+				continue;
+			}
 
 			// Otherwise we can perform the plan
-			graph.setLevel(levelOfNodes);
+			if (switchLevel) graph.setLevel(levelOfNodes);
 			outPath.clear();
+			PathFinder<N> levelPathFinder = levelPathFinders[levelOfNodes];
+			long startTime = metricsSink == null ? 0 : TimeUtils.nanoTime();
 			boolean pathFound = levelPathFinder.searchNodePath(currentStartNode, currentEndNode, heuristic, outPath);
+			if (metricsSink != null) metricsSink.levelSearchCompleted(levelOfNodes, TimeUtils.nanoTime() - startTime, pathFound);
 
 			if (!pathFound) return false;
 
 			// Now take the first move of this plan and use it for the next run through
-			currentEndNode = outPath.get(1);
+			N nextNode = outPath.get(1);
+			if (!refineInCorridor) {
+				currentEndNode = nextNode;
+			} else {
+				// If the first move reaches the node of the actual end node, aim at the latter directly.
+				// If the first move leaves the nodes we are moving between at higher levels, keep aiming at the current end node
+				corridorStarts[levelOfNodes] = currentStartNode;
+				if (actualEndNode && outPath.getCount() == 2) {
+					corridorEnds[levelOfNodes] = currentEndNode;
+					currentEndNode = endNode;
+					levelOfNodes = 0;
+				} else if (isInCorridor(nextNode, levelOfNodes, corridorStarts, corridorEnds)) {
+					corridorEnds[levelOfNodes] = currentEndNode = nextNode;
+				} else {
+					corridorEnds[levelOfNodes] = currentEndNode;
+				}
+			}
 		}
 
 		// Return success.
@@ -119,6 +201,7 @@ public class HierarchicalPathFinder<N> implements PathFinder<N> {
 			// Find the end node at current level
 			// Note that if we're examining level 0 and the current end node, the end node and the
 			// start node have the same parent at level 1 then we can use the end node directly.
+			boolean actualEndNode = levelOfNodes == 0;
 			currentEndNode = graph.convertNodeBetweenLevels(levelOfNodes, currentEndNode, currentLevel);
 			if (currentLevel == 0) {
 				N currentEndNodeParent = graph.convertNodeBetweenLevels(0, currentEndNode, 1);
@@ -131,17 +214,44 @@ public class HierarchicalPathFinder<N> implements PathFinder<N> {
 			// Decrease current level and skip it if start and end node are the same
 			levelOfNodes = currentLevel;
 			currentLevel--;
-			if (currentStartNode == currentEndNode) continue;
+			if (currentStartNode == currentEndNode) {
+				if (refineInCorridor) {
+					// The path lies inside this node, so aim at the actual end node at the next level
+					corridorStarts[levelOfNodes] = corridorEnds[levelOfNodes] = currentStartNode;
+					currentEndNode = endNode;
+					levelOfNodes = 0;
+				}
+				continue;
+			}
 
 			// Otherwise we can perform the plan
-			graph.setLevel(levelOfNodes);
+			if (switchLevel) graph.setLevel(levelOfNodes);
 			outPath.clear();
+			PathFinder<N> levelPathFinder = levelPathFinders[levelOfNodes];
+			long startTime = metricsSink == null ? 0 : TimeUtils.nanoTime();
 			boolean pathFound = levelPathFinder.searchConnectionPath(currentStartNode, currentEndNode, heuristic, outPath);
+			if (metricsSink != null) metricsSink.levelSearchCompleted(levelOfNodes, TimeUtils.nanoTime() - startTime, pathFound);
 
 			if (!pathFound) return false;
 
 			// Now take the first move of this plan and use it for the next run through
-			currentEndNode = outPath.get(0).getToNode();
+			N nextNode = outPath.get(0).getToNode();
+			if (!refineInCorridor) {
+				currentEndNode = nextNode;
+			} else {
+				// If the first move reaches the node of the actual end node, aim at the latter directly.
+				// If the first move leaves the nodes we are moving between at higher levels, keep aiming at the current end node
+				corridorStarts[levelOfNodes] = currentStartNode;
+				if (actualEndNode && outPath.getCount() == 1) {
+					corridorEnds[levelOfNodes] = currentEndNode;
+					currentEndNode = endNode;
+					levelOfNodes = 0;
+				} else if (isInCorridor(nextNode, levelOfNodes, corridorStarts, corridorEnds)) {
+					corridorEnds[levelOfNodes] = currentEndNode = nextNode;
+				} else {
+					corridorEnds[levelOfNodes] = currentEndNode;
+				}
+			}
 		}
 
 		// Return success.
@@ -155,7 +265,7 @@ public class HierarchicalPathFinder<N> implements PathFinder<N> {
 
 		// Make sure the level request and its control are instantiated
 		if (levelRequest == null) {
-			levelRequest = new LevelPathFinderRequest<N>();
+			levelRequest = new LevelPathFinderRequest<N>(graph.getLevelCount());
 			levelRequestControl = new PathFinderRequestControl<N>();
 		}
 
@@ -171,7 +281,6 @@ public class HierarchicalPathFinder<N> implements PathFinder<N> {
 			levelRequestControl.timeToRun = timeToRun;
 			levelRequestControl.timeTolerance = PathFinderQueue.TIME_TOLERANCE;
 			levelRequestControl.server = null;
-			levelRequestControl.pathFinder = levelPathFinder;
 
 			// Prepare the level request
 			levelRequest.hpf = this;
@@ -184,12 +293,21 @@ public class HierarchicalPathFinder<N> implements PathFinder<N> {
 			levelRequest.endNode = request.endNode;
 			levelRequest.levelOfNodes = 0;
 			levelRequest.currentLevel = graph.getLevelCount() - 1;
+			levelRequest.elapsedTime = 0;
 		}
 
 		while (levelRequest.currentLevel >= 0) {
 //			if (DEBUG) GdxAI.getLogger().debug(TAG, "currentLevel = "+levelRequest.currentLevel);
 
+			long startTime = metricsSink == null ? 0 : TimeUtils.nanoTime();
 			boolean finished = levelRequestControl.execute(levelRequest);
+			if (metricsSink != null) {
+				levelRequest.elapsedTime += TimeUtils.nanoTime() - startTime;
+				if (finished) {
+					metricsSink.levelSearchCompleted(levelRequest.searchLevel, levelRequest.elapsedTime, levelRequest.pathFound);
+					levelRequest.elapsedTime = 0;
+				}
+			}
 //			if (DEBUG) GdxAI.getLogger().debug(TAG, "finished = "+finished);
 //			if (DEBUG) GdxAI.getLogger().debug(TAG, "pathFound = "+levelRequest.pathFound);
 
@@ -212,12 +330,50 @@ public class HierarchicalPathFinder<N> implements PathFinder<N> {
 		return true;
 	}
 
+	/** Returns {@code true} if the given node at the given level belongs, at each higher level, either to the start node or to the
+	 * node to move towards; {@code false} otherwise. Moving to such a node never moves away from the end node at higher levels,
+	 * which makes sure the hierarchical path finder does not go back and forth between the same nodes when called repeatedly. */
+	boolean isInCorridor (N node, int level, N[] corridorStarts, N[] corridorEnds) {
+		for (int i = level + 1, n = graph.getLevelCount(); i < n; i++) {
+			N parent = graph.convertNodeBetweenLevels(level, node, i);
+			if (parent != corridorStarts[i] && parent != corridorEnds[i]) return false;
+		}
+		return true;
+	}
+
+	/** A factory creating the level path finders of a {@link HierarchicalPathFinder}.
+	 * 
+	 * @param <N> Type of node */
+	public interface LevelPathFinderFactory<N> {
+
+		/** Returns a new path finder searching the given level of the hierarchical graph, typically through its
+		 * {@link HierarchicalGraph#getLevelView(int) level view}. Each call must return a distinct instance since the path finders
+		 * of different levels are not expected to share their state.
+		 * @param level the level to search */
+		public PathFinder<N> newLevelPathFinder (int level);
+	}
+
 	static class LevelPathFinderRequest<N> extends PathFinderRequest<N> {
 		HierarchicalPathFinder<N> hpf;
 		PathFinderRequest<N> hpfRequest;
 
 		int levelOfNodes;
 		int currentLevel;
+		boolean actualEndNode;
+
+		/** The level searched by the current level search. */
+		int searchLevel;
+
+		/** The time spent so far by the current level search, only tracked if metrics are enabled. */
+		long elapsedTime;
+		N[] corridorStarts;
+		N[] corridorEnds;
+
+		@SuppressWarnings("unchecked")
+		LevelPathFinderRequest (int levelCount) {
+			corridorStarts = (N[])new Object[levelCount];
+			corridorEnds = (N[])new Object[levelCount];
+		}
 
 		@Override
 		public boolean initializeSearch (long timeToRun) {
@@ -237,6 +393,7 @@ public class HierarchicalPathFinder<N> implements PathFinder<N> {
 				// Find the end node at current level
 				// Note that if we're examining level 0 and the current end node, the end node and the
 				// start node have the same parent at level 1 then we can use the end node directly.
+				actualEndNode = levelOfNodes == 0;
 				endNode = hpf.graph.convertNodeBetweenLevels(levelOfNodes, endNode, currentLevel);
 				if (currentLevel == 0) {
 					N currentEndNodeParent = hpf.graph.convertNodeBetweenLevels(0, endNode, 1);
@@ -253,10 +410,19 @@ public class HierarchicalPathFinder<N> implements PathFinder<N> {
 				currentLevel--;
 				if (startNode != endNode) break;
 
+				if (hpf.refineInCorridor) {
+					// The path lies inside this node, so aim at the actual end node at the next level
+					corridorStarts[levelOfNodes] = corridorEnds[levelOfNodes] = startNode;
+					endNode = hpfRequest.endNode;
+					levelOfNodes = 0;
+				}
+
 			} while (currentLevel >= 0);
 
 			// Otherwise we can perform the plan
-			hpf.graph.setLevel(levelOfNodes);
+			searchLevel = levelOfNodes;
+			if (hpf.switchLevel) hpf.graph.setLevel(levelOfNodes);
+			hpf.levelRequestControl.pathFinder = hpf.levelPathFinders[levelOfNodes];
 			resultPath.clear();
 			return true;
 		}
@@ -272,7 +438,23 @@ public class HierarchicalPathFinder<N> implements PathFinder<N> {
 			hpfRequest.pathFound = pathFound;
 			if (pathFound) {
 				// Take the first move of this plan and use it for the next run through
-				endNode = resultPath.get(1);
+				N nextNode = resultPath.get(1);
+				if (!hpf.refineInCorridor) {
+					endNode = nextNode;
+				} else {
+					// If the first move reaches the node of the actual end node, aim at the latter directly.
+					// If the first move leaves the nodes we are moving between at higher levels, keep aiming at the current end node
+					corridorStarts[levelOfNodes] = startNode;
+					if (actualEndNode && resultPath.getCount() == 2) {
+						corridorEnds[levelOfNodes] = endNode;
+						endNode = hpfRequest.endNode;
+						levelOfNodes = 0;
+					} else if (hpf.isInCorridor(nextNode, levelOfNodes, corridorStarts, corridorEnds)) {
+						corridorEnds[levelOfNodes] = endNode = nextNode;
+					} else {
+						corridorEnds[levelOfNodes] = endNode;
+					}
+				}
 			}
 			if (DEBUG) GdxAI.getLogger().debug(TAG, "LevelPathFinder finalizeSearch; status: " + status);
 			return true;
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa;
+
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder.Metrics;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** A {@code MeteredPathFinder} is a {@link PathFinder} decorator reporting the metrics of each completed search to a
+ * {@link PathFinderMetricsSink}: the time spent searching, the number of heuristic evaluations, whether a path has been found
+ * and, if the metrics of the decorated path finder are given, the number of expanded nodes.
+ * <p>
+ * The heuristic is counted by wrapping the heuristic of each search, so the decorated path finder is not aware of being metered.
+ * For interruptible searches the time is summed over all the frames of the search.
+ * 
+ * @param <N> Type of node */
+public class MeteredPathFinder<N> implements PathFinder<N> {
+
+	PathFinder<N> pathFinder;
+	Metrics metrics;
+	PathFinderMetricsSink metricsSink;
+	CountingHeuristic<N> countingHeuristic;
+
+	/** The time spent so far by the current interruptible search. */
+	long elapsedTime;
+
+	/** Creates a {@code MeteredPathFinder} that doesn't report the number of expanded nodes.
+	 * @param pathFinder the decorated path finder
+	 * @param metricsSink the sink the metrics are reported to */
+	public MeteredPathFinder (PathFinder<N> pathFinder, PathFinderMetricsSink metricsSink) {
+		this(pathFinder, null, metricsSink);
+	}
+
+	/** Creates a {@code MeteredPathFinder}.
+	 * @param pathFinder the decorated path finder
+	 * @param metrics the metrics of the decorated path finder, which are read to report the number of expanded nodes; can be
+	 *           {@code null}
+	 * @param metricsSink the sink the metrics are reported to */
+	public MeteredPathFinder (PathFinder<N> pathFinder, Metrics metrics, PathFinderMetricsSink metricsSink) {
+		this.pathFinder = pathFinder;
+		this.metrics = metrics;
+		this.metricsSink = metricsSink;
+		this.countingHeuristic = new CountingHeuristic<N>(null);
+	}
+
+	/** Returns the decorated path finder. */
+	public PathFinder<N> getPathFinder () {
+		return pathFinder;
+	}
+
+	@Override
+	public boolean searchConnectionPath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<Connection<N>> outPath) {
+		resetCountingHeuristic(heuristic);
+		long startTime = TimeUtils.nanoTime();
+		boolean found = pathFinder.searchConnectionPath(startNode, endNode, countingHeuristic, outPath);
+		report(TimeUtils.nanoTime() - startTime, found);
+		return found;
+	}
+
+	@Override
+	public boolean searchNodePath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<N> outPath) {
+		resetCountingHeuristic(heuristic);
+		long startTime = TimeUtils.nanoTime();
+		boolean found = pathFinder.searchNodePath(startNode, endNode, countingHeuristic, outPath);
+		report(TimeUtils.nanoTime() - startTime, found);
+		return found;
+	}
+
+	@Override
+	public boolean search (PathFinderRequest<N> request, long timeToRun) {
+		Heuristic<N> heuristic = request.heuristic;
+		if (request.statusChanged) {
+			resetCountingHeuristic(heuristic);
+			elapsedTime = 0;
+		}
+
+		// Let the decorated path finder use the counting heuristic during this frame
+		request.heuristic = countingHeuristic;
+		long startTime = TimeUtils.nanoTime();
+		boolean finished = pathFinder.search(request, timeToRun);
+		elapsedTime += TimeUtils.nanoTime() - startTime;
+		request.heuristic = heuristic;
+
+		if (finished) report(elapsedTime, request.pathFound);
+		return finished;
+	}
+
+	/** Prepares the counting heuristic for a new search. A new counting heuristic is created whenever the heuristic changes, so
+	 * that path finders reusing their previous search if the heuristic is the same, like the {@code DStarLitePathFinder}, work as
+	 * expected. */
+	private void resetCountingHeuristic (Heuristic<N> heuristic) {
+		if (countingHeuristic.heuristic != heuristic) countingHeuristic = new CountingHeuristic<N>(heuristic);
+		countingHeuristic.calls = 0;
+	}
+
+	private void report (long elapsedTime, boolean pathFound) {
+		metricsSink.searchCompleted(elapsedTime, metrics == null ? -1 : metrics.expandedNodes, countingHeuristic.calls, pathFound);
+	}
+
+	/** A heuristic decorator counting its evaluations.
+	 * 
+	 * @param <N> Type of node */
+	static class CountingHeuristic<N> implements Heuristic<N> {
+		final Heuristic<N> heuristic;
+		int calls;
+
+		CountingHeuristic (Heuristic<N> heuristic) {
+			this.heuristic = heuristic;
+		}
+
+		@Override
+		public float estimate (N node, N endNode) {
+			calls++;
+			return heuristic.estimate(node, endNode);
+		}
+	}
+}
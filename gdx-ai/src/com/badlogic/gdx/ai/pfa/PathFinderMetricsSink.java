@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa;
+
+/** A {@code PathFinderMetricsSink} receives the metrics of the searches performed by a {@link MeteredPathFinder}, of the requests
+ * served by a {@link PathFinderQueue} and of the level searches performed by a {@link HierarchicalPathFinder}. The
+ * {@link PathFinderStatistics} accumulates them, but you can implement this interface to forward them to your monitoring tools.
+ * <p>
+ * Metrics are disabled by default: path finders are not metered unless wrapped by a {@link MeteredPathFinder}, while path finder
+ * queues and hierarchical path finders only report to their {@code metricsSink} if it's not {@code null}.
+ * <p>
+ * Sinks shared by path finders running on different threads, for instance by the workers of a
+ * {@link ConcurrentPathFinderQueue}, must be thread-safe. */
+public interface PathFinderMetricsSink {
+
+	/** Reports a completed search.
+	 * @param elapsedTime the time in nanoseconds spent searching, summed over all the frames of an interruptible search
+	 * @param expandedNodes the number of expanded nodes, or -1 if unknown
+	 * @param heuristicCalls the number of times the heuristic has been evaluated
+	 * @param pathFound whether a path has been found */
+	public void searchCompleted (long elapsedTime, int expandedNodes, int heuristicCalls, boolean pathFound);
+
+	/** Reports a request served by a {@link PathFinderQueue}.
+	 * @param elapsedTime the time in nanoseconds spent serving the request, summed over all its time slices
+	 * @param timeSlices the number of frames the request has been run on
+	 * @param pathFound whether a path has been found */
+	public void requestCompleted (long elapsedTime, int timeSlices, boolean pathFound);
+
+	/** Reports a search performed by a {@link HierarchicalPathFinder} on a single level of the hierarchy.
+	 * @param level the level of the search
+	 * @param elapsedTime the time in nanoseconds spent searching the level, summed over all the frames of an interruptible search
+	 * @param pathFound whether a path has been found */
+	public void levelSearchCompleted (int level, long elapsedTime, boolean pathFound);
+}
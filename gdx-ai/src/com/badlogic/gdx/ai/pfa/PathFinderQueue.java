@@ -16,13 +16,28 @@
 
 package com.badlogic.gdx.ai.pfa;
 
+import com.badlogic.gdx.ai.msg.MessageDispatcher;
+import com.badlogic.gdx.ai.msg.MessageManager;
 import com.badlogic.gdx.ai.msg.Telegram;
 import com.badlogic.gdx.ai.msg.Telegraph;
+import com.badlogic.gdx.ai.pfa.indexed.ConnectedComponents;
 import com.badlogic.gdx.ai.sched.Schedulable;
 import com.badlogic.gdx.ai.utils.CircularBuffer;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.TimeUtils;
 
-/** @param <N> Type of node
+/** A {@code PathFinderQueue} serves the pathfinding requests it receives through {@link Telegram telegrams} one after the other,
+ * spreading their execution over several frames.
+ * <p>
+ * When many clients ask for nearly identical paths, for instance hundreds of units heading to the same rally point, you can set a
+ * {@link #similarity} policy to coalesce their requests. Each time a request has been served, the waiting requests similar to it
+ * are removed from the queue and answered with its result, each one with its own {@link PathFinderRequest#responseMessageCode
+ * responseMessageCode}. Coalesced requests skip the initialization, search and finalization phases entirely.
+ * <p>
+ * If you set the {@link #components connected components} of the graph, the requests whose end node can't be reached from their
+ * start node skip the search phase, so they don't waste the time of the frame exploring the whole component of the start node.
+ * 
+ * @param <N> Type of node
  * 
  * @author davebaol */
 public class PathFinderQueue<N> implements Schedulable, Telegraph {
@@ -37,11 +52,29 @@ public class PathFinderQueue<N> implements Schedulable, Telegraph {
 
 	PathFinderRequestControl<N> requestControl;
 
+	/** The sink the metrics of the served requests are reported to; {@code null} if metrics are disabled. */
+	public PathFinderMetricsSink metricsSink;
+
+	/** The time spent so far serving the current request, only tracked if metrics are enabled. */
+	long currentRequestTime;
+
+	/** The policy deciding which waiting requests are answered with the result of a served request; {@code null} if requests are
+	 * not coalesced. */
+	public PathFinderRequestSimilarity<N> similarity;
+
+	/** The connected components of the graph, used to reject the requests whose goal can't be reached without searching it;
+	 * {@code null} if requests are never rejected. */
+	public ConnectedComponents<N> components;
+
+	/** The waiting requests similar to the request just served. */
+	Array<PathFinderRequest<N>> similarRequests;
+
 	public PathFinderQueue (PathFinder<N> pathFinder) {
 		this.pathFinder = pathFinder;
 		this.requestQueue = new CircularBuffer<PathFinderRequest<N>>(16);
 		this.currentRequest = null;
 		this.requestControl = new PathFinderRequestControl<N>();
+		this.similarRequests = new Array<PathFinderRequest<N>>();
 	}
 
 	@Override
@@ -53,18 +86,34 @@ public class PathFinderQueue<N> implements Schedulable, Telegraph {
 		requestControl.timeTolerance = TIME_TOLERANCE;
 		requestControl.pathFinder = pathFinder;
 		requestControl.server = this;
+		requestControl.queue = this;
 
 		// If no search in progress, take the next from the queue
-		if (currentRequest == null) currentRequest = requestQueue.read();
+		if (currentRequest == null) currentRequest = dequeue();
 
 		while (currentRequest != null) {
+			PathFinderRequest<N> request = currentRequest;
 
-			boolean finished = requestControl.execute(currentRequest);
+			long startTime = metricsSink == null ? 0 : TimeUtils.nanoTime();
 
-			if (!finished) return;
+			boolean finished = requestControl.execute(request);
+
+			if (metricsSink != null) {
+				currentRequestTime += TimeUtils.nanoTime() - startTime;
+				if (finished) {
+					metricsSink.requestCompleted(currentRequestTime, request.executionFrames, request.pathFound);
+					currentRequestTime = 0;
+				}
+			}
+
+			if (!finished) {
+				// Keep serving the current request unless it has been superseded while running
+				if (currentRequest == request) return;
+				currentRequestTime = 0;
+			}
 
 			// Read next request from the queue
-			currentRequest = requestQueue.read();
+			currentRequest = dequeue();
 		}
 	}
 
@@ -76,10 +125,69 @@ public class PathFinderQueue<N> implements Schedulable, Telegraph {
 		pfr.status = PathFinderRequest.SEARCH_NEW; // Reset status
 		pfr.statusChanged = true; // Status has just changed
 		pfr.executionFrames = 0; // Reset execution frames counter
-		requestQueue.store(pfr);
+		enqueue(pfr);
 		return true;
 	}
 
+	/** Adds the given request to the waiting requests. The default implementation appends it to a FIFO queue.
+	 * @param request the request to add */
+	protected void enqueue (PathFinderRequest<N> request) {
+		requestQueue.store(request);
+	}
+
+	/** Removes and returns the next waiting request to serve. The default implementation returns the oldest request.
+	 * @return the next request to serve or {@code null} if there are no waiting requests. */
+	protected PathFinderRequest<N> dequeue () {
+		return requestQueue.read();
+	}
+
+	/** Removes from the waiting requests the ones similar to the given served request according to the {@link #similarity} policy
+	 * and adds them to the given array.
+	 * @param servedRequest the request just served
+	 * @param outRequests the array where the similar requests are added */
+	protected void removeSimilarRequests (PathFinderRequest<N> servedRequest, Array<PathFinderRequest<N>> outRequests) {
+		// Preserve the order of the other requests
+		for (int i = requestQueue.size(); i > 0; i--) {
+			PathFinderRequest<N> request = requestQueue.read();
+			if (similarity.isSimilar(servedRequest, request))
+				outRequests.add(request);
+			else
+				requestQueue.store(request);
+		}
+	}
+
+	/** Returns {@code true} if the {@link #components} tell that the end node of the given request, which has just been
+	 * initialized, can't be reached from its start node; {@code false} otherwise.
+	 * @param request the request */
+	boolean isUnreachable (PathFinderRequest<N> request) {
+		return components != null && !components.isConnected(request.startNode, request.endNode);
+	}
+
+	/** Answers the waiting requests similar to the given request, which has just been served, with its result. This method is
+	 * called by the {@link PathFinderRequestControl} before the result of the served request is sent to its client, so that the
+	 * latter can't change the result path before it has been shared.
+	 * @param servedRequest the request just served */
+	void coalesce (PathFinderRequest<N> servedRequest) {
+		if (similarity == null) return;
+
+		removeSimilarRequests(servedRequest, similarRequests);
+
+		// Share the result first, then notify the clients that might submit new requests
+		for (int i = 0; i < similarRequests.size; i++) {
+			PathFinderRequest<N> request = similarRequests.get(i);
+			request.pathFound = servedRequest.pathFound;
+			if (request.pathFound) similarity.shareResult(servedRequest, request);
+			request.changeStatus(PathFinderRequest.SEARCH_FINALIZED);
+		}
+		for (int i = 0; i < similarRequests.size; i++) {
+			PathFinderRequest<N> request = similarRequests.get(i);
+			MessageDispatcher dispatcher = request.dispatcher != null ? request.dispatcher : MessageManager.getInstance();
+			dispatcher.dispatchMessage(this, request.client, request.responseMessageCode, request);
+		}
+		similarRequests.clear();
+	}
+
+	/** Returns the number of waiting requests. */
 	public int size () {
 		return requestQueue.size();
 	}
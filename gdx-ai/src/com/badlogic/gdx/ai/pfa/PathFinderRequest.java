@@ -33,6 +33,9 @@ public class PathFinderRequest<N> {
 	public static final int SEARCH_DONE = 2;
 	public static final int SEARCH_FINALIZED = 3;
 
+	/** The value of {@link #deadline} meaning that the request has no deadline. */
+	public static final long NO_DEADLINE = Long.MAX_VALUE;
+
 	public N startNode;
 	public N endNode;
 	public Heuristic<N> heuristic;
@@ -45,6 +48,27 @@ public class PathFinderRequest<N> {
 	public int responseMessageCode;
 	public MessageDispatcher dispatcher;
 
+	/** The suboptimality bound of the path in {@link #resultPath}, meaning that its cost is at most this many times the cost of an
+	 * optimal path. Anytime path finders, like the {@link com.badlogic.gdx.ai.pfa.indexed.ARAStarPathFinder ARAStarPathFinder},
+	 * update it each time they improve the path; other path finders leave it unchanged. Defaults to 1. */
+	public float suboptimalityBound = 1;
+
+	/** The message code sent to the {@link #client} by {@link #pathImproved()}; a negative value means that no message is sent.
+	 * Defaults to -1. */
+	public int improvementMessageCode = -1;
+
+	/** The priority of this request, used by the {@link PriorityPathFinderQueue}; the higher the value the more urgent the
+	 * request. Defaults to 0. */
+	public int priority;
+
+	/** The time in nanoseconds, as returned by {@link com.badlogic.gdx.utils.TimeUtils#nanoTime() TimeUtils.nanoTime()}, by which
+	 * this request should be served, used by the {@link PriorityPathFinderQueue}. Defaults to {@link #NO_DEADLINE}. */
+	public long deadline = NO_DEADLINE;
+
+	/** The clearance required by the agent, that is its size in cells, used by the
+	 * {@link com.badlogic.gdx.ai.pfa.grid.ClearancePathFinder ClearancePathFinder}. Defaults to 1. */
+	public int clearance = 1;
+
 	/** Creates an empty {@code PathFinderRequest} */
 	public PathFinderRequest () {
 	}
@@ -88,6 +112,20 @@ public class PathFinderRequest<N> {
 		return pathFinder.search(this, timeToRun);
 	}
 
+	/** Method called by anytime path finders while the search is still running, each time a better path has been stored in
+	 * {@link #resultPath} along with its {@link #suboptimalityBound}. This way the client can start following a suboptimal path
+	 * without waiting for the search to complete.
+	 * <p>
+	 * The default implementation sends the {@link #improvementMessageCode} to the {@link #client}, if any, with this request as
+	 * extra info. Notice that this method is called by the thread running the search, which is not the main thread when the
+	 * request is served by a {@link ConcurrentPathFinderQueue}. */
+	public void pathImproved () {
+		if (improvementMessageCode >= 0 && client != null) {
+			MessageDispatcher dispatcher = this.dispatcher != null ? this.dispatcher : MessageManager.getInstance();
+			dispatcher.dispatchMessage(null, client, improvementMessageCode, this);
+		}
+	}
+
 	/** Interruptible method called by {@link PathFinderQueue} when the path finder has completed the search. You have to check the
 	 * {@link #pathFound} field of this request to know if a path has been found.
 	 * @param timeToRun the time in nanoseconds that this call can use on the current frame
@@ -34,6 +34,7 @@ public class PathFinderRequestControl<N> {
 	public static final boolean DEBUG = false;
 
 	Telegraph server;
+	PathFinderQueue<N> queue;
 	PathFinder<N> pathFinder;
 	long lastTime;
 	long timeToRun;
@@ -68,7 +69,10 @@ public class PathFinderRequestControl<N> {
 				timeToRun -= currentTime - lastTime;
 				if (timeToRun <= timeTolerance) return false;
 				if (DEBUG) GdxAI.getLogger().debug(TAG, "search path");
-				if (!request.search(pathFinder, timeToRun)) return false;
+				if (request.statusChanged && queue != null && queue.isUnreachable(request)) {
+					// The goal is out of the component of the start node, no need to search
+					request.pathFound = false;
+				} else if (!request.search(pathFinder, timeToRun)) return false;
 				request.changeStatus(PathFinderRequest.SEARCH_DONE);
 				lastTime = currentTime;
 			}
@@ -82,7 +86,8 @@ public class PathFinderRequestControl<N> {
 				if (!request.finalizeSearch(timeToRun)) return false;
 				request.changeStatus(PathFinderRequest.SEARCH_FINALIZED);
 
-				// Search finished, send result to the client
+				// Search finished, share the result with similar requests and send it to the client
+				if (queue != null) queue.coalesce(request);
 				if (server != null) {
 					MessageDispatcher dispatcher = request.dispatcher != null ? request.dispatcher : MessageManager.getInstance();
 					dispatcher.dispatchMessage(server, request.client, request.responseMessageCode, request);
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa;
+
+/** A {@code PathFinderRequestSimilarity} is the policy used by a {@link PathFinderQueue} to coalesce requests. Each time a
+ * request has been served, the queue asks the policy which of the waiting requests are similar to it. Similar requests are
+ * removed from the queue and answered right away with the result of the served request, without searching again.
+ * 
+ * @param <N> Type of node */
+public interface PathFinderRequestSimilarity<N> {
+
+	/** Returns {@code true} if the given waiting request can be answered with the result of the given served request;
+	 * {@code false} otherwise.
+	 * @param servedRequest the request just served
+	 * @param waitingRequest a request waiting in the queue */
+	public boolean isSimilar (PathFinderRequest<N> servedRequest, PathFinderRequest<N> waitingRequest);
+
+	/** Stores in the result path of the given waiting request the path it gets from the given served request, replacing its
+	 * previous content. This method is called only for waiting requests similar to the served request and only if the latter has
+	 * found a path.
+	 * @param servedRequest the request just served
+	 * @param waitingRequest a request similar to the served one */
+	public void shareResult (PathFinderRequest<N> servedRequest, PathFinderRequest<N> waitingRequest);
+
+	/** A {@code SameGoal} policy coalesces requests having the same end node when the start node of the waiting request lies on
+	 * the path found by the served request. Since any sub-path of an optimal path is optimal as well, the waiting request gets the
+	 * part of the path from its start node to the goal, which is exactly the path it would have found by itself. This is the
+	 * typical case of several units heading to the same rally point along the same corridor. If the served request has not found a
+	 * path, only the waiting requests with the same start node are considered similar.
+	 * 
+	 * @param <N> Type of node */
+	public static class SameGoal<N> implements PathFinderRequestSimilarity<N> {
+
+		public SameGoal () {
+		}
+
+		@Override
+		public boolean isSimilar (PathFinderRequest<N> servedRequest, PathFinderRequest<N> waitingRequest) {
+			if (waitingRequest.endNode != servedRequest.endNode) return false;
+			if (!servedRequest.pathFound) return waitingRequest.startNode == servedRequest.startNode;
+			return indexOf(servedRequest.resultPath, waitingRequest.startNode) >= 0;
+		}
+
+		@Override
+		public void shareResult (PathFinderRequest<N> servedRequest, PathFinderRequest<N> waitingRequest) {
+			GraphPath<N> path = servedRequest.resultPath;
+			waitingRequest.resultPath.clear();
+			for (int i = indexOf(path, waitingRequest.startNode), n = path.getCount(); i < n; i++)
+				waitingRequest.resultPath.add(path.get(i));
+		}
+
+		private static <N> int indexOf (GraphPath<N> path, N node) {
+			for (int i = 0, n = path.getCount(); i < n; i++)
+				if (path.get(i) == node) return i;
+			return -1;
+		}
+	}
+
+	/** A {@code SameRegions} policy coalesces requests whose start nodes and end nodes lie in the same regions, meaning that they
+	 * have the same parent node at a given level of a {@link HierarchicalGraph}. The waiting request gets the whole path found by
+	 * the served request. Notice that such a path is usually not optimal for the waiting request and neither starts from its start
+	 * node nor ends at its end node, so the client is expected to reach the path and then follow it, like units moving in a group
+	 * do. The higher the level, the larger the regions and the more requests are coalesced.
+	 * 
+	 * @param <N> Type of node */
+	public static class SameRegions<N> implements PathFinderRequestSimilarity<N> {
+		HierarchicalGraph<N> graph;
+		int level;
+
+		/** Creates a {@code SameRegions} policy.
+		 * @param graph the hierarchical graph defining the regions
+		 * @param level the level of the regions; it must be greater than 0
+		 * @throws IllegalArgumentException if the level is out of range */
+		public SameRegions (HierarchicalGraph<N> graph, int level) {
+			if (level <= 0 || level >= graph.getLevelCount())
+				throw new IllegalArgumentException("level must be in the range [1, " + (graph.getLevelCount() - 1) + "]");
+			this.graph = graph;
+			this.level = level;
+		}
+
+		@Override
+		public boolean isSimilar (PathFinderRequest<N> servedRequest, PathFinderRequest<N> waitingRequest) {
+			return getRegion(waitingRequest.startNode) == getRegion(servedRequest.startNode)
+				&& getRegion(waitingRequest.endNode) == getRegion(servedRequest.endNode);
+		}
+
+		@Override
+		public void shareResult (PathFinderRequest<N> servedRequest, PathFinderRequest<N> waitingRequest) {
+			GraphPath<N> path = servedRequest.resultPath;
+			waitingRequest.resultPath.clear();
+			for (int i = 0, n = path.getCount(); i < n; i++)
+				waitingRequest.resultPath.add(path.get(i));
+		}
+
+		private N getRegion (N node) {
+			return graph.convertNodeBetweenLevels(0, node, level);
+		}
+	}
+}
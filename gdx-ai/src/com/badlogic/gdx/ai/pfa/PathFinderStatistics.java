@@ -0,0 +1,257 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa;
+
+/** A {@code PathFinderStatistics} is a thread-safe {@link PathFinderMetricsSink} accumulating the reported metrics since its
+ * creation or its last {@link #reset() reset}, which is useful for capacity planning.
+ * <p>
+ * Besides counts and totals, the distributions of the search times and of the time slices per request are kept in histograms
+ * whose buckets are powers of two: bucket {@code i} counts the values in the range [2<sup>i-1</sup>, 2<sup>i</sup>), bucket 0
+ * counts the values lower than 1 and the last bucket counts all the values greater than or equal to its lower bound. Search
+ * times are bucketed in microseconds. */
+public class PathFinderStatistics implements PathFinderMetricsSink {
+
+	/** The number of buckets of the histograms. */
+	public static final int HISTOGRAM_BUCKETS = 32;
+
+	private long searchCount;
+	private long failedSearchCount;
+	private long totalSearchTime;
+	private long maxSearchTime;
+	private long totalExpandedNodes;
+	private long meteredExpansionSearchCount;
+	private int maxExpandedNodes;
+	private long totalHeuristicCalls;
+	private final long[] searchTimeHistogram;
+
+	private long requestCount;
+	private long failedRequestCount;
+	private long totalRequestTime;
+	private long totalTimeSlices;
+	private int maxTimeSlices;
+	private final long[] timeSliceHistogram;
+
+	private long[] levelSearchCounts;
+	private long[] failedLevelSearchCounts;
+	private long[] totalLevelSearchTimes;
+
+	public PathFinderStatistics () {
+		this.searchTimeHistogram = new long[HISTOGRAM_BUCKETS];
+		this.timeSliceHistogram = new long[HISTOGRAM_BUCKETS];
+		this.levelSearchCounts = new long[0];
+		this.failedLevelSearchCounts = new long[0];
+		this.totalLevelSearchTimes = new long[0];
+	}
+
+	@Override
+	public synchronized void searchCompleted (long elapsedTime, int expandedNodes, int heuristicCalls, boolean pathFound) {
+		searchCount++;
+		if (!pathFound) failedSearchCount++;
+		totalSearchTime += elapsedTime;
+		if (elapsedTime > maxSearchTime) maxSearchTime = elapsedTime;
+		searchTimeHistogram[bucketOf(elapsedTime / 1000)]++;
+		if (expandedNodes >= 0) {
+			totalExpandedNodes += expandedNodes;
+			meteredExpansionSearchCount++;
+			if (expandedNodes > maxExpandedNodes) maxExpandedNodes = expandedNodes;
+		}
+		totalHeuristicCalls += heuristicCalls;
+	}
+
+	@Override
+	public synchronized void requestCompleted (long elapsedTime, int timeSlices, boolean pathFound) {
+		requestCount++;
+		if (!pathFound) failedRequestCount++;
+		totalRequestTime += elapsedTime;
+		totalTimeSlices += timeSlices;
+		if (timeSlices > maxTimeSlices) maxTimeSlices = timeSlices;
+		timeSliceHistogram[bucketOf(timeSlices)]++;
+	}
+
+	@Override
+	public synchronized void levelSearchCompleted (int level, long elapsedTime, boolean pathFound) {
+		if (level >= levelSearchCounts.length) {
+			levelSearchCounts = copyOf(levelSearchCounts, level + 1);
+			failedLevelSearchCounts = copyOf(failedLevelSearchCounts, level + 1);
+			totalLevelSearchTimes = copyOf(totalLevelSearchTimes, level + 1);
+		}
+		levelSearchCounts[level]++;
+		if (!pathFound) failedLevelSearchCounts[level]++;
+		totalLevelSearchTimes[level] += elapsedTime;
+	}
+
+	/** Returns the number of completed searches. */
+	public synchronized long getSearchCount () {
+		return searchCount;
+	}
+
+	/** Returns the number of completed searches that have not found a path. */
+	public synchronized long getFailedSearchCount () {
+		return failedSearchCount;
+	}
+
+	/** Returns the ratio of completed searches that have not found a path, or 0 if no search has completed. */
+	public synchronized float getSearchFailureRate () {
+		return searchCount == 0 ? 0 : (float)failedSearchCount / searchCount;
+	}
+
+	/** Returns the mean time in nanoseconds of the completed searches. */
+	public synchronized long getMeanSearchTime () {
+		return searchCount == 0 ? 0 : totalSearchTime / searchCount;
+	}
+
+	/** Returns the maximum time in nanoseconds of the completed searches. */
+	public synchronized long getMaxSearchTime () {
+		return maxSearchTime;
+	}
+
+	/** Returns an upper bound of the given percentile of the search times, in nanoseconds, computed from the histogram. For
+	 * instance, 95% of the searches have taken less than {@code getSearchTimePercentile(0.95f)} nanoseconds.
+	 * @param percentile the percentile, between 0 and 1 */
+	public synchronized long getSearchTimePercentile (float percentile) {
+		if (searchCount == 0) return 0;
+		int bucket = percentileBucket(searchTimeHistogram, searchCount, percentile);
+		return bucket == HISTOGRAM_BUCKETS - 1 ? maxSearchTime : Math.min(1000L << bucket, maxSearchTime);
+	}
+
+	/** Copies the histogram of the search times in microseconds into the given array and returns it.
+	 * @param out the output array, whose length must be at least {@link #HISTOGRAM_BUCKETS} */
+	public synchronized long[] getSearchTimeHistogram (long[] out) {
+		System.arraycopy(searchTimeHistogram, 0, out, 0, HISTOGRAM_BUCKETS);
+		return out;
+	}
+
+	/** Returns the mean number of nodes expanded by the completed searches whose expansions are known. */
+	public synchronized float getMeanExpandedNodes () {
+		return meteredExpansionSearchCount == 0 ? 0 : (float)totalExpandedNodes / meteredExpansionSearchCount;
+	}
+
+	/** Returns the maximum number of nodes expanded by a completed search. */
+	public synchronized int getMaxExpandedNodes () {
+		return maxExpandedNodes;
+	}
+
+	/** Returns the total number of heuristic evaluations of the completed searches. */
+	public synchronized long getHeuristicCalls () {
+		return totalHeuristicCalls;
+	}
+
+	/** Returns the mean number of heuristic evaluations of the completed searches. */
+	public synchronized float getMeanHeuristicCalls () {
+		return searchCount == 0 ? 0 : (float)totalHeuristicCalls / searchCount;
+	}
+
+	/** Returns the number of requests served by the path finder queues. */
+	public synchronized long getRequestCount () {
+		return requestCount;
+	}
+
+	/** Returns the number of served requests that have not found a path. */
+	public synchronized long getFailedRequestCount () {
+		return failedRequestCount;
+	}
+
+	/** Returns the ratio of served requests that have not found a path, or 0 if no request has been served. */
+	public synchronized float getRequestFailureRate () {
+		return requestCount == 0 ? 0 : (float)failedRequestCount / requestCount;
+	}
+
+	/** Returns the mean time in nanoseconds spent serving a request. */
+	public synchronized long getMeanRequestTime () {
+		return requestCount == 0 ? 0 : totalRequestTime / requestCount;
+	}
+
+	/** Returns the mean number of time slices per served request. */
+	public synchronized float getMeanTimeSlices () {
+		return requestCount == 0 ? 0 : (float)totalTimeSlices / requestCount;
+	}
+
+	/** Returns the maximum number of time slices of a served request. */
+	public synchronized int getMaxTimeSlices () {
+		return maxTimeSlices;
+	}
+
+	/** Copies the histogram of the time slices per request into the given array and returns it.
+	 * @param out the output array, whose length must be at least {@link #HISTOGRAM_BUCKETS} */
+	public synchronized long[] getTimeSliceHistogram (long[] out) {
+		System.arraycopy(timeSliceHistogram, 0, out, 0, HISTOGRAM_BUCKETS);
+		return out;
+	}
+
+	/** Returns the number of searches completed by the hierarchical path finders on the given level. */
+	public synchronized long getLevelSearchCount (int level) {
+		return level < levelSearchCounts.length ? levelSearchCounts[level] : 0;
+	}
+
+	/** Returns the number of searches completed on the given level that have not found a path. */
+	public synchronized long getFailedLevelSearchCount (int level) {
+		return level < failedLevelSearchCounts.length ? failedLevelSearchCounts[level] : 0;
+	}
+
+	/** Returns the mean time in nanoseconds of the searches completed on the given level. */
+	public synchronized long getMeanLevelSearchTime (int level) {
+		long count = getLevelSearchCount(level);
+		return count == 0 ? 0 : totalLevelSearchTimes[level] / count;
+	}
+
+	/** Clears all the accumulated metrics. */
+	public synchronized void reset () {
+		searchCount = 0;
+		failedSearchCount = 0;
+		totalSearchTime = 0;
+		maxSearchTime = 0;
+		totalExpandedNodes = 0;
+		meteredExpansionSearchCount = 0;
+		maxExpandedNodes = 0;
+		totalHeuristicCalls = 0;
+		requestCount = 0;
+		failedRequestCount = 0;
+		totalRequestTime = 0;
+		totalTimeSlices = 0;
+		maxTimeSlices = 0;
+		for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+			searchTimeHistogram[i] = 0;
+			timeSliceHistogram[i] = 0;
+		}
+		levelSearchCounts = new long[0];
+		failedLevelSearchCounts = new long[0];
+		totalLevelSearchTimes = new long[0];
+	}
+
+	/** Returns the histogram bucket of the given value. */
+	static int bucketOf (long value) {
+		if (value < 1) return 0;
+		return Math.min(64 - Long.numberOfLeadingZeros(value), HISTOGRAM_BUCKETS - 1);
+	}
+
+	private static int percentileBucket (long[] histogram, long count, float percentile) {
+		long threshold = (long)Math.ceil(count * (double)percentile);
+		long cumulated = 0;
+		for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+			cumulated += histogram[i];
+			if (cumulated >= threshold) return i;
+		}
+		return HISTOGRAM_BUCKETS - 1;
+	}
+
+	private static long[] copyOf (long[] array, int length) {
+		long[] newArray = new long[length];
+		System.arraycopy(array, 0, newArray, 0, array.length);
+		return newArray;
+	}
+}
@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa;
+
+import com.badlogic.gdx.ai.msg.Telegraph;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** A {@code PriorityPathFinderQueue} is a {@link PathFinderQueue} that serves the waiting requests according to their
+ * {@link PathFinderRequest#priority priority} and {@link PathFinderRequest#deadline deadline} rather than in arrival order. This
+ * way the request of a player-controlled unit doesn't have to wait for the requests of hundreds of background units. The order
+ * is given by the {@link Ordering}:
+ * <ul>
+ * <li>{@link Ordering#PRIORITY}: the request with the highest priority first;</li>
+ * <li>{@link Ordering#EARLIEST_DEADLINE_FIRST}: the request with the earliest deadline first, then the one with the highest
+ * priority;</li>
+ * <li>{@link Ordering#WEIGHTED_FAIR}: each priority gets a share of the served requests proportional to its weight, which is the
+ * priority plus one, so that even the requests with the lowest priority make progress.</li>
+ * </ul>
+ * Requests equivalent for the order are served in arrival order. Requests waiting longer than {@link #maxWaitTime} are served
+ * before any other one, which protects low priority requests from starvation under the first two orderings.
+ * <p>
+ * Stale requests can be {@link #cancel(PathFinderRequest) cancelled}, and, if {@link #replaceStaleRequests} is enabled, a new
+ * request from a client supersedes the requests from the same client that are waiting or being served. Cancelled and superseded
+ * requests are dropped without consuming any further time and without notifying their clients. A request can wait only once, so
+ * sending a waiting request again just moves it to the end of the arrival order.
+ * <p>
+ * Waiting requests are kept in arrival order and the next one to serve is selected by a linear scan. Since a request is served
+ * by a whole search, the cost of the scan is negligible, and this lets the order depend on the time spent waiting.
+ * 
+ * @param <N> Type of node */
+public class PriorityPathFinderQueue<N> extends PathFinderQueue<N> {
+
+	/** The order in which a {@link PriorityPathFinderQueue} serves the waiting requests. */
+	public enum Ordering {
+		/** The request with the highest priority first. */
+		PRIORITY,
+		/** The request with the earliest deadline first; requests with the same deadline or without deadline are served by
+		 * priority. */
+		EARLIEST_DEADLINE_FIRST,
+		/** The request with the earliest virtual finish time first, giving each priority a share of the served requests
+		 * proportional to its weight. */
+		WEIGHTED_FAIR
+	}
+
+	/** The virtual time spent serving a request of weight 1 under the {@link Ordering#WEIGHTED_FAIR} ordering. */
+	static final long FAIR_SHARE_SCALE = 1L << 32;
+
+	/** The order in which the waiting requests are served. */
+	public Ordering ordering;
+
+	/** The time in nanoseconds after which a waiting request is served before any other one; 0 disables starvation protection.
+	 * Defaults to 0. */
+	public long maxWaitTime;
+
+	/** Whether a new request from a client supersedes the requests from the same client that are waiting or being served. Defaults
+	 * to {@code false}. */
+	public boolean replaceStaleRequests;
+
+	/** The waiting requests in arrival order. */
+	Array<PathFinderRequest<N>> waitingRequests;
+
+	/** The time each waiting request has been added. */
+	LongArray arrivalTimes;
+
+	/** The virtual finish time of each waiting request, only used by the {@link Ordering#WEIGHTED_FAIR} ordering. */
+	LongArray finishTimes;
+
+	/** The virtual finish time of the last request served. */
+	long virtualTime;
+
+	/** Creates a {@code PriorityPathFinderQueue} with the {@link Ordering#PRIORITY} ordering.
+	 * @param pathFinder the path finder */
+	public PriorityPathFinderQueue (PathFinder<N> pathFinder) {
+		this(pathFinder, Ordering.PRIORITY);
+	}
+
+	/** Creates a {@code PriorityPathFinderQueue} with the given ordering.
+	 * @param pathFinder the path finder
+	 * @param ordering the order in which the waiting requests are served */
+	public PriorityPathFinderQueue (PathFinder<N> pathFinder, Ordering ordering) {
+		super(pathFinder);
+		this.ordering = ordering;
+		this.waitingRequests = new Array<PathFinderRequest<N>>();
+		this.arrivalTimes = new LongArray();
+		this.finishTimes = new LongArray();
+	}
+
+	@Override
+	protected void enqueue (PathFinderRequest<N> request) {
+		// A request can wait only once
+		int index = waitingRequests.indexOf(request, true);
+		if (index >= 0) removeWaitingRequest(index);
+
+		if (replaceStaleRequests && request.client != null) {
+			for (int i = waitingRequests.size - 1; i >= 0; i--)
+				if (waitingRequests.get(i).client == request.client) removeWaitingRequest(i);
+			if (currentRequest != null && currentRequest != request && currentRequest.client == request.client) {
+				currentRequest = null;
+				currentRequestTime = 0;
+			}
+		}
+
+		// The request being served has just been sent again, so its search is restarted rather than queued
+		if (request == currentRequest) return;
+
+		long finishTime = getFinishTime(request);
+		waitingRequests.add(request);
+		arrivalTimes.add(TimeUtils.nanoTime());
+		finishTimes.add(finishTime);
+	}
+
+	@Override
+	protected PathFinderRequest<N> dequeue () {
+		if (waitingRequests.size == 0) return null;
+		int index = selectNextRequest(TimeUtils.nanoTime());
+		PathFinderRequest<N> request = waitingRequests.get(index);
+		if (ordering == Ordering.WEIGHTED_FAIR) virtualTime = Math.max(virtualTime, finishTimes.get(index));
+		removeWaitingRequest(index);
+		return request;
+	}
+
+	@Override
+	protected void removeSimilarRequests (PathFinderRequest<N> servedRequest, Array<PathFinderRequest<N>> outRequests) {
+		for (int i = 0; i < waitingRequests.size;) {
+			PathFinderRequest<N> request = waitingRequests.get(i);
+			if (similarity.isSimilar(servedRequest, request)) {
+				outRequests.add(request);
+				removeWaitingRequest(i);
+			} else {
+				i++;
+			}
+		}
+	}
+
+	/** Cancels the given request, which is dropped whether it is waiting or being served.
+	 * @param request the request to cancel
+	 * @return {@code true} if the request was waiting or being served; {@code false} otherwise. */
+	public boolean cancel (PathFinderRequest<N> request) {
+		if (request == currentRequest) {
+			currentRequest = null;
+			currentRequestTime = 0;
+			return true;
+		}
+		int index = waitingRequests.indexOf(request, true);
+		if (index < 0) return false;
+		removeWaitingRequest(index);
+		return true;
+	}
+
+	/** Cancels all the requests from the given client, which are dropped whether they are waiting or being served.
+	 * @param client the client whose requests have to be cancelled
+	 * @return the number of cancelled requests. */
+	public int cancel (Telegraph client) {
+		int count = 0;
+		if (currentRequest != null && currentRequest.client == client) {
+			currentRequest = null;
+			currentRequestTime = 0;
+			count++;
+		}
+		for (int i = waitingRequests.size - 1; i >= 0; i--) {
+			if (waitingRequests.get(i).client == client) {
+				removeWaitingRequest(i);
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Override
+	public int size () {
+		return waitingRequests.size;
+	}
+
+	/** Returns the index of the waiting request to serve next.
+	 * @param now the current time in nanoseconds */
+	int selectNextRequest (long now) {
+		// Waiting requests are in arrival order, so the first one has been waiting longer than any other
+		if (maxWaitTime > 0 && now - arrivalTimes.get(0) >= maxWaitTime) return 0;
+
+		int best = 0;
+		for (int i = 1; i < waitingRequests.size; i++)
+			if (compare(i, best) < 0) best = i;
+		return best;
+	}
+
+	/** Compares the waiting requests at the given indices according to the ordering; ties are left to the arrival order.
+	 * @return a negative value if the first request should be served before the second one, a positive value if it should be
+	 *         served after it, 0 otherwise. */
+	int compare (int index1, int index2) {
+		PathFinderRequest<N> request1 = waitingRequests.get(index1);
+		PathFinderRequest<N> request2 = waitingRequests.get(index2);
+		switch (ordering) {
+		case EARLIEST_DEADLINE_FIRST:
+			if (request1.deadline != request2.deadline) return request1.deadline < request2.deadline ? -1 : 1;
+			return compareInt(request2.priority, request1.priority);
+		case WEIGHTED_FAIR:
+			long finishTime1 = finishTimes.get(index1);
+			long finishTime2 = finishTimes.get(index2);
+			return finishTime1 < finishTime2 ? -1 : (finishTime1 == finishTime2 ? 0 : 1);
+		default:
+			return compareInt(request2.priority, request1.priority);
+		}
+	}
+
+	/** Returns the virtual finish time of the given request, which starts when the last waiting request with the same priority
+	 * finishes, or now if there is none, and lasts inversely to its weight. */
+	long getFinishTime (PathFinderRequest<N> request) {
+		long startTime = virtualTime;
+		for (int i = 0; i < waitingRequests.size; i++)
+			if (waitingRequests.get(i).priority == request.priority) startTime = Math.max(startTime, finishTimes.get(i));
+		return startTime + FAIR_SHARE_SCALE / (Math.max(0, request.priority) + 1L);
+	}
+
+	void removeWaitingRequest (int index) {
+		waitingRequests.removeIndex(index);
+		arrivalTimes.removeIndex(index);
+		finishTimes.removeIndex(index);
+	}
+
+	private static int compareInt (int x, int y) {
+		return x < y ? -1 : (x == y ? 0 : 1);
+	}
+}
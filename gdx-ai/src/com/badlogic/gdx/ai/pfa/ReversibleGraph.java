@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa;
+
+import com.badlogic.gdx.utils.Array;
+
+/** A {@code ReversibleGraph} is a {@link Graph} that also exposes the incoming connections of its nodes, which allows path
+ * finders to search backwards from the goal node, see {@link com.badlogic.gdx.ai.pfa.indexed.BidirectionalAStarPathFinder}.
+ * <p>
+ * For undirected graphs the incoming connections of a node are just the reverse of its outgoing connections. However, the
+ * connections returned by {@link #getIncomingConnections(Object)} must have the given node as their
+ * {@link Connection#getToNode() to node}, since they are used to build the output path.
+ * 
+ * @param <N> Type of node */
+public interface ReversibleGraph<N> extends Graph<N> {
+
+	/** Returns the connections incoming to the given node.
+	 * @param toNode the node whose incoming connections will be returned
+	 * @return the array of connections incoming to the given node. */
+	public Array<Connection<N>> getIncomingConnections (N toNode);
+}
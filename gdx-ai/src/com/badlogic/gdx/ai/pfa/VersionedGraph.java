@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa;
+
+/** A {@code VersionedGraph} is a {@link Graph} exposing a version number that changes every time the graph is modified, i.e.
+ * whenever nodes or connections are added or removed or the cost of a connection changes. This allows clients like the
+ * {@link CachingPathFinder} to detect when results computed in the past are no longer valid.
+ * 
+ * @param <N> Type of node */
+public interface VersionedGraph<N> extends Graph<N> {
+
+	/** Returns the current version of this graph. Any modification to the graph must change the returned value. */
+	public int getVersion ();
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.grid;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.utils.Array;
+
+/** A {@code ClearanceGraph} is a {@link Grid} acting as a given grid for agents of a given size, so that a single grid and a
+ * single {@link ClearanceMap} can serve agents of any size. A cell is walkable if its clearance is at least the
+ * {@link #getClearance() clearance} of the agent, and the connections of the grid leading to cells that are not walkable are left
+ * out. Diagonal moves are also left out if any of the two adjacent orthogonal cells is not walkable, since a wide agent would hit
+ * a corner.
+ * <p>
+ * The clearance can be changed at any time, typically before each search, either directly or through a
+ * {@link ClearancePathFinder}. Notice that the array returned by {@link #getConnections(Object)} is reused by the next call,
+ * unless the clearance is 1, in which case the connections of the grid are returned unchanged.
+ * 
+ * @param <N> Type of node */
+public class ClearanceGraph<N> implements Grid<N> {
+	Grid<N> grid;
+	ClearanceMap clearanceMap;
+	int clearance;
+
+	private Array<Connection<N>> connections;
+
+	/** Creates a {@code ClearanceGraph} for agents whose size is 1.
+	 * @param grid the grid
+	 * @param clearanceMap the clearance map of the grid
+	 * @throws IllegalArgumentException if the clearance map has not been computed for the given grid */
+	public ClearanceGraph (Grid<N> grid, ClearanceMap clearanceMap) {
+		if (clearanceMap.getGrid() != grid) throw new IllegalArgumentException("The clearance map belongs to another grid");
+		this.grid = grid;
+		this.clearanceMap = clearanceMap;
+		this.clearance = 1;
+		this.connections = new Array<Connection<N>>(8);
+	}
+
+	/** Returns the grid this graph acts as. */
+	public Grid<N> getGrid () {
+		return grid;
+	}
+
+	/** Returns the clearance map of this graph. */
+	public ClearanceMap getClearanceMap () {
+		return clearanceMap;
+	}
+
+	/** Returns the clearance required by the agent, that is its size in cells. */
+	public int getClearance () {
+		return clearance;
+	}
+
+	/** Sets the clearance required by the agent, that is its size in cells.
+	 * @param clearance the clearance, from 1 to the maximum clearance of the clearance map
+	 * @throws IllegalArgumentException if the clearance is out of range */
+	public void setClearance (int clearance) {
+		if (clearance < 1 || clearance > clearanceMap.getMaxClearance())
+			throw new IllegalArgumentException("clearance must be in the range [1, " + clearanceMap.getMaxClearance() + "]");
+		this.clearance = clearance;
+	}
+
+	@Override
+	public int getWidth () {
+		return grid.getWidth();
+	}
+
+	@Override
+	public int getHeight () {
+		return grid.getHeight();
+	}
+
+	@Override
+	public boolean isWalkable (int x, int y) {
+		return clearanceMap.getClearance(x, y) >= clearance;
+	}
+
+	@Override
+	public N getNode (int x, int y) {
+		return grid.getNode(x, y);
+	}
+
+	@Override
+	public int getX (N node) {
+		return grid.getX(node);
+	}
+
+	@Override
+	public int getY (N node) {
+		return grid.getY(node);
+	}
+
+	@Override
+	public int getIndex (N node) {
+		return grid.getIndex(node);
+	}
+
+	@Override
+	public int getNodeCount () {
+		return grid.getNodeCount();
+	}
+
+	@Override
+	public Array<Connection<N>> getConnections (N fromNode) {
+		Array<Connection<N>> gridConnections = grid.getConnections(fromNode);
+		if (clearance == 1) return gridConnections;
+
+		connections.clear();
+		int fromX = grid.getX(fromNode);
+		int fromY = grid.getY(fromNode);
+		for (int i = 0; i < gridConnections.size; i++) {
+			Connection<N> connection = gridConnections.get(i);
+			N toNode = connection.getToNode();
+			int toX = grid.getX(toNode);
+			int toY = grid.getY(toNode);
+			if (!isWalkable(toX, toY)) continue;
+
+			// Wide agents can't cut corners
+			if (toX != fromX && toY != fromY && !(isWalkable(toX, fromY) && isWalkable(fromX, toY))) continue;
+
+			connections.add(connection);
+		}
+		return connections;
+	}
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.grid;
+
+/** A {@code ClearanceMap} stores, for each cell of a {@link Grid}, its clearance, that is the size of the largest square of
+ * walkable cells having that cell as its corner with the lowest coordinates. An agent as wide as {@code n} cells, whose position
+ * is the cell of its lowest corner, fits in every cell whose clearance is at least {@code n}. This allows a single grid to serve
+ * agents of any size through a {@link ClearanceGraph}.
+ * <p>
+ * Clearances are capped to a maximum, typically the size of the largest agent, which also bounds the cost of an
+ * {@link #update(int, int) update}: when the walkability of a cell changes, only the clearances of the cells within the maximum
+ * clearance from it are recomputed. */
+public class ClearanceMap {
+	Grid<?> grid;
+	int width;
+	int height;
+	int maxClearance;
+
+	/** The clearance of each cell, indexed by {@code y * width + x}. */
+	byte[] clearances;
+
+	/** Creates a {@code ClearanceMap} for the given grid and computes the clearance of all its cells.
+	 * @param grid the grid
+	 * @param maxClearance the maximum clearance, from 1 to 255
+	 * @throws IllegalArgumentException if the maximum clearance is out of range */
+	public ClearanceMap (Grid<?> grid, int maxClearance) {
+		if (maxClearance < 1 || maxClearance > 255)
+			throw new IllegalArgumentException("maxClearance must be in the range [1, 255]");
+		this.grid = grid;
+		this.width = grid.getWidth();
+		this.height = grid.getHeight();
+		this.maxClearance = maxClearance;
+		this.clearances = new byte[width * height];
+		updateAll();
+	}
+
+	/** Returns the grid of this clearance map. */
+	public Grid<?> getGrid () {
+		return grid;
+	}
+
+	/** Returns the maximum clearance of this map. */
+	public int getMaxClearance () {
+		return maxClearance;
+	}
+
+	/** Returns the clearance of the cell at the given coordinates; it's 0 for blocked cells and for cells out of the grid.
+	 * @param x the x coordinate of the cell
+	 * @param y the y coordinate of the cell */
+	public int getClearance (int x, int y) {
+		if (x < 0 || y < 0 || x >= width || y >= height) return 0;
+		return clearances[y * width + x] & 0xff;
+	}
+
+	/** Updates the clearances after the walkability of the cell at the given coordinates has changed. Only the cells within the
+	 * maximum clearance from the given cell are recomputed.
+	 * @param x the x coordinate of the cell
+	 * @param y the y coordinate of the cell */
+	public void update (int x, int y) {
+		// A square of clearance at most maxClearance covers the given cell only if its corner is up to maxClearance - 1 cells
+		// lower in both directions. Visit those corners from the highest coordinates, since each clearance depends on the ones
+		// of the next cells.
+		int minX = Math.max(0, x - maxClearance + 1);
+		int minY = Math.max(0, y - maxClearance + 1);
+		for (int cy = Math.min(y, height - 1); cy >= minY; cy--)
+			for (int cx = Math.min(x, width - 1); cx >= minX; cx--)
+				computeClearance(cx, cy);
+	}
+
+	/** Recomputes the clearance of all the cells of the grid. */
+	public void updateAll () {
+		for (int y = height - 1; y >= 0; y--)
+			for (int x = width - 1; x >= 0; x--)
+				computeClearance(x, y);
+	}
+
+	private void computeClearance (int x, int y) {
+		int clearance = 0;
+		if (grid.isWalkable(x, y)) {
+			int next = Math.min(getClearance(x + 1, y), Math.min(getClearance(x, y + 1), getClearance(x + 1, y + 1)));
+			clearance = Math.min(maxClearance, next + 1);
+		}
+		clearances[y * width + x] = (byte)clearance;
+	}
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.grid;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.PathFinder;
+import com.badlogic.gdx.ai.pfa.PathFinderRequest;
+
+/** A {@code ClearancePathFinder} is a {@link PathFinder} decorator serving agents of any size through a single path finder
+ * working on a {@link ClearanceGraph}. Before running an interruptible search, it sets the clearance of the graph to the
+ * {@link PathFinderRequest#clearance clearance} of the request. Non-interruptible searches use the current clearance of the
+ * graph, which can be set through {@link ClearanceGraph#setClearance(int)}.
+ * <p>
+ * Since the search state of the wrapped path finder is shared by all the agent sizes, a queue of requests for agents of different
+ * sizes takes the memory of a single path finder on a single graph.
+ * 
+ * @param <N> Type of node */
+public class ClearancePathFinder<N> implements PathFinder<N> {
+	ClearanceGraph<N> graph;
+	PathFinder<N> pathFinder;
+
+	/** Creates a {@code ClearancePathFinder}.
+	 * @param graph the clearance graph
+	 * @param pathFinder the path finder searching the given clearance graph */
+	public ClearancePathFinder (ClearanceGraph<N> graph, PathFinder<N> pathFinder) {
+		this.graph = graph;
+		this.pathFinder = pathFinder;
+	}
+
+	/** Returns the clearance graph searched by this path finder. */
+	public ClearanceGraph<N> getGraph () {
+		return graph;
+	}
+
+	@Override
+	public boolean searchConnectionPath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<Connection<N>> outPath) {
+		return pathFinder.searchConnectionPath(startNode, endNode, heuristic, outPath);
+	}
+
+	@Override
+	public boolean searchNodePath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<N> outPath) {
+		return pathFinder.searchNodePath(startNode, endNode, heuristic, outPath);
+	}
+
+	/** Sets the clearance of the graph to the one of the given request, then lets the wrapped path finder search it.
+	 * @throws IllegalArgumentException if the clearance of the request is out of range */
+	@Override
+	public boolean search (PathFinderRequest<N> request, long timeToRun) {
+		graph.setClearance(request.clearance);
+		return pathFinder.search(request, timeToRun);
+	}
+}
@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.grid;
+
+import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
+
+/** A {@code Grid} is an {@link IndexedGraph} whose nodes are the cells of a rectangular grid. Besides the connections of the
+ * graph, a grid exposes the walkability of its cells, which allows grid-specialized path finders like the
+ * {@link JumpPointSearchPathFinder} to reason directly in terms of coordinates.
+ * <p>
+ * The connections of the graph must be consistent with the walkability of the cells.
+ * 
+ * @param <N> Type of node */
+public interface Grid<N> extends IndexedGraph<N> {
+
+	/** Returns the number of columns of this grid. */
+	public int getWidth ();
+
+	/** Returns the number of rows of this grid. */
+	public int getHeight ();
+
+	/** Returns {@code true} if the cell at the given coordinates can be traversed; {@code false} if it's blocked or out of the
+	 * grid.
+	 * @param x the x coordinate of the cell
+	 * @param y the y coordinate of the cell */
+	public boolean isWalkable (int x, int y);
+
+	/** Returns the node at the given coordinates, which must be inside the grid.
+	 * @param x the x coordinate of the cell
+	 * @param y the y coordinate of the cell */
+	public N getNode (int x, int y);
+
+	/** Returns the x coordinate of the given node. */
+	public int getX (N node);
+
+	/** Returns the y coordinate of the given node. */
+	public int getY (N node);
+
+}
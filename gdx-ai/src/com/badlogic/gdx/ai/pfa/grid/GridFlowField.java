@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.grid;
+
+import com.badlogic.gdx.ai.pfa.indexed.IntegrationField;
+import com.badlogic.gdx.ai.steer.behaviors.FollowFlowField;
+import com.badlogic.gdx.ai.steer.behaviors.FollowFlowField.FlowField;
+import com.badlogic.gdx.math.Vector2;
+
+/** A {@code GridFlowField} is a ready-to-use {@link FlowField} for the {@link FollowFlowField} steering behavior, built on a
+ * {@link Grid}. Every time the goals change, an {@link IntegrationField} is computed over the grid and the direction towards the
+ * next cell of the shortest path to the nearest goal is stored for each cell. Looking up the flow vector at a position is then
+ * just a table access, so a single computation can drive hundreds of agents heading to the same goals.
+ * <p>
+ * The grid is mapped onto the world as a regular lattice of square cells of the given size, whose origin is the bottom-left
+ * corner of the cell (0, 0). The flow vector is the unit vector pointing from the cell containing the given position to the next
+ * cell, or the zero vector for goal cells and for positions outside the grid or unable to reach a goal.
+ * 
+ * @param <N> Type of node */
+public class GridFlowField<N> implements FlowField<Vector2> {
+
+	private static final byte NONE = -1;
+	private static final float D = (float)Math.sqrt(0.5);
+
+	/** The flow vectors of the 8 directions E, NE, N, NW, W, SW, S, SE. */
+	private static final float[] FLOW_X = {1, D, 0, -D, -1, -D, 0, D};
+	private static final float[] FLOW_Y = {0, D, 1, D, 0, -D, -1, -D};
+
+	protected final Grid<N> grid;
+	protected final IntegrationField<N> integrationField;
+
+	/** The size of the cells in world units. */
+	protected float cellSize;
+
+	/** The world coordinates of the bottom-left corner of the cell (0, 0). */
+	protected final Vector2 origin;
+
+	/** The direction of each cell, from 0 to 7 counterclockwise starting from east, or {@link #NONE}. */
+	final byte[] directions;
+
+	private final Vector2 flowVector;
+
+	/** Creates a {@code GridFlowField} whose origin is the origin of the world.
+	 * @param grid the grid
+	 * @param cellSize the size of the cells in world units */
+	public GridFlowField (Grid<N> grid, float cellSize) {
+		this(grid, cellSize, 0, 0);
+	}
+
+	/** Creates a {@code GridFlowField}.
+	 * @param grid the grid
+	 * @param cellSize the size of the cells in world units
+	 * @param originX the x world coordinate of the bottom-left corner of the cell (0, 0)
+	 * @param originY the y world coordinate of the bottom-left corner of the cell (0, 0) */
+	public GridFlowField (Grid<N> grid, float cellSize, float originX, float originY) {
+		this.grid = grid;
+		this.integrationField = new IntegrationField<N>(grid);
+		this.cellSize = cellSize;
+		this.origin = new Vector2(originX, originY);
+		this.directions = new byte[grid.getWidth() * grid.getHeight()];
+		this.flowVector = new Vector2();
+		for (int i = 0; i < directions.length; i++)
+			directions[i] = NONE;
+	}
+
+	/** Recomputes this flow field for the given goal.
+	 * @param goal the goal node */
+	public void compute (N goal) {
+		integrationField.compute(goal);
+		updateDirections();
+	}
+
+	/** Recomputes this flow field for the given goals. Each cell flows towards the nearest goal.
+	 * @param goals the goal nodes */
+	public void compute (Iterable<N> goals) {
+		integrationField.compute(goals);
+		updateDirections();
+	}
+
+	/** Returns the flow vector at the given position. <b>Note that the same vector instance is returned each time this method is
+	 * called.</b>
+	 * @param position the position to map
+	 * @return the unit vector pointing to the next cell or the zero vector. */
+	@Override
+	public Vector2 lookup (Vector2 position) {
+		int x = (int)Math.floor((position.x - origin.x) / cellSize);
+		int y = (int)Math.floor((position.y - origin.y) / cellSize);
+		int width = grid.getWidth();
+		if (x < 0 || y < 0 || x >= width || y >= grid.getHeight()) return flowVector.setZero();
+		byte direction = directions[y * width + x];
+		if (direction == NONE) return flowVector.setZero();
+		return flowVector.set(FLOW_X[direction], FLOW_Y[direction]);
+	}
+
+	/** Returns the integration field this flow field is built on. */
+	public IntegrationField<N> getIntegrationField () {
+		return integrationField;
+	}
+
+	/** Returns the grid. */
+	public Grid<N> getGrid () {
+		return grid;
+	}
+
+	private void updateDirections () {
+		Grid<N> grid = this.grid;
+		IntegrationField<N> integrationField = this.integrationField;
+		byte[] directions = this.directions;
+		int width = grid.getWidth();
+		int height = grid.getHeight();
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				byte direction = NONE;
+				if (grid.isWalkable(x, y)) {
+					N next = integrationField.getNextNode(grid.getNode(x, y));
+					if (next != null) direction = getDirection(grid.getX(next) - x, grid.getY(next) - y);
+				}
+				directions[y * width + x] = direction;
+			}
+		}
+	}
+
+	/** Returns the direction of the given offset, or {@link #NONE} if it's zero. */
+	private static byte getDirection (int dx, int dy) {
+		dx = Integer.signum(dx);
+		dy = Integer.signum(dy);
+		if (dy == 0) return dx > 0 ? 0 : dx < 0 ? (byte)4 : NONE;
+		if (dy > 0) return (byte)(2 - dx);
+		return (byte)(6 + dx);
+	}
+}
@@ -0,0 +1,323 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.grid;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.VersionedGraph;
+import com.badlogic.gdx.ai.pfa.grid.GridNode.ConnectionCache;
+import com.badlogic.gdx.ai.pfa.indexed.ImplicitIndexedGraph;
+import com.badlogic.gdx.ai.pfa.indexed.NeighborConsumer;
+import com.badlogic.gdx.utils.Array;
+
+/** A {@code GridGraph} is a ready to use {@link Grid} whose walkability is stored in a bitset, one bit per cell, and whose
+ * connections are implied by the walkability and by the {@link DiagonalMovement} rule rather than stored. An optional cost layer
+ * gives each cell a cost from 1 to 255, which is the cost of entering the cell by an orthogonal move; diagonal moves cost
+ * {@code sqrt(2)} times as much.
+ * <p>
+ * Since the graph is an {@link ImplicitIndexedGraph}, the {@link com.badlogic.gdx.ai.pfa.indexed.PrimitiveIndexedAStarPathFinder
+ * PrimitiveIndexedAStarPathFinder} and the {@link com.badlogic.gdx.ai.pfa.indexed.SparseIndexedAStarPathFinder
+ * SparseIndexedAStarPathFinder} search it without creating any connection, while grid-specialized path finders like the
+ * {@link JumpPointSearchPathFinder} work on its cells directly, provided that all the cells cost 1 and the diagonal movement rule
+ * matches the one of the path finder. Any other path finder, like the
+ * {@link com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder IndexedAStarPathFinder}, goes through
+ * {@link #getConnections(GridNode)}, whose result is built on demand and cached by the node until the graph changes.
+ * <p>
+ * Reading the graph doesn't change any shared state other than these caches, which are replaced atomically, so a graph can be
+ * searched by several threads at once, for instance by the {@link com.badlogic.gdx.ai.pfa.indexed.DistanceMatrixBuilder
+ * DistanceMatrixBuilder} or the {@link com.badlogic.gdx.ai.pfa.ConcurrentPathFinderQueue ConcurrentPathFinderQueue}, as long
+ * as nobody changes it meanwhile.
+ * <p>
+ * Changing the walkability or the cost of a cell is a constant time operation that changes the {@link #getVersion() version} of
+ * the graph, which makes the graph suitable for a {@link com.badlogic.gdx.ai.pfa.CachingPathFinder CachingPathFinder}. */
+public class GridGraph implements Grid<GridNode>, ImplicitIndexedGraph<GridNode>, VersionedGraph<GridNode> {
+
+	/** The rule deciding when a diagonal move between two walkable cells is allowed. */
+	public enum DiagonalMovement {
+		/** The grid is 4-connected. */
+		NEVER,
+		/** Diagonal moves are always allowed, even between two blocked cells. */
+		ALWAYS,
+		/** Diagonal moves are allowed if at least one of the two adjacent orthogonal cells is walkable. */
+		IF_AT_MOST_ONE_OBSTACLE,
+		/** Diagonal moves are allowed only if both the adjacent orthogonal cells are walkable, meaning that corners are never cut.
+		 * This is the rule of the {@link JumpPointSearchPathFinder}. */
+		ONLY_WHEN_NO_OBSTACLES
+	}
+
+	static final float DIAGONAL_COST = (float)Math.sqrt(2);
+
+	final int width;
+	final int height;
+
+	/** The walkability of the cells, one bit per cell. */
+	final long[] walkable;
+
+	/** The unsigned cost of the cells; {@code null} if all the cells cost 1. */
+	byte[] costs;
+
+	DiagonalMovement diagonalMovement;
+
+	/** The nodes by index. */
+	final GridNode[] nodes;
+
+	int version;
+
+	/** Creates an 8-connected {@code GridGraph} whose cells are all walkable and cost 1. Corners are never cut.
+	 * @param width the number of columns
+	 * @param height the number of rows */
+	public GridGraph (int width, int height) {
+		this(width, height, DiagonalMovement.ONLY_WHEN_NO_OBSTACLES);
+	}
+
+	/** Creates a {@code GridGraph} whose cells are all walkable and cost 1.
+	 * @param width the number of columns
+	 * @param height the number of rows
+	 * @param diagonalMovement the rule deciding when diagonal moves are allowed
+	 * @throws IllegalArgumentException if the width or the height is not positive */
+	public GridGraph (int width, int height, DiagonalMovement diagonalMovement) {
+		if (width <= 0 || height <= 0) throw new IllegalArgumentException("width and height must be positive");
+		this.width = width;
+		this.height = height;
+		this.diagonalMovement = diagonalMovement;
+		int cellCount = width * height;
+		this.walkable = new long[(cellCount + 63) >>> 6];
+		for (int i = 0; i < walkable.length; i++)
+			walkable[i] = -1L;
+		this.nodes = new GridNode[cellCount];
+		for (int i = 0; i < cellCount; i++)
+			nodes[i] = new GridNode(i % width, i / width, i);
+	}
+
+	@Override
+	public int getWidth () {
+		return width;
+	}
+
+	@Override
+	public int getHeight () {
+		return height;
+	}
+
+	@Override
+	public boolean isWalkable (int x, int y) {
+		if (x < 0 || y < 0 || x >= width || y >= height) return false;
+		int index = y * width + x;
+		return (walkable[index >>> 6] & (1L << index)) != 0;
+	}
+
+	/** Sets the walkability of the cell at the given coordinates, which must be inside the grid.
+	 * @param x the x coordinate of the cell
+	 * @param y the y coordinate of the cell
+	 * @param walkable whether the cell can be traversed */
+	public void setWalkable (int x, int y, boolean walkable) {
+		checkBounds(x, y);
+		int index = y * width + x;
+		long word = this.walkable[index >>> 6];
+		long newWord = walkable ? word | (1L << index) : word & ~(1L << index);
+		if (newWord != word) {
+			this.walkable[index >>> 6] = newWord;
+			version++;
+		}
+	}
+
+	/** Returns the cost of entering the cell at the given coordinates, which must be inside the grid, by an orthogonal move.
+	 * @param x the x coordinate of the cell
+	 * @param y the y coordinate of the cell */
+	public int getCost (int x, int y) {
+		checkBounds(x, y);
+		return costs == null ? 1 : costs[y * width + x] & 0xff;
+	}
+
+	/** Sets the cost of entering the cell at the given coordinates, which must be inside the grid, by an orthogonal move. The cost
+	 * layer is allocated the first time a cost other than 1 is set.
+	 * @param x the x coordinate of the cell
+	 * @param y the y coordinate of the cell
+	 * @param cost the cost of the cell, from 1 to 255
+	 * @throws IllegalArgumentException if the cost is out of range */
+	public void setCost (int x, int y, int cost) {
+		checkBounds(x, y);
+		if (cost < 1 || cost > 255) throw new IllegalArgumentException("cost must be in the range [1, 255]");
+		if (costs == null) {
+			if (cost == 1) return;
+			costs = new byte[width * height];
+			for (int i = 0; i < costs.length; i++)
+				costs[i] = 1;
+		}
+		int index = y * width + x;
+		if ((costs[index] & 0xff) != cost) {
+			costs[index] = (byte)cost;
+			version++;
+		}
+	}
+
+	/** Returns the rule deciding when diagonal moves are allowed. */
+	public DiagonalMovement getDiagonalMovement () {
+		return diagonalMovement;
+	}
+
+	/** Sets the rule deciding when diagonal moves are allowed.
+	 * @param diagonalMovement the rule */
+	public void setDiagonalMovement (DiagonalMovement diagonalMovement) {
+		if (this.diagonalMovement != diagonalMovement) {
+			this.diagonalMovement = diagonalMovement;
+			version++;
+		}
+	}
+
+	@Override
+	public GridNode getNode (int x, int y) {
+		checkBounds(x, y);
+		return getNode(y * width + x);
+	}
+
+	@Override
+	public GridNode getNode (int index) {
+		return nodes[index];
+	}
+
+	@Override
+	public int getX (GridNode node) {
+		return node.x;
+	}
+
+	@Override
+	public int getY (GridNode node) {
+		return node.y;
+	}
+
+	@Override
+	public int getIndex (GridNode node) {
+		return node.index;
+	}
+
+	@Override
+	public int getNodeCount () {
+		return nodes.length;
+	}
+
+	@Override
+	public int getVersion () {
+		return version;
+	}
+
+	@Override
+	public Array<Connection<GridNode>> getConnections (GridNode fromNode) {
+		int version = this.version;
+		ConnectionCache cache = fromNode.connections;
+		if (cache != null && cache.version == version) return cache.connections;
+
+		// Build the connections from scratch, so that threads racing on the same node never share a half-built array
+		Array<Connection<GridNode>> connections = new Array<Connection<GridNode>>(
+			diagonalMovement == DiagonalMovement.NEVER ? 4 : 8);
+		forEachNeighbor(fromNode.index, new ConnectionBuilder(fromNode, connections));
+		fromNode.connections = new ConnectionCache(connections, version);
+		return connections;
+	}
+
+	@Override
+	public void forEachNeighbor (int index, NeighborConsumer consumer) {
+		int x = index % width;
+		int y = index / width;
+		if (!isWalkable(x, y)) return;
+
+		// Orthogonal moves
+		boolean left = isWalkable(x - 1, y);
+		boolean right = isWalkable(x + 1, y);
+		boolean down = isWalkable(x, y - 1);
+		boolean up = isWalkable(x, y + 1);
+		if (left) consumer.accept(index - 1, getCost(index - 1));
+		if (right) consumer.accept(index + 1, getCost(index + 1));
+		if (down) consumer.accept(index - width, getCost(index - width));
+		if (up) consumer.accept(index + width, getCost(index + width));
+
+		// Diagonal moves
+		if (diagonalMovement == DiagonalMovement.NEVER) return;
+		if (isDiagonalAllowed(left, down) && isWalkable(x - 1, y - 1)) acceptDiagonal(index - width - 1, consumer);
+		if (isDiagonalAllowed(right, down) && isWalkable(x + 1, y - 1)) acceptDiagonal(index - width + 1, consumer);
+		if (isDiagonalAllowed(left, up) && isWalkable(x - 1, y + 1)) acceptDiagonal(index + width - 1, consumer);
+		if (isDiagonalAllowed(right, up) && isWalkable(x + 1, y + 1)) acceptDiagonal(index + width + 1, consumer);
+	}
+
+	private boolean isDiagonalAllowed (boolean horizontal, boolean vertical) {
+		switch (diagonalMovement) {
+		case ALWAYS:
+			return true;
+		case IF_AT_MOST_ONE_OBSTACLE:
+			return horizontal || vertical;
+		default:
+			return horizontal && vertical;
+		}
+	}
+
+	private void acceptDiagonal (int toIndex, NeighborConsumer consumer) {
+		consumer.accept(toIndex, DIAGONAL_COST * getCost(toIndex));
+	}
+
+	private int getCost (int index) {
+		return costs == null ? 1 : costs[index] & 0xff;
+	}
+
+	private void checkBounds (int x, int y) {
+		if (x < 0 || y < 0 || x >= width || y >= height)
+			throw new IndexOutOfBoundsException("Cell (" + x + ", " + y + ") is out of the grid");
+	}
+
+	/** A connection between two cells. */
+	static class GridConnection implements Connection<GridNode> {
+		final GridNode fromNode;
+		final GridNode toNode;
+		final float cost;
+
+		GridConnection (GridNode fromNode, GridNode toNode, float cost) {
+			this.fromNode = fromNode;
+			this.toNode = toNode;
+			this.cost = cost;
+		}
+
+		@Override
+		public float getCost () {
+			return cost;
+		}
+
+		@Override
+		public GridNode getFromNode () {
+			return fromNode;
+		}
+
+		@Override
+		public GridNode getToNode () {
+			return toNode;
+		}
+	}
+
+	/** Adds a connection from a given node for each neighbor it receives. */
+	class ConnectionBuilder implements NeighborConsumer {
+		final GridNode fromNode;
+		final Array<Connection<GridNode>> connections;
+
+		ConnectionBuilder (GridNode fromNode, Array<Connection<GridNode>> connections) {
+			this.fromNode = fromNode;
+			this.connections = connections;
+		}
+
+		@Override
+		public void accept (int toIndex, float cost) {
+			connections.add(new GridConnection(fromNode, nodes[toIndex], cost));
+		}
+	}
+}
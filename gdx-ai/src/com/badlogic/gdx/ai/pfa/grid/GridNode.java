@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.grid;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.utils.Array;
+
+/** A cell of a {@link GridGraph}. */
+public class GridNode {
+
+	/** The x coordinate of this cell. */
+	public final int x;
+
+	/** The y coordinate of this cell. */
+	public final int y;
+
+	/** The index of this cell, that is {@code y * width + x}. */
+	public final int index;
+
+	/** The outgoing connections of this cell, built on demand; {@code null} if they have never been built. */
+	ConnectionCache connections;
+
+	GridNode (int x, int y, int index) {
+		this.x = x;
+		this.y = y;
+		this.index = index;
+	}
+
+	@Override
+	public String toString () {
+		return "GridNode [x=" + x + ", y=" + y + "]";
+	}
+
+	/** The outgoing connections of a cell along with the version of the graph they have been built for. Both are final, so a
+	 * cache built by a thread is seen fully built by the other threads and replacing it is a single write. */
+	static final class ConnectionCache {
+		final Array<Connection<GridNode>> connections;
+		final int version;
+
+		ConnectionCache (Array<Connection<GridNode>> connections, int version) {
+			this.connections = connections;
+			this.version = version;
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.grid;
+
+import com.badlogic.gdx.ai.pfa.indexed.HierarchicalGraphBuilder.Partitioner;
+
+/** A {@code GridPartitioner} partitions the cells of a {@link Grid} into rectangular clusters. Clusters of level 1 are
+ * {@code clusterWidth x clusterHeight} cells wide, and the clusters of each next level are made of {@code ratio x ratio}
+ * clusters of the previous level. Clusters on the right and top edges of the grid may be smaller.
+ * 
+ * @param <N> Type of node */
+public class GridPartitioner<N> implements Partitioner<N> {
+
+	protected final Grid<N> grid;
+	protected final int clusterWidth;
+	protected final int clusterHeight;
+	protected final int ratio;
+
+	/** Creates a {@code GridPartitioner} whose clusters double their size at each level.
+	 * @param grid the grid
+	 * @param clusterWidth the width of the clusters of level 1
+	 * @param clusterHeight the height of the clusters of level 1 */
+	public GridPartitioner (Grid<N> grid, int clusterWidth, int clusterHeight) {
+		this(grid, clusterWidth, clusterHeight, 2);
+	}
+
+	/** Creates a {@code GridPartitioner}.
+	 * @param grid the grid
+	 * @param clusterWidth the width of the clusters of level 1
+	 * @param clusterHeight the height of the clusters of level 1
+	 * @param ratio the number of clusters of a level along each axis of a cluster of the next level
+	 * @throws IllegalArgumentException if the cluster size is less than 1 or the ratio is less than 2 */
+	public GridPartitioner (Grid<N> grid, int clusterWidth, int clusterHeight, int ratio) {
+		if (clusterWidth < 1 || clusterHeight < 1) throw new IllegalArgumentException("Cluster size must be at least 1");
+		if (ratio < 2) throw new IllegalArgumentException("ratio must be at least 2");
+		this.grid = grid;
+		this.clusterWidth = clusterWidth;
+		this.clusterHeight = clusterHeight;
+		this.ratio = ratio;
+	}
+
+	@Override
+	public int getCluster (N node, int level) {
+		int width = clusterWidth;
+		int height = clusterHeight;
+		for (int i = 1; i < level; i++) {
+			width *= ratio;
+			height *= ratio;
+		}
+		int columns = (grid.getWidth() + width - 1) / width;
+		return grid.getY(node) / height * columns + grid.getX(node) / width;
+	}
+
+}
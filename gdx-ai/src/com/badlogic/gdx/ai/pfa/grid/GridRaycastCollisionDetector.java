@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.grid;
+
+import com.badlogic.gdx.ai.utils.Collision;
+import com.badlogic.gdx.ai.utils.Ray;
+import com.badlogic.gdx.ai.utils.RaycastCollisionDetector;
+import com.badlogic.gdx.math.Vector2;
+
+/** A raycast collision detector used for path smoothing against a {@link Grid}, typically along with a
+ * {@link GridSmoothableGraphPath}. A ray collides if any cell it crosses, according to Bresenham's line algorithm, is not
+ * walkable. Cells are unit squares, so the cell {@code (x, y)} spans from {@code (x, y)} to {@code (x + 1, y + 1)}.
+ * 
+ * @param <N> Type of node */
+public class GridRaycastCollisionDetector<N> implements RaycastCollisionDetector<Vector2> {
+	Grid<N> grid;
+
+	/** The coordinates of the blocked cell found by the last walk. */
+	int hitX, hitY;
+
+	public GridRaycastCollisionDetector (Grid<N> grid) {
+		this.grid = grid;
+	}
+
+	// See http://en.wikipedia.org/wiki/Bresenham%27s_line_algorithm
+	@Override
+	public boolean collides (Ray<Vector2> ray) {
+		return walk(ray, false);
+	}
+
+	/** Finds the first cell crossed by the given ray that is not walkable, using the same walk as {@link #collides(Ray)}. The
+	 * collision point is where the ray enters that cell and the normal is the one of the side it enters from, pointing back to
+	 * the start of the ray. If the ray starts inside the cell, the collision point is the start of the ray. */
+	@Override
+	public boolean findCollision (Collision<Vector2> outputCollision, Ray<Vector2> inputRay) {
+		if (!walk(inputRay, true)) return false;
+
+		// Intersect the ray with the hit cell, slab by slab
+		Vector2 start = inputRay.start;
+		float dx = inputRay.end.x - start.x;
+		float dy = inputRay.end.y - start.y;
+		float enterX = dx > 0 ? (hitX - start.x) / dx : dx < 0 ? (hitX + 1 - start.x) / dx : Float.NEGATIVE_INFINITY;
+		float enterY = dy > 0 ? (hitY - start.y) / dy : dy < 0 ? (hitY + 1 - start.y) / dy : Float.NEGATIVE_INFINITY;
+		float t;
+		if (enterX >= enterY) {
+			t = enterX;
+			outputCollision.normal.set(dx > 0 ? -1 : dx < 0 ? 1 : 0, 0);
+		} else {
+			t = enterY;
+			outputCollision.normal.set(0, dy > 0 ? -1 : 1);
+		}
+
+		// Bresenham's cells are not always crossed by the ray, so the entry point is clamped to the ray
+		t = t < 0 ? 0 : t > 1 ? 1 : t;
+		outputCollision.point.set(start.x + dx * t, start.y + dy * t);
+		return true;
+	}
+
+	/** Walks the cells from the start to the end of the given ray and stores the first one that is not walkable into
+	 * {@link #hitX} and {@link #hitY}.
+	 * @param ray the ray
+	 * @param closest whether the stored cell must be the closest to the start of the ray; if {@code false} the walk stops at the
+	 *           first blocked cell it meets, whichever end it started from
+	 * @return {@code true} if a cell is not walkable; {@code false} otherwise. */
+	private boolean walk (Ray<Vector2> ray, boolean closest) {
+		int x0 = (int)ray.start.x;
+		int y0 = (int)ray.start.y;
+		int x1 = (int)ray.end.x;
+		int y1 = (int)ray.end.y;
+
+		int tmp;
+		boolean steep = Math.abs(y1 - y0) > Math.abs(x1 - x0);
+		if (steep) {
+			// Swap x0 and y0
+			tmp = x0;
+			x0 = y0;
+			y0 = tmp;
+			// Swap x1 and y1
+			tmp = x1;
+			x1 = y1;
+			y1 = tmp;
+		}
+		boolean reversed = x0 > x1;
+		if (reversed) {
+			// Swap x0 and x1
+			tmp = x0;
+			x0 = x1;
+			x1 = tmp;
+			// Swap y0 and y1
+			tmp = y0;
+			y0 = y1;
+			y1 = tmp;
+		}
+
+		// When the walk goes from the end to the start of the ray the closest blocked cell is the last one
+		boolean stopAtFirstHit = !closest || !reversed;
+		boolean hit = false;
+		int deltax = x1 - x0;
+		int deltay = Math.abs(y1 - y0);
+		int error = 0;
+		int y = y0;
+		int ystep = (y0 < y1 ? 1 : -1);
+		for (int x = x0; x <= x1; x++) {
+			if (steep ? !grid.isWalkable(y, x) : !grid.isWalkable(x, y)) { // We've hit a wall
+				hitX = steep ? y : x;
+				hitY = steep ? x : y;
+				hit = true;
+				if (stopAtFirstHit) return true;
+			}
+			error += deltay;
+			if (error + error >= deltax) {
+				y += ystep;
+				error -= deltax;
+			}
+		}
+
+		return hit;
+	}
+}
@@ -0,0 +1,462 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.grid;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.PathFinder;
+import com.badlogic.gdx.ai.pfa.PathFinderQueue;
+import com.badlogic.gdx.ai.pfa.PathFinderRequest;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder.Metrics;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedBinaryHeap;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedOpenList;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** A fully implemented {@link PathFinder} that can perform both interruptible and non-interruptible pathfinding on a uniform-cost
+ * {@link Grid} using the Jump Point Search (JPS) algorithm.
+ * <p>
+ * JPS is an A* variant that exploits the symmetries of uniform-cost grids. Instead of adding every neighbor to the open list, it
+ * prunes the neighbors that can be optimally reached without passing through the current node and "jumps" along straight and
+ * diagonal lines until it finds a node with a forced neighbor, i.e. a jump point. Only jump points are added to the open list,
+ * which on open maps means that the number of expanded nodes drops by an order of magnitude or more.
+ * <p>
+ * Both 4-connected and 8-connected grids are supported. Orthogonal moves cost 1 and diagonal moves cost {@code sqrt(2)}; in
+ * 8-connected grids a diagonal move is allowed only if both the adjacent orthogonal cells are walkable, meaning that corners are
+ * never cut. The connections of the grid must follow the same rules, since they are used to build the output path.
+ * <p>
+ * The found path is expanded so that it contains every node between two consecutive jump points, just like the path returned by
+ * the {@link IndexedAStarPathFinder}.
+ * 
+ * @param <N> Type of node */
+public class JumpPointSearchPathFinder<N> implements PathFinder<N> {
+	static final float DIAGONAL_COST = (float)Math.sqrt(2);
+
+	Grid<N> grid;
+	boolean diagonal;
+	int width;
+	int height;
+
+	/** The actual cost from the start cell of each cell. */
+	float[] costSoFar;
+
+	/** The parent jump point of each cell, or -1 for the start cell. */
+	int[] parents;
+
+	/** The ID of the last search that visited each cell. */
+	int[] searchIds;
+
+	/** The category of each cell: {@link #UNVISITED}, {@link #OPEN} or {@link #CLOSED}. */
+	byte[] categories;
+
+	/** The open list, whose values are the estimated total costs of the cells. */
+	IndexedOpenList openList;
+
+	/** The current cell. */
+	int current;
+
+	int startCell;
+	int goalX;
+	int goalY;
+	N endNode;
+	Heuristic<N> heuristic;
+
+	public Metrics metrics;
+
+	/** The unique ID for each search run. Used to mark cells. */
+	private int searchId;
+
+	private IntArray tmpCells;
+
+	static final byte UNVISITED = 0;
+	static final byte OPEN = 1;
+	static final byte CLOSED = 2;
+
+	/** Creates a {@code JumpPointSearchPathFinder} for the given grid.
+	 * @param grid the grid
+	 * @param diagonal whether the grid is 8-connected or 4-connected */
+	public JumpPointSearchPathFinder (Grid<N> grid, boolean diagonal) {
+		this(grid, diagonal, false);
+	}
+
+	/** Creates a {@code JumpPointSearchPathFinder} for the given grid.
+	 * @param grid the grid
+	 * @param diagonal whether the grid is 8-connected or 4-connected
+	 * @param calculateMetrics whether metrics should be calculated */
+	public JumpPointSearchPathFinder (Grid<N> grid, boolean diagonal, boolean calculateMetrics) {
+		this(grid, diagonal, new IndexedBinaryHeap(grid.getWidth() * grid.getHeight()), calculateMetrics);
+	}
+
+	/** Creates a {@code JumpPointSearchPathFinder} for the given grid using the given open list.
+	 * @param grid the grid
+	 * @param diagonal whether the grid is 8-connected or 4-connected
+	 * @param openList the open list; its capacity is increased to the number of cells of the grid, if necessary
+	 * @param calculateMetrics whether metrics should be calculated */
+	public JumpPointSearchPathFinder (Grid<N> grid, boolean diagonal, IndexedOpenList openList, boolean calculateMetrics) {
+		this.grid = grid;
+		this.diagonal = diagonal;
+		this.width = grid.getWidth();
+		this.height = grid.getHeight();
+		int cellCount = width * height;
+		this.costSoFar = new float[cellCount];
+		this.parents = new int[cellCount];
+		this.searchIds = new int[cellCount];
+		this.categories = new byte[cellCount];
+		this.openList = openList;
+		openList.ensureCapacity(cellCount);
+		this.tmpCells = new IntArray();
+		if (calculateMetrics) this.metrics = new Metrics();
+	}
+
+	/** Returns {@code true} if this path finder allows diagonal moves; {@code false} otherwise. */
+	public boolean isDiagonal () {
+		return diagonal;
+	}
+
+	@Override
+	public boolean searchConnectionPath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<Connection<N>> outPath) {
+
+		// Perform JPS
+		boolean found = search(startNode, endNode, heuristic);
+
+		if (found) {
+			// Create a path made of connections
+			generateConnectionPath(outPath);
+		}
+
+		return found;
+	}
+
+	@Override
+	public boolean searchNodePath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<N> outPath) {
+
+		// Perform JPS
+		boolean found = search(startNode, endNode, heuristic);
+
+		if (found) {
+			// Create a path made of nodes
+			generateNodePath(outPath);
+		}
+
+		return found;
+	}
+
+	protected boolean search (N startNode, N endNode, Heuristic<N> heuristic) {
+
+		initSearch(startNode, endNode, heuristic);
+
+		int goalCell = cell(goalX, goalY);
+
+		// Iterate through processing each jump point
+		do {
+			// Retrieve the jump point with smallest estimated total cost from the open list
+			current = openList.pop();
+			categories[current] = CLOSED;
+			if (metrics != null) metrics.expandedNodes++;
+
+			// Terminate if we reached the goal node
+			if (current == goalCell) return true;
+
+			identifySuccessors();
+
+		} while (openList.size() > 0);
+
+		// We've run out of jump points without finding the goal, so there's no solution
+		return false;
+	}
+
+	@Override
+	public boolean search (PathFinderRequest<N> request, long timeToRun) {
+
+		long lastTime = TimeUtils.nanoTime();
+
+		// We have to initialize the search if the status has just changed
+		if (request.statusChanged) {
+			initSearch(request.startNode, request.endNode, request.heuristic);
+			request.statusChanged = false;
+		}
+
+		int goalCell = cell(goalX, goalY);
+
+		// Iterate through processing each jump point
+		do {
+
+			// Check the available time
+			long currentTime = TimeUtils.nanoTime();
+			timeToRun -= currentTime - lastTime;
+			if (timeToRun <= PathFinderQueue.TIME_TOLERANCE) return false;
+
+			// Retrieve the jump point with smallest estimated total cost from the open list
+			current = openList.pop();
+			categories[current] = CLOSED;
+			if (metrics != null) metrics.expandedNodes++;
+
+			// Terminate if we reached the goal node; we've found a path.
+			if (current == goalCell) {
+				request.pathFound = true;
+
+				generateNodePath(request.resultPath);
+
+				return true;
+			}
+
+			// Jump to current node's successors
+			identifySuccessors();
+
+			// Store the current time
+			lastTime = currentTime;
+
+		} while (openList.size() > 0);
+
+		// The open list is empty and we've not found a path.
+		request.pathFound = false;
+		return true;
+	}
+
+	protected void initSearch (N startNode, N endNode, Heuristic<N> heuristic) {
+		if (metrics != null) metrics.reset();
+
+		// Increment the search id
+		if (++searchId < 0) searchId = 1;
+
+		// Initialize the open list
+		openList.clear();
+
+		this.endNode = endNode;
+		this.heuristic = heuristic;
+		this.goalX = grid.getX(endNode);
+		this.goalY = grid.getY(endNode);
+
+		// Initialize the start cell and add it to the open list
+		startCell = cell(grid.getX(startNode), grid.getY(startNode));
+		searchIds[startCell] = searchId;
+		categories[startCell] = UNVISITED;
+		parents[startCell] = -1;
+		costSoFar[startCell] = 0;
+		addToOpenList(startCell, heuristic.estimate(startNode, endNode));
+
+		current = -1;
+	}
+
+	/** Jumps from the current cell in every direction that can't be pruned and adds the jump points found to the open list. */
+	protected void identifySuccessors () {
+		int x = current % width;
+		int y = current / width;
+		int parent = parents[current];
+
+		if (parent < 0) {
+			// No parent: no direction can be pruned
+			for (int dx = -1; dx <= 1; dx++) {
+				for (int dy = -1; dy <= 1; dy++) {
+					if (dx == 0 && dy == 0) continue;
+					if (dx != 0 && dy != 0 && (!diagonal || !isWalkable(x + dx, y) || !isWalkable(x, y + dy))) continue;
+					jumpAndAdd(x, y, dx, dy);
+				}
+			}
+			return;
+		}
+
+		// Get the normalized direction of travel
+		int dx = Integer.signum(x - parent % width);
+		int dy = Integer.signum(y - parent / width);
+
+		if (dx != 0 && dy != 0) {
+			// Moving diagonally: natural neighbors only, since corners are never cut
+			boolean walkableX = isWalkable(x + dx, y);
+			boolean walkableY = isWalkable(x, y + dy);
+			if (walkableY) jumpAndAdd(x, y, 0, dy);
+			if (walkableX) jumpAndAdd(x, y, dx, 0);
+			if (walkableX && walkableY) jumpAndAdd(x, y, dx, dy);
+		} else if (dx != 0) {
+			// Moving horizontally
+			boolean walkableNext = isWalkable(x + dx, y);
+			boolean walkableUp = isWalkable(x, y + 1);
+			boolean walkableDown = isWalkable(x, y - 1);
+			if (walkableNext) {
+				jumpAndAdd(x, y, dx, 0);
+				if (diagonal) {
+					if (walkableUp) jumpAndAdd(x, y, dx, 1);
+					if (walkableDown) jumpAndAdd(x, y, dx, -1);
+				}
+			}
+			if (walkableUp) jumpAndAdd(x, y, 0, 1);
+			if (walkableDown) jumpAndAdd(x, y, 0, -1);
+		} else {
+			// Moving vertically
+			boolean walkableNext = isWalkable(x, y + dy);
+			boolean walkableRight = isWalkable(x + 1, y);
+			boolean walkableLeft = isWalkable(x - 1, y);
+			if (walkableNext) {
+				jumpAndAdd(x, y, 0, dy);
+				if (diagonal) {
+					if (walkableRight) jumpAndAdd(x, y, 1, dy);
+					if (walkableLeft) jumpAndAdd(x, y, -1, dy);
+				}
+			}
+			if (walkableRight) jumpAndAdd(x, y, 1, 0);
+			if (walkableLeft) jumpAndAdd(x, y, -1, 0);
+		}
+	}
+
+	/** Jumps from the given cell in the given direction and, if a jump point is found, adds it to the open list. */
+	void jumpAndAdd (int x, int y, int dx, int dy) {
+		int jumpPoint = jump(x + dx, y + dy, dx, dy);
+		if (jumpPoint >= 0) addSuccessor(jumpPoint, octileDistance(x, y, jumpPoint % width, jumpPoint / width));
+	}
+
+	/** Moves from the given cell in the given direction until a jump point is found.
+	 * @param x the x coordinate of the first cell to examine
+	 * @param y the y coordinate of the first cell to examine
+	 * @param dx the horizontal direction
+	 * @param dy the vertical direction
+	 * @return the jump point or -1 if a blocked cell has been reached. */
+	int jump (int x, int y, int dx, int dy) {
+		while (true) {
+			if (!isWalkable(x, y)) return -1;
+			if (x == goalX && y == goalY) return cell(x, y);
+
+			if (dx != 0 && dy != 0) {
+				// When moving diagonally, must check for horizontal and vertical jump points
+				if (jump(x + dx, y, dx, 0) >= 0 || jump(x, y + dy, 0, dy) >= 0) return cell(x, y);
+
+				// The next diagonal move is allowed only if both the adjacent orthogonal cells are walkable
+				if (!isWalkable(x + dx, y) || !isWalkable(x, y + dy)) return -1;
+			} else if (dx != 0) {
+				// Moving horizontally, check for forced neighbors
+				if ((isWalkable(x, y - 1) && !isWalkable(x - dx, y - 1)) || (isWalkable(x, y + 1) && !isWalkable(x - dx, y + 1)))
+					return cell(x, y);
+			} else {
+				// Moving vertically, check for forced neighbors
+				if ((isWalkable(x - 1, y) && !isWalkable(x - 1, y - dy)) || (isWalkable(x + 1, y) && !isWalkable(x + 1, y - dy)))
+					return cell(x, y);
+
+				// Without diagonal moves, must check for horizontal jump points
+				if (!diagonal && (jump(x + 1, y, 1, 0) >= 0 || jump(x - 1, y, -1, 0) >= 0)) return cell(x, y);
+			}
+
+			x += dx;
+			y += dy;
+		}
+	}
+
+	/** Adds the given jump point to the open list, or updates it if a shorter route has been found.
+	 * @param jumpPoint the jump point
+	 * @param distance the distance of the jump point from the current cell */
+	protected void addSuccessor (int jumpPoint, float distance) {
+		if (metrics != null) metrics.visitedNodes++;
+
+		float cost = costSoFar[current] + distance;
+
+		float heuristicCost;
+		if (searchIds[jumpPoint] != searchId) { // the cell is unvisited
+			searchIds[jumpPoint] = searchId;
+			categories[jumpPoint] = UNVISITED;
+			heuristicCost = heuristic.estimate(grid.getNode(jumpPoint % width, jumpPoint / width), endNode);
+		} else {
+			// The cell is either open or closed: if we didn't find a shorter route, skip
+			if (costSoFar[jumpPoint] <= cost) return;
+
+			// Reuse the previously calculated heuristic value
+			heuristicCost = openList.getValue(jumpPoint) - costSoFar[jumpPoint];
+		}
+
+		costSoFar[jumpPoint] = cost;
+		parents[jumpPoint] = current;
+		addToOpenList(jumpPoint, cost + heuristicCost);
+	}
+
+	protected void addToOpenList (int cell, float estimatedTotalCost) {
+		if (categories[cell] == OPEN)
+			openList.update(cell, estimatedTotalCost);
+		else
+			openList.add(cell, estimatedTotalCost);
+		categories[cell] = OPEN;
+		if (metrics != null) {
+			metrics.openListAdditions++;
+			metrics.openListPeak = Math.max(metrics.openListPeak, openList.size());
+		}
+	}
+
+	protected void generateConnectionPath (GraphPath<Connection<N>> outPath) {
+		IntArray cells = expandPath();
+
+		// Look up the connection between each pair of consecutive nodes
+		N fromNode = grid.getNode(cells.get(0) % width, cells.get(0) / width);
+		for (int i = 1; i < cells.size; i++) {
+			N toNode = grid.getNode(cells.get(i) % width, cells.get(i) / width);
+			outPath.add(findConnection(fromNode, toNode));
+			fromNode = toNode;
+		}
+	}
+
+	protected void generateNodePath (GraphPath<N> outPath) {
+		IntArray cells = expandPath();
+		for (int i = 0; i < cells.size; i++)
+			outPath.add(grid.getNode(cells.get(i) % width, cells.get(i) / width));
+	}
+
+	/** Expands the jump points of the path ending at the current cell into the sequence of all the traversed cells, from the start
+	 * cell to the current cell.
+	 * @return the traversed cells. <b>Note that the same array instance is returned each time this method is called.</b> */
+	IntArray expandPath () {
+		IntArray cells = tmpCells;
+		cells.clear();
+		int cell = current;
+		cells.add(cell);
+		int parent;
+		while ((parent = parents[cell]) >= 0) {
+			// Step back towards the parent jump point
+			int x = cell % width, y = cell / width;
+			int px = parent % width, py = parent / width;
+			int dx = Integer.signum(px - x), dy = Integer.signum(py - y);
+			do {
+				x += dx;
+				y += dy;
+				cells.add(cell(x, y));
+			} while (x != px || y != py);
+			cell = parent;
+		}
+		cells.reverse();
+		return cells;
+	}
+
+	Connection<N> findConnection (N fromNode, N toNode) {
+		Array<Connection<N>> connections = grid.getConnections(fromNode);
+		for (int i = 0; i < connections.size; i++) {
+			Connection<N> connection = connections.get(i);
+			if (connection.getToNode() == toNode) return connection;
+		}
+		throw new IllegalStateException("The connections of the grid are not consistent with the walkability of its cells");
+	}
+
+	boolean isWalkable (int x, int y) {
+		return x >= 0 && y >= 0 && x < width && y < height && grid.isWalkable(x, y);
+	}
+
+	int cell (int x, int y) {
+		return y * width + x;
+	}
+
+	float octileDistance (int x0, int y0, int x1, int y1) {
+		int dx = Math.abs(x1 - x0);
+		int dy = Math.abs(y1 - y0);
+		return dx > dy ? (dx - dy) + dy * DIAGONAL_COST : (dy - dx) + dx * DIAGONAL_COST;
+	}
+}
@@ -0,0 +1,246 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.grid;
+
+import com.badlogic.gdx.ai.pfa.indexed.IndexedOpenList;
+
+/** A {@link JumpPointSearchPathFinder} that precomputes the jump distances of every cell, a technique known as JPS+.
+ * <p>
+ * For each walkable cell and each of the 8 directions (4 without diagonal moves) the distance to the next jump point is stored,
+ * or the distance to the last walkable cell before an obstacle as a negative number. At search time jumping is then a constant
+ * time operation, the only extra work being a check to stop at the goal, or at the row or column of the goal, when it lies
+ * within the jump.
+ * <p>
+ * The precomputed table takes 8 integers per cell and is independent of the start and goal nodes, so it can be shared by all the
+ * searches on the same grid. It must be {@link #rebuild() rebuilt} whenever the walkability of the grid changes.
+ * 
+ * @param <N> Type of node */
+public class JumpPointSearchPlusPathFinder<N> extends JumpPointSearchPathFinder<N> {
+
+	// Directions in counterclockwise order starting from east; even directions are orthogonal, odd ones are diagonal
+	static final int E = 0, NE = 1, N = 2, NW = 3, W = 4, SW = 5, S = 6, SE = 7;
+	static final int[] DX = {1, 1, 0, -1, -1, -1, 0, 1};
+	static final int[] DY = {0, 1, 1, 1, 0, -1, -1, -1};
+
+	/** The jump distances, 8 per cell. A positive distance leads to a jump point; a negative or zero distance is the number of
+	 * walkable cells before an obstacle. */
+	int[] distances;
+
+	/** Creates a {@code JumpPointSearchPlusPathFinder} for the given grid and precomputes its jump distances.
+	 * @param grid the grid
+	 * @param diagonal whether the grid is 8-connected or 4-connected */
+	public JumpPointSearchPlusPathFinder (Grid<N> grid, boolean diagonal) {
+		this(grid, diagonal, false);
+	}
+
+	/** Creates a {@code JumpPointSearchPlusPathFinder} for the given grid and precomputes its jump distances.
+	 * @param grid the grid
+	 * @param diagonal whether the grid is 8-connected or 4-connected
+	 * @param calculateMetrics whether metrics should be calculated */
+	public JumpPointSearchPlusPathFinder (Grid<N> grid, boolean diagonal, boolean calculateMetrics) {
+		super(grid, diagonal, calculateMetrics);
+		this.distances = new int[width * height * 8];
+		rebuild();
+	}
+
+	/** Creates a {@code JumpPointSearchPlusPathFinder} for the given grid using the given open list and precomputes its jump
+	 * distances.
+	 * @param grid the grid
+	 * @param diagonal whether the grid is 8-connected or 4-connected
+	 * @param openList the open list; its capacity is increased to the number of cells of the grid, if necessary
+	 * @param calculateMetrics whether metrics should be calculated */
+	public JumpPointSearchPlusPathFinder (Grid<N> grid, boolean diagonal, IndexedOpenList openList, boolean calculateMetrics) {
+		super(grid, diagonal, openList, calculateMetrics);
+		this.distances = new int[width * height * 8];
+		rebuild();
+	}
+
+	/** Recomputes the jump distances of all the cells. This method must be called whenever the walkability of the grid changes. */
+	public void rebuild () {
+		// Horizontal distances first, since vertical jump points depend on them without diagonal moves
+		computeStraightDistances(E);
+		computeStraightDistances(W);
+		computeStraightDistances(N);
+		computeStraightDistances(S);
+		if (diagonal) {
+			computeDiagonalDistances(NE);
+			computeDiagonalDistances(NW);
+			computeDiagonalDistances(SW);
+			computeDiagonalDistances(SE);
+		}
+	}
+
+	/** Returns the jump distance of the given cell in the given direction.
+	 * @param x the x coordinate of the cell
+	 * @param y the y coordinate of the cell
+	 * @param direction the direction, from 0 (east) to 7 (south-east) counterclockwise */
+	public int getJumpDistance (int x, int y, int direction) {
+		return distances[cell(x, y) * 8 + direction];
+	}
+
+	private void computeStraightDistances (int dir) {
+		int dx = DX[dir], dy = DY[dir];
+
+		// Sweep against the direction so that the next cell has already been computed
+		for (int i = 0; i < height; i++) {
+			int y = dy > 0 ? height - 1 - i : i;
+			for (int j = 0; j < width; j++) {
+				int x = dx > 0 ? width - 1 - j : j;
+				int nx = x + dx, ny = y + dy;
+				int distance;
+				if (!isWalkable(x, y) || !isWalkable(nx, ny))
+					distance = 0;
+				else if (isStraightJumpPoint(nx, ny, dx, dy))
+					distance = 1;
+				else
+					distance = extend(distances[cell(nx, ny) * 8 + dir]);
+				distances[cell(x, y) * 8 + dir] = distance;
+			}
+		}
+	}
+
+	private void computeDiagonalDistances (int dir) {
+		int dx = DX[dir], dy = DY[dir];
+		int horizontal = dx > 0 ? E : W;
+		int vertical = dy > 0 ? N : S;
+
+		// Sweep against the direction so that the next cell has already been computed
+		for (int i = 0; i < height; i++) {
+			int y = dy > 0 ? height - 1 - i : i;
+			for (int j = 0; j < width; j++) {
+				int x = dx > 0 ? width - 1 - j : j;
+				int nx = x + dx, ny = y + dy;
+				int distance;
+				if (!isWalkable(x, y) || !isWalkable(nx, ny) || !isWalkable(nx, y) || !isWalkable(x, ny)) {
+					distance = 0;
+				} else {
+					int next = cell(nx, ny) * 8;
+					if (distances[next + horizontal] > 0 || distances[next + vertical] > 0)
+						distance = 1;
+					else
+						distance = extend(distances[next + dir]);
+				}
+				distances[cell(x, y) * 8 + dir] = distance;
+			}
+		}
+	}
+
+	private boolean isStraightJumpPoint (int x, int y, int dx, int dy) {
+		if (dx != 0) {
+			return (isWalkable(x, y - 1) && !isWalkable(x - dx, y - 1)) || (isWalkable(x, y + 1) && !isWalkable(x - dx, y + 1));
+		}
+		if ((isWalkable(x - 1, y) && !isWalkable(x - 1, y - dy)) || (isWalkable(x + 1, y) && !isWalkable(x + 1, y - dy)))
+			return true;
+
+		// Without diagonal moves, must check for horizontal jump points
+		if (!diagonal) {
+			int c = cell(x, y) * 8;
+			return distances[c + E] > 0 || distances[c + W] > 0;
+		}
+		return false;
+	}
+
+	/** Returns the distance of a cell whose next cell in the same direction has the given distance. */
+	private static int extend (int nextDistance) {
+		return nextDistance > 0 ? nextDistance + 1 : nextDistance - 1;
+	}
+
+	@Override
+	protected void identifySuccessors () {
+		int x = current % width;
+		int y = current / width;
+		int parent = parents[current];
+
+		if (parent < 0) {
+			// No parent: no direction can be pruned
+			for (int dir = 0; dir < 8; dir += diagonal ? 1 : 2)
+				jumpAndAdd(x, y, dir);
+			return;
+		}
+
+		// Get the direction of travel
+		int dx = Integer.signum(x - parent % width);
+		int dy = Integer.signum(y - parent / width);
+		int dir = direction(dx, dy);
+
+		if ((dir & 1) != 0) {
+			// Moving diagonally: the two orthogonal components and the diagonal itself
+			jumpAndAdd(x, y, dir - 1);
+			jumpAndAdd(x, y, dir);
+			jumpAndAdd(x, y, (dir + 1) & 7);
+		} else {
+			// Moving orthogonally: straight on, the two perpendicular directions and, if allowed, the diagonals in between
+			jumpAndAdd(x, y, dir);
+			jumpAndAdd(x, y, (dir + 2) & 7);
+			jumpAndAdd(x, y, (dir + 6) & 7);
+			if (diagonal) {
+				jumpAndAdd(x, y, (dir + 1) & 7);
+				jumpAndAdd(x, y, (dir + 7) & 7);
+			}
+		}
+	}
+
+	/** Jumps from the given cell in the given direction through the precomputed distances and adds the successor, if any, to the
+	 * open list. */
+	private void jumpAndAdd (int x, int y, int dir) {
+		int distance = distances[cell(x, y) * 8 + dir];
+		int absDistance = Math.abs(distance);
+		int dx = DX[dir], dy = DY[dir];
+		int goalDx = goalX - x, goalDy = goalY - y;
+
+		if ((dir & 1) == 0) {
+			// Orthogonal direction: stop at the goal if it lies within the jump
+			int goalDistance = -1;
+			if (dx != 0 && goalDy == 0 && Integer.signum(goalDx) == dx)
+				goalDistance = Math.abs(goalDx);
+			else if (dy != 0 && goalDx == 0 && Integer.signum(goalDy) == dy) goalDistance = Math.abs(goalDy);
+			if (goalDistance > 0 && goalDistance <= absDistance) {
+				addSuccessor(cell(goalX, goalY), goalDistance);
+				return;
+			}
+
+			// Without diagonal moves, stop at the row of the goal when moving vertically
+			if (!diagonal && dy != 0 && Integer.signum(goalDy) == dy) {
+				int rowDistance = Math.abs(goalDy);
+				if (rowDistance <= absDistance) {
+					addSuccessor(cell(x, goalY), rowDistance);
+					return;
+				}
+			}
+
+			if (distance > 0) addSuccessor(cell(x + dx * distance, y + dy * distance), distance);
+		} else {
+			// Diagonal direction: stop at the row or column of the goal if it lies within the jump
+			if (Integer.signum(goalDx) == dx && Integer.signum(goalDy) == dy) {
+				int colDistance = Math.abs(goalDx), rowDistance = Math.abs(goalDy);
+				if (colDistance <= absDistance || rowDistance <= absDistance) {
+					int minDistance = Math.min(colDistance, rowDistance);
+					addSuccessor(cell(x + dx * minDistance, y + dy * minDistance), minDistance * DIAGONAL_COST);
+					return;
+				}
+			}
+
+			if (distance > 0) addSuccessor(cell(x + dx * distance, y + dy * distance), distance * DIAGONAL_COST);
+		}
+	}
+
+	private static int direction (int dx, int dy) {
+		for (int dir = 0; dir < 8; dir++)
+			if (DX[dir] == dx && DY[dir] == dy) return dir;
+		throw new IllegalArgumentException("Invalid direction: " + dx + ", " + dy);
+	}
+}
@@ -0,0 +1,403 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.PathFinder;
+import com.badlogic.gdx.ai.pfa.PathFinderQueue;
+import com.badlogic.gdx.ai.pfa.PathFinderRequest;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder.Metrics;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** An anytime {@link PathFinder} implementing the Anytime Repairing A* (ARA*) algorithm by Likhachev, Gordon and Thrun on an
+ * {@link IndexedGraph}.
+ * <p>
+ * ARA* runs a series of weighted A* searches, whose estimated total cost is {@code g + epsilon * h}. The first search uses the
+ * initial epsilon and finds quickly a path whose cost is at most epsilon times the optimal one. Each following search decreases
+ * epsilon and improves the path, reusing the costs computed so far: only the nodes whose cost has been lowered after their
+ * expansion are expanded again. The search terminates when epsilon reaches 1, that is when the path is optimal as long as the
+ * heuristic is admissible and consistent.
+ * <p>
+ * This is especially useful for interruptible pathfinding through a {@link PathFinderQueue}. Each time a better path is found
+ * within {@link #search(PathFinderRequest, long)} it's stored in the {@link PathFinderRequest#resultPath result path} of the
+ * request along with its {@link PathFinderRequest#suboptimalityBound suboptimality bound}, and the request is notified through
+ * {@link PathFinderRequest#pathImproved()}. This way the client can start moving along a suboptimal path in the very first frame,
+ * while the search keeps improving it in the next frames. The non-interruptible methods run the whole series of searches, so
+ * they always return an optimal path.
+ * <p>
+ * The state of the search is kept in primitive arrays indexed by node index, like in the {@link PrimitiveIndexedAStarPathFinder}.
+ * 
+ * @param <N> Type of node */
+public class ARAStarPathFinder<N> implements PathFinder<N> {
+	IndexedGraph<N> graph;
+
+	/** The epsilon of the first search. */
+	float initialEpsilon;
+
+	/** The amount epsilon is decreased by after each search. */
+	float epsilonDecrement;
+
+	/** The epsilon of the current search. */
+	float epsilon;
+
+	/** The suboptimality bound of the last path found. */
+	float suboptimalityBound;
+
+	/** The actual cost from the start node of each node. */
+	float[] costSoFar;
+
+	/** The heuristic value of each node, which is cached since the keys of the open nodes must be recomputed whenever epsilon
+	 * changes. */
+	float[] heuristics;
+
+	/** The incoming connection of each node; it's {@code null} for the start node. */
+	Connection<N>[] connections;
+
+	/** The ID of the last search that visited each node. */
+	int[] searchIds;
+
+	/** The ID of the improvement that closed each node. */
+	int[] closedIds;
+
+	/** The ID of the improvement that added each node to the {@link #inconsistentNodes}. */
+	int[] inconsistentIds;
+
+	/** The open list, whose values are the weighted estimated total costs of the nodes. */
+	IndexedBinaryHeap openList;
+
+	/** The nodes whose cost has been lowered after they were closed in the current improvement. */
+	IntArray inconsistentNodes;
+
+	N startNode;
+	N endNode;
+	int endIndex;
+	Heuristic<N> heuristic;
+
+	public Metrics metrics;
+
+	/** The unique ID for each search run. Used to mark nodes. */
+	private int searchId;
+
+	/** The unique ID for each improvement of the path. Used to mark closed and inconsistent nodes. */
+	private int improvementId;
+
+	private final IntArray tmpNodes;
+
+	/** Creates an {@code ARAStarPathFinder} for the given graph with an initial epsilon of 3 decreased by 0.5 after each search.
+	 * @param graph the graph */
+	public ARAStarPathFinder (IndexedGraph<N> graph) {
+		this(graph, 3f, 0.5f, false);
+	}
+
+	/** Creates an {@code ARAStarPathFinder} for the given graph.
+	 * @param graph the graph
+	 * @param initialEpsilon the epsilon of the first search; it must be greater than or equal to 1
+	 * @param epsilonDecrement the amount epsilon is decreased by after each search; it must be positive
+	 * @param calculateMetrics whether metrics should be calculated
+	 * @throws IllegalArgumentException if {@code initialEpsilon} is less than 1 or {@code epsilonDecrement} is not positive */
+	@SuppressWarnings("unchecked")
+	public ARAStarPathFinder (IndexedGraph<N> graph, float initialEpsilon, float epsilonDecrement, boolean calculateMetrics) {
+		if (initialEpsilon < 1) throw new IllegalArgumentException("initialEpsilon must be >= 1");
+		if (epsilonDecrement <= 0) throw new IllegalArgumentException("epsilonDecrement must be > 0");
+		this.graph = graph;
+		this.initialEpsilon = initialEpsilon;
+		this.epsilonDecrement = epsilonDecrement;
+		int nodeCount = graph.getNodeCount();
+		this.costSoFar = new float[nodeCount];
+		this.heuristics = new float[nodeCount];
+		this.connections = (Connection<N>[])new Connection[nodeCount];
+		this.searchIds = new int[nodeCount];
+		this.closedIds = new int[nodeCount];
+		this.inconsistentIds = new int[nodeCount];
+		this.openList = new IndexedBinaryHeap(nodeCount);
+		this.inconsistentNodes = new IntArray();
+		this.tmpNodes = new IntArray();
+		if (calculateMetrics) this.metrics = new Metrics();
+	}
+
+	@Override
+	public boolean searchConnectionPath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<Connection<N>> outPath) {
+
+		// Perform ARA*
+		boolean found = search(startNode, endNode, heuristic);
+
+		if (found) {
+			// Create a path made of connections
+			generateConnectionPath(outPath);
+		}
+
+		return found;
+	}
+
+	@Override
+	public boolean searchNodePath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<N> outPath) {
+
+		// Perform ARA*
+		boolean found = search(startNode, endNode, heuristic);
+
+		if (found) {
+			// Create a path made of nodes
+			generateNodePath(outPath);
+		}
+
+		return found;
+	}
+
+	protected boolean search (N startNode, N endNode, Heuristic<N> heuristic) {
+
+		initSearch(startNode, endNode, heuristic);
+
+		while (true) {
+			// Improve the path
+			while (!expand()) {
+			}
+
+			// Terminate if there's no path at all
+			if (!isEndNodeReached()) return false;
+
+			// Terminate if the path is optimal
+			if (!nextImprovement()) return true;
+		}
+	}
+
+	@Override
+	public boolean search (PathFinderRequest<N> request, long timeToRun) {
+
+		long lastTime = TimeUtils.nanoTime();
+
+		// We have to initialize the search if the status has just changed
+		if (request.statusChanged) {
+			initSearch(request.startNode, request.endNode, request.heuristic);
+			request.statusChanged = false;
+		}
+
+		// Iterate through processing each node
+		while (true) {
+
+			// Check the available time
+			long currentTime = TimeUtils.nanoTime();
+			timeToRun -= currentTime - lastTime;
+			if (timeToRun <= PathFinderQueue.TIME_TOLERANCE) return false;
+
+			// Expand the next node of the current improvement, if any
+			if (expand()) {
+
+				// The improvement has completed
+				if (!isEndNodeReached()) {
+					// The open list is empty and we've not found a path.
+					request.pathFound = false;
+					return true;
+				}
+
+				// Publish the improved path
+				boolean improvable = nextImprovement();
+				request.resultPath.clear();
+				generateNodePath(request.resultPath);
+				request.pathFound = true;
+				request.suboptimalityBound = suboptimalityBound;
+				request.pathImproved();
+
+				// Terminate if the path is optimal
+				if (!improvable) return true;
+			}
+
+			// Store the current time
+			lastTime = currentTime;
+		}
+	}
+
+	/** Returns the suboptimality bound of the last path found, meaning that its cost is at most this many times the cost of an
+	 * optimal path. */
+	public float getSuboptimalityBound () {
+		return suboptimalityBound;
+	}
+
+	protected void initSearch (N startNode, N endNode, Heuristic<N> heuristic) {
+		if (metrics != null) metrics.reset();
+
+		// Increment the search id and the improvement id
+		if (++searchId < 0) searchId = 1;
+		if (++improvementId < 0) improvementId = 1;
+
+		this.startNode = startNode;
+		this.endNode = endNode;
+		this.endIndex = graph.getIndex(endNode);
+		this.heuristic = heuristic;
+		this.epsilon = initialEpsilon;
+		this.suboptimalityBound = Float.POSITIVE_INFINITY;
+
+		// Initialize the open list
+		openList.clear();
+		inconsistentNodes.clear();
+
+		// Initialize the start node and add it to the open list
+		int startIndex = graph.getIndex(startNode);
+		visit(startIndex, startNode);
+		costSoFar[startIndex] = 0;
+		connections[startIndex] = null;
+		addToOpenList(startIndex, epsilon * heuristics[startIndex]);
+	}
+
+	/** Expands the open node with the smallest weighted estimated total cost, unless the current improvement has completed.
+	 * @return {@code true} if the current improvement has completed; {@code false} otherwise. */
+	protected boolean expand () {
+
+		// The improvement completes when no open node can lead to a better path to the end node
+		if (openList.size == 0 || openList.getValue(openList.peek()) >= getEndNodeKey()) return true;
+
+		// Retrieve the node with smallest estimated total cost from the open list
+		int current = openList.pop();
+		closedIds[current] = improvementId;
+		if (metrics != null) metrics.expandedNodes++;
+		float currentCost = costSoFar[current];
+
+		// Get current node's outgoing connections
+		Array<Connection<N>> connections = graph.getConnections(getNode(current));
+
+		// Loop through each connection in turn
+		for (int i = 0; i < connections.size; i++) {
+			if (metrics != null) metrics.visitedNodes++;
+
+			Connection<N> connection = connections.get(i);
+			N node = connection.getToNode();
+			int index = graph.getIndex(node);
+			visit(index, node);
+
+			// Skip the node if we didn't find a shorter route
+			float nodeCost = currentCost + connection.getCost();
+			if (nodeCost >= costSoFar[index]) continue;
+
+			// Update node's cost and connection
+			costSoFar[index] = nodeCost;
+			this.connections[index] = connection;
+
+			if (closedIds[index] != improvementId) {
+				// Add it to the open list with the weighted estimated total cost
+				addToOpenList(index, nodeCost + epsilon * heuristics[index]);
+			} else if (inconsistentIds[index] != improvementId) {
+				// The node has already been expanded by this improvement, so it's postponed to the next one
+				inconsistentIds[index] = improvementId;
+				inconsistentNodes.add(index);
+			}
+		}
+		return false;
+	}
+
+	/** Returns {@code true} if a path to the end node has been found; {@code false} otherwise. */
+	protected boolean isEndNodeReached () {
+		return searchIds[endIndex] == searchId && costSoFar[endIndex] != Float.POSITIVE_INFINITY;
+	}
+
+	/** Updates the suboptimality bound of the path just found and, if the path can be improved, prepares the next improvement
+	 * decreasing epsilon.
+	 * @return {@code true} if the path can be improved; {@code false} if it's optimal. */
+	protected boolean nextImprovement () {
+
+		// The cost of an optimal path is not less than the minimum unweighted estimated total cost of open and inconsistent nodes
+		float minCost = Float.POSITIVE_INFINITY;
+		for (int i = 0, n = openList.size; i < n; i++)
+			minCost = Math.min(minCost, getEstimatedTotalCost(openList.get(i)));
+		for (int i = 0, n = inconsistentNodes.size; i < n; i++)
+			minCost = Math.min(minCost, getEstimatedTotalCost(inconsistentNodes.get(i)));
+		float endCost = costSoFar[endIndex];
+		suboptimalityBound = minCost >= endCost ? 1 : Math.min(epsilon, endCost / minCost);
+		if (suboptimalityBound <= 1 || epsilon <= 1) return false;
+
+		// Decrease epsilon and start a new improvement
+		epsilon = Math.max(1, epsilon - epsilonDecrement);
+		if (++improvementId < 0) improvementId = 1;
+
+		// Move the inconsistent nodes into the open list and update the keys of all the open nodes
+		IntArray nodes = tmpNodes;
+		nodes.clear();
+		while (openList.size > 0)
+			nodes.add(openList.pop());
+		nodes.addAll(inconsistentNodes);
+		inconsistentNodes.clear();
+		for (int i = 0, n = nodes.size; i < n; i++) {
+			int index = nodes.get(i);
+			addToOpenList(index, costSoFar[index] + epsilon * heuristics[index]);
+		}
+		return true;
+	}
+
+	protected void generateConnectionPath (GraphPath<Connection<N>> outPath) {
+
+		// Work back along the path, accumulating connections
+		Connection<N> connection;
+		int current = endIndex;
+		while ((connection = connections[current]) != null) {
+			outPath.add(connection);
+			current = graph.getIndex(connection.getFromNode());
+		}
+
+		// Reverse the path
+		outPath.reverse();
+	}
+
+	protected void generateNodePath (GraphPath<N> outPath) {
+
+		// Work back along the path, accumulating nodes
+		Connection<N> connection;
+		int current = endIndex;
+		while ((connection = connections[current]) != null) {
+			outPath.add(connection.getToNode());
+			current = graph.getIndex(connection.getFromNode());
+		}
+		outPath.add(startNode);
+
+		// Reverse the path
+		outPath.reverse();
+	}
+
+	/** Adds the given node to the current search, if necessary, with infinite cost. */
+	void visit (int index, N node) {
+		if (searchIds[index] != searchId) {
+			searchIds[index] = searchId;
+			costSoFar[index] = Float.POSITIVE_INFINITY;
+			heuristics[index] = heuristic.estimate(node, endNode);
+		}
+	}
+
+	float getEndNodeKey () {
+		if (searchIds[endIndex] != searchId) return Float.POSITIVE_INFINITY;
+		return costSoFar[endIndex] + epsilon * heuristics[endIndex];
+	}
+
+	float getEstimatedTotalCost (int index) {
+		return costSoFar[index] + heuristics[index];
+	}
+
+	void addToOpenList (int index, float estimatedTotalCost) {
+		openList.addOrUpdate(index, estimatedTotalCost);
+		if (metrics != null) {
+			metrics.openListAdditions++;
+			metrics.openListPeak = Math.max(metrics.openListPeak, openList.size);
+		}
+	}
+
+	/** Returns the node with the given index, which must have been reached by the current search. */
+	N getNode (int index) {
+		Connection<N> connection = connections[index];
+		return connection == null ? startNode : connection.getToNode();
+	}
+}
@@ -0,0 +1,348 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.PathFinder;
+import com.badlogic.gdx.ai.pfa.PathFinderQueue;
+import com.badlogic.gdx.ai.pfa.PathFinderRequest;
+import com.badlogic.gdx.ai.pfa.ReversibleGraph;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder.Metrics;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** A fully implemented {@link PathFinder} that can perform both interruptible and non-interruptible bidirectional pathfinding on
+ * an {@link IndexedGraph} that is also a {@link ReversibleGraph}.
+ * <p>
+ * Two A* searches are run alternately, a forward search from the start node following outgoing connections and a backward search
+ * from the goal node following incoming connections. At each step the search with the smaller open list is advanced, so the two
+ * frontiers grow towards each other and, for long paths, far fewer nodes are expanded than a single search would need.
+ * <p>
+ * Every time a node reached by one search is reached by the other one, the cost of the path through that node is recorded. The
+ * algorithm terminates when the best recorded cost is not greater than the minimum estimated total cost of either open list
+ * (Pohl's criterion), which guarantees the optimality of the path as long as the heuristic is admissible. The forward search
+ * estimates the cost from a node to the goal node as {@code heuristic.estimate(node, goalNode)}, while the backward search
+ * estimates the cost from the start node to a node as {@code heuristic.estimate(startNode, node)}.
+ * <p>
+ * Like the {@link PrimitiveIndexedAStarPathFinder}, the state of both searches is kept in primitive arrays indexed by node index.
+ * 
+ * @param <N> Type of node */
+public class BidirectionalAStarPathFinder<N> implements PathFinder<N> {
+	IndexedGraph<N> graph;
+	ReversibleGraph<N> reversibleGraph;
+
+	/** The state of the forward search. */
+	SearchState<N> forward;
+
+	/** The state of the backward search. */
+	SearchState<N> backward;
+
+	/** The cost of the best path found so far. */
+	float bestCost;
+
+	/** The index of the node where the forward and backward halves of the best path meet, or -1 if no path has been found yet. */
+	int meetingNode;
+
+	N startNode;
+	N endNode;
+	Heuristic<N> heuristic;
+
+	public Metrics metrics;
+
+	/** The unique ID for each search run. Used to mark nodes. */
+	private int searchId;
+
+	private static final byte UNVISITED = 0;
+	private static final byte OPEN = 1;
+	private static final byte CLOSED = 2;
+
+	/** Creates a {@code BidirectionalAStarPathFinder} for the given graph.
+	 * @param graph the graph, which must be both indexed and reversible */
+	public <G extends IndexedGraph<N> & ReversibleGraph<N>> BidirectionalAStarPathFinder (G graph) {
+		this(graph, false);
+	}
+
+	/** Creates a {@code BidirectionalAStarPathFinder} for the given graph.
+	 * @param graph the graph, which must be both indexed and reversible
+	 * @param calculateMetrics whether metrics should be calculated */
+	public <G extends IndexedGraph<N> & ReversibleGraph<N>> BidirectionalAStarPathFinder (G graph, boolean calculateMetrics) {
+		this.graph = graph;
+		this.reversibleGraph = graph;
+		this.forward = new SearchState<N>(graph.getNodeCount());
+		this.backward = new SearchState<N>(graph.getNodeCount());
+		if (calculateMetrics) this.metrics = new Metrics();
+	}
+
+	@Override
+	public boolean searchConnectionPath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<Connection<N>> outPath) {
+
+		// Perform bidirectional AStar
+		initSearch(startNode, endNode, heuristic);
+		while (!step()) {
+		}
+		boolean found = meetingNode >= 0;
+
+		if (found) {
+			// Create a path made of connections
+			generateConnectionPath(outPath);
+		}
+
+		return found;
+	}
+
+	@Override
+	public boolean searchNodePath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<N> outPath) {
+
+		// Perform bidirectional AStar
+		initSearch(startNode, endNode, heuristic);
+		while (!step()) {
+		}
+		boolean found = meetingNode >= 0;
+
+		if (found) {
+			// Create a path made of nodes
+			generateNodePath(outPath);
+		}
+
+		return found;
+	}
+
+	@Override
+	public boolean search (PathFinderRequest<N> request, long timeToRun) {
+
+		long lastTime = TimeUtils.nanoTime();
+
+		// We have to initialize the search if the status has just changed
+		if (request.statusChanged) {
+			initSearch(request.startNode, request.endNode, request.heuristic);
+			request.statusChanged = false;
+		}
+
+		// Iterate through processing each node
+		while (true) {
+
+			// Check the available time
+			long currentTime = TimeUtils.nanoTime();
+			timeToRun -= currentTime - lastTime;
+			if (timeToRun <= PathFinderQueue.TIME_TOLERANCE) return false;
+
+			// Expand a node from one of the two directions
+			if (step()) break;
+
+			// Store the current time
+			lastTime = currentTime;
+		}
+
+		request.pathFound = meetingNode >= 0;
+		if (request.pathFound) generateNodePath(request.resultPath);
+		return true;
+	}
+
+	protected void initSearch (N startNode, N endNode, Heuristic<N> heuristic) {
+		if (metrics != null) metrics.reset();
+
+		// Increment the search id
+		if (++searchId < 0) searchId = 1;
+
+		this.startNode = startNode;
+		this.endNode = endNode;
+		this.heuristic = heuristic;
+
+		// Initialize both searches
+		forward.openList.clear();
+		backward.openList.clear();
+		int startIndex = graph.getIndex(startNode);
+		int endIndex = graph.getIndex(endNode);
+		visit(forward, startIndex, null, 0, heuristic.estimate(startNode, endNode));
+		visit(backward, endIndex, null, 0, heuristic.estimate(startNode, endNode));
+
+		bestCost = Float.POSITIVE_INFINITY;
+		meetingNode = -1;
+		if (startIndex == endIndex) {
+			bestCost = 0;
+			meetingNode = startIndex;
+		}
+	}
+
+	/** Performs a single step of the search, expanding a node in the direction with the smaller open list.
+	 * @return {@code true} if the search has terminated; {@code false} otherwise. */
+	protected boolean step () {
+		SearchState<N> forward = this.forward;
+		SearchState<N> backward = this.backward;
+
+		// Terminate if either direction has been exhausted
+		if (forward.openList.size == 0 || backward.openList.size == 0) return true;
+
+		// Terminate if no path through the open nodes can be better than the best path found so far
+		float minForward = forward.openList.getValue(forward.openList.peek());
+		float minBackward = backward.openList.getValue(backward.openList.peek());
+		if (Math.max(minForward, minBackward) >= bestCost) return true;
+
+		if (forward.openList.size <= backward.openList.size)
+			expand(forward, backward, true);
+		else
+			expand(backward, forward, false);
+		return false;
+	}
+
+	/** Expands the best open node of the given search.
+	 * @param search the search to advance
+	 * @param opposite the search in the opposite direction
+	 * @param isForward whether the given search is the forward one */
+	void expand (SearchState<N> search, SearchState<N> opposite, boolean isForward) {
+		int current = search.openList.pop();
+		search.categories[current] = CLOSED;
+		if (metrics != null) metrics.expandedNodes++;
+		float currentCost = search.costSoFar[current];
+		N currentNode = isForward ? getForwardNode(current) : getBackwardNode(current);
+
+		// Get current node's outgoing (forward) or incoming (backward) connections
+		Array<Connection<N>> connections = isForward ? graph.getConnections(currentNode)
+			: reversibleGraph.getIncomingConnections(currentNode);
+
+		// Loop through each connection in turn
+		for (int i = 0; i < connections.size; i++) {
+			if (metrics != null) metrics.visitedNodes++;
+
+			Connection<N> connection = connections.get(i);
+			N node = isForward ? connection.getToNode() : connection.getFromNode();
+			int index = graph.getIndex(node);
+			float nodeCost = currentCost + connection.getCost();
+
+			float nodeHeuristic;
+			if (search.searchIds[index] != searchId) { // the node is unvisited
+				nodeHeuristic = isForward ? heuristic.estimate(node, endNode) : heuristic.estimate(startNode, node);
+			} else {
+				// The node is either open or closed: if we didn't find a shorter route, skip
+				if (search.costSoFar[index] <= nodeCost) continue;
+
+				// We can use the node's old cost values to calculate its heuristic
+				nodeHeuristic = search.openList.getValue(index) - search.costSoFar[index];
+			}
+
+			visit(search, index, connection, nodeCost, nodeHeuristic);
+
+			// If the opposite search has reached this node too, check whether the path through it is the best one
+			if (opposite.searchIds[index] == searchId) {
+				float pathCost = nodeCost + opposite.costSoFar[index];
+				if (pathCost < bestCost) {
+					bestCost = pathCost;
+					meetingNode = index;
+				}
+			}
+		}
+	}
+
+	/** Updates the state of the given node in the given search and adds it to the open list. */
+	void visit (SearchState<N> search, int index, Connection<N> connection, float cost, float heuristicCost) {
+		if (search.searchIds[index] != searchId) {
+			search.searchIds[index] = searchId;
+			search.categories[index] = UNVISITED;
+		}
+		search.costSoFar[index] = cost;
+		search.connections[index] = connection;
+		if (search.categories[index] == OPEN)
+			search.openList.update(index, cost + heuristicCost);
+		else
+			search.openList.add(index, cost + heuristicCost);
+		search.categories[index] = OPEN;
+		if (metrics != null) {
+			metrics.openListAdditions++;
+			metrics.openListPeak = Math.max(metrics.openListPeak, forward.openList.size + backward.openList.size);
+		}
+	}
+
+	protected void generateConnectionPath (GraphPath<Connection<N>> outPath) {
+
+		// Work back from the meeting node to the start node, accumulating connections
+		Connection<N> connection;
+		int index = meetingNode;
+		while ((connection = forward.connections[index]) != null) {
+			outPath.add(connection);
+			index = graph.getIndex(connection.getFromNode());
+		}
+		outPath.reverse();
+
+		// Work forward from the meeting node to the end node
+		index = meetingNode;
+		while ((connection = backward.connections[index]) != null) {
+			outPath.add(connection);
+			index = graph.getIndex(connection.getToNode());
+		}
+	}
+
+	protected void generateNodePath (GraphPath<N> outPath) {
+
+		// Work back from the meeting node to the start node, accumulating nodes
+		Connection<N> connection;
+		int index = meetingNode;
+		while ((connection = forward.connections[index]) != null) {
+			outPath.add(connection.getToNode());
+			index = graph.getIndex(connection.getFromNode());
+		}
+		outPath.add(startNode);
+		outPath.reverse();
+
+		// Work forward from the meeting node to the end node
+		index = meetingNode;
+		while ((connection = backward.connections[index]) != null) {
+			outPath.add(connection.getToNode());
+			index = graph.getIndex(connection.getToNode());
+		}
+	}
+
+	N getForwardNode (int index) {
+		Connection<N> connection = forward.connections[index];
+		return connection == null ? startNode : connection.getToNode();
+	}
+
+	N getBackwardNode (int index) {
+		Connection<N> connection = backward.connections[index];
+		return connection == null ? endNode : connection.getFromNode();
+	}
+
+	/** The state of the search in one direction, kept in parallel arrays indexed by node index.
+	 * 
+	 * @param <N> Type of node */
+	static class SearchState<N> {
+		/** The actual cost from the start node (forward) or to the end node (backward) of each node. */
+		final float[] costSoFar;
+
+		/** The connection each node has been reached through; it's {@code null} for the node the search started from. */
+		final Connection<N>[] connections;
+
+		/** The ID of the last search that visited each node. */
+		final int[] searchIds;
+
+		/** The category of each node. */
+		final byte[] categories;
+
+		/** The open list, whose values are the estimated total costs of the nodes. */
+		final IndexedBinaryHeap openList;
+
+		@SuppressWarnings("unchecked")
+		SearchState (int nodeCount) {
+			this.costSoFar = new float[nodeCount];
+			this.connections = (Connection<N>[])new Connection[nodeCount];
+			this.searchIds = new int[nodeCount];
+			this.categories = new byte[nodeCount];
+			this.openList = new IndexedBinaryHeap(nodeCount);
+		}
+	}
+}
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/** A {@code ClusteredHierarchicalGraph} is an {@link IndexedHierarchicalGraph} automatically abstracted from a flat
+ * {@link IndexedGraph} by a {@link HierarchicalGraphBuilder}, following the HPA* approach.
+ * <p>
+ * Level 0 is the flat graph itself. At each higher level the nodes are partitioned into clusters, each one nested into a cluster
+ * of the next level. Each connected region of a cluster is represented by a single node of the level, which is the most central
+ * node of the region with respect to its entrances, i.e. the nodes of the level below having a connection that crosses the
+ * border of the cluster. Two regions of adjacent clusters are connected if any of their entrances are, and the cost of the
+ * connection is the cost of the cheapest path between their representatives through such entrances.
+ * <p>
+ * Since the nodes of any level are nodes of the flat graph, the node type and the indices are the same on all levels. This way
+ * the same {@link IndexedGraph} based path finder can be used as level path finder of a
+ * {@link com.badlogic.gdx.ai.pfa.HierarchicalPathFinder HierarchicalPathFinder}. Converting a node to a higher level gives the
+ * representative of its region, while converting a node to a lower level gives the node itself.
+ * <p>
+ * The connections of a level never depend on the current level, so the views returned by {@link #getLevelView(int)} can be
+ * searched by several threads at once.
+ * 
+ * @param <N> Type of node */
+public class ClusteredHierarchicalGraph<N> extends IndexedHierarchicalGraph<N> {
+
+	/** The flat graph. */
+	final IndexedGraph<N> graph;
+
+	/** The nodes by index. */
+	final N[] nodes;
+
+	/** The cluster of each node at each level starting from level 1. */
+	final int[][] clusters;
+
+	/** The indices of the nodes of each cluster at each level starting from level 1. */
+	final IntArray[][] members;
+
+	/** The connections of each node at each level starting from level 1; {@code null} if the node is not a node of the level. */
+	final Array<Connection<N>>[][] connections;
+
+	/** The index of the node representing the region of each node of the level below, at each level starting from level 1. */
+	final int[][] regions;
+
+	/** The cost of the path from the node representing the region of each node of the level below to the node itself, at each
+	 * level starting from level 1. */
+	final float[][] regionCosts;
+
+	/** The index of the node of each level representing each node of level 0, starting from level 1. */
+	final int[][] representatives;
+
+	private final Array<Connection<N>> noConnections;
+
+	@SuppressWarnings("unchecked")
+	ClusteredHierarchicalGraph (IndexedGraph<N> graph, N[] nodes, int[][] clusters, IntArray[][] members) {
+		super(clusters.length + 1);
+		this.graph = graph;
+		this.nodes = nodes;
+		this.clusters = clusters;
+		this.members = members;
+		int nodeCount = nodes.length;
+		this.connections = (Array<Connection<N>>[][])new Array[clusters.length][nodeCount];
+		this.regions = new int[clusters.length][nodeCount];
+		this.regionCosts = new float[clusters.length][nodeCount];
+		this.representatives = new int[clusters.length][nodeCount];
+		this.noConnections = new Array<Connection<N>>(0);
+	}
+
+	/** Returns the flat graph. */
+	public IndexedGraph<N> getGraph () {
+		return graph;
+	}
+
+	/** Returns the node with the given index. */
+	public N getNode (int index) {
+		return nodes[index];
+	}
+
+	/** Returns the number of clusters at the given level.
+	 * @param level the level, which must be greater than 0 */
+	public int getClusterCount (int level) {
+		return members[level - 1].length;
+	}
+
+	/** Returns the cluster of the given node at the given level.
+	 * @param node the node
+	 * @param level the level, which must be greater than 0 */
+	public int getCluster (N node, int level) {
+		return clusters[level - 1][graph.getIndex(node)];
+	}
+
+	/** Returns {@code true} if the given node is a node of the given level; {@code false} otherwise. All nodes are nodes of level
+	 * 0, while only the representatives of the regions of the clusters are nodes of higher levels.
+	 * @param node the node
+	 * @param level the level */
+	public boolean isNode (N node, int level) {
+		return level == 0 || connections[level - 1][graph.getIndex(node)] != null;
+	}
+
+	/** Returns the number of nodes of the given level.
+	 * @param level the level */
+	public int getLevelNodeCount (int level) {
+		if (level == 0) return nodes.length;
+		int count = 0;
+		Array<Connection<N>>[] levelConnections = connections[level - 1];
+		for (int i = 0; i < levelConnections.length; i++)
+			if (levelConnections[i] != null) count++;
+		return count;
+	}
+
+	@Override
+	public N convertNodeBetweenLevels (int inputLevel, N node, int outputLevel) {
+		if (inputLevel >= outputLevel) return node;
+		return nodes[representatives[outputLevel - 1][graph.getIndex(node)]];
+	}
+
+	@Override
+	public int getIndex (N node) {
+		return graph.getIndex(node);
+	}
+
+	@Override
+	public int getNodeCount () {
+		return nodes.length;
+	}
+
+	/** Returns the connections outgoing from the given node at the current level. If the node is not a node of the current level
+	 * the returned array is empty. */
+	@Override
+	public Array<Connection<N>> getConnections (N fromNode) {
+		return getConnections(fromNode, level);
+	}
+
+	/** Returns the connections outgoing from the given node at the given level. If the node is not a node of that level the
+	 * returned array is empty. This method doesn't depend on the current level. */
+	@Override
+	public Array<Connection<N>> getConnections (N fromNode, int level) {
+		if (level == 0) return graph.getConnections(fromNode);
+		Array<Connection<N>> nodeConnections = connections[level - 1][graph.getIndex(fromNode)];
+		return nodeConnections == null ? noConnections : nodeConnections;
+	}
+
+	/** Returns the connections outgoing from the node with the given index at the given level, or {@code null} if the node is not
+	 * a node of that level. */
+	Array<Connection<N>> getConnections (int level, int index) {
+		return level == 0 ? graph.getConnections(nodes[index]) : connections[level - 1][index];
+	}
+
+	/** A connection between the representatives of two regions of adjacent clusters.
+	 * 
+	 * @param <N> Type of node */
+	public static class ClusterConnection<N> implements Connection<N> {
+		protected N fromNode;
+		protected N toNode;
+		protected float cost;
+
+		public ClusterConnection (N fromNode, N toNode, float cost) {
+			this.fromNode = fromNode;
+			this.toNode = toNode;
+			this.cost = cost;
+		}
+
+		@Override
+		public float getCost () {
+			return cost;
+		}
+
+		@Override
+		public N getFromNode () {
+			return fromNode;
+		}
+
+		@Override
+		public N getToNode () {
+			return toNode;
+		}
+	}
+}
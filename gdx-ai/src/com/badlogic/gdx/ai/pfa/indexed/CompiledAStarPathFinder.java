@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import com.badlogic.gdx.ai.pfa.Heuristic;
+
+/** A {@link PrimitiveIndexedAStarPathFinder} working on a {@link CompiledIndexedGraph}. Connections are traversed through the
+ * compressed sparse row arrays of the graph, so expanding a node takes no virtual calls and no index lookups at all. The only
+ * calls per connection left are the ones to the heuristic, which is evaluated at most once per node and search.
+ * 
+ * @param <N> Type of node */
+public class CompiledAStarPathFinder<N> extends PrimitiveIndexedAStarPathFinder<N> {
+	CompiledIndexedGraph<N> compiledGraph;
+
+	public CompiledAStarPathFinder (CompiledIndexedGraph<N> graph) {
+		this(graph, false);
+	}
+
+	public CompiledAStarPathFinder (CompiledIndexedGraph<N> graph, boolean calculateMetrics) {
+		super(graph, calculateMetrics);
+		this.compiledGraph = graph;
+	}
+
+	public CompiledAStarPathFinder (CompiledIndexedGraph<N> graph, IndexedOpenList openList, boolean calculateMetrics) {
+		super(graph, openList, calculateMetrics);
+		this.compiledGraph = graph;
+	}
+
+	@Override
+	protected void visitChildren (N endNode, Heuristic<N> heuristic) {
+		CompiledIndexedGraph<N> graph = this.compiledGraph;
+		int[] targets = graph.targets;
+		float[] costs = graph.costs;
+		float[] costSoFar = this.costSoFar;
+		int[] searchIds = this.searchIds;
+		int searchId = this.searchId;
+		float currentCost = costSoFar[current];
+
+		// Loop through each outgoing connection in turn
+		for (int i = graph.offsets[current], n = graph.offsets[current + 1]; i < n; i++) {
+			if (metrics != null) metrics.visitedNodes++;
+
+			// Get the cost estimate for the node
+			int index = targets[i];
+			float nodeCost = currentCost + costs[i];
+
+			float nodeHeuristic;
+			if (searchIds[index] != searchId) { // the node is unvisited
+
+				// We'll need to calculate the heuristic value using the function,
+				// since we don't have a previously calculated value
+				searchIds[index] = searchId;
+				categories[index] = UNVISITED;
+				nodeHeuristic = heuristic.estimate(graph.nodes[index], endNode);
+			} else {
+				// The node is either open or closed: if we didn't find a shorter route, skip
+				if (costSoFar[index] <= nodeCost) continue;
+
+				// We can use the node's old cost values to calculate its heuristic
+				// without calling the possibly expensive heuristic function
+				nodeHeuristic = openList.getValue(index) - costSoFar[index];
+			}
+
+			// Update node's cost and connection
+			costSoFar[index] = nodeCost;
+			connections[index] = graph.connections[i];
+
+			// Add it to the open list with the estimated total cost
+			addToOpenList(index, nodeCost + nodeHeuristic);
+		}
+	}
+
+	@Override
+	protected N getNode (int index) {
+		return compiledGraph.nodes[index];
+	}
+}
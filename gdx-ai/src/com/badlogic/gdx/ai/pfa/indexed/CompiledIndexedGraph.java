@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.utils.Array;
+
+/** A {@code CompiledIndexedGraph} is a snapshot of the topology of an {@link IndexedGraph} in compressed sparse row (CSR) form.
+ * The outgoing connections of the node with index {@code i} are the ones in the range {@code [offsets[i], offsets[i + 1])} of
+ * the parallel arrays {@code targets}, {@code costs} and {@code connections}. These arrays are not exposed, so the topology
+ * can't change after compilation.
+ * <p>
+ * Compiling a graph makes sense when its topology does not change, which is typical for static level geometry. Traversing a
+ * compiled graph requires no virtual calls and no node lookups, just index arithmetic on primitive arrays. The
+ * {@link CompiledAStarPathFinder} takes full advantage of this.
+ * <p>
+ * Nodes keep the indices they have in the source graph. If connection costs change over time you can call {@link #updateCosts()}
+ * to refresh them without compiling the graph again.
+ * 
+ * @param <N> Type of node */
+public class CompiledIndexedGraph<N> implements IndexedGraph<N> {
+
+	/** The source graph. */
+	protected final IndexedGraph<N> graph;
+
+	/** The nodes by index. */
+	final N[] nodes;
+
+	/** The offset of the first outgoing connection of each node; the last element is the total number of connections. */
+	final int[] offsets;
+
+	/** The index of the target node of each connection. */
+	final int[] targets;
+
+	/** The cost of each connection. */
+	final float[] costs;
+
+	/** The connections of the source graph. */
+	final Connection<N>[] connections;
+
+	private final Array<Connection<N>> tmpConnections;
+
+	/** Creates a {@code CompiledIndexedGraph} taking a snapshot of the given graph.
+	 * @param graph the graph to compile
+	 * @param nodes the nodes of the graph; they can be given in any order
+	 * @throws IllegalArgumentException if a node is missing or duplicated */
+	@SuppressWarnings("unchecked")
+	public CompiledIndexedGraph (IndexedGraph<N> graph, Iterable<N> nodes) {
+		this.graph = graph;
+		int nodeCount = graph.getNodeCount();
+		this.nodes = (N[])new Object[nodeCount];
+
+		// Collect nodes by index and count connections
+		int connectionCount = 0;
+		for (N node : nodes) {
+			int index = graph.getIndex(node);
+			if (this.nodes[index] != null) throw new IllegalArgumentException("Duplicate node for index " + index);
+			this.nodes[index] = node;
+			connectionCount += graph.getConnections(node).size;
+		}
+
+		// Fill the arrays
+		this.offsets = new int[nodeCount + 1];
+		this.targets = new int[connectionCount];
+		this.costs = new float[connectionCount];
+		this.connections = (Connection<N>[])new Connection[connectionCount];
+		int k = 0;
+		for (int i = 0; i < nodeCount; i++) {
+			N node = this.nodes[i];
+			if (node == null) throw new IllegalArgumentException("Missing node for index " + i);
+			offsets[i] = k;
+			Array<Connection<N>> nodeConnections = graph.getConnections(node);
+			for (int j = 0; j < nodeConnections.size; j++, k++) {
+				Connection<N> connection = nodeConnections.get(j);
+				targets[k] = graph.getIndex(connection.getToNode());
+				costs[k] = connection.getCost();
+				connections[k] = connection;
+			}
+		}
+		offsets[nodeCount] = k;
+
+		this.tmpConnections = new Array<Connection<N>>();
+	}
+
+	/** Reads again the cost of every connection. This is useful when costs change over time but the topology does not. Costs
+	 * are only refreshed by this method, so changes made to the source graph are ignored until it's called. */
+	public void updateCosts () {
+		for (int i = 0, n = connections.length; i < n; i++)
+			costs[i] = connections[i].getCost();
+	}
+
+	/** Returns the node with the given index. */
+	public N getNode (int index) {
+		return nodes[index];
+	}
+
+	/** Returns the total number of connections. */
+	public int getConnectionCount () {
+		return targets.length;
+	}
+
+	@Override
+	public int getIndex (N node) {
+		return graph.getIndex(node);
+	}
+
+	@Override
+	public int getNodeCount () {
+		return nodes.length;
+	}
+
+	/** Returns the connections outgoing from the given node, as they were when the graph was compiled.
+	 * <p>
+	 * <b>Note that the same array instance is returned each time this method is called.</b>
+	 * @param fromNode the node whose outgoing connections will be returned
+	 * @return the array of connections outgoing from the given node. */
+	@Override
+	public Array<Connection<N>> getConnections (N fromNode) {
+		int index = graph.getIndex(fromNode);
+		tmpConnections.clear();
+		for (int i = offsets[index], n = offsets[index + 1]; i < n; i++)
+			tmpConnections.add(connections[i]);
+		return tmpConnections;
+	}
+}
@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.VersionedGraph;
+import com.badlogic.gdx.utils.Array;
+
+/** A {@code ConnectedComponents} labels the nodes of an {@link IndexedGraph} with the connected component they belong to, so that
+ * path finders can reject a request whose goal can't be reached in nearly constant time, rather than exhausting the whole
+ * component of the start node. See the {@code components} field of the {@link IndexedAStarPathFinder}, the
+ * {@link PrimitiveIndexedAStarPathFinder}, the {@link SparseIndexedAStarPathFinder} and the
+ * {@link com.badlogic.gdx.ai.pfa.PathFinderQueue PathFinderQueue}.
+ * <p>
+ * Components are kept in a union-find structure over the node indices. Adding connections is cheap: report them through
+ * {@link #connectionAdded(Object, Object)} or {@link #connectionsAdded(Object)} and their components are merged on the spot.
+ * Removing connections might split a component, which can't be done incrementally: report them through
+ * {@link #connectionRemoved(Object, Object)} or {@link #invalidate()} and all the components are recomputed on the next query.
+ * If the graph is a {@link VersionedGraph}, any change of its version that has not been reported through
+ * {@link #connectionAdded(Object, Object)} or {@link #connectionsAdded(Object)} triggers a recomputation as well. A report is
+ * applied incrementally only when the version has moved by at most one step since the components were last updated, otherwise
+ * the unreported changes in between would be lost.
+ * <p>
+ * Connections are treated as undirected, so the components of a directed graph are its weakly connected components. Two nodes
+ * of different components are never connected by a path, but two nodes of the same component of a directed graph might not be
+ * either.
+ * 
+ * @param <N> Type of node */
+public class ConnectedComponents<N> {
+	final IndexedGraph<N> graph;
+	final ImplicitIndexedGraph<N> implicitGraph;
+	final VersionedGraph<N> versionedGraph;
+
+	/** The nodes by index; {@code null} for implicit graphs. */
+	final N[] nodes;
+
+	/** The parent of each node in the union-find forest; roots are their own parent. */
+	final int[] parents;
+
+	/** The upper bound of the height of the tree of each root. */
+	final byte[] ranks;
+
+	int componentCount;
+
+	/** Whether the components must be recomputed before the next query. */
+	boolean dirty;
+
+	/** The version of the graph the components are up to date with. */
+	int version;
+
+	private final NeighborUnion neighborUnion;
+
+	/** Creates a {@code ConnectedComponents} for the given graph and computes its components.
+	 * @param graph the graph
+	 * @param nodes the nodes of the graph; they can be given in any order
+	 * @throws IllegalArgumentException if a node is missing or duplicated */
+	@SuppressWarnings("unchecked")
+	public ConnectedComponents (IndexedGraph<N> graph, Iterable<N> nodes) {
+		this(graph, (N[])new Object[graph.getNodeCount()]);
+		for (N node : nodes) {
+			int index = graph.getIndex(node);
+			if (this.nodes[index] != null) throw new IllegalArgumentException("Duplicate node for index " + index);
+			this.nodes[index] = node;
+		}
+		for (int i = 0; i < this.nodes.length; i++)
+			if (this.nodes[i] == null) throw new IllegalArgumentException("Missing node for index " + i);
+		recompute();
+	}
+
+	/** Creates a {@code ConnectedComponents} for the given implicit graph and computes its components.
+	 * @param graph the graph */
+	@SuppressWarnings("unchecked")
+	public ConnectedComponents (ImplicitIndexedGraph<N> graph) {
+		this(graph, (N[])null);
+		recompute();
+	}
+
+	@SuppressWarnings("unchecked")
+	private ConnectedComponents (IndexedGraph<N> graph, N[] nodes) {
+		this.graph = graph;
+		this.implicitGraph = graph instanceof ImplicitIndexedGraph ? (ImplicitIndexedGraph<N>)graph : null;
+		this.versionedGraph = graph instanceof VersionedGraph ? (VersionedGraph<N>)graph : null;
+		this.nodes = nodes;
+		int nodeCount = graph.getNodeCount();
+		this.parents = new int[nodeCount];
+		this.ranks = new byte[nodeCount];
+		this.neighborUnion = new NeighborUnion();
+	}
+
+	/** Returns the graph of this labelling. */
+	public IndexedGraph<N> getGraph () {
+		return graph;
+	}
+
+	/** Returns {@code true} if the given nodes belong to the same component; {@code false} otherwise, in which case there's no
+	 * path between them.
+	 * @param node1 the first node
+	 * @param node2 the second node */
+	public boolean isConnected (N node1, N node2) {
+		validate();
+		return find(graph.getIndex(node1)) == find(graph.getIndex(node2));
+	}
+
+	/** Returns the number of components of the graph. */
+	public int getComponentCount () {
+		validate();
+		return componentCount;
+	}
+
+	/** Merges the components of the given nodes after a connection between them has been added to the graph.
+	 * @param fromNode the node the connection starts from
+	 * @param toNode the node the connection leads to */
+	public void connectionAdded (N fromNode, N toNode) {
+		if (dirty || !catchUpVersion()) return; // the next recomputation will see the connection anyway
+		union(graph.getIndex(fromNode), graph.getIndex(toNode));
+	}
+
+	/** Merges the component of the given node with the ones of all its neighbors after some connections of the node have been
+	 * added to the graph, for instance when a blocked tile has become walkable. For directed graphs, the connections leading to
+	 * the node must be reported through {@link #connectionAdded(Object, Object)}.
+	 * @param node the node */
+	public void connectionsAdded (N node) {
+		if (dirty || !catchUpVersion()) return; // the next recomputation will see the connections anyway
+		unionNeighbors(graph.getIndex(node), node);
+	}
+
+	/** Marks the components for recomputation after a connection has been removed from the graph.
+	 * @param fromNode the node the connection started from
+	 * @param toNode the node the connection led to */
+	public void connectionRemoved (N fromNode, N toNode) {
+		dirty = true;
+	}
+
+	/** Marks the components for recomputation on the next query. */
+	public void invalidate () {
+		dirty = true;
+	}
+
+	/** Recomputes the components of the whole graph. This is an O(n + e) operation. */
+	public void recompute () {
+		int[] parents = this.parents;
+		int nodeCount = parents.length;
+		for (int i = 0; i < nodeCount; i++) {
+			parents[i] = i;
+			ranks[i] = 0;
+		}
+		componentCount = nodeCount;
+		for (int i = 0; i < nodeCount; i++)
+			unionNeighbors(i, nodes != null ? nodes[i] : null);
+
+		// Flatten the forest so that the following queries take a single step
+		for (int i = 0; i < nodeCount; i++)
+			parents[i] = find(i);
+
+		dirty = false;
+		if (versionedGraph != null) version = versionedGraph.getVersion();
+	}
+
+	/** Takes the version of a versioned graph as the one the components are up to date with, provided that the reported change
+	 * is the only one since the last update. Otherwise some changes went unreported, so the components are marked for
+	 * recomputation.
+	 * @return {@code true} if the components can be updated incrementally; {@code false} otherwise. */
+	private boolean catchUpVersion () {
+		if (versionedGraph == null) return true;
+		int graphVersion = versionedGraph.getVersion();
+		if (graphVersion != version && graphVersion != version + 1) {
+			dirty = true;
+			return false;
+		}
+		version = graphVersion;
+		return true;
+	}
+
+	private void validate () {
+		if (dirty || (versionedGraph != null && versionedGraph.getVersion() != version)) recompute();
+	}
+
+	private void unionNeighbors (int index, N node) {
+		if (implicitGraph != null) {
+			neighborUnion.fromIndex = index;
+			implicitGraph.forEachNeighbor(index, neighborUnion);
+		} else {
+			Array<Connection<N>> connections = graph.getConnections(node);
+			for (int i = 0; i < connections.size; i++)
+				union(index, graph.getIndex(connections.get(i).getToNode()));
+		}
+	}
+
+	/** Returns the root of the tree of the given node, halving the path to it. */
+	int find (int index) {
+		int[] parents = this.parents;
+		while (parents[index] != index) {
+			int grandParent = parents[parents[index]];
+			parents[index] = grandParent;
+			index = grandParent;
+		}
+		return index;
+	}
+
+	/** Merges the trees of the given nodes by rank. */
+	void union (int index1, int index2) {
+		int root1 = find(index1);
+		int root2 = find(index2);
+		if (root1 == root2) return;
+		byte[] ranks = this.ranks;
+		if (ranks[root1] < ranks[root2]) {
+			parents[root1] = root2;
+		} else {
+			parents[root2] = root1;
+			if (ranks[root1] == ranks[root2]) ranks[root1]++;
+		}
+		componentCount--;
+	}
+
+	/** Merges the component of a node with the ones of the neighbors it receives. */
+	class NeighborUnion implements NeighborConsumer {
+		int fromIndex;
+
+		@Override
+		public void accept (int toIndex, float cost) {
+			union(fromIndex, toIndex);
+		}
+	}
+}
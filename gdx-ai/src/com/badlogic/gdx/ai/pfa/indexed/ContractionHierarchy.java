@@ -0,0 +1,284 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+
+/** A {@code ContractionHierarchy} is the result of the contraction hierarchies preprocessing of a static {@link IndexedGraph},
+ * see {@link ContractionHierarchyBuilder}. Nodes are ranked by importance and the graph is augmented with shortcuts, i.e. edges
+ * standing for the shortest path between two nodes through less important nodes. Every edge, either original or shortcut, is
+ * then stored in the {@link #upwardEdges upward graph} of its lower ranked endpoint when it leads to a higher ranked node, or in
+ * the {@link #downwardEdges downward graph} of its lower ranked endpoint otherwise. This way the shortest path between any two
+ * nodes can be found by a bidirectional search that only moves towards more important nodes, which is what the
+ * {@link ContractionHierarchyPathFinder} does, settling a tiny fraction of the nodes a regular search would.
+ * <p>
+ * Edges are stored in parallel arrays indexed by edge. An original edge keeps its {@link Connection}, while a shortcut keeps the
+ * two edges it is made of, so any path can be unpacked back to the connections of the original graph.
+ * <p>
+ * The hierarchy can be saved to a file and loaded later, as long as the graph has not been modified in the meantime.
+ * 
+ * @param <N> Type of node */
+public class ContractionHierarchy<N> {
+
+	final IndexedGraph<N> graph;
+
+	/** The nodes by index. */
+	final N[] nodes;
+
+	/** The rank of each node; the higher the rank the more important the node. */
+	final int[] ranks;
+
+	/** The index of the source node of each edge. */
+	final int[] edgeFrom;
+
+	/** The index of the target node of each edge. */
+	final int[] edgeTo;
+
+	/** The cost of each edge. */
+	final float[] edgeCosts;
+
+	/** The first edge each shortcut is made of, or -1 for original edges. */
+	final int[] edgeFirst;
+
+	/** The second edge each shortcut is made of, or -1 for original edges. */
+	final int[] edgeSecond;
+
+	/** The position of the connection of each original edge among the connections of its source node, or -1 for shortcuts. */
+	final int[] edgeOrdinals;
+
+	/** The connection of each original edge, or {@code null} for shortcuts. */
+	final Connection<N>[] edgeConnections;
+
+	/** The offset of the first upward edge of each node in {@link #upwardEdges}; the last element is the number of upward
+	 * edges. */
+	final int[] upwardOffsets;
+
+	/** The edges leading from each node to higher ranked nodes, grouped by source node. */
+	final int[] upwardEdges;
+
+	/** The offset of the first downward edge of each node in {@link #downwardEdges}; the last element is the number of downward
+	 * edges. */
+	final int[] downwardOffsets;
+
+	/** The edges leading from higher ranked nodes to each node, grouped by target node. */
+	final int[] downwardEdges;
+
+	/** Creates a {@code ContractionHierarchy} from the given ranks and edges.
+	 * @param graph the graph
+	 * @param nodes the nodes by index
+	 * @param ranks the rank of each node
+	 * @param edgeFrom the index of the source node of each edge
+	 * @param edgeTo the index of the target node of each edge
+	 * @param edgeCosts the cost of each edge
+	 * @param edgeFirst the first edge each shortcut is made of, or -1 for original edges
+	 * @param edgeSecond the second edge each shortcut is made of, or -1 for original edges
+	 * @param edgeOrdinals the position of the connection of each original edge among the connections of its source node, or -1
+	 *           for shortcuts */
+	@SuppressWarnings("unchecked")
+	ContractionHierarchy (IndexedGraph<N> graph, N[] nodes, int[] ranks, int[] edgeFrom, int[] edgeTo, float[] edgeCosts,
+		int[] edgeFirst, int[] edgeSecond, int[] edgeOrdinals) {
+		this.graph = graph;
+		this.nodes = nodes;
+		this.ranks = ranks;
+		this.edgeFrom = edgeFrom;
+		this.edgeTo = edgeTo;
+		this.edgeCosts = edgeCosts;
+		this.edgeFirst = edgeFirst;
+		this.edgeSecond = edgeSecond;
+		this.edgeOrdinals = edgeOrdinals;
+
+		// Retrieve the connections of the original edges
+		int edgeCount = edgeFrom.length;
+		this.edgeConnections = (Connection<N>[])new Connection[edgeCount];
+		for (int e = 0; e < edgeCount; e++) {
+			if (edgeOrdinals[e] >= 0) edgeConnections[e] = graph.getConnections(nodes[edgeFrom[e]]).get(edgeOrdinals[e]);
+		}
+
+		// Count upward and downward edges of each node
+		int nodeCount = nodes.length;
+		this.upwardOffsets = new int[nodeCount + 1];
+		this.downwardOffsets = new int[nodeCount + 1];
+		for (int e = 0; e < edgeCount; e++) {
+			if (isUpward(e))
+				upwardOffsets[edgeFrom[e] + 1]++;
+			else
+				downwardOffsets[edgeTo[e] + 1]++;
+		}
+		for (int i = 0; i < nodeCount; i++) {
+			upwardOffsets[i + 1] += upwardOffsets[i];
+			downwardOffsets[i + 1] += downwardOffsets[i];
+		}
+
+		// Fill the edge groups
+		this.upwardEdges = new int[upwardOffsets[nodeCount]];
+		this.downwardEdges = new int[downwardOffsets[nodeCount]];
+		int[] upwardPositions = new int[nodeCount];
+		int[] downwardPositions = new int[nodeCount];
+		System.arraycopy(upwardOffsets, 0, upwardPositions, 0, nodeCount);
+		System.arraycopy(downwardOffsets, 0, downwardPositions, 0, nodeCount);
+		for (int e = 0; e < edgeCount; e++) {
+			if (isUpward(e))
+				upwardEdges[upwardPositions[edgeFrom[e]]++] = e;
+			else
+				downwardEdges[downwardPositions[edgeTo[e]]++] = e;
+		}
+	}
+
+	/** Returns the graph this hierarchy has been built for. */
+	public IndexedGraph<N> getGraph () {
+		return graph;
+	}
+
+	/** Returns the number of nodes. */
+	public int getNodeCount () {
+		return nodes.length;
+	}
+
+	/** Returns the total number of edges, including shortcuts. */
+	public int getEdgeCount () {
+		return edgeFrom.length;
+	}
+
+	/** Returns the number of shortcuts. */
+	public int getShortcutCount () {
+		int count = 0;
+		for (int e = 0; e < edgeFirst.length; e++)
+			if (edgeFirst[e] >= 0) count++;
+		return count;
+	}
+
+	/** Returns the rank of the given node. */
+	public int getRank (N node) {
+		return ranks[graph.getIndex(node)];
+	}
+
+	/** Appends to the given path the connections of the original graph the given edge stands for.
+	 * @param edge the edge to unpack
+	 * @param outPath the output path
+	 * @param stack the stack of the edges to unpack, which is left empty */
+	void unpack (int edge, GraphPath<Connection<N>> outPath, IntArray stack) {
+		stack.add(edge);
+		while (stack.size > 0) {
+			int e = stack.pop();
+			if (edgeFirst[e] < 0) {
+				outPath.add(edgeConnections[e]);
+			} else {
+				// Push the second edge first so that the first one is unpacked first
+				stack.add(edgeSecond[e]);
+				stack.add(edgeFirst[e]);
+			}
+		}
+	}
+
+	/** Saves this hierarchy to the given file.
+	 * @param file the file to write
+	 * @throws GdxRuntimeException if an I/O error occurs */
+	public void save (FileHandle file) {
+		DataOutputStream out = null;
+		try {
+			out = new DataOutputStream(file.write(false, 8192));
+			int nodeCount = nodes.length;
+			int edgeCount = edgeFrom.length;
+			out.writeInt(nodeCount);
+			out.writeInt(edgeCount);
+			for (int i = 0; i < nodeCount; i++)
+				out.writeInt(ranks[i]);
+			for (int e = 0; e < edgeCount; e++) {
+				out.writeInt(edgeFrom[e]);
+				out.writeInt(edgeTo[e]);
+				out.writeFloat(edgeCosts[e]);
+				out.writeInt(edgeFirst[e]);
+				out.writeInt(edgeSecond[e]);
+				out.writeInt(edgeOrdinals[e]);
+			}
+		} catch (IOException e) {
+			throw new GdxRuntimeException("Error writing contraction hierarchy to file: " + file, e);
+		} finally {
+			StreamUtils.closeQuietly(out);
+		}
+	}
+
+	/** Loads a hierarchy from the given file, previously written by {@link #save(FileHandle)}.
+	 * @param graph the graph the hierarchy has been built for
+	 * @param nodes the nodes of the graph; they can be given in any order
+	 * @param file the file to read
+	 * @return the hierarchy.
+	 * @throws GdxRuntimeException if an I/O error occurs or the file doesn't match the graph */
+	public static <N> ContractionHierarchy<N> load (IndexedGraph<N> graph, Iterable<N> nodes, FileHandle file) {
+		N[] nodesByIndex = nodesByIndex(graph, nodes);
+		DataInputStream in = null;
+		try {
+			in = new DataInputStream(file.read(8192));
+			int nodeCount = in.readInt();
+			if (nodeCount != nodesByIndex.length)
+				throw new GdxRuntimeException("Contraction hierarchy file " + file + " is for a graph with " + nodeCount + " nodes");
+			int edgeCount = in.readInt();
+			int[] ranks = new int[nodeCount];
+			for (int i = 0; i < nodeCount; i++)
+				ranks[i] = in.readInt();
+			int[] edgeFrom = new int[edgeCount];
+			int[] edgeTo = new int[edgeCount];
+			float[] edgeCosts = new float[edgeCount];
+			int[] edgeFirst = new int[edgeCount];
+			int[] edgeSecond = new int[edgeCount];
+			int[] edgeOrdinals = new int[edgeCount];
+			for (int e = 0; e < edgeCount; e++) {
+				edgeFrom[e] = in.readInt();
+				edgeTo[e] = in.readInt();
+				edgeCosts[e] = in.readFloat();
+				edgeFirst[e] = in.readInt();
+				edgeSecond[e] = in.readInt();
+				edgeOrdinals[e] = in.readInt();
+			}
+			return new ContractionHierarchy<N>(graph, nodesByIndex, ranks, edgeFrom, edgeTo, edgeCosts, edgeFirst, edgeSecond,
+				edgeOrdinals);
+		} catch (IOException e) {
+			throw new GdxRuntimeException("Error reading contraction hierarchy from file: " + file, e);
+		} finally {
+			StreamUtils.closeQuietly(in);
+		}
+	}
+
+	/** Returns the nodes of the given graph by index.
+	 * @throws IllegalArgumentException if a node is missing or duplicated */
+	@SuppressWarnings("unchecked")
+	static <N> N[] nodesByIndex (IndexedGraph<N> graph, Iterable<N> nodes) {
+		int nodeCount = graph.getNodeCount();
+		N[] nodesByIndex = (N[])new Object[nodeCount];
+		for (N node : nodes) {
+			int index = graph.getIndex(node);
+			if (nodesByIndex[index] != null) throw new IllegalArgumentException("Duplicate node for index " + index);
+			nodesByIndex[index] = node;
+		}
+		for (int i = 0; i < nodeCount; i++)
+			if (nodesByIndex[i] == null) throw new IllegalArgumentException("Missing node for index " + i);
+		return nodesByIndex;
+	}
+
+	private boolean isUpward (int edge) {
+		return ranks[edgeFrom[edge]] < ranks[edgeTo[edge]];
+	}
+}
@@ -0,0 +1,422 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+
+/** A {@code ContractionHierarchyBuilder} preprocesses a static {@link IndexedGraph} into a {@link ContractionHierarchy}.
+ * <p>
+ * Nodes are contracted one at a time in order of importance, the least important first. Contracting a node removes it from the
+ * remaining graph and adds a shortcut between each pair of its neighbors whose shortest path passes through it. Whether a
+ * shortcut is needed is decided by a local witness search looking for an alternative path, limited to
+ * {@link #setWitnessSearchLimit(int) a given number} of settled nodes; when the limit is hit the shortcut is added anyway, which
+ * never affects correctness. The importance of a node is its edge difference, i.e. the number of shortcuts its contraction would
+ * add minus the number of edges it would remove, plus the number of neighbors already contracted to keep the hierarchy uniform.
+ * Importances are updated lazily: a node is contracted only if its recomputed importance is still the lowest.
+ * <p>
+ * Computing the initial importance of every node requires simulating the contraction of the whole graph, which takes a
+ * significant share of the preprocessing time. Since these simulations are independent of each other and only read the edges
+ * previously collected from the graph, they run in parallel. The contraction itself is sequential.
+ * <p>
+ * The graph is treated as directed. Parallel connections are merged, keeping the cheapest one, and self-loops are dropped since
+ * they never belong to a shortest path. Costs must be non-negative.
+ * <p>
+ * Notice that this class is not available on the GWT backend.
+ * 
+ * @param <N> Type of node */
+public class ContractionHierarchyBuilder<N> {
+
+	final IndexedGraph<N> graph;
+
+	/** The nodes by index. */
+	final N[] nodes;
+
+	/** The number of threads used to compute the initial importance of the nodes. */
+	int threadCount;
+
+	/** The maximum number of nodes settled by a witness search. */
+	int witnessSearchLimit;
+
+	// Edges, both original and shortcuts
+	IntArray edgeFrom;
+	IntArray edgeTo;
+	FloatArray edgeCosts;
+	IntArray edgeFirst;
+	IntArray edgeSecond;
+	IntArray edgeOrdinals;
+
+	/** The outgoing edges of each node in the remaining graph. */
+	IntArray[] outEdges;
+
+	/** The incoming edges of each node in the remaining graph. */
+	IntArray[] inEdges;
+
+	/** The number of contracted neighbors of each node. */
+	int[] contractedNeighbors;
+
+	/** Creates a {@code ContractionHierarchyBuilder} for the given graph using as many threads as available processors.
+	 * @param graph the graph
+	 * @param nodes the nodes of the graph; they can be given in any order
+	 * @throws IllegalArgumentException if a node is missing or duplicated */
+	public ContractionHierarchyBuilder (IndexedGraph<N> graph, Iterable<N> nodes) {
+		this.graph = graph;
+		this.nodes = ContractionHierarchy.nodesByIndex(graph, nodes);
+		this.threadCount = Runtime.getRuntime().availableProcessors();
+		this.witnessSearchLimit = 500;
+	}
+
+	/** Returns the number of threads used to compute the initial importance of the nodes. */
+	public int getThreadCount () {
+		return threadCount;
+	}
+
+	/** Sets the number of threads used to compute the initial importance of the nodes. With 1 thread everything runs on the
+	 * calling thread.
+	 * @param threadCount the number of threads
+	 * @return this builder for chaining.
+	 * @throws IllegalArgumentException if {@code threadCount} is less than 1 */
+	public ContractionHierarchyBuilder<N> setThreadCount (int threadCount) {
+		if (threadCount < 1) throw new IllegalArgumentException("threadCount must be at least 1");
+		this.threadCount = threadCount;
+		return this;
+	}
+
+	/** Returns the maximum number of nodes settled by a witness search. */
+	public int getWitnessSearchLimit () {
+		return witnessSearchLimit;
+	}
+
+	/** Sets the maximum number of nodes settled by a witness search. Higher limits mean fewer shortcuts and faster queries but
+	 * longer preprocessing.
+	 * @param witnessSearchLimit the limit
+	 * @return this builder for chaining.
+	 * @throws IllegalArgumentException if {@code witnessSearchLimit} is less than 1 */
+	public ContractionHierarchyBuilder<N> setWitnessSearchLimit (int witnessSearchLimit) {
+		if (witnessSearchLimit < 1) throw new IllegalArgumentException("witnessSearchLimit must be at least 1");
+		this.witnessSearchLimit = witnessSearchLimit;
+		return this;
+	}
+
+	/** Builds the contraction hierarchy.
+	 * @return the contraction hierarchy.
+	 * @throws GdxRuntimeException if the computation of the initial importance of the nodes fails or is interrupted */
+	public ContractionHierarchy<N> build () {
+		int nodeCount = nodes.length;
+		collectEdges();
+
+		// Compute the initial importance of the nodes
+		float[] importances = computeImportances();
+		IndexedBinaryHeap queue = new IndexedBinaryHeap(nodeCount);
+		for (int i = 0; i < nodeCount; i++)
+			queue.add(i, importances[i]);
+
+		// Contract the nodes in order of importance
+		int[] ranks = new int[nodeCount];
+		int rank = 0;
+		WitnessSearch witnessSearch = new WitnessSearch();
+		IntArray shortcuts = new IntArray();
+		while (queue.size > 0) {
+			int node = queue.pop();
+
+			// Lazy update: if the node is no longer the least important one put it back
+			shortcuts.clear();
+			float importance = computeImportance(node, witnessSearch, shortcuts);
+			if (queue.size > 0 && importance > queue.getValue(queue.peek())) {
+				queue.add(node, importance);
+				continue;
+			}
+
+			ranks[node] = rank++;
+			contract(node);
+			for (int i = 0; i < shortcuts.size; i += 2)
+				addShortcut(shortcuts.get(i), shortcuts.get(i + 1));
+		}
+
+		ContractionHierarchy<N> hierarchy = new ContractionHierarchy<N>(graph, nodes, ranks, edgeFrom.toArray(), edgeTo.toArray(),
+			edgeCosts.toArray(), edgeFirst.toArray(), edgeSecond.toArray(), edgeOrdinals.toArray());
+
+		// Release the temporary structures
+		edgeFrom = edgeTo = edgeFirst = edgeSecond = edgeOrdinals = null;
+		edgeCosts = null;
+		outEdges = inEdges = null;
+		contractedNeighbors = null;
+
+		return hierarchy;
+	}
+
+	/** Collects the edges of the graph, merging parallel connections and dropping self-loops. */
+	void collectEdges () {
+		int nodeCount = nodes.length;
+		edgeFrom = new IntArray();
+		edgeTo = new IntArray();
+		edgeCosts = new FloatArray();
+		edgeFirst = new IntArray();
+		edgeSecond = new IntArray();
+		edgeOrdinals = new IntArray();
+		outEdges = new IntArray[nodeCount];
+		inEdges = new IntArray[nodeCount];
+		for (int i = 0; i < nodeCount; i++) {
+			outEdges[i] = new IntArray(4);
+			inEdges[i] = new IntArray(4);
+		}
+		contractedNeighbors = new int[nodeCount];
+
+		IntIntMap edgesByTarget = new IntIntMap();
+		for (int from = 0; from < nodeCount; from++) {
+			Array<Connection<N>> connections = graph.getConnections(nodes[from]);
+			edgesByTarget.clear();
+			for (int i = 0; i < connections.size; i++) {
+				Connection<N> connection = connections.get(i);
+				int to = graph.getIndex(connection.getToNode());
+				if (to == from) continue;
+				float cost = connection.getCost();
+				int edge = edgesByTarget.get(to, -1);
+				if (edge < 0) {
+					edgesByTarget.put(to, addEdge(from, to, cost, -1, -1, i));
+				} else if (cost < edgeCosts.get(edge)) {
+					edgeCosts.set(edge, cost);
+					edgeOrdinals.set(edge, i);
+				}
+			}
+		}
+	}
+
+	/** Computes the initial importance of every node, in parallel if possible. */
+	float[] computeImportances () {
+		final int nodeCount = nodes.length;
+		final float[] importances = new float[nodeCount];
+		int tasks = Math.min(threadCount, nodeCount);
+		if (tasks <= 1) {
+			WitnessSearch witnessSearch = new WitnessSearch();
+			for (int i = 0; i < nodeCount; i++)
+				importances[i] = computeImportance(i, witnessSearch, null);
+			return importances;
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(tasks);
+		try {
+			Array<Future<Void>> futures = new Array<Future<Void>>(tasks);
+			for (int t = 0; t < tasks; t++) {
+				final int start = (int)((long)nodeCount * t / tasks);
+				final int end = (int)((long)nodeCount * (t + 1) / tasks);
+				futures.add(executor.submit(new Callable<Void>() {
+					@Override
+					public Void call () {
+						WitnessSearch witnessSearch = new WitnessSearch();
+						for (int i = start; i < end; i++)
+							importances[i] = computeImportance(i, witnessSearch, null);
+						return null;
+					}
+				}));
+			}
+			for (int i = 0; i < futures.size; i++)
+				futures.get(i).get();
+		} catch (ExecutionException e) {
+			throw new GdxRuntimeException("Error computing node importance", e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new GdxRuntimeException("Interrupted while computing node importance", e);
+		} finally {
+			executor.shutdownNow();
+		}
+		return importances;
+	}
+
+	/** Returns the importance of the given node in the remaining graph.
+	 * @param node the node
+	 * @param witnessSearch the witness search to use
+	 * @param outShortcuts the array where the pairs of edges of the shortcuts needed to contract the node are added; it can be
+	 *           {@code null} */
+	float computeImportance (int node, WitnessSearch witnessSearch, IntArray outShortcuts) {
+		int shortcuts = witnessSearch.findShortcuts(node, outShortcuts);
+		int removedEdges = outEdges[node].size + inEdges[node].size;
+		return shortcuts - removedEdges + contractedNeighbors[node];
+	}
+
+	/** Removes the given node from the remaining graph. */
+	void contract (int node) {
+		IntArray in = inEdges[node];
+		for (int i = 0; i < in.size; i++) {
+			int edge = in.get(i);
+			int neighbor = edgeFrom.get(edge);
+			outEdges[neighbor].removeValue(edge);
+			contractedNeighbors[neighbor]++;
+		}
+		IntArray out = outEdges[node];
+		for (int i = 0; i < out.size; i++) {
+			int edge = out.get(i);
+			int neighbor = edgeTo.get(edge);
+			inEdges[neighbor].removeValue(edge);
+			contractedNeighbors[neighbor]++;
+		}
+		in.clear();
+		out.clear();
+	}
+
+	/** Adds a shortcut made of the given edges to the remaining graph, unless there's already an edge between the same nodes that
+	 * is not more expensive. */
+	void addShortcut (int first, int second) {
+		int from = edgeFrom.get(first);
+		int to = edgeTo.get(second);
+		float cost = edgeCosts.get(first) + edgeCosts.get(second);
+
+		// Look for an existing edge
+		IntArray out = outEdges[from];
+		for (int i = 0; i < out.size; i++) {
+			int edge = out.get(i);
+			if (edgeTo.get(edge) == to) {
+				if (edgeCosts.get(edge) <= cost) return;
+
+				// The existing edge is replaced by the shortcut
+				out.removeIndex(i);
+				inEdges[to].removeValue(edge);
+				break;
+			}
+		}
+
+		addEdge(from, to, cost, first, second, -1);
+	}
+
+	int addEdge (int from, int to, float cost, int first, int second, int ordinal) {
+		int edge = edgeFrom.size;
+		edgeFrom.add(from);
+		edgeTo.add(to);
+		edgeCosts.add(cost);
+		edgeFirst.add(first);
+		edgeSecond.add(second);
+		edgeOrdinals.add(ordinal);
+		outEdges[from].add(edge);
+		inEdges[to].add(edge);
+		return edge;
+	}
+
+	/** A witness search looks for paths that make shortcuts unnecessary. Each thread must have its own instance. */
+	class WitnessSearch {
+		final float[] costs;
+		final int[] searchIds;
+		final int[] targetIds;
+		final IndexedBinaryHeap openList;
+		int searchId;
+
+		WitnessSearch () {
+			int nodeCount = nodes.length;
+			this.costs = new float[nodeCount];
+			this.searchIds = new int[nodeCount];
+			this.targetIds = new int[nodeCount];
+			this.openList = new IndexedBinaryHeap(nodeCount);
+		}
+
+		/** Finds the shortcuts needed to contract the given node.
+		 * @param node the node to contract
+		 * @param outShortcuts the array where the pairs of edges of each shortcut are added; it can be {@code null}
+		 * @return the number of shortcuts. */
+		int findShortcuts (int node, IntArray outShortcuts) {
+			IntArray in = inEdges[node];
+			IntArray out = outEdges[node];
+			if (in.size == 0 || out.size == 0) return 0;
+
+			int count = 0;
+			for (int i = 0; i < in.size; i++) {
+				int inEdge = in.get(i);
+				int source = edgeFrom.get(inEdge);
+				float inCost = edgeCosts.get(inEdge);
+
+				// Mark the targets and find the most expensive path through the node
+				if (++searchId < 0) searchId = 1;
+				int targetCount = 0;
+				float maxCost = 0;
+				for (int j = 0; j < out.size; j++) {
+					int outEdge = out.get(j);
+					int target = edgeTo.get(outEdge);
+					if (target != source && targetIds[target] != searchId) {
+						targetIds[target] = searchId;
+						targetCount++;
+						maxCost = Math.max(maxCost, inCost + edgeCosts.get(outEdge));
+					}
+				}
+				if (targetCount == 0) continue;
+
+				run(source, node, maxCost, targetCount);
+
+				// Check each path through the node
+				for (int j = 0; j < out.size; j++) {
+					int outEdge = out.get(j);
+					int target = edgeTo.get(outEdge);
+					if (target == source) continue;
+					float cost = inCost + edgeCosts.get(outEdge);
+					if (getCost(target) > cost) {
+						count++;
+						if (outShortcuts != null) {
+							outShortcuts.add(inEdge);
+							outShortcuts.add(outEdge);
+						}
+					}
+				}
+			}
+			return count;
+		}
+
+		/** Runs a Dijkstra search from the given source avoiding the given node, until all the marked targets are settled, the cost
+		 * exceeds the given maximum or the limit of settled nodes is reached. */
+		void run (int source, int avoidedNode, float maxCost, int targetCount) {
+			float[] costs = this.costs;
+			int[] searchIds = this.searchIds;
+			IndexedBinaryHeap openList = this.openList;
+			openList.clear();
+			searchIds[source] = searchId;
+			costs[source] = 0;
+			openList.add(source, 0);
+			int settled = 0;
+			while (openList.size > 0) {
+				int current = openList.pop();
+				float currentCost = costs[current];
+				if (currentCost > maxCost || ++settled > witnessSearchLimit) break;
+				if (targetIds[current] == searchId && --targetCount == 0) break;
+				IntArray out = outEdges[current];
+				for (int i = 0; i < out.size; i++) {
+					int edge = out.get(i);
+					int target = edgeTo.get(edge);
+					if (target == avoidedNode) continue;
+					float cost = currentCost + edgeCosts.get(edge);
+					if (searchIds[target] != searchId) {
+						searchIds[target] = searchId;
+						costs[target] = cost;
+						openList.add(target, cost);
+					} else if (cost < costs[target]) {
+						costs[target] = cost;
+						openList.update(target, cost);
+					}
+				}
+			}
+		}
+
+		float getCost (int node) {
+			return searchIds[node] == searchId ? costs[node] : Float.POSITIVE_INFINITY;
+		}
+	}
+}
@@ -0,0 +1,294 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.PathFinder;
+import com.badlogic.gdx.ai.pfa.PathFinderQueue;
+import com.badlogic.gdx.ai.pfa.PathFinderRequest;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder.Metrics;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** A fully implemented {@link PathFinder} that can perform both interruptible and non-interruptible pathfinding on a
+ * {@link ContractionHierarchy}. A forward Dijkstra search from the start node following upward edges and a backward Dijkstra
+ * search from the end node following downward edges are run alternately, always advancing the one with the lowest cost, until
+ * neither can find a path cheaper than the best one found so far. Shortcuts of the resulting path are then unpacked into the
+ * connections of the original graph.
+ * <p>
+ * Since both searches only move towards more important nodes, they settle very few nodes even on huge graphs. Heuristics are not
+ * needed, so the heuristic passed to the search methods is ignored and can be {@code null}.
+ * 
+ * @param <N> Type of node */
+public class ContractionHierarchyPathFinder<N> implements PathFinder<N> {
+	ContractionHierarchy<N> hierarchy;
+
+	// Forward search state
+	final float[] forwardCosts;
+	final int[] forwardEdges;
+	final int[] forwardSearchIds;
+	final IndexedBinaryHeap forwardOpenList;
+
+	// Backward search state
+	final float[] backwardCosts;
+	final int[] backwardEdges;
+	final int[] backwardSearchIds;
+	final IndexedBinaryHeap backwardOpenList;
+
+	/** The cost of the best path found so far. */
+	float bestCost;
+
+	/** The index of the node where the forward and backward halves of the best path meet, or -1 if no path has been found yet. */
+	int meetingNode;
+
+	N startNode;
+
+	public Metrics metrics;
+
+	/** The unique ID for each search run. Used to mark nodes. */
+	private int searchId;
+
+	private final IntArray tmpEdges;
+	private final IntArray tmpStack;
+	private final DefaultGraphPath<Connection<N>> tmpConnectionPath;
+
+	public ContractionHierarchyPathFinder (ContractionHierarchy<N> hierarchy) {
+		this(hierarchy, false);
+	}
+
+	public ContractionHierarchyPathFinder (ContractionHierarchy<N> hierarchy, boolean calculateMetrics) {
+		this.hierarchy = hierarchy;
+		int nodeCount = hierarchy.getNodeCount();
+		this.forwardCosts = new float[nodeCount];
+		this.forwardEdges = new int[nodeCount];
+		this.forwardSearchIds = new int[nodeCount];
+		this.forwardOpenList = new IndexedBinaryHeap(nodeCount);
+		this.backwardCosts = new float[nodeCount];
+		this.backwardEdges = new int[nodeCount];
+		this.backwardSearchIds = new int[nodeCount];
+		this.backwardOpenList = new IndexedBinaryHeap(nodeCount);
+		this.tmpEdges = new IntArray();
+		this.tmpStack = new IntArray();
+		this.tmpConnectionPath = new DefaultGraphPath<Connection<N>>();
+		if (calculateMetrics) this.metrics = new Metrics();
+	}
+
+	@Override
+	public boolean searchConnectionPath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<Connection<N>> outPath) {
+		initSearch(startNode, endNode);
+		while (!step()) {
+		}
+		boolean found = meetingNode >= 0;
+
+		if (found) {
+			// Create a path made of connections
+			generateConnectionPath(outPath);
+		}
+
+		return found;
+	}
+
+	@Override
+	public boolean searchNodePath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<N> outPath) {
+		initSearch(startNode, endNode);
+		while (!step()) {
+		}
+		boolean found = meetingNode >= 0;
+
+		if (found) {
+			// Create a path made of nodes
+			generateNodePath(outPath);
+		}
+
+		return found;
+	}
+
+	@Override
+	public boolean search (PathFinderRequest<N> request, long timeToRun) {
+
+		long lastTime = TimeUtils.nanoTime();
+
+		// We have to initialize the search if the status has just changed
+		if (request.statusChanged) {
+			initSearch(request.startNode, request.endNode);
+			request.statusChanged = false;
+		}
+
+		// Iterate through processing each node
+		while (true) {
+
+			// Check the available time
+			long currentTime = TimeUtils.nanoTime();
+			timeToRun -= currentTime - lastTime;
+			if (timeToRun <= PathFinderQueue.TIME_TOLERANCE) return false;
+
+			// Settle a node in one of the two directions
+			if (step()) break;
+
+			// Store the current time
+			lastTime = currentTime;
+		}
+
+		request.pathFound = meetingNode >= 0;
+		if (request.pathFound) generateNodePath(request.resultPath);
+		return true;
+	}
+
+	protected void initSearch (N startNode, N endNode) {
+		if (metrics != null) metrics.reset();
+
+		// Increment the search id
+		if (++searchId < 0) searchId = 1;
+
+		this.startNode = startNode;
+		int startIndex = hierarchy.graph.getIndex(startNode);
+		int endIndex = hierarchy.graph.getIndex(endNode);
+
+		forwardOpenList.clear();
+		forwardSearchIds[startIndex] = searchId;
+		forwardCosts[startIndex] = 0;
+		forwardEdges[startIndex] = -1;
+		forwardOpenList.add(startIndex, 0);
+
+		backwardOpenList.clear();
+		backwardSearchIds[endIndex] = searchId;
+		backwardCosts[endIndex] = 0;
+		backwardEdges[endIndex] = -1;
+		backwardOpenList.add(endIndex, 0);
+
+		bestCost = Float.POSITIVE_INFINITY;
+		meetingNode = -1;
+		if (startIndex == endIndex) {
+			bestCost = 0;
+			meetingNode = startIndex;
+		}
+	}
+
+	/** Settles a node in the direction with the lowest cost.
+	 * @return {@code true} if the search has terminated; {@code false} otherwise. */
+	protected boolean step () {
+		float forwardMin = forwardOpenList.size > 0 ? forwardOpenList.getValue(forwardOpenList.peek()) : Float.POSITIVE_INFINITY;
+		float backwardMin = backwardOpenList.size > 0 ? backwardOpenList.getValue(backwardOpenList.peek())
+			: Float.POSITIVE_INFINITY;
+
+		// Terminate if neither direction can find a better path
+		if (Math.min(forwardMin, backwardMin) >= bestCost) return true;
+
+		if (forwardMin <= backwardMin)
+			expandForward();
+		else
+			expandBackward();
+		return false;
+	}
+
+	void expandForward () {
+		ContractionHierarchy<N> hierarchy = this.hierarchy;
+		int[] edges = hierarchy.upwardEdges;
+		int[] targets = hierarchy.edgeTo;
+		float[] edgeCosts = hierarchy.edgeCosts;
+		int current = forwardOpenList.pop();
+		if (metrics != null) metrics.expandedNodes++;
+		float currentCost = forwardCosts[current];
+		for (int i = hierarchy.upwardOffsets[current], n = hierarchy.upwardOffsets[current + 1]; i < n; i++) {
+			if (metrics != null) metrics.visitedNodes++;
+			int edge = edges[i];
+			int index = targets[edge];
+			float cost = currentCost + edgeCosts[edge];
+			if (forwardSearchIds[index] != searchId || cost < forwardCosts[index]) {
+				forwardSearchIds[index] = searchId;
+				forwardCosts[index] = cost;
+				forwardEdges[index] = edge;
+				forwardOpenList.addOrUpdate(index, cost);
+				updateMetrics();
+
+				// If the backward search has reached this node too, check whether the path through it is the best one
+				if (backwardSearchIds[index] == searchId) meet(index, cost + backwardCosts[index]);
+			}
+		}
+	}
+
+	void expandBackward () {
+		ContractionHierarchy<N> hierarchy = this.hierarchy;
+		int[] edges = hierarchy.downwardEdges;
+		int[] sources = hierarchy.edgeFrom;
+		float[] edgeCosts = hierarchy.edgeCosts;
+		int current = backwardOpenList.pop();
+		if (metrics != null) metrics.expandedNodes++;
+		float currentCost = backwardCosts[current];
+		for (int i = hierarchy.downwardOffsets[current], n = hierarchy.downwardOffsets[current + 1]; i < n; i++) {
+			if (metrics != null) metrics.visitedNodes++;
+			int edge = edges[i];
+			int index = sources[edge];
+			float cost = currentCost + edgeCosts[edge];
+			if (backwardSearchIds[index] != searchId || cost < backwardCosts[index]) {
+				backwardSearchIds[index] = searchId;
+				backwardCosts[index] = cost;
+				backwardEdges[index] = edge;
+				backwardOpenList.addOrUpdate(index, cost);
+				updateMetrics();
+
+				// If the forward search has reached this node too, check whether the path through it is the best one
+				if (forwardSearchIds[index] == searchId) meet(index, cost + forwardCosts[index]);
+			}
+		}
+	}
+
+	protected void generateConnectionPath (GraphPath<Connection<N>> outPath) {
+		ContractionHierarchy<N> hierarchy = this.hierarchy;
+
+		// Work back from the meeting node to the start node, accumulating edges
+		IntArray edges = tmpEdges;
+		edges.clear();
+		for (int index = meetingNode, edge; (edge = forwardEdges[index]) >= 0; index = hierarchy.edgeFrom[edge])
+			edges.add(edge);
+
+		// Unpack them in reverse order
+		for (int i = edges.size - 1; i >= 0; i--)
+			hierarchy.unpack(edges.get(i), outPath, tmpStack);
+
+		// Work forward from the meeting node to the end node, unpacking edges
+		for (int index = meetingNode, edge; (edge = backwardEdges[index]) >= 0; index = hierarchy.edgeTo[edge])
+			hierarchy.unpack(edge, outPath, tmpStack);
+	}
+
+	protected void generateNodePath (GraphPath<N> outPath) {
+		DefaultGraphPath<Connection<N>> connectionPath = tmpConnectionPath;
+		connectionPath.clear();
+		generateConnectionPath(connectionPath);
+		outPath.add(startNode);
+		for (int i = 0; i < connectionPath.getCount(); i++)
+			outPath.add(connectionPath.get(i).getToNode());
+		connectionPath.clear();
+	}
+
+	private void meet (int index, float pathCost) {
+		if (pathCost < bestCost) {
+			bestCost = pathCost;
+			meetingNode = index;
+		}
+	}
+
+	private void updateMetrics () {
+		if (metrics != null) {
+			metrics.openListAdditions++;
+			metrics.openListPeak = Math.max(metrics.openListPeak, forwardOpenList.size + backwardOpenList.size);
+		}
+	}
+}
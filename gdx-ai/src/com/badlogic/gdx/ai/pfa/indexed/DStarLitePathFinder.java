@@ -0,0 +1,513 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.PathFinder;
+import com.badlogic.gdx.ai.pfa.PathFinderQueue;
+import com.badlogic.gdx.ai.pfa.PathFinderRequest;
+import com.badlogic.gdx.ai.pfa.ReversibleGraph;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder.Metrics;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** A {@link PathFinder} that repairs its previous search instead of starting from scratch when the graph changes or the start
+ * node moves. It implements the optimized D* Lite algorithm by Koenig and Likhachev, which is Lifelong Planning A* (LPA*)
+ * searching backwards from the goal node, so that an agent walking along the path can keep replanning towards the same goal.
+ * <p>
+ * The search state is kept between queries as long as the goal node and the heuristic don't change. Whenever the outgoing
+ * connections of a node change, because a door closes, a bridge is destroyed or the cost of a terrain changes, the graph must be
+ * updated first and then {@link #notifyConnectionsChanged(Object)} must be called for that node. The next query propagates the
+ * changes only through the part of the shortest-path tree they actually affect. If the start node has moved since the last query
+ * the heuristic values already in the open list are corrected through the key modifier {@code km}, so nothing is recomputed.
+ * <p>
+ * Since the search runs backwards, the graph must be a {@link ReversibleGraph} whose incoming connections have the same costs as
+ * the corresponding outgoing connections. The heuristic is used as {@code heuristic.estimate(startNode, node)} and must be
+ * consistent, which is the case for most distance-based heuristics. Notice that each query with a different goal node or
+ * heuristic resets the search state, so it's best to dedicate a path finder to each agent, or group of agents, heading to the
+ * same goal.
+ * 
+ * @param <N> Type of node */
+public class DStarLitePathFinder<N> implements PathFinder<N> {
+	/** The relative tolerance used when comparing the first key of the open nodes with the one of the start node. */
+	static final float KEY_TOLERANCE = 1e-5f;
+
+	IndexedGraph<N> graph;
+	ReversibleGraph<N> reversibleGraph;
+
+	/** The cost to the goal node of each node as of its last expansion. */
+	final float[] g;
+
+	/** The one-step lookahead cost to the goal node of each node, based on the {@link #g} values of its successors. */
+	final float[] rhs;
+
+	/** The nodes by index; a node is stored the first time the current search touches it. */
+	final N[] nodes;
+
+	/** The ID of the search state each node belongs to. Nodes with an old ID have infinite {@link #g} and {@link #rhs}. */
+	final int[] searchIds;
+
+	/** The open list, ordered by the keys of the inconsistent nodes. */
+	final KeyHeap openList;
+
+	/** The key modifier, that is the sum of the heuristic distances the start node has moved so far. */
+	float km;
+
+	/** The start node of the last query. */
+	N startNode;
+
+	/** The goal node of the current search state, or {@code null} if there is no search state. */
+	N endNode;
+
+	Heuristic<N> heuristic;
+
+	int startIndex;
+	int endIndex;
+
+	public Metrics metrics;
+
+	/** The unique ID for each search state. Used to mark nodes. */
+	private int searchId;
+
+	private final Key tmpKey = new Key();
+
+	private final Array<Connection<N>> tmpPath = new Array<Connection<N>>();
+
+	/** Creates a {@code DStarLitePathFinder} for the given graph.
+	 * @param graph the graph, which must be both indexed and reversible */
+	public <G extends IndexedGraph<N> & ReversibleGraph<N>> DStarLitePathFinder (G graph) {
+		this(graph, false);
+	}
+
+	/** Creates a {@code DStarLitePathFinder} for the given graph.
+	 * @param graph the graph, which must be both indexed and reversible
+	 * @param calculateMetrics whether metrics should be calculated */
+	@SuppressWarnings("unchecked")
+	public <G extends IndexedGraph<N> & ReversibleGraph<N>> DStarLitePathFinder (G graph, boolean calculateMetrics) {
+		this.graph = graph;
+		this.reversibleGraph = graph;
+		int nodeCount = graph.getNodeCount();
+		this.g = new float[nodeCount];
+		this.rhs = new float[nodeCount];
+		this.nodes = (N[])new Object[nodeCount];
+		this.searchIds = new int[nodeCount];
+		this.openList = new KeyHeap(nodeCount);
+		if (calculateMetrics) this.metrics = new Metrics();
+	}
+
+	@Override
+	public boolean searchConnectionPath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<Connection<N>> outPath) {
+
+		// Repair the search
+		initSearch(startNode, endNode, heuristic);
+		while (!step()) {
+		}
+		// Create a path made of connections
+		return rhs[startIndex] != Float.POSITIVE_INFINITY && generateConnectionPath(outPath);
+	}
+
+	@Override
+	public boolean searchNodePath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<N> outPath) {
+
+		// Repair the search
+		initSearch(startNode, endNode, heuristic);
+		while (!step()) {
+		}
+		// Create a path made of nodes
+		return rhs[startIndex] != Float.POSITIVE_INFINITY && generateNodePath(outPath);
+	}
+
+	@Override
+	public boolean search (PathFinderRequest<N> request, long timeToRun) {
+
+		long lastTime = TimeUtils.nanoTime();
+
+		// We have to initialize the search if the status has just changed
+		if (request.statusChanged) {
+			initSearch(request.startNode, request.endNode, request.heuristic);
+			request.statusChanged = false;
+		}
+
+		// Iterate through processing each node
+		while (true) {
+
+			// Check the available time
+			long currentTime = TimeUtils.nanoTime();
+			timeToRun -= currentTime - lastTime;
+			if (timeToRun <= PathFinderQueue.TIME_TOLERANCE) return false;
+
+			// Process an inconsistent node
+			if (step()) break;
+
+			// Store the current time
+			lastTime = currentTime;
+		}
+
+		request.pathFound = rhs[startIndex] != Float.POSITIVE_INFINITY && generateNodePath(request.resultPath);
+		return true;
+	}
+
+	/** Notifies this path finder that the outgoing connections of the given node have changed, meaning that their costs have
+	 * changed or that connections have been added or removed. The graph must already reflect the change, including the incoming
+	 * connections of the affected nodes. The change is taken into account by the next query.
+	 * @param fromNode the node whose outgoing connections have changed */
+	public void notifyConnectionsChanged (N fromNode) {
+		if (endNode == null) return;
+		int index = graph.getIndex(fromNode);
+		touch(index, fromNode);
+		if (index != endIndex) rhs[index] = computeRhs(fromNode);
+		updateNode(index);
+	}
+
+	/** Discards the search state, so that the next query starts from scratch. */
+	public void reset () {
+		endNode = null;
+		startNode = null;
+		heuristic = null;
+		openList.clear();
+	}
+
+	/** Prepares the search state for a query: the state is reset if the goal node or the heuristic has changed, otherwise the key
+	 * modifier is updated if the start node has moved. */
+	protected void initSearch (N startNode, N endNode, Heuristic<N> heuristic) {
+		if (metrics != null) metrics.reset();
+
+		if (endNode != this.endNode || heuristic != this.heuristic) {
+			// Increment the search id
+			if (++searchId < 0) searchId = 1;
+
+			openList.clear();
+			this.endNode = endNode;
+			this.heuristic = heuristic;
+			this.endIndex = graph.getIndex(endNode);
+			km = 0;
+			touch(endIndex, endNode);
+			rhs[endIndex] = 0;
+			insert(endIndex, heuristic.estimate(startNode, endNode), 0);
+		} else if (startNode != this.startNode) {
+			km += heuristic.estimate(this.startNode, startNode);
+		}
+
+		this.startNode = startNode;
+		this.startIndex = graph.getIndex(startNode);
+		touch(startIndex, startNode);
+	}
+
+	/** Performs a single step of the search, processing the inconsistent node with the smallest key.
+	 * @return {@code true} if the search has terminated; {@code false} otherwise. */
+	protected boolean step () {
+		KeyHeap openList = this.openList;
+		float[] g = this.g;
+		float[] rhs = this.rhs;
+		int startIndex = this.startIndex;
+
+		// Terminate if the start node is locally consistent and no open node can lower its cost. Keys are sums of float costs
+		// evaluated in different orders, so two keys that are equal in exact arithmetic might be some ulps apart: the open nodes
+		// whose first key is within the tolerance are expanded anyway, since stopping early would leave a wrong path behind
+		if (openList.size == 0) return true;
+		int current = openList.peek();
+		float startKey1 = calculateKey(startIndex, tmpKey).k1;
+		if (openList.getKey1(current) > startKey1 + Math.max(1, startKey1) * KEY_TOLERANCE && rhs[startIndex] <= g[startIndex])
+			return true;
+
+		float k1 = openList.getKey1(current);
+		float k2 = openList.getKey2(current);
+		Key key = calculateKey(current, tmpKey);
+		if (k1 < key.k1 || (k1 == key.k1 && k2 < key.k2)) {
+			// The key is outdated because the start node has moved
+			openList.update(current, key.k1, key.k2);
+		} else if (g[current] > rhs[current]) {
+			// The node is overconsistent: its cost has decreased
+			g[current] = rhs[current];
+			if (metrics != null) metrics.expandedNodes++;
+			openList.remove(current);
+			Array<Connection<N>> connections = reversibleGraph.getIncomingConnections(nodes[current]);
+			for (int i = 0; i < connections.size; i++) {
+				if (metrics != null) metrics.visitedNodes++;
+				Connection<N> connection = connections.get(i);
+				N node = connection.getFromNode();
+				int index = graph.getIndex(node);
+				touch(index, node);
+				if (index != endIndex) {
+					float cost = connection.getCost() + g[current];
+					if (cost < rhs[index]) rhs[index] = cost;
+				}
+				updateNode(index);
+			}
+		} else {
+			// The node is underconsistent: its cost has increased
+			float oldCost = g[current];
+			g[current] = Float.POSITIVE_INFINITY;
+			if (metrics != null) metrics.expandedNodes++;
+			Array<Connection<N>> connections = reversibleGraph.getIncomingConnections(nodes[current]);
+			for (int i = 0; i < connections.size; i++) {
+				if (metrics != null) metrics.visitedNodes++;
+				Connection<N> connection = connections.get(i);
+				N node = connection.getFromNode();
+				int index = graph.getIndex(node);
+				touch(index, node);
+				if (index != endIndex && rhs[index] == connection.getCost() + oldCost) rhs[index] = computeRhs(node);
+				updateNode(index);
+			}
+			updateNode(current);
+		}
+		return false;
+	}
+
+	/** Fills the given path with the connections from the start node to the goal node.
+	 * @return {@code true} if the goal node has been reached; {@code false} otherwise, in which case the path is left
+	 *         untouched. */
+	protected boolean generateConnectionPath (GraphPath<Connection<N>> outPath) {
+		if (!followBestConnections()) return false;
+		for (int i = 0; i < tmpPath.size; i++)
+			outPath.add(tmpPath.get(i));
+		tmpPath.clear();
+		return true;
+	}
+
+	/** Fills the given path with the nodes from the start node to the goal node.
+	 * @return {@code true} if the goal node has been reached; {@code false} otherwise, in which case the path is left
+	 *         untouched. */
+	protected boolean generateNodePath (GraphPath<N> outPath) {
+		if (!followBestConnections()) return false;
+		outPath.add(startNode);
+		for (int i = 0; i < tmpPath.size; i++)
+			outPath.add(tmpPath.get(i).getToNode());
+		tmpPath.clear();
+		return true;
+	}
+
+	/** Follows the best connections from the start node into {@link #tmpPath}. The walk fails if a node has no connection
+	 * leading to the goal node or if the goal node is not reached within as many steps as there are nodes, which means that the
+	 * walk is cycling.
+	 * @return {@code true} if the goal node has been reached; {@code false} otherwise. */
+	private boolean followBestConnections () {
+		tmpPath.clear();
+		int index = startIndex;
+		for (int i = 0, n = graph.getNodeCount(); index != endIndex; i++) {
+			Connection<N> connection = i < n ? getBestConnection(nodes[index]) : null;
+			if (connection == null) {
+				tmpPath.clear();
+				return false;
+			}
+			tmpPath.add(connection);
+			index = graph.getIndex(connection.getToNode());
+		}
+		return true;
+	}
+
+	/** Returns the outgoing connection of the given node minimizing the sum of its cost and the cost to the goal node of its
+	 * target node. */
+	Connection<N> getBestConnection (N fromNode) {
+		Connection<N> best = null;
+		float bestCost = Float.POSITIVE_INFINITY;
+		Array<Connection<N>> connections = graph.getConnections(fromNode);
+		for (int i = 0; i < connections.size; i++) {
+			Connection<N> connection = connections.get(i);
+			float cost = connection.getCost() + getG(graph.getIndex(connection.getToNode()));
+			if (cost < bestCost) {
+				bestCost = cost;
+				best = connection;
+			}
+		}
+		return best;
+	}
+
+	/** Returns the minimum over the outgoing connections of the given node of the connection cost plus the cost to the goal node
+	 * of its target node. */
+	float computeRhs (N fromNode) {
+		float min = Float.POSITIVE_INFINITY;
+		Array<Connection<N>> connections = graph.getConnections(fromNode);
+		for (int i = 0; i < connections.size; i++) {
+			if (metrics != null) metrics.visitedNodes++;
+			Connection<N> connection = connections.get(i);
+			float cost = connection.getCost() + getG(graph.getIndex(connection.getToNode()));
+			if (cost < min) min = cost;
+		}
+		return min;
+	}
+
+	/** Returns the cost to the goal node of the node with the given index; it's infinite if the node has not been touched. */
+	float getG (int index) {
+		return searchIds[index] == searchId ? g[index] : Float.POSITIVE_INFINITY;
+	}
+
+	/** Adds the given node to the current search state, if necessary, with infinite costs. */
+	void touch (int index, N node) {
+		if (searchIds[index] != searchId) {
+			searchIds[index] = searchId;
+			g[index] = Float.POSITIVE_INFINITY;
+			rhs[index] = Float.POSITIVE_INFINITY;
+			nodes[index] = node;
+		}
+	}
+
+	/** Adds, updates or removes the given node from the open list according to whether it's locally consistent. */
+	void updateNode (int index) {
+		boolean inconsistent = g[index] != rhs[index];
+		boolean open = openList.contains(index);
+		if (inconsistent) {
+			Key key = calculateKey(index, tmpKey);
+			if (open)
+				openList.update(index, key.k1, key.k2);
+			else
+				insert(index, key.k1, key.k2);
+		} else if (open) {
+			openList.remove(index);
+		}
+	}
+
+	void insert (int index, float k1, float k2) {
+		openList.add(index, k1, k2);
+		if (metrics != null) {
+			metrics.openListAdditions++;
+			metrics.openListPeak = Math.max(metrics.openListPeak, openList.size);
+		}
+	}
+
+	Key calculateKey (int index, Key out) {
+		float cost = Math.min(g[index], rhs[index]);
+		out.k1 = cost + heuristic.estimate(startNode, nodes[index]) + km;
+		out.k2 = cost;
+		return out;
+	}
+
+	/** The two-component priority of a node, compared lexicographically. */
+	static class Key {
+		float k1;
+		float k2;
+	}
+
+	/** A binary min-heap of node indices ordered lexicographically by a pair of float keys. It's the two-key counterpart of
+	 * the {@link IndexedBinaryHeap}. */
+	static class KeyHeap {
+		int size;
+		private final int[] heap;
+		private final int[] positions;
+		private final float[] keys1;
+		private final float[] keys2;
+
+		KeyHeap (int capacity) {
+			this.heap = new int[capacity];
+			this.positions = new int[capacity];
+			this.keys1 = new float[capacity];
+			this.keys2 = new float[capacity];
+			for (int i = 0; i < capacity; i++)
+				positions[i] = -1;
+		}
+
+		void add (int item, float k1, float k2) {
+			heap[size] = item;
+			positions[item] = size;
+			keys1[item] = k1;
+			keys2[item] = k2;
+			up(size++);
+		}
+
+		void update (int item, float k1, float k2) {
+			boolean decreased = k1 < keys1[item] || (k1 == keys1[item] && k2 < keys2[item]);
+			keys1[item] = k1;
+			keys2[item] = k2;
+			if (decreased)
+				up(positions[item]);
+			else
+				down(positions[item]);
+		}
+
+		boolean remove (int item) {
+			int pos = positions[item];
+			if (pos < 0) return false;
+			positions[item] = -1;
+			if (pos < --size) {
+				int last = heap[size];
+				heap[pos] = last;
+				positions[last] = pos;
+				if (less(last, item))
+					up(pos);
+				else
+					down(pos);
+			}
+			return true;
+		}
+
+		int peek () {
+			return heap[0];
+		}
+
+		boolean contains (int item) {
+			return positions[item] >= 0;
+		}
+
+		float getKey1 (int item) {
+			return keys1[item];
+		}
+
+		float getKey2 (int item) {
+			return keys2[item];
+		}
+
+		void clear () {
+			for (int i = 0, n = size; i < n; i++)
+				positions[heap[i]] = -1;
+			size = 0;
+		}
+
+		private boolean less (int a, int b) {
+			return keys1[a] < keys1[b] || (keys1[a] == keys1[b] && keys2[a] < keys2[b]);
+		}
+
+		private void up (int pos) {
+			int[] heap = this.heap;
+			int item = heap[pos];
+			while (pos > 0) {
+				int parentPos = (pos - 1) >> 1;
+				int parent = heap[parentPos];
+				if (!less(item, parent)) break;
+				heap[pos] = parent;
+				positions[parent] = pos;
+				pos = parentPos;
+			}
+			heap[pos] = item;
+			positions[item] = pos;
+		}
+
+		private void down (int pos) {
+			int[] heap = this.heap;
+			int size = this.size;
+			int item = heap[pos];
+			while (true) {
+				int childPos = (pos << 1) + 1;
+				if (childPos >= size) break;
+				int rightPos = childPos + 1;
+
+				// Select the smallest child
+				if (rightPos < size && less(heap[rightPos], heap[childPos])) childPos = rightPos;
+				int child = heap[childPos];
+
+				if (!less(child, item)) break;
+				heap[pos] = child;
+				positions[child] = pos;
+				pos = childPos;
+			}
+			heap[pos] = item;
+			positions[item] = pos;
+		}
+	}
+}
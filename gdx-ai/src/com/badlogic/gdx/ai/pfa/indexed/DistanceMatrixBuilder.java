@@ -0,0 +1,276 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.utils.Array;
+
+/** A {@code DistanceMatrixBuilder} computes the cost of the shortest path from each of a set of source nodes to each of a set of
+ * target nodes, which is much cheaper than searching a path for every pair. A single Dijkstra search is run from each source, and
+ * it stops as soon as all the targets have been settled.
+ * <p>
+ * Searches are independent of each other so they're spread over the worker threads of a {@link ForkJoinPool}. Each worker owns
+ * its search state, which is allocated once and reused by all the searches the worker runs for this builder, so repeated builds,
+ * typically one per turn, don't allocate per-node arrays. This requires the graph to be safe for concurrent reads; for example, a
+ * graph returning the same array instance from {@link IndexedGraph#getConnections(Object) getConnections} is not. In that case
+ * pass a {@code null} pool to run the searches on the calling thread. An {@link ImplicitIndexedGraph} is searched through
+ * {@link ImplicitIndexedGraph#forEachNeighbor(int, NeighborConsumer) forEachNeighbor}, so no connection is involved at all.
+ * <p>
+ * Costs must be non-negative, and the graph must not be modified while a matrix is being built.
+ * <p>
+ * Notice that this class is not available on the GWT backend.
+ * 
+ * @param <N> Type of node */
+public class DistanceMatrixBuilder<N> {
+
+	final IndexedGraph<N> graph;
+
+	/** The pool running the searches, or {@code null} to run them on the calling thread. */
+	final ForkJoinPool pool;
+
+	/** The graph as an implicit graph, or {@code null} if it's not implicit. */
+	final ImplicitIndexedGraph<N> implicitGraph;
+
+	/** The search state of each worker thread. */
+	final ThreadLocal<SearchState<N>> searchStates;
+
+	/** The pool shared by the builders created without an explicit pool. Its workers are daemon threads that terminate when idle,
+	 * so it never needs to be shut down. */
+	private static ForkJoinPool sharedPool;
+
+	/** Creates a {@code DistanceMatrixBuilder} running the searches on a pool shared by all the builders created this way, with as
+	 * many threads as available processors.
+	 * @param graph the graph */
+	public DistanceMatrixBuilder (IndexedGraph<N> graph) {
+		this(graph, getSharedPool());
+	}
+
+	/** Creates a {@code DistanceMatrixBuilder} running the searches on the given pool.
+	 * @param graph the graph
+	 * @param pool the pool running the searches; it can be {@code null}, in which case the searches run on the calling thread */
+	@SuppressWarnings("unchecked")
+	public DistanceMatrixBuilder (IndexedGraph<N> graph, ForkJoinPool pool) {
+		this.graph = graph;
+		this.implicitGraph = graph instanceof ImplicitIndexedGraph ? (ImplicitIndexedGraph<N>)graph : null;
+		this.pool = pool;
+		this.searchStates = new ThreadLocal<SearchState<N>>();
+	}
+
+	/** Returns the graph of this builder. */
+	public IndexedGraph<N> getGraph () {
+		return graph;
+	}
+
+	/** Returns the pool running the searches, or {@code null} if they run on the calling thread. */
+	public ForkJoinPool getPool () {
+		return pool;
+	}
+
+	/** Computes the cost of the shortest path from each source to each target.
+	 * @param sources the source nodes
+	 * @param targets the target nodes
+	 * @return the matrix of the costs, stored row by row, where the cost from the source {@code i} to the target {@code j} is at
+	 *         the index {@code i * targets.size + j}; it's {@code Float.POSITIVE_INFINITY} if the target is unreachable. */
+	public float[] build (Array<N> sources, Array<N> targets) {
+		return build(sources, targets, new float[sources.size * targets.size]);
+	}
+
+	/** Computes the cost of the shortest path from each source to each target into the given array.
+	 * @param sources the source nodes
+	 * @param targets the target nodes
+	 * @param out the array the matrix is stored into, as described by {@link #build(Array, Array)}
+	 * @return the given array.
+	 * @throws IllegalArgumentException if the given array is shorter than {@code sources.size * targets.size} */
+	public float[] build (Array<N> sources, Array<N> targets, float[] out) {
+		int sourceCount = sources.size;
+		int targetCount = targets.size;
+		if (out.length < sourceCount * targetCount)
+			throw new IllegalArgumentException("out must hold at least " + (sourceCount * targetCount) + " costs");
+		if (sourceCount == 0 || targetCount == 0) return out;
+
+		// Mark the targets, counting duplicates once
+		int nodeCount = graph.getNodeCount();
+		int[] targetIndices = new int[targetCount];
+		boolean[] isTarget = new boolean[nodeCount];
+		int distinctTargetCount = 0;
+		for (int i = 0; i < targetCount; i++) {
+			int index = graph.getIndex(targets.get(i));
+			targetIndices[i] = index;
+			if (!isTarget[index]) {
+				isTarget[index] = true;
+				distinctTargetCount++;
+			}
+		}
+
+		SearchTask task = new SearchTask(sources, 0, sourceCount, targetIndices, isTarget, distinctTargetCount, out);
+		if (pool == null || sourceCount == 1) {
+			task.compute();
+		} else {
+			// Split the sources into a few tasks per worker, so that the load is balanced through work stealing
+			task.threshold = Math.max(1, sourceCount / (pool.getParallelism() * 4));
+			pool.invoke(task);
+		}
+		return out;
+	}
+
+	/** Returns the pool shared by the builders created without an explicit pool, creating it if needed. */
+	static synchronized ForkJoinPool getSharedPool () {
+		if (sharedPool == null) sharedPool = new ForkJoinPool();
+		return sharedPool;
+	}
+
+	/** Returns the search state of the current thread, allocating it if needed. */
+	SearchState<N> getSearchState () {
+		int nodeCount = graph.getNodeCount();
+		SearchState<N> state = searchStates.get();
+		if (state == null || state.costs.length < nodeCount) {
+			state = new SearchState<N>(nodeCount);
+			searchStates.set(state);
+		}
+		return state;
+	}
+
+	/** Runs a Dijkstra search from the given source and stores its costs to the targets into the given row of the matrix. */
+	void search (N source, int[] targetIndices, boolean[] isTarget, int distinctTargetCount, float[] out, int row) {
+		IndexedGraph<N> graph = this.graph;
+		SearchState<N> state = getSearchState();
+		float[] costs = state.costs;
+		int[] searchIds = state.searchIds;
+		N[] nodes = state.nodes;
+		IndexedBinaryHeap openList = state.openList;
+		int searchId = ++state.searchId;
+		if (searchId == 0) {
+			// The search id has wrapped around, forget the previous searches
+			Arrays.fill(searchIds, 0);
+			searchId = state.searchId = 1;
+		}
+
+		int sourceIndex = graph.getIndex(source);
+		costs[sourceIndex] = 0;
+		searchIds[sourceIndex] = searchId;
+		nodes[sourceIndex] = source;
+		openList.clear();
+		openList.add(sourceIndex, 0);
+		int remainingTargets = distinctTargetCount;
+		while (openList.size > 0) {
+			int current = openList.pop();
+			if (isTarget[current] && --remainingTargets == 0) break;
+			float currentCost = costs[current];
+			if (implicitGraph != null) {
+				state.currentCost = currentCost;
+				implicitGraph.forEachNeighbor(current, state);
+				continue;
+			}
+			Array<Connection<N>> connections = graph.getConnections(nodes[current]);
+			for (int i = 0; i < connections.size; i++) {
+				Connection<N> connection = connections.get(i);
+				N toNode = connection.getToNode();
+				int index = graph.getIndex(toNode);
+				float cost = currentCost + connection.getCost();
+				if (searchIds[index] != searchId || cost < costs[index]) {
+					costs[index] = cost;
+					searchIds[index] = searchId;
+					nodes[index] = toNode;
+					openList.addOrUpdate(index, cost);
+				}
+			}
+		}
+
+		// Either all the targets have been settled or all the reachable nodes have, so the costs of the reached targets are final
+		int offset = row * targetIndices.length;
+		for (int i = 0; i < targetIndices.length; i++) {
+			int index = targetIndices[i];
+			out[offset + i] = searchIds[index] == searchId ? costs[index] : Float.POSITIVE_INFINITY;
+		}
+	}
+
+	/** The search state owned by a worker thread. Costs and nodes are valid only for the indices whose search id is the one of the
+	 * current search, which saves clearing them before each search. Nodes are not stored for implicit graphs, whose neighbors are
+	 * relaxed by the state itself. */
+	static class SearchState<N> implements NeighborConsumer {
+		final float[] costs;
+		final int[] searchIds;
+		final N[] nodes;
+		final IndexedBinaryHeap openList;
+		int searchId;
+
+		/** The cost of the node whose neighbors are being relaxed. */
+		float currentCost;
+
+		@SuppressWarnings("unchecked")
+		SearchState (int nodeCount) {
+			this.costs = new float[nodeCount];
+			this.searchIds = new int[nodeCount];
+			this.nodes = (N[])new Object[nodeCount];
+			this.openList = new IndexedBinaryHeap(nodeCount);
+		}
+
+		@Override
+		public void accept (int toIndex, float cost) {
+			cost += currentCost;
+			if (searchIds[toIndex] != searchId || cost < costs[toIndex]) {
+				costs[toIndex] = cost;
+				searchIds[toIndex] = searchId;
+				openList.addOrUpdate(toIndex, cost);
+			}
+		}
+	}
+
+	/** A task computing the rows of a range of sources, splitting it in halves until it's small enough. */
+	@SuppressWarnings("serial")
+	class SearchTask extends RecursiveAction {
+		final Array<N> sources;
+		final int from;
+		final int to;
+		final int[] targetIndices;
+		final boolean[] isTarget;
+		final int distinctTargetCount;
+		final float[] out;
+		int threshold;
+
+		SearchTask (Array<N> sources, int from, int to, int[] targetIndices, boolean[] isTarget, int distinctTargetCount,
+			float[] out) {
+			this.sources = sources;
+			this.from = from;
+			this.to = to;
+			this.targetIndices = targetIndices;
+			this.isTarget = isTarget;
+			this.distinctTargetCount = distinctTargetCount;
+			this.out = out;
+			this.threshold = Integer.MAX_VALUE;
+		}
+
+		@Override
+		protected void compute () {
+			if (to - from <= threshold) {
+				for (int i = from; i < to; i++)
+					search(sources.get(i), targetIndices, isTarget, distinctTargetCount, out, i);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			SearchTask left = new SearchTask(sources, from, middle, targetIndices, isTarget, distinctTargetCount, out);
+			SearchTask right = new SearchTask(sources, middle, to, targetIndices, isTarget, distinctTargetCount, out);
+			left.threshold = right.threshold = threshold;
+			invokeAll(left, right);
+		}
+	}
+}
@@ -0,0 +1,399 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.indexed.ClusteredHierarchicalGraph.ClusterConnection;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+
+/** A {@code HierarchicalGraphBuilder} abstracts a flat {@link IndexedGraph} into a {@link ClusteredHierarchicalGraph} ready to be
+ * used by a {@link com.badlogic.gdx.ai.pfa.HierarchicalPathFinder HierarchicalPathFinder}, following the HPA* approach:
+ * <ul>
+ * <li>the nodes are partitioned into clusters at each level by a {@link Partitioner};</li>
+ * <li>the entrances of each cluster, i.e. the nodes of the level below having a connection that crosses its border, are
+ * detected;</li>
+ * <li>each connected region of a cluster is represented by its most central node with respect to the entrances of the region,
+ * and the cost from the representative to the other nodes of the region is computed inside the cluster;</li>
+ * <li>the representatives of the regions of adjacent clusters are connected through the cheapest pair of entrances.</li>
+ * </ul>
+ * Representing regions by a single node, rather than by all their entrances, keeps the hierarchical path finder from
+ * oscillating between entrances, since each move it plans always brings the current node into a region closer to the goal. This
+ * requires the {@link com.badlogic.gdx.ai.pfa.HierarchicalPathFinder#refineInCorridor refineInCorridor} option of the path
+ * finder to be enabled.
+ * <p>
+ * When the connections of some nodes change, for instance because a tile has been blocked, the hierarchy can be updated through
+ * {@link #rebuild(ClusteredHierarchicalGraph, Iterable)}, which processes only the clusters affected by the change.
+ * <p>
+ * The flat graph is expected to have symmetric connections, as usual for tile maps. Both the regions and the cost of the
+ * connections between them rely on it.
+ * 
+ * @param <N> Type of node */
+public class HierarchicalGraphBuilder<N> {
+
+	/** A {@code Partitioner} assigns the nodes to the clusters of each level of the hierarchy. Clusters must be nested, meaning
+	 * that all the nodes of a cluster at a given level must belong to the same cluster at the next level.
+	 * 
+	 * @param <N> Type of node */
+	public interface Partitioner<N> {
+
+		/** Returns the identifier of the cluster of the given node at the given level. Identifiers must be unique within a level
+		 * but they don't need to be contiguous.
+		 * @param node the node
+		 * @param level the level, which is greater than 0 */
+		public int getCluster (N node, int level);
+	}
+
+	/** The maximum number of entrances whose costs are taken into account to find the most central node of a region. */
+	static final int MAX_CENTRALITY_ENTRANCES = 16;
+
+	final IndexedGraph<N> graph;
+
+	/** The nodes by index. */
+	final N[] nodes;
+
+	final Partitioner<N> partitioner;
+
+	// Search state
+	float[] costs;
+	int[] searchIds;
+	int searchId;
+	IndexedBinaryHeap openList;
+
+	/** The sum of the costs from the entrances of its region to each node. */
+	float[] centralities;
+
+	/** The nodes of the region being processed. */
+	IntArray regionNodes;
+
+	/** The entrances of the region being processed. */
+	IntArray entrances;
+
+	/** Creates a {@code HierarchicalGraphBuilder} for the given graph.
+	 * @param graph the flat graph
+	 * @param nodes the nodes of the graph; they can be given in any order
+	 * @param partitioner the partitioner assigning the nodes to the clusters of each level
+	 * @throws IllegalArgumentException if a node is missing or duplicated */
+	public HierarchicalGraphBuilder (IndexedGraph<N> graph, Iterable<N> nodes, Partitioner<N> partitioner) {
+		this.graph = graph;
+		this.nodes = ContractionHierarchy.nodesByIndex(graph, nodes);
+		this.partitioner = partitioner;
+		int nodeCount = this.nodes.length;
+		this.costs = new float[nodeCount];
+		this.searchIds = new int[nodeCount];
+		this.openList = new IndexedBinaryHeap(nodeCount);
+		this.centralities = new float[nodeCount];
+		this.regionNodes = new IntArray();
+		this.entrances = new IntArray();
+	}
+
+	/** Builds a hierarchical graph with the given number of levels, including level 0 which is the flat graph.
+	 * @param levelCount the number of levels
+	 * @return the hierarchical graph.
+	 * @throws IllegalArgumentException if {@code levelCount} is less than 2 or the clusters given by the partitioner are not
+	 *            nested */
+	public ClusteredHierarchicalGraph<N> build (int levelCount) {
+		if (levelCount < 2) throw new IllegalArgumentException("levelCount must be at least 2");
+		int nodeCount = nodes.length;
+
+		// Assign the nodes to the clusters, renumbering clusters from 0 at each level
+		int[][] clusters = new int[levelCount - 1][nodeCount];
+		IntArray[][] members = new IntArray[levelCount - 1][];
+		IntIntMap ids = new IntIntMap();
+		for (int level = 1; level < levelCount; level++) {
+			int[] levelClusters = clusters[level - 1];
+			ids.clear();
+			for (int i = 0; i < nodeCount; i++) {
+				int id = partitioner.getCluster(nodes[i], level);
+				int cluster = ids.get(id, -1);
+				if (cluster < 0) ids.put(id, cluster = ids.size);
+				levelClusters[i] = cluster;
+			}
+			IntArray[] levelMembers = members[level - 1] = new IntArray[ids.size];
+			for (int c = 0; c < levelMembers.length; c++)
+				levelMembers[c] = new IntArray();
+			for (int i = 0; i < nodeCount; i++)
+				levelMembers[levelClusters[i]].add(i);
+
+			// Make sure the clusters of the level below are nested into the ones of this level
+			if (level > 1) {
+				for (IntArray lowerMembers : members[level - 2]) {
+					int cluster = levelClusters[lowerMembers.first()];
+					for (int j = 1; j < lowerMembers.size; j++) {
+						if (levelClusters[lowerMembers.get(j)] != cluster)
+							throw new IllegalArgumentException("Clusters of level " + (level - 1)
+								+ " are not nested into clusters of level " + level);
+					}
+				}
+			}
+		}
+
+		// Build all the clusters of each level
+		ClusteredHierarchicalGraph<N> hierarchy = new ClusteredHierarchicalGraph<N>(graph, nodes, clusters, members);
+		for (int level = 1; level < levelCount; level++) {
+			boolean[] affected = new boolean[members[level - 1].length];
+			for (int c = 0; c < affected.length; c++)
+				affected[c] = true;
+			update(hierarchy, level, affected);
+		}
+		return hierarchy;
+	}
+
+	/** Updates the given hierarchical graph after the connections of the given nodes have changed. Only the clusters affected by
+	 * the change are rebuilt at each level. Notice that if blocking a tile removes the connections of its neighbors towards it,
+	 * the neighbors have changed too.
+	 * @param hierarchy the hierarchical graph built by this builder
+	 * @param changedNodes the nodes whose outgoing connections, or their cost, have changed
+	 * @throws IllegalArgumentException if the hierarchical graph has not been built from the graph of this builder */
+	public void rebuild (ClusteredHierarchicalGraph<N> hierarchy, Iterable<N> changedNodes) {
+		if (hierarchy.graph != graph)
+			throw new IllegalArgumentException("The hierarchical graph has not been built from this graph");
+
+		boolean[] affected = new boolean[hierarchy.members[0].length];
+		for (N node : changedNodes)
+			affected[hierarchy.clusters[0][graph.getIndex(node)]] = true;
+
+		for (int level = 1;; level++) {
+			boolean[] changed = update(hierarchy, level, affected);
+			if (level == hierarchy.getLevelCount() - 1) break;
+
+			// The affected clusters of the next level are the ones containing a changed cluster
+			boolean[] nextAffected = new boolean[hierarchy.members[level].length];
+			IntArray[] levelMembers = hierarchy.members[level - 1];
+			int[] nextClusters = hierarchy.clusters[level];
+			for (int c = 0; c < changed.length; c++)
+				if (changed[c]) nextAffected[nextClusters[levelMembers[c].first()]] = true;
+			affected = nextAffected;
+		}
+	}
+
+	/** Rebuilds the regions of the affected clusters of the given level and reconnects them, together with the regions of the
+	 * clusters adjacent to them both before and after the change.
+	 * @return the clusters whose nodes or connections have changed. */
+	boolean[] update (ClusteredHierarchicalGraph<N> hierarchy, int level, boolean[] affected) {
+		int[] clusters = hierarchy.clusters[level - 1];
+		IntArray[] members = hierarchy.members[level - 1];
+		Array<Connection<N>>[] connections = hierarchy.connections[level - 1];
+		boolean[] changed = new boolean[affected.length];
+
+		// The clusters adjacent to the affected ones before the change
+		for (int c = 0; c < affected.length; c++) {
+			if (!affected[c]) continue;
+			changed[c] = true;
+			IntArray clusterMembers = members[c];
+			for (int i = 0; i < clusterMembers.size; i++) {
+				Array<Connection<N>> nodeConnections = connections[clusterMembers.get(i)];
+				if (nodeConnections == null) continue;
+				for (int j = 0; j < nodeConnections.size; j++)
+					changed[clusters[graph.getIndex(nodeConnections.get(j).getToNode())]] = true;
+			}
+		}
+
+		// Rebuild the regions of the affected clusters, which also finds the clusters adjacent to them after the change
+		for (int c = 0; c < affected.length; c++)
+			if (affected[c]) buildRegions(hierarchy, level, c, changed);
+
+		// Reconnect the regions
+		for (int c = 0; c < changed.length; c++)
+			if (changed[c]) connectRegions(hierarchy, level, c);
+
+		return changed;
+	}
+
+	/** Finds the regions of the given cluster and their representatives. The clusters adjacent to the given one are marked in the
+	 * given array. */
+	void buildRegions (ClusteredHierarchicalGraph<N> hierarchy, int level, int cluster, boolean[] adjacentClusters) {
+		IntArray clusterMembers = hierarchy.members[level - 1][cluster];
+		Array<Connection<N>>[] connections = hierarchy.connections[level - 1];
+		int[] regions = hierarchy.regions[level - 1];
+		float[] regionCosts = hierarchy.regionCosts[level - 1];
+
+		// Nodes not connected to any other node at the level below, like walls, are left out of the level
+		for (int i = 0; i < clusterMembers.size; i++) {
+			int node = clusterMembers.get(i);
+			Array<Connection<N>> lowerConnections = hierarchy.getConnections(level - 1, node);
+			connections[node] = null;
+			regions[node] = lowerConnections == null || lowerConnections.size == 0 ? node : -1;
+			regionCosts[node] = 0;
+		}
+
+		for (int i = 0; i < clusterMembers.size; i++) {
+			int node = clusterMembers.get(i);
+			if (regions[node] >= 0) continue;
+
+			// Collect the region containing the node, which is the first one of the region by index
+			collectRegion(hierarchy, level, cluster, node, adjacentClusters);
+			int representative = findCentralNode(hierarchy, level, cluster);
+
+			// Store the cost from the representative to each node of the region
+			search(hierarchy, level, cluster, representative);
+			IntArray regionNodes = this.regionNodes;
+			for (int j = 0; j < regionNodes.size; j++) {
+				int regionNode = regionNodes.get(j);
+				regions[regionNode] = representative;
+				regionCosts[regionNode] = searchIds[regionNode] == searchId ? costs[regionNode] : Float.POSITIVE_INFINITY;
+			}
+			connections[representative] = new Array<Connection<N>>(4);
+		}
+
+		// Find the node representing each node of level 0, which is the one representing its representative at the level below
+		int[] representatives = hierarchy.representatives[level - 1];
+		int[] lowerRepresentatives = level > 1 ? hierarchy.representatives[level - 2] : null;
+		for (int i = 0; i < clusterMembers.size; i++) {
+			int node = clusterMembers.get(i);
+			representatives[node] = regions[lowerRepresentatives == null ? node : lowerRepresentatives[node]];
+		}
+	}
+
+	/** Collects into {@link #regionNodes} the nodes of the level below reachable from the given node without leaving the given
+	 * cluster, and into {@link #entrances} the ones having a connection that crosses the border of the cluster. The clusters
+	 * reached by such connections are marked in the given array. */
+	void collectRegion (ClusteredHierarchicalGraph<N> hierarchy, int level, int cluster, int node, boolean[] adjacentClusters) {
+		int[] clusters = hierarchy.clusters[level - 1];
+		int[] searchIds = this.searchIds;
+		IntArray regionNodes = this.regionNodes;
+		regionNodes.clear();
+		entrances.clear();
+
+		if (++searchId < 0) searchId = 1;
+		searchIds[node] = searchId;
+		regionNodes.add(node);
+		for (int i = 0; i < regionNodes.size; i++) {
+			int current = regionNodes.get(i);
+			boolean entrance = false;
+			Array<Connection<N>> lowerConnections = hierarchy.getConnections(level - 1, current);
+			for (int j = 0; j < lowerConnections.size; j++) {
+				int target = graph.getIndex(lowerConnections.get(j).getToNode());
+				int targetCluster = clusters[target];
+				if (targetCluster != cluster) {
+					entrance = true;
+					adjacentClusters[targetCluster] = true;
+				} else if (searchIds[target] != searchId) {
+					searchIds[target] = searchId;
+					regionNodes.add(target);
+				}
+			}
+			if (entrance) entrances.add(current);
+		}
+	}
+
+	/** Returns the node of the current region having the minimum sum of costs from the entrances of the region. If there are too
+	 * many entrances only some of them, evenly spaced, are taken into account. If the region has no entrances its first node is
+	 * returned. */
+	int findCentralNode (ClusteredHierarchicalGraph<N> hierarchy, int level, int cluster) {
+		IntArray regionNodes = this.regionNodes;
+		IntArray entrances = this.entrances;
+		if (entrances.size == 0) return regionNodes.first();
+
+		float[] centralities = this.centralities;
+		for (int i = 0; i < regionNodes.size; i++)
+			centralities[regionNodes.get(i)] = 0;
+		int step = (entrances.size + MAX_CENTRALITY_ENTRANCES - 1) / MAX_CENTRALITY_ENTRANCES;
+		for (int i = 0; i < entrances.size; i += step) {
+			search(hierarchy, level, cluster, entrances.get(i));
+			for (int j = 0; j < regionNodes.size; j++) {
+				int node = regionNodes.get(j);
+				centralities[node] += searchIds[node] == searchId ? costs[node] : Float.POSITIVE_INFINITY;
+			}
+		}
+
+		int centralNode = regionNodes.first();
+		for (int i = 1; i < regionNodes.size; i++) {
+			int node = regionNodes.get(i);
+			float centrality = centralities[node];
+			if (centrality < centralities[centralNode] || (centrality == centralities[centralNode] && node < centralNode))
+				centralNode = node;
+		}
+		return centralNode;
+	}
+
+	/** Runs a Dijkstra search from the given node on the level below without leaving the given cluster. */
+	void search (ClusteredHierarchicalGraph<N> hierarchy, int level, int cluster, int source) {
+		int[] clusters = hierarchy.clusters[level - 1];
+		float[] costs = this.costs;
+		int[] searchIds = this.searchIds;
+		IndexedBinaryHeap openList = this.openList;
+
+		if (++searchId < 0) searchId = 1;
+		openList.clear();
+		searchIds[source] = searchId;
+		costs[source] = 0;
+		openList.add(source, 0);
+		while (openList.size > 0) {
+			int current = openList.pop();
+			float currentCost = costs[current];
+			Array<Connection<N>> lowerConnections = hierarchy.getConnections(level - 1, current);
+			for (int i = 0; i < lowerConnections.size; i++) {
+				Connection<N> connection = lowerConnections.get(i);
+				int target = graph.getIndex(connection.getToNode());
+				if (clusters[target] != cluster) continue;
+				float cost = currentCost + connection.getCost();
+				if (searchIds[target] != searchId) {
+					searchIds[target] = searchId;
+					costs[target] = cost;
+					openList.add(target, cost);
+				} else if (cost < costs[target] && openList.contains(target)) {
+					costs[target] = cost;
+					openList.update(target, cost);
+				}
+			}
+		}
+	}
+
+	/** Connects the representatives of the regions of the given cluster to the ones of the adjacent regions. The cost of each
+	 * connection is the cost of the cheapest path between the two representatives through a pair of connected entrances. */
+	void connectRegions (ClusteredHierarchicalGraph<N> hierarchy, int level, int cluster) {
+		int[] clusters = hierarchy.clusters[level - 1];
+		IntArray clusterMembers = hierarchy.members[level - 1][cluster];
+		Array<Connection<N>>[] connections = hierarchy.connections[level - 1];
+		int[] regions = hierarchy.regions[level - 1];
+		float[] regionCosts = hierarchy.regionCosts[level - 1];
+
+		for (int i = 0; i < clusterMembers.size; i++) {
+			Array<Connection<N>> nodeConnections = connections[clusterMembers.get(i)];
+			if (nodeConnections != null) nodeConnections.clear();
+		}
+
+		for (int i = 0; i < clusterMembers.size; i++) {
+			int node = clusterMembers.get(i);
+			Array<Connection<N>> lowerConnections = hierarchy.getConnections(level - 1, node);
+			if (lowerConnections == null) continue;
+			for (int j = 0; j < lowerConnections.size; j++) {
+				Connection<N> connection = lowerConnections.get(j);
+				int target = graph.getIndex(connection.getToNode());
+				if (clusters[target] == cluster) continue;
+				float cost = regionCosts[node] + connection.getCost() + regionCosts[target];
+				if (cost != Float.POSITIVE_INFINITY) connect(connections[regions[node]], regions[node], regions[target], cost);
+			}
+		}
+	}
+
+	/** Adds a connection between the given nodes to the given array or lowers the cost of the existing one. */
+	private void connect (Array<Connection<N>> nodeConnections, int fromNode, int toNode, float cost) {
+		N to = nodes[toNode];
+		for (int i = 0; i < nodeConnections.size; i++) {
+			ClusterConnection<N> connection = (ClusterConnection<N>)nodeConnections.get(i);
+			if (connection.toNode == to) {
+				if (cost < connection.cost) connection.cost = cost;
+				return;
+			}
+		}
+		nodeConnections.add(new ClusterConnection<N>(nodes[fromNode], to, cost));
+	}
+}
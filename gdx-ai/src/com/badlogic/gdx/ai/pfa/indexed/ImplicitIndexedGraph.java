@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+
+/** An {@code ImplicitIndexedGraph} is an {@link IndexedGraph} able to visit the neighbors of a node by index, without
+ * materializing {@link Connection} objects. This suits procedural graphs, like tile maps, whose connections are given by a rule
+ * rather than stored: the {@link PrimitiveIndexedAStarPathFinder} and the {@link SparseIndexedAStarPathFinder} detect it and
+ * search such graphs without ever calling {@link #getConnections(Object) getConnections}, except to build the connections of the
+ * path when one is requested.
+ * 
+ * @param <N> Type of node */
+public interface ImplicitIndexedGraph<N> extends IndexedGraph<N> {
+
+	/** Returns the node with the given index.
+	 * @param index the index of the node */
+	public N getNode (int index);
+
+	/** Passes each outgoing connection of the node with the given index to the given consumer.
+	 * @param index the index of the node
+	 * @param consumer the consumer receiving the index of the node each connection leads to and its cost */
+	public void forEachNeighbor (int index, NeighborConsumer consumer);
+
+}
@@ -54,6 +54,10 @@ public class IndexedAStarPathFinder<N> implements PathFinder<N> {
 	NodeRecord<N> current;
 	public Metrics metrics;
 
+	/** The connected components of the graph, used to reject the searches whose goal can't be reached without running them;
+	 * {@code null} if searches are never rejected. */
+	public ConnectedComponents<N> components;
+
 	/** The unique ID for each search run. Used to mark nodes. */
 	private int searchId;
 
@@ -103,6 +107,9 @@ public class IndexedAStarPathFinder<N> implements PathFinder<N> {
 
 	protected boolean search (N startNode, N endNode, Heuristic<N> heuristic) {
 
+		// Don't search for a goal out of the component of the start node
+		if (isUnreachable(startNode, endNode)) return false;
+
 		initSearch(startNode, endNode, heuristic);
 
 		// Iterate through processing each node
@@ -110,6 +117,7 @@ public class IndexedAStarPathFinder<N> implements PathFinder<N> {
 			// Retrieve the node with smallest estimated total cost from the open list
 			current = openList.pop();
 			current.category = CLOSED;
+			if (metrics != null) metrics.expandedNodes++;
 
 			// Terminate if we reached the goal node
 			if (current.node == endNode) return true;
@@ -129,6 +137,11 @@ public class IndexedAStarPathFinder<N> implements PathFinder<N> {
 
 		// We have to initialize the search if the status has just changed
 		if (request.statusChanged) {
+			if (isUnreachable(request.startNode, request.endNode)) {
+				request.statusChanged = false;
+				request.pathFound = false;
+				return true;
+			}
 			initSearch(request.startNode, request.endNode, request.heuristic);
 			request.statusChanged = false;
 		}
@@ -144,6 +157,7 @@ public class IndexedAStarPathFinder<N> implements PathFinder<N> {
 			// Retrieve the node with smallest estimated total cost from the open list
 			current = openList.pop();
 			current.category = CLOSED;
+			if (metrics != null) metrics.expandedNodes++;
 
 			// Terminate if we reached the goal node; we've found a path.
 			if (current.node == request.endNode) {
@@ -167,6 +181,14 @@ public class IndexedAStarPathFinder<N> implements PathFinder<N> {
 		return true;
 	}
 
+	/** Returns {@code true} if the {@link #components} tell that the end node can't be reached from the start node; {@code false}
+	 * otherwise. */
+	boolean isUnreachable (N startNode, N endNode) {
+		if (components == null || components.isConnected(startNode, endNode)) return false;
+		if (metrics != null) metrics.reset();
+		return true;
+	}
+
 	protected void initSearch (N startNode, N endNode, Heuristic<N> heuristic) {
 		if (metrics != null) metrics.reset();
 
@@ -327,6 +349,7 @@ public class IndexedAStarPathFinder<N> implements PathFinder<N> {
 	 * @author davebaol */
 	public static class Metrics {
 		public int visitedNodes;
+		public int expandedNodes;
 		public int openListAdditions;
 		public int openListPeak;
 
@@ -335,6 +358,7 @@ public class IndexedAStarPathFinder<N> implements PathFinder<N> {
 
 		public void reset () {
 			visitedNodes = 0;
+			expandedNodes = 0;
 			openListAdditions = 0;
 			openListPeak = 0;
 		}
@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+/** An {@link IndexedOpenList} implemented as a binary min-heap of integer items, typically node indices. Unlike the libgdx
+ * {@link com.badlogic.gdx.utils.BinaryHeap BinaryHeap}, items are not objects: the heap is made of a few parallel primitive
+ * arrays indexed by item, so adding, updating and removing items creates no garbage at all.
+ * <p>
+ * Items must be non-negative integers less than the capacity of the heap. The capacity can be increased through
+ * {@link #ensureCapacity(int)}. */
+public class IndexedBinaryHeap implements IndexedOpenList {
+
+	/** The number of items in this heap. */
+	public int size;
+
+	/** The items of this heap in heap order. */
+	private int[] heap;
+
+	/** The position of each item in {@link #heap}, or -1 if the item is not in the heap. */
+	private int[] positions;
+
+	/** The value of each item. */
+	private float[] values;
+
+	/** Creates an {@code IndexedBinaryHeap} able to hold items from 0 to {@code capacity - 1}.
+	 * @param capacity the capacity of this heap */
+	public IndexedBinaryHeap (int capacity) {
+		this.heap = new int[capacity];
+		this.positions = new int[capacity];
+		this.values = new float[capacity];
+		for (int i = 0; i < capacity; i++)
+			positions[i] = -1;
+	}
+
+	@Override
+	public int size () {
+		return size;
+	}
+
+	/** Adds the given item to this heap.
+	 * @param item the item to add; it must not be already in the heap
+	 * @param value the value of the item */
+	@Override
+	public void add (int item, float value) {
+		heap[size] = item;
+		positions[item] = size;
+		values[item] = value;
+		up(size++);
+	}
+
+	/** Changes the value of the given item, which can be either decreased or increased, restoring the heap order.
+	 * @param item the item to update; it must be in the heap
+	 * @param value the new value of the item */
+	@Override
+	public void update (int item, float value) {
+		float oldValue = values[item];
+		values[item] = value;
+		if (value < oldValue)
+			up(positions[item]);
+		else
+			down(positions[item]);
+	}
+
+	/** Adds the given item to this heap if it's not contained yet; otherwise changes its value.
+	 * @param item the item to add or update
+	 * @param value the value of the item */
+	@Override
+	public void addOrUpdate (int item, float value) {
+		if (positions[item] < 0)
+			add(item, value);
+		else
+			update(item, value);
+	}
+
+	/** Returns the item with the smallest value. The heap must not be empty. */
+	@Override
+	public int peek () {
+		return heap[0];
+	}
+
+	/** Removes and returns the item with the smallest value. The heap must not be empty. */
+	@Override
+	public int pop () {
+		int[] heap = this.heap;
+		int removed = heap[0];
+		positions[removed] = -1;
+		if (--size > 0) {
+			int last = heap[size];
+			heap[0] = last;
+			positions[last] = 0;
+			down(0);
+		}
+		return removed;
+	}
+
+	/** Removes the given item from this heap, if present.
+	 * @param item the item to remove
+	 * @return {@code true} if the item has been removed; {@code false} if it was not in the heap. */
+	@Override
+	public boolean remove (int item) {
+		int pos = positions[item];
+		if (pos < 0) return false;
+		positions[item] = -1;
+		if (pos < --size) {
+			int last = heap[size];
+			heap[pos] = last;
+			positions[last] = pos;
+			if (values[last] < values[item])
+				up(pos);
+			else
+				down(pos);
+		}
+		return true;
+	}
+
+	/** Returns the item at the given position of this heap, which allows to iterate over the items in no particular order.
+	 * @param position the position of the item, from 0 to {@code size - 1} */
+	public int get (int position) {
+		return heap[position];
+	}
+
+	/** Returns {@code true} if the given item is in this heap; {@code false} otherwise. */
+	@Override
+	public boolean contains (int item) {
+		return positions[item] >= 0;
+	}
+
+	/** Returns the value last associated with the given item. Notice that the value is retained after the item has been popped or
+	 * removed from the heap, until the item is added again.
+	 * @param item the item */
+	@Override
+	public float getValue (int item) {
+		return values[item];
+	}
+
+	/** Removes all items from this heap. This is an O(size) operation. */
+	@Override
+	public void clear () {
+		int[] heap = this.heap;
+		int[] positions = this.positions;
+		for (int i = 0, n = size; i < n; i++)
+			positions[heap[i]] = -1;
+		size = 0;
+	}
+
+	/** Returns the number of items that this heap is able to hold, that is the upper bound (exclusive) of the items. */
+	@Override
+	public int getCapacity () {
+		return positions.length;
+	}
+
+	/** Increases the capacity of this heap, if necessary, so that it can hold any item up to {@code capacity - 1}.
+	 * @param capacity the minimum capacity */
+	@Override
+	public void ensureCapacity (int capacity) {
+		int oldCapacity = positions.length;
+		if (capacity <= oldCapacity) return;
+		int newCapacity = Math.max(capacity, oldCapacity + (oldCapacity >> 1));
+
+		int[] newHeap = new int[newCapacity];
+		System.arraycopy(heap, 0, newHeap, 0, size);
+		heap = newHeap;
+
+		int[] newPositions = new int[newCapacity];
+		System.arraycopy(positions, 0, newPositions, 0, oldCapacity);
+		for (int i = oldCapacity; i < newCapacity; i++)
+			newPositions[i] = -1;
+		positions = newPositions;
+
+		float[] newValues = new float[newCapacity];
+		System.arraycopy(values, 0, newValues, 0, oldCapacity);
+		values = newValues;
+	}
+
+	private void up (int pos) {
+		int[] heap = this.heap;
+		int[] positions = this.positions;
+		float[] values = this.values;
+		int item = heap[pos];
+		float value = values[item];
+		while (pos > 0) {
+			int parentPos = (pos - 1) >> 1;
+			int parent = heap[parentPos];
+			if (value >= values[parent]) break;
+			heap[pos] = parent;
+			positions[parent] = pos;
+			pos = parentPos;
+		}
+		heap[pos] = item;
+		positions[item] = pos;
+	}
+
+	private void down (int pos) {
+		int[] heap = this.heap;
+		int[] positions = this.positions;
+		float[] values = this.values;
+		int size = this.size;
+		int item = heap[pos];
+		float value = values[item];
+		while (true) {
+			int leftPos = (pos << 1) + 1;
+			if (leftPos >= size) break;
+			int rightPos = leftPos + 1;
+
+			// Select the smallest child
+			int childPos = leftPos;
+			int child = heap[leftPos];
+			float childValue = values[child];
+			if (rightPos < size) {
+				int right = heap[rightPos];
+				float rightValue = values[right];
+				if (rightValue < childValue) {
+					childPos = rightPos;
+					child = right;
+					childValue = rightValue;
+				}
+			}
+
+			if (childValue >= value) break;
+			heap[pos] = child;
+			positions[child] = pos;
+			pos = childPos;
+		}
+		heap[pos] = item;
+		positions[item] = pos;
+	}
+}
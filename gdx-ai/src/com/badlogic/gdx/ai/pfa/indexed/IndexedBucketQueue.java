@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/** An {@link IndexedOpenList} implemented as a bucket queue of integer items, typically node indices. Items are grouped into
+ * buckets of a fixed width according to their value, so adding, updating and removing an item takes constant time, while the
+ * removal of the item with the smallest value looks for the first non-empty bucket and then scans it. The smallest value is
+ * always found exactly, the width of the buckets only affects performance.
+ * <p>
+ * The buckets form a circular array covering the range of values currently in the queue, which grows when needed. This makes
+ * the bucket queue very fast when that range is small compared to the width of the buckets, which is the case of A* and Dijkstra
+ * on graphs whose costs are small integers, like most tile maps: with integer costs and a bucket width of 1 each bucket holds
+ * items with the same value only. On the other hand, values spanning a wide range take a lot of memory and many empty buckets
+ * to skip. Values must be finite. */
+public class IndexedBucketQueue implements IndexedOpenList {
+
+	/** The number of items in this queue. */
+	int size;
+
+	/** The inverse of the width of the buckets. */
+	private final float invBucketWidth;
+
+	/** The buckets in a circular array, whose length is a power of two. */
+	private IntArray[] buckets;
+
+	/** The value of the first item added to each bucket since it was last empty. */
+	private float[] bucketValues;
+
+	/** Whether all the items of each bucket have the same value, in which case any of them has the smallest value. */
+	private boolean[] uniformBuckets;
+
+	/** The lowest bucket that might be non-empty. */
+	private int minBucket;
+
+	/** An upper bound of the highest non-empty bucket. */
+	private int maxBucket;
+
+	/** The bucket of each item. */
+	private int[] itemBuckets;
+
+	/** The position of each item in its bucket, or -1 if the item is not in the queue. */
+	private int[] positions;
+
+	/** The value of each item. */
+	private float[] values;
+
+	/** Creates an {@code IndexedBucketQueue} able to hold items from 0 to {@code capacity - 1} with buckets of width 1, which is
+	 * ideal for integer costs.
+	 * @param capacity the capacity of this queue */
+	public IndexedBucketQueue (int capacity) {
+		this(capacity, 1f);
+	}
+
+	/** Creates an {@code IndexedBucketQueue} able to hold items from 0 to {@code capacity - 1}.
+	 * @param capacity the capacity of this queue
+	 * @param bucketWidth the width of the buckets
+	 * @throws IllegalArgumentException if {@code bucketWidth} is not positive */
+	public IndexedBucketQueue (int capacity, float bucketWidth) {
+		if (!(bucketWidth > 0)) throw new IllegalArgumentException("bucketWidth must be > 0");
+		this.invBucketWidth = 1f / bucketWidth;
+		this.buckets = new IntArray[16];
+		for (int i = 0; i < buckets.length; i++)
+			buckets[i] = new IntArray();
+		this.bucketValues = new float[16];
+		this.uniformBuckets = new boolean[16];
+		this.itemBuckets = new int[capacity];
+		this.positions = new int[capacity];
+		this.values = new float[capacity];
+		for (int i = 0; i < capacity; i++)
+			positions[i] = -1;
+	}
+
+	@Override
+	public int size () {
+		return size;
+	}
+
+	@Override
+	public void add (int item, float value) {
+		values[item] = value;
+		int bucket = (int)Math.floor(value * invBucketWidth);
+		if (size == 0) {
+			minBucket = maxBucket = bucket;
+		} else if (bucket < minBucket) {
+			if (maxBucket - bucket >= buckets.length) resize(maxBucket - bucket + 1);
+			minBucket = bucket;
+		} else if (bucket > maxBucket) {
+			if (bucket - minBucket >= buckets.length) resize(bucket - minBucket + 1);
+			maxBucket = bucket;
+		}
+		itemBuckets[item] = bucket;
+		insert(item, bucket & (buckets.length - 1));
+		size++;
+	}
+
+	@Override
+	public void update (int item, float value) {
+		remove(item);
+		add(item, value);
+	}
+
+	@Override
+	public void addOrUpdate (int item, float value) {
+		if (positions[item] >= 0) remove(item);
+		add(item, value);
+	}
+
+	@Override
+	public int peek () {
+		int slot = findMinBucket();
+		return buckets[slot].get(findMinPosition(slot));
+	}
+
+	@Override
+	public int pop () {
+		int slot = findMinBucket();
+		int item = buckets[slot].get(findMinPosition(slot));
+		remove(item);
+		return item;
+	}
+
+	@Override
+	public boolean remove (int item) {
+		int pos = positions[item];
+		if (pos < 0) return false;
+		positions[item] = -1;
+		IntArray items = buckets[itemBuckets[item] & (buckets.length - 1)];
+		int last = items.pop();
+		if (last != item) {
+			items.set(pos, last);
+			positions[last] = pos;
+		}
+		size--;
+		return true;
+	}
+
+	@Override
+	public boolean contains (int item) {
+		return positions[item] >= 0;
+	}
+
+	@Override
+	public float getValue (int item) {
+		return values[item];
+	}
+
+	/** Removes all items from this queue. This is an O(size + number of buckets) operation. */
+	@Override
+	public void clear () {
+		int[] positions = this.positions;
+		for (IntArray items : buckets) {
+			for (int i = 0, n = items.size; i < n; i++)
+				positions[items.get(i)] = -1;
+			items.clear();
+		}
+		size = 0;
+	}
+
+	@Override
+	public int getCapacity () {
+		return positions.length;
+	}
+
+	@Override
+	public void ensureCapacity (int capacity) {
+		int oldCapacity = positions.length;
+		if (capacity <= oldCapacity) return;
+		int newCapacity = Math.max(capacity, oldCapacity + (oldCapacity >> 1));
+
+		int[] newItemBuckets = new int[newCapacity];
+		System.arraycopy(itemBuckets, 0, newItemBuckets, 0, oldCapacity);
+		itemBuckets = newItemBuckets;
+
+		int[] newPositions = new int[newCapacity];
+		System.arraycopy(positions, 0, newPositions, 0, oldCapacity);
+		for (int i = oldCapacity; i < newCapacity; i++)
+			newPositions[i] = -1;
+		positions = newPositions;
+
+		float[] newValues = new float[newCapacity];
+		System.arraycopy(values, 0, newValues, 0, oldCapacity);
+		values = newValues;
+	}
+
+	/** Returns the index in the circular array of the first non-empty bucket, advancing {@link #minBucket} past the empty ones.
+	 * The queue must not be empty. */
+	private int findMinBucket () {
+		IntArray[] buckets = this.buckets;
+		int mask = buckets.length - 1;
+		while (buckets[minBucket & mask].size == 0)
+			minBucket++;
+		return minBucket & mask;
+	}
+
+	/** Returns the position of an item with the smallest value in the bucket with the given index in the circular array. */
+	private int findMinPosition (int slot) {
+		IntArray items = buckets[slot];
+
+		// Pick the last item of a uniform bucket, which is the cheapest to remove
+		if (uniformBuckets[slot]) return items.size - 1;
+
+		float[] values = this.values;
+		int minPos = 0;
+		float minValue = values[items.get(0)];
+		for (int i = 1, n = items.size; i < n; i++) {
+			float value = values[items.get(i)];
+			if (value < minValue) {
+				minValue = value;
+				minPos = i;
+			}
+		}
+		return minPos;
+	}
+
+	/** Inserts the given item into the bucket with the given index in the circular array. */
+	private void insert (int item, int slot) {
+		IntArray items = buckets[slot];
+		float value = values[item];
+		if (items.size == 0) {
+			bucketValues[slot] = value;
+			uniformBuckets[slot] = true;
+		} else if (value != bucketValues[slot]) {
+			uniformBuckets[slot] = false;
+		}
+		positions[item] = items.size;
+		items.add(item);
+	}
+
+	/** Increases the number of buckets so that the given number of consecutive buckets fits in the circular array. */
+	private void resize (int bucketCount) {
+		IntArray[] oldBuckets = buckets;
+		int newLength = oldBuckets.length;
+		while (newLength < bucketCount)
+			newLength <<= 1;
+		buckets = new IntArray[newLength];
+		for (int i = 0; i < newLength; i++)
+			buckets[i] = new IntArray();
+		bucketValues = new float[newLength];
+		uniformBuckets = new boolean[newLength];
+
+		// Move the items into the new buckets
+		for (IntArray items : oldBuckets) {
+			for (int i = 0, n = items.size; i < n; i++) {
+				int item = items.get(i);
+				insert(item, itemBuckets[item] & (newLength - 1));
+			}
+		}
+	}
+}
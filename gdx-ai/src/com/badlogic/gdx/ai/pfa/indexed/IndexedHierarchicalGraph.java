@@ -16,9 +16,14 @@
 
 package com.badlogic.gdx.ai.pfa.indexed;
 
+import com.badlogic.gdx.ai.pfa.Connection;
 import com.badlogic.gdx.ai.pfa.HierarchicalGraph;
+import com.badlogic.gdx.utils.Array;
 
 /** A hierarchical graph for the {@link IndexedAStarPathFinder}.
+ * <p>
+ * Subclasses that can be traversed by several threads at once should override {@link #getConnections(Object, int)} so that it
+ * doesn't depend on the current level; the level views returned by {@link #getLevelView(int)} are then stateless.
  * 
  * @param <N> Type of node
  * 
@@ -28,10 +33,16 @@ public abstract class IndexedHierarchicalGraph<N> implements IndexedGraph<N>, Hi
 	protected int levelCount;
 	protected int level;
 
+	private final LevelView<N>[] levelViews;
+
 	/** Creates an {@code IndexedHierarchicalGraph} with the given number of levels. */
+	@SuppressWarnings("unchecked")
 	public IndexedHierarchicalGraph (int levelCount) {
 		this.levelCount = levelCount;
 		this.level = 0;
+		this.levelViews = new LevelView[levelCount];
+		for (int i = 0; i < levelCount; i++)
+			levelViews[i] = new LevelView<N>(this, i);
 	}
 
 	@Override
@@ -44,7 +55,68 @@ public abstract class IndexedHierarchicalGraph<N> implements IndexedGraph<N>, Hi
 		this.level = level;
 	}
 
+	@Override
+	public IndexedGraph<N> getLevelView (int level) {
+		return levelViews[level];
+	}
+
+	/** Returns the connections outgoing from the given node at the given level, regardless of the current level.
+	 * <p>
+	 * The default implementation temporarily switches this graph into the given level, which is fine as long as the graph is
+	 * accessed by a single thread. Subclasses should override this method if their connections can be retrieved without changing
+	 * the current level.
+	 * @param fromNode the node whose outgoing connections will be returned
+	 * @param level the level
+	 * @return the array of connections outgoing from the node at the given level. */
+	public Array<Connection<N>> getConnections (N fromNode, int level) {
+		int currentLevel = this.level;
+		this.level = level;
+		try {
+			return getConnections(fromNode);
+		} finally {
+			this.level = currentLevel;
+		}
+	}
+
 	@Override
 	public abstract N convertNodeBetweenLevels (int inputLevel, N node, int outputLevel);
 
+	/** A view of a single level of an {@link IndexedHierarchicalGraph}. Its connections are retrieved through
+	 * {@link IndexedHierarchicalGraph#getConnections(Object, int)}, so the level of the underlying graph is never relied upon.
+	 * 
+	 * @param <N> Type of node */
+	public static class LevelView<N> implements IndexedGraph<N> {
+		private final IndexedHierarchicalGraph<N> graph;
+		private final int level;
+
+		LevelView (IndexedHierarchicalGraph<N> graph, int level) {
+			this.graph = graph;
+			this.level = level;
+		}
+
+		/** Returns the hierarchical graph this view belongs to. */
+		public IndexedHierarchicalGraph<N> getGraph () {
+			return graph;
+		}
+
+		/** Returns the level of this view. */
+		public int getLevel () {
+			return level;
+		}
+
+		@Override
+		public Array<Connection<N>> getConnections (N fromNode) {
+			return graph.getConnections(fromNode, level);
+		}
+
+		@Override
+		public int getIndex (N node) {
+			return graph.getIndex(node);
+		}
+
+		@Override
+		public int getNodeCount () {
+			return graph.getNodeCount();
+		}
+	}
 }
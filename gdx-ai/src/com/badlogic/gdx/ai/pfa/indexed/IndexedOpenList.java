@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+/** An {@code IndexedOpenList} is a priority queue of integer items, typically node indices, each one having a float value. It's
+ * the open list of the path finders keeping their search state in primitive arrays, like the
+ * {@link PrimitiveIndexedAStarPathFinder}, which take it as a constructor argument so that the implementation best suited to the
+ * graph can be chosen:
+ * <ul>
+ * <li>{@link IndexedBinaryHeap} is the general purpose default.</li>
+ * <li>{@link IndexedQuaternaryHeap} is a 4-ary heap, shallower than the binary one and more cache friendly, which is usually
+ * faster on large graphs.</li>
+ * <li>{@link IndexedPairingHeap} has cheap insertions and decrease-key operations, which dominate searches on graphs with a high
+ * branching factor.</li>
+ * <li>{@link IndexedBucketQueue} groups the values into buckets of a fixed width. It's very fast when the values span a small
+ * range, typically when costs are small integers like on tile maps.</li>
+ * <li>{@link IndexedRadixHeap} exploits the monotonicity of the values extracted by A* with a consistent heuristic and by
+ * Dijkstra, regardless of their range.</li>
+ * </ul>
+ * Items must be non-negative integers less than the capacity of the open list, which can be increased through
+ * {@link #ensureCapacity(int)}. */
+public interface IndexedOpenList {
+
+	/** Returns the number of items in this open list. */
+	public int size ();
+
+	/** Adds the given item to this open list.
+	 * @param item the item to add; it must not be already in the open list
+	 * @param value the value of the item */
+	public void add (int item, float value);
+
+	/** Changes the value of the given item, which can be either decreased or increased.
+	 * @param item the item to update; it must be in the open list
+	 * @param value the new value of the item */
+	public void update (int item, float value);
+
+	/** Adds the given item to this open list if it's not contained yet; otherwise changes its value.
+	 * @param item the item to add or update
+	 * @param value the value of the item */
+	public void addOrUpdate (int item, float value);
+
+	/** Returns the item with the smallest value. The open list must not be empty. */
+	public int peek ();
+
+	/** Removes and returns the item with the smallest value. The open list must not be empty. */
+	public int pop ();
+
+	/** Removes the given item from this open list, if present.
+	 * @param item the item to remove
+	 * @return {@code true} if the item has been removed; {@code false} if it was not in the open list. */
+	public boolean remove (int item);
+
+	/** Returns {@code true} if the given item is in this open list; {@code false} otherwise. */
+	public boolean contains (int item);
+
+	/** Returns the value last associated with the given item. Notice that the value is retained after the item has been popped or
+	 * removed from the open list, until the item is added again.
+	 * @param item the item */
+	public float getValue (int item);
+
+	/** Removes all items from this open list. */
+	public void clear ();
+
+	/** Returns the number of items that this open list is able to hold, that is the upper bound (exclusive) of the items. */
+	public int getCapacity ();
+
+	/** Increases the capacity of this open list, if necessary, so that it can hold any item up to {@code capacity - 1}.
+	 * @param capacity the minimum capacity */
+	public void ensureCapacity (int capacity);
+}
@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+/** An {@link IndexedOpenList} implemented as a pairing heap of integer items, typically node indices. A pairing heap is a
+ * multiway tree where adding an item or decreasing its value takes constant time, since it just links a tree to the root, while
+ * the removal of the root pays for the restructuring, merging its children in two passes. This is convenient when most of the
+ * operations are additions and decrease-key operations, which is typical of searches on graphs with a high branching factor.
+ * <p>
+ * The tree is made of parallel primitive arrays indexed by item, so no garbage is created. */
+public class IndexedPairingHeap implements IndexedOpenList {
+
+	private static final int NONE = -1;
+
+	/** The number of items in this heap. */
+	int size;
+
+	/** The item with the smallest value, or {@link #NONE} if the heap is empty. */
+	private int root;
+
+	/** The leftmost child of each item. */
+	private int[] children;
+
+	/** The right sibling of each item. */
+	private int[] siblings;
+
+	/** The left sibling of each item or, for the leftmost children, their parent. */
+	private int[] previous;
+
+	/** The value of each item. */
+	private float[] values;
+
+	/** The ID of the generation each item has been added in. Items from older generations are not in the heap. */
+	private int[] generations;
+
+	/** The current generation, incremented when the heap is cleared. */
+	private int generation;
+
+	/** The stack of the trees to be merged after the removal of an item. */
+	private int[] pairs;
+
+	/** Creates an {@code IndexedPairingHeap} able to hold items from 0 to {@code capacity - 1}.
+	 * @param capacity the capacity of this heap */
+	public IndexedPairingHeap (int capacity) {
+		this.root = NONE;
+		this.children = new int[capacity];
+		this.siblings = new int[capacity];
+		this.previous = new int[capacity];
+		this.values = new float[capacity];
+		this.generations = new int[capacity];
+		this.generation = 1;
+		this.pairs = new int[capacity];
+	}
+
+	@Override
+	public int size () {
+		return size;
+	}
+
+	@Override
+	public void add (int item, float value) {
+		values[item] = value;
+		children[item] = NONE;
+		siblings[item] = NONE;
+		previous[item] = NONE;
+		generations[item] = generation;
+		root = root == NONE ? item : link(root, item);
+		size++;
+	}
+
+	@Override
+	public void update (int item, float value) {
+		if (value < values[item]) {
+			// Decrease key: detach the subtree of the item and link it to the root
+			values[item] = value;
+			if (item != root) {
+				cut(item);
+				root = link(root, item);
+			}
+		} else {
+			// Increase key: the children of the item might violate the heap order, so remove it and add it again
+			remove(item);
+			add(item, value);
+		}
+	}
+
+	@Override
+	public void addOrUpdate (int item, float value) {
+		if (generations[item] != generation)
+			add(item, value);
+		else
+			update(item, value);
+	}
+
+	@Override
+	public int peek () {
+		return root;
+	}
+
+	@Override
+	public int pop () {
+		int removed = root;
+		generations[removed] = 0;
+		root = mergePairs(children[removed]);
+		size--;
+		return removed;
+	}
+
+	@Override
+	public boolean remove (int item) {
+		if (generations[item] != generation) return false;
+		if (item == root) {
+			pop();
+		} else {
+			cut(item);
+			generations[item] = 0;
+			int subtree = mergePairs(children[item]);
+			if (subtree != NONE) root = link(root, subtree);
+			size--;
+		}
+		return true;
+	}
+
+	@Override
+	public boolean contains (int item) {
+		return generations[item] == generation;
+	}
+
+	@Override
+	public float getValue (int item) {
+		return values[item];
+	}
+
+	/** Removes all items from this heap. This is an O(1) operation. */
+	@Override
+	public void clear () {
+		if (++generation < 0) {
+			generation = 1;
+			for (int i = 0, n = generations.length; i < n; i++)
+				generations[i] = 0;
+		}
+		root = NONE;
+		size = 0;
+	}
+
+	@Override
+	public int getCapacity () {
+		return values.length;
+	}
+
+	@Override
+	public void ensureCapacity (int capacity) {
+		int oldCapacity = values.length;
+		if (capacity <= oldCapacity) return;
+		int newCapacity = Math.max(capacity, oldCapacity + (oldCapacity >> 1));
+		children = copyOf(children, newCapacity);
+		siblings = copyOf(siblings, newCapacity);
+		previous = copyOf(previous, newCapacity);
+		generations = copyOf(generations, newCapacity);
+		pairs = new int[newCapacity];
+		float[] newValues = new float[newCapacity];
+		System.arraycopy(values, 0, newValues, 0, oldCapacity);
+		values = newValues;
+	}
+
+	/** Links two trees making the one with the larger root the leftmost child of the other one.
+	 * @return the root of the resulting tree */
+	private int link (int a, int b) {
+		if (values[b] < values[a]) {
+			int tmp = a;
+			a = b;
+			b = tmp;
+		}
+		int child = children[a];
+		siblings[b] = child;
+		if (child != NONE) previous[child] = b;
+		children[a] = b;
+		previous[b] = a;
+		return a;
+	}
+
+	/** Detaches the subtree rooted at the given item, which must not be the root, from its parent and siblings. */
+	private void cut (int item) {
+		int prev = previous[item];
+		int next = siblings[item];
+		if (children[prev] == item)
+			children[prev] = next;
+		else
+			siblings[prev] = next;
+		if (next != NONE) previous[next] = prev;
+		siblings[item] = NONE;
+		previous[item] = NONE;
+	}
+
+	/** Merges the given item and its right siblings into a single tree, linking them in pairs from left to right and then the
+	 * resulting trees from right to left.
+	 * @return the root of the resulting tree, or {@link #NONE} if there are no trees to merge */
+	private int mergePairs (int first) {
+		if (first == NONE) return NONE;
+		int[] siblings = this.siblings;
+		int[] previous = this.previous;
+		int[] pairs = this.pairs;
+
+		// Link the trees in pairs from left to right
+		int count = 0;
+		while (first != NONE) {
+			int a = first;
+			int b = siblings[a];
+			first = b == NONE ? NONE : siblings[b];
+			siblings[a] = NONE;
+			previous[a] = NONE;
+			if (b != NONE) {
+				siblings[b] = NONE;
+				previous[b] = NONE;
+				a = link(a, b);
+			}
+			pairs[count++] = a;
+		}
+
+		// Link the resulting trees from right to left
+		int result = pairs[--count];
+		while (count > 0)
+			result = link(pairs[--count], result);
+		return result;
+	}
+
+	private static int[] copyOf (int[] array, int newLength) {
+		int[] newArray = new int[newLength];
+		System.arraycopy(array, 0, newArray, 0, array.length);
+		return newArray;
+	}
+}
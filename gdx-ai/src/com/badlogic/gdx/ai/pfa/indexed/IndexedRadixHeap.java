@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/** An {@link IndexedOpenList} implemented as a radix heap of integer items, typically node indices. A radix heap is a monotone
+ * priority queue: it relies on the fact that the values of the added items are never less than the value of the last item
+ * removed, which holds for Dijkstra and for A* with a consistent heuristic. Items are kept in 32 buckets according to the most
+ * significant bit in which the binary representation of their value differs from the last removed value, so adding and updating
+ * an item take constant time, and each item is moved to a lower bucket at most 32 times before being removed.
+ * <p>
+ * Unlike the {@link IndexedBucketQueue}, the performance of a radix heap does not depend on the range of the values. Values must
+ * be non-negative. Adding a value less than the last removed one is allowed but expensive, since all the items have to be
+ * redistributed. */
+public class IndexedRadixHeap implements IndexedOpenList {
+
+	private static final int BUCKET_COUNT = 32;
+
+	/** The number of items in this heap. */
+	int size;
+
+	/** The binary representation of the last removed value. */
+	private int last;
+
+	/** The buckets; the first one holds the items whose value is equal to the last removed value. */
+	private final IntArray[] buckets;
+
+	/** The bucket of each item. */
+	private byte[] itemBuckets;
+
+	/** The position of each item in its bucket, or -1 if the item is not in the heap. */
+	private int[] positions;
+
+	/** The value of each item. */
+	private float[] values;
+
+	/** The items being redistributed. */
+	private final IntArray tmp = new IntArray();
+
+	/** Creates an {@code IndexedRadixHeap} able to hold items from 0 to {@code capacity - 1}.
+	 * @param capacity the capacity of this heap */
+	public IndexedRadixHeap (int capacity) {
+		this.buckets = new IntArray[BUCKET_COUNT];
+		for (int i = 0; i < BUCKET_COUNT; i++)
+			buckets[i] = new IntArray();
+		this.itemBuckets = new byte[capacity];
+		this.positions = new int[capacity];
+		this.values = new float[capacity];
+		for (int i = 0; i < capacity; i++)
+			positions[i] = -1;
+	}
+
+	@Override
+	public int size () {
+		return size;
+	}
+
+	/** Adds the given item to this heap.
+	 * @param item the item to add; it must not be already in the heap
+	 * @param value the value of the item
+	 * @throws IllegalArgumentException if the value is negative */
+	@Override
+	public void add (int item, float value) {
+		if (value < 0) throw new IllegalArgumentException("value must be >= 0");
+		values[item] = value;
+		int key = toKey(value);
+		if (key < last) {
+			// The value is less than the last removed one: all the items have to be redistributed
+			last = key;
+			redistributeAll();
+		}
+		insert(item, key);
+		size++;
+	}
+
+	@Override
+	public void update (int item, float value) {
+		remove(item);
+		add(item, value);
+	}
+
+	@Override
+	public void addOrUpdate (int item, float value) {
+		if (positions[item] >= 0) remove(item);
+		add(item, value);
+	}
+
+	@Override
+	public int peek () {
+		return buckets[prepareFirstBucket()].get(0);
+	}
+
+	@Override
+	public int pop () {
+		int item = buckets[prepareFirstBucket()].get(0);
+		remove(item);
+		return item;
+	}
+
+	@Override
+	public boolean remove (int item) {
+		int pos = positions[item];
+		if (pos < 0) return false;
+		positions[item] = -1;
+		IntArray items = buckets[itemBuckets[item]];
+		int lastItem = items.pop();
+		if (lastItem != item) {
+			items.set(pos, lastItem);
+			positions[lastItem] = pos;
+		}
+		size--;
+		return true;
+	}
+
+	@Override
+	public boolean contains (int item) {
+		return positions[item] >= 0;
+	}
+
+	@Override
+	public float getValue (int item) {
+		return values[item];
+	}
+
+	/** Removes all items from this heap. This is an O(size) operation. */
+	@Override
+	public void clear () {
+		int[] positions = this.positions;
+		for (IntArray items : buckets) {
+			for (int i = 0, n = items.size; i < n; i++)
+				positions[items.get(i)] = -1;
+			items.clear();
+		}
+		size = 0;
+		last = 0;
+	}
+
+	@Override
+	public int getCapacity () {
+		return positions.length;
+	}
+
+	@Override
+	public void ensureCapacity (int capacity) {
+		int oldCapacity = positions.length;
+		if (capacity <= oldCapacity) return;
+		int newCapacity = Math.max(capacity, oldCapacity + (oldCapacity >> 1));
+
+		byte[] newItemBuckets = new byte[newCapacity];
+		System.arraycopy(itemBuckets, 0, newItemBuckets, 0, oldCapacity);
+		itemBuckets = newItemBuckets;
+
+		int[] newPositions = new int[newCapacity];
+		System.arraycopy(positions, 0, newPositions, 0, oldCapacity);
+		for (int i = oldCapacity; i < newCapacity; i++)
+			newPositions[i] = -1;
+		positions = newPositions;
+
+		float[] newValues = new float[newCapacity];
+		System.arraycopy(values, 0, newValues, 0, oldCapacity);
+		values = newValues;
+	}
+
+	/** Makes sure that the first bucket holds the items with the smallest value. If it's empty, the smallest value of the first
+	 * non-empty bucket becomes the last removed value and the items of that bucket are redistributed into lower buckets. The heap
+	 * must not be empty.
+	 * @return the index of the first bucket */
+	private int prepareFirstBucket () {
+		IntArray[] buckets = this.buckets;
+		if (buckets[0].size > 0) return 0;
+
+		// Find the first non-empty bucket
+		int b = 1;
+		while (buckets[b].size == 0)
+			b++;
+
+		// Find its smallest value
+		IntArray items = buckets[b];
+		int minKey = Integer.MAX_VALUE;
+		for (int i = 0, n = items.size; i < n; i++)
+			minKey = Math.min(minKey, toKey(values[items.get(i)]));
+		last = minKey;
+
+		// Redistribute its items, which all go to lower buckets
+		IntArray tmp = this.tmp;
+		tmp.clear();
+		tmp.addAll(items);
+		items.clear();
+		for (int i = 0, n = tmp.size; i < n; i++) {
+			int item = tmp.get(i);
+			insert(item, toKey(values[item]));
+		}
+		return 0;
+	}
+
+	/** Redistributes all the items according to the last removed value. */
+	private void redistributeAll () {
+		IntArray tmp = this.tmp;
+		tmp.clear();
+		for (IntArray items : buckets) {
+			tmp.addAll(items);
+			items.clear();
+		}
+		for (int i = 0, n = tmp.size; i < n; i++) {
+			int item = tmp.get(i);
+			insert(item, toKey(values[item]));
+		}
+	}
+
+	/** Inserts the given item into the bucket corresponding to the given key. */
+	private void insert (int item, int key) {
+		int bucket = key == last ? 0 : BUCKET_COUNT - Integer.numberOfLeadingZeros(key ^ last);
+		IntArray items = buckets[bucket];
+		itemBuckets[item] = (byte)bucket;
+		positions[item] = items.size;
+		items.add(item);
+	}
+
+	/** Returns an integer whose order is the same as the order of the given non-negative value. */
+	private static int toKey (float value) {
+		// The binary representation of non-negative floats preserves their order; adding 0 turns -0 into +0
+		return Float.floatToIntBits(value + 0f);
+	}
+}
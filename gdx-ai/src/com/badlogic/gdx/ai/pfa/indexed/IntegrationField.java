@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.ReversibleGraph;
+import com.badlogic.gdx.utils.Array;
+
+/** An {@code IntegrationField} holds the cost of the shortest path from every node of an {@link IndexedGraph} to the nearest of
+ * one or more goal nodes, along with the connection each node should follow to get there. It's computed by a single multi-source
+ * Dijkstra search growing from the goals, so one computation serves any number of agents heading to the same goals, no matter
+ * where they are.
+ * <p>
+ * If the graph is a {@link ReversibleGraph} the search follows incoming connections and works with any directed graph. Otherwise
+ * the graph is assumed to be undirected, that is for each connection from A to B there must be a connection from B to A.
+ * <p>
+ * See {@link com.badlogic.gdx.ai.pfa.grid.GridFlowField GridFlowField} for a flow field built on top of an integration field.
+ * 
+ * @param <N> Type of node */
+public class IntegrationField<N> {
+	IndexedGraph<N> graph;
+	ReversibleGraph<N> reversibleGraph;
+
+	/** The cost from each node to the nearest goal; it's {@code Float.POSITIVE_INFINITY} for the nodes that can't reach a goal. */
+	final float[] costs;
+
+	/** The connection each node has been reached through by the search, which is the connection to follow for reversible graphs
+	 * or its reverse for undirected graphs; it's {@code null} for the goals and for the nodes that can't reach a goal. */
+	final Connection<N>[] connections;
+
+	final IndexedBinaryHeap openList;
+
+	@SuppressWarnings("unchecked")
+	public IntegrationField (IndexedGraph<N> graph) {
+		this.graph = graph;
+		if (graph instanceof ReversibleGraph) this.reversibleGraph = (ReversibleGraph<N>)graph;
+		int nodeCount = graph.getNodeCount();
+		this.costs = new float[nodeCount];
+		this.connections = (Connection<N>[])new Connection[nodeCount];
+		this.openList = new IndexedBinaryHeap(nodeCount);
+		clear();
+	}
+
+	/** Computes this field for the given goal node.
+	 * @param goal the goal node */
+	public void compute (N goal) {
+		clear();
+		costs[graph.getIndex(goal)] = 0;
+		expand(goal, 0);
+		run();
+	}
+
+	/** Computes this field for the given goal nodes.
+	 * @param goals the goal nodes */
+	public void compute (Iterable<N> goals) {
+		clear();
+		for (N goal : goals)
+			costs[graph.getIndex(goal)] = 0;
+		for (N goal : goals)
+			expand(goal, 0);
+		run();
+	}
+
+	/** Returns the cost of the shortest path from the given node to the nearest goal, or {@code Float.POSITIVE_INFINITY} if no
+	 * goal can be reached. */
+	public float getCost (N node) {
+		return costs[graph.getIndex(node)];
+	}
+
+	/** Returns {@code true} if a goal can be reached from the given node; {@code false} otherwise. */
+	public boolean isReachable (N node) {
+		return costs[graph.getIndex(node)] != Float.POSITIVE_INFINITY;
+	}
+
+	/** Returns the first connection of the shortest path from the given node to the nearest goal, or {@code null} if the node is a
+	 * goal or no goal can be reached. */
+	public Connection<N> getNextConnection (N node) {
+		Connection<N> connection = connections[graph.getIndex(node)];
+		if (connection == null || reversibleGraph != null) return connection;
+		return findConnection(node, connection.getFromNode());
+	}
+
+	/** Returns the next node of the shortest path from the given node to the nearest goal, or {@code null} if the node is a goal
+	 * or no goal can be reached. */
+	public N getNextNode (N node) {
+		Connection<N> connection = connections[graph.getIndex(node)];
+		if (connection == null) return null;
+		return reversibleGraph != null ? connection.getToNode() : connection.getFromNode();
+	}
+
+	/** Returns the graph this field has been computed for. */
+	public IndexedGraph<N> getGraph () {
+		return graph;
+	}
+
+	private void clear () {
+		float[] costs = this.costs;
+		Connection<N>[] connections = this.connections;
+		for (int i = 0, n = costs.length; i < n; i++) {
+			costs[i] = Float.POSITIVE_INFINITY;
+			connections[i] = null;
+		}
+		openList.clear();
+	}
+
+	private void run () {
+		IndexedBinaryHeap openList = this.openList;
+		while (openList.size > 0) {
+			int current = openList.pop();
+			Connection<N> connection = connections[current];
+			expand(reversibleGraph != null ? connection.getFromNode() : connection.getToNode(), costs[current]);
+		}
+	}
+
+	private void expand (N node, float nodeCost) {
+		float[] costs = this.costs;
+		if (reversibleGraph != null) {
+			// Follow incoming connections backwards
+			Array<Connection<N>> connections = reversibleGraph.getIncomingConnections(node);
+			for (int i = 0; i < connections.size; i++) {
+				Connection<N> connection = connections.get(i);
+				int index = graph.getIndex(connection.getFromNode());
+				float cost = nodeCost + connection.getCost();
+				if (cost < costs[index]) relax(index, cost, connection);
+			}
+		} else {
+			// Follow outgoing connections assuming they can be traversed in both directions
+			Array<Connection<N>> connections = graph.getConnections(node);
+			for (int i = 0; i < connections.size; i++) {
+				Connection<N> connection = connections.get(i);
+				int index = graph.getIndex(connection.getToNode());
+				float cost = nodeCost + connection.getCost();
+				if (cost < costs[index]) relax(index, cost, connection);
+			}
+		}
+	}
+
+	private void relax (int index, float cost, Connection<N> connection) {
+		costs[index] = cost;
+		connections[index] = connection;
+		openList.addOrUpdate(index, cost);
+	}
+
+	private Connection<N> findConnection (N fromNode, N toNode) {
+		Array<Connection<N>> connections = graph.getConnections(fromNode);
+		for (int i = 0; i < connections.size; i++) {
+			Connection<N> connection = connections.get(i);
+			if (connection.getToNode() == toNode) return connection;
+		}
+		throw new IllegalStateException("Missing reverse connection in undirected graph");
+	}
+}
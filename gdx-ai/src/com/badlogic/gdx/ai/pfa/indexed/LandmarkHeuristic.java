@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+
+/** A {@code LandmarkHeuristic} is a {@link Heuristic} based on the exact distances between every node of an {@link IndexedGraph}
+ * and a small set of landmark nodes, according to the ALT technique (A*, Landmarks, Triangle inequality). For any landmark L the
+ * triangle inequality gives the lower bounds {@code d(n, g) >= d(L, g) - d(L, n)} and {@code d(n, g) >= d(n, L) - d(g, L)}, so
+ * the estimated cost from a node to the goal is the highest of such bounds over all landmarks. Unlike geometric heuristics, this
+ * one knows about walls and detours, which makes a huge difference on maze-like maps.
+ * <p>
+ * The heuristic is admissible and consistent, since each bound is consistent by the triangle inequality and so is their
+ * maximum; it can be used with any path finder, including those that never reopen closed nodes. Its quality mostly depends on
+ * the number of landmarks and on how they are placed, usually at the periphery of the graph. See
+ * {@link LandmarkHeuristicBuilder} to build one.
+ * <p>
+ * The distance tables take {@code 4 * landmarkCount * nodeCount} bytes, twice as much for directed graphs. They can be saved to
+ * a file and loaded later to avoid recomputing them.
+ * 
+ * @param <N> Type of node */
+public class LandmarkHeuristic<N> implements Heuristic<N> {
+
+	IndexedGraph<N> graph;
+
+	/** The index of each landmark. */
+	final int[] landmarks;
+
+	/** The cost from each landmark to every node, i.e. {@code fromLandmarks[landmark][node]}. */
+	final float[][] fromLandmarks;
+
+	/** The cost from every node to each landmark, i.e. {@code toLandmarks[landmark][node]}. For undirected graphs this is the
+	 * same array as {@link #fromLandmarks}. */
+	final float[][] toLandmarks;
+
+	/** Creates a {@code LandmarkHeuristic} with the given distance tables. Unreachable nodes must have infinite distance.
+	 * @param graph the graph
+	 * @param landmarks the indices of the landmarks
+	 * @param fromLandmarks the cost from each landmark to every node, indexed by landmark and node
+	 * @param toLandmarks the cost from every node to each landmark, indexed by landmark and node; it can be the same array as
+	 *           {@code fromLandmarks} if the graph is undirected
+	 * @throws IllegalArgumentException if the size of any table is not consistent with the landmarks and the graph */
+	public LandmarkHeuristic (IndexedGraph<N> graph, int[] landmarks, float[][] fromLandmarks, float[][] toLandmarks) {
+		int nodeCount = graph.getNodeCount();
+		if (fromLandmarks.length != landmarks.length || toLandmarks.length != landmarks.length)
+			throw new IllegalArgumentException("Expected " + landmarks.length + " distance tables");
+		for (int i = 0; i < landmarks.length; i++) {
+			if (fromLandmarks[i].length != nodeCount || toLandmarks[i].length != nodeCount)
+				throw new IllegalArgumentException("Expected " + nodeCount + " distances per landmark");
+		}
+		this.graph = graph;
+		this.landmarks = landmarks;
+		this.fromLandmarks = fromLandmarks;
+		this.toLandmarks = toLandmarks;
+	}
+
+	@Override
+	public float estimate (N node, N endNode) {
+		int nodeIndex = graph.getIndex(node);
+		int endIndex = graph.getIndex(endNode);
+		float[][] fromLandmarks = this.fromLandmarks;
+		float[][] toLandmarks = this.toLandmarks;
+		float estimate = 0;
+		for (int i = 0, n = landmarks.length; i < n; i++) {
+			// Bound through the cost from the landmark: d(n, g) >= d(L, g) - d(L, n)
+			float[] from = fromLandmarks[i];
+			float fromNode = from[nodeIndex];
+			float fromEnd = from[endIndex];
+			if (fromNode != Float.POSITIVE_INFINITY && fromEnd != Float.POSITIVE_INFINITY)
+				estimate = Math.max(estimate, fromEnd - fromNode);
+
+			// Bound through the cost to the landmark: d(n, g) >= d(n, L) - d(g, L)
+			float[] to = toLandmarks[i];
+			float toNode = to[nodeIndex];
+			float toEnd = to[endIndex];
+			if (toNode != Float.POSITIVE_INFINITY && toEnd != Float.POSITIVE_INFINITY)
+				estimate = Math.max(estimate, toNode - toEnd);
+		}
+		return estimate;
+	}
+
+	/** Returns the number of landmarks. */
+	public int getLandmarkCount () {
+		return landmarks.length;
+	}
+
+	/** Returns the node index of the given landmark.
+	 * @param landmark the landmark, from 0 to {@link #getLandmarkCount()} - 1 */
+	public int getLandmarkIndex (int landmark) {
+		return landmarks[landmark];
+	}
+
+	/** Returns {@code true} if the distance tables are for a directed graph; {@code false} otherwise. */
+	public boolean isDirected () {
+		return toLandmarks != fromLandmarks;
+	}
+
+	/** Saves the landmarks and their distance tables to the given file.
+	 * @param file the file to write
+	 * @throws GdxRuntimeException if an I/O error occurs */
+	public void save (FileHandle file) {
+		DataOutputStream out = null;
+		try {
+			out = new DataOutputStream(file.write(false, 8192));
+			int nodeCount = graph.getNodeCount();
+			out.writeInt(nodeCount);
+			out.writeInt(landmarks.length);
+			out.writeBoolean(isDirected());
+			for (int i = 0; i < landmarks.length; i++)
+				out.writeInt(landmarks[i]);
+			writeTables(out, fromLandmarks, nodeCount);
+			if (isDirected()) writeTables(out, toLandmarks, nodeCount);
+		} catch (IOException e) {
+			throw new GdxRuntimeException("Error writing landmarks to file: " + file, e);
+		} finally {
+			StreamUtils.closeQuietly(out);
+		}
+	}
+
+	/** Loads the landmarks and their distance tables from the given file, previously written by {@link #save(FileHandle)}.
+	 * @param graph the graph the distance tables have been computed for
+	 * @param file the file to read
+	 * @return the heuristic.
+	 * @throws GdxRuntimeException if an I/O error occurs or the file doesn't match the graph */
+	public static <N> LandmarkHeuristic<N> load (IndexedGraph<N> graph, FileHandle file) {
+		DataInputStream in = null;
+		try {
+			in = new DataInputStream(file.read(8192));
+			int nodeCount = in.readInt();
+			if (nodeCount != graph.getNodeCount())
+				throw new GdxRuntimeException("Landmarks file " + file + " is for a graph with " + nodeCount + " nodes");
+			int landmarkCount = in.readInt();
+			boolean directed = in.readBoolean();
+			int[] landmarks = new int[landmarkCount];
+			for (int i = 0; i < landmarkCount; i++)
+				landmarks[i] = in.readInt();
+			float[][] fromLandmarks = readTables(in, landmarkCount, nodeCount);
+			float[][] toLandmarks = directed ? readTables(in, landmarkCount, nodeCount) : fromLandmarks;
+			return new LandmarkHeuristic<N>(graph, landmarks, fromLandmarks, toLandmarks);
+		} catch (IOException e) {
+			throw new GdxRuntimeException("Error reading landmarks from file: " + file, e);
+		} finally {
+			StreamUtils.closeQuietly(in);
+		}
+	}
+
+	private static void writeTables (DataOutputStream out, float[][] tables, int nodeCount) throws IOException {
+		for (int i = 0; i < tables.length; i++) {
+			float[] table = tables[i];
+			for (int j = 0; j < nodeCount; j++)
+				out.writeFloat(table[j]);
+		}
+	}
+
+	private static float[][] readTables (DataInputStream in, int landmarkCount, int nodeCount) throws IOException {
+		float[][] tables = new float[landmarkCount][nodeCount];
+		for (int i = 0; i < landmarkCount; i++) {
+			float[] table = tables[i];
+			for (int j = 0; j < nodeCount; j++)
+				table[j] = in.readFloat();
+		}
+		return tables;
+	}
+}
@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.ReversibleGraph;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** A {@code LandmarkHeuristicBuilder} selects the landmarks of a {@link LandmarkHeuristic} and computes their distance tables.
+ * <p>
+ * Landmarks can be chosen by hand, for instance the corners of the map, or selected through
+ * {@link #selectFarthestLandmarks(Object, int)}, which places each landmark on the node farthest from the landmarks selected so
+ * far. Farthest selection is inherently sequential, since each landmark depends on the previous ones, but it doesn't need their
+ * distance tables: it grows a single multi-source Dijkstra search from each new landmark, only visiting the nodes that are
+ * nearer to it than to the other landmarks. The distance tables are computed afterwards, in parallel.
+ * <p>
+ * Distance tables are computed by running a Dijkstra search from each landmark, or two for directed graphs. Searches are
+ * independent of each other so they run in parallel, one landmark per thread. This requires the graph to be safe for concurrent
+ * reads; for example, a graph returning the same array instance from {@link IndexedGraph#getConnections(Object)
+ * getConnections} is not. In that case set the thread count to 1.
+ * <p>
+ * If the graph is a {@link ReversibleGraph} it's treated as directed and the distances to the landmarks are computed by
+ * searching incoming connections. Otherwise it's assumed to be undirected, that is the cost from A to B equals the cost from B to
+ * A, and a single table per landmark is computed.
+ * <p>
+ * Notice that this class is not available on the GWT backend.
+ * 
+ * @param <N> Type of node */
+public class LandmarkHeuristicBuilder<N> {
+
+	final IndexedGraph<N> graph;
+	final ReversibleGraph<N> reversibleGraph;
+
+	/** The nodes by index. */
+	final N[] nodes;
+
+	/** The number of threads used to compute the distance tables. */
+	int threadCount;
+
+	/** Creates a {@code LandmarkHeuristicBuilder} for the given graph using as many threads as available processors.
+	 * @param graph the graph
+	 * @param nodes the nodes of the graph; they can be given in any order
+	 * @throws IllegalArgumentException if a node is missing or duplicated */
+	@SuppressWarnings("unchecked")
+	public LandmarkHeuristicBuilder (IndexedGraph<N> graph, Iterable<N> nodes) {
+		this.graph = graph;
+		this.reversibleGraph = graph instanceof ReversibleGraph ? (ReversibleGraph<N>)graph : null;
+		int nodeCount = graph.getNodeCount();
+		this.nodes = (N[])new Object[nodeCount];
+		for (N node : nodes) {
+			int index = graph.getIndex(node);
+			if (this.nodes[index] != null) throw new IllegalArgumentException("Duplicate node for index " + index);
+			this.nodes[index] = node;
+		}
+		for (int i = 0; i < nodeCount; i++)
+			if (this.nodes[i] == null) throw new IllegalArgumentException("Missing node for index " + i);
+		this.threadCount = Runtime.getRuntime().availableProcessors();
+	}
+
+	/** Returns the number of threads used to compute the distance tables. */
+	public int getThreadCount () {
+		return threadCount;
+	}
+
+	/** Sets the number of threads used to compute the distance tables. With 1 thread tables are computed on the calling thread.
+	 * @param threadCount the number of threads
+	 * @return this builder for chaining.
+	 * @throws IllegalArgumentException if {@code threadCount} is less than 1 */
+	public LandmarkHeuristicBuilder<N> setThreadCount (int threadCount) {
+		if (threadCount < 1) throw new IllegalArgumentException("threadCount must be at least 1");
+		this.threadCount = threadCount;
+		return this;
+	}
+
+	/** Selects the given number of landmarks by farthest-point selection. The first landmark is the node farthest from the seed,
+	 * then each new landmark is the node whose distance from the nearest landmark already selected is the highest. Only nodes
+	 * reachable from the seed are selected, so the result may contain fewer landmarks than requested.
+	 * <p>
+	 * The distance from the nearest landmark is maintained by a multi-source Dijkstra search, resumed from each new landmark and
+	 * pruned at the nodes whose distance doesn't improve. Far fewer nodes are visited than by a full search per landmark.
+	 * @param seed the node the selection starts from
+	 * @param count the number of landmarks to select
+	 * @return the landmarks. */
+	public Array<N> selectFarthestLandmarks (N seed, int count) {
+		Array<N> landmarks = new Array<N>(count);
+		IndexedBinaryHeap openList = new IndexedBinaryHeap(nodes.length);
+		float[] minDistances = dijkstra(graph.getIndex(seed), false, openList);
+		for (int i = 0; i < count; i++) {
+			// Find the farthest node
+			int farthest = -1;
+			float maxDistance = 0;
+			for (int j = 0; j < minDistances.length; j++) {
+				float distance = minDistances[j];
+				if (distance != Float.POSITIVE_INFINITY && distance > maxDistance) {
+					maxDistance = distance;
+					farthest = j;
+				}
+			}
+			if (farthest < 0) break; // the remaining nodes are all landmarks
+
+			// Add the farthest node to the landmarks and lower the distances of the nodes nearer to it than to the others.
+			// The seed is not a landmark, so its distances are discarded first.
+			landmarks.add(nodes[farthest]);
+			if (i == 0) {
+				for (int j = 0; j < minDistances.length; j++)
+					minDistances[j] = Float.POSITIVE_INFINITY;
+			}
+			search(farthest, false, minDistances, openList);
+		}
+		return landmarks;
+	}
+
+	/** Builds a {@link LandmarkHeuristic} with landmarks selected by {@link #selectFarthestLandmarks(Object, int)}, computing
+	 * their distance tables in parallel.
+	 * @param seed the node the selection starts from
+	 * @param count the number of landmarks to select
+	 * @return the heuristic. */
+	public LandmarkHeuristic<N> build (N seed, int count) {
+		return build(selectFarthestLandmarks(seed, count));
+	}
+
+	/** Builds a {@link LandmarkHeuristic} with the given landmarks, computing their distance tables in parallel.
+	 * @param landmarks the landmarks
+	 * @return the heuristic.
+	 * @throws GdxRuntimeException if the computation of a distance table fails or is interrupted */
+	public LandmarkHeuristic<N> build (Array<N> landmarks) {
+		int landmarkCount = landmarks.size;
+		int[] landmarkIndices = new int[landmarkCount];
+		for (int i = 0; i < landmarkCount; i++)
+			landmarkIndices[i] = graph.getIndex(landmarks.get(i));
+
+		float[][] fromLandmarks = new float[landmarkCount][];
+		float[][] toLandmarks = reversibleGraph != null ? new float[landmarkCount][] : fromLandmarks;
+
+		Array<DijkstraTask> tasks = new Array<DijkstraTask>();
+		for (int i = 0; i < landmarkCount; i++) {
+			tasks.add(new DijkstraTask(landmarkIndices[i], false, fromLandmarks, i));
+			if (toLandmarks != fromLandmarks) tasks.add(new DijkstraTask(landmarkIndices[i], true, toLandmarks, i));
+		}
+
+		if (threadCount == 1 || tasks.size <= 1)
+			runSequentially(tasks);
+		else
+			runInParallel(tasks);
+
+		return new LandmarkHeuristic<N>(graph, landmarkIndices, fromLandmarks, toLandmarks);
+	}
+
+	private void runSequentially (Array<DijkstraTask> tasks) {
+		for (int i = 0; i < tasks.size; i++)
+			tasks.get(i).call();
+	}
+
+	private void runInParallel (Array<DijkstraTask> tasks) {
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(threadCount, tasks.size));
+		try {
+			Array<Future<float[]>> futures = new Array<Future<float[]>>(tasks.size);
+			for (int i = 0; i < tasks.size; i++)
+				futures.add(executor.submit(tasks.get(i)));
+			for (int i = 0; i < futures.size; i++)
+				futures.get(i).get();
+		} catch (ExecutionException e) {
+			throw new GdxRuntimeException("Error computing landmark distances", e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new GdxRuntimeException("Interrupted while computing landmark distances", e);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/** Runs a Dijkstra search from the given source node.
+	 * @param source the index of the source node
+	 * @param backward whether the search follows incoming connections
+	 * @param openList the open list to use
+	 * @return the cost from the source to every node, or from every node to the source if the search is backward. */
+	float[] dijkstra (int source, boolean backward, IndexedBinaryHeap openList) {
+		float[] costs = new float[nodes.length];
+		for (int i = 0; i < costs.length; i++)
+			costs[i] = Float.POSITIVE_INFINITY;
+		search(source, backward, costs, openList);
+		return costs;
+	}
+
+	/** Runs a Dijkstra search from the given source node, lowering the given costs. Nodes whose cost doesn't improve are not
+	 * expanded, so if the costs are the distances from other sources the search only visits the nodes nearer to this one.
+	 * @param source the index of the source node
+	 * @param backward whether the search follows incoming connections
+	 * @param costs the costs to lower, by node index
+	 * @param openList the open list to use */
+	void search (int source, boolean backward, float[] costs, IndexedBinaryHeap openList) {
+		IndexedGraph<N> graph = this.graph;
+		N[] nodes = this.nodes;
+		costs[source] = 0;
+		openList.clear();
+		openList.add(source, 0);
+		while (openList.size > 0) {
+			int current = openList.pop();
+			float currentCost = costs[current];
+			Array<Connection<N>> connections = backward ? reversibleGraph.getIncomingConnections(nodes[current])
+				: graph.getConnections(nodes[current]);
+			for (int i = 0; i < connections.size; i++) {
+				Connection<N> connection = connections.get(i);
+				int index = graph.getIndex(backward ? connection.getFromNode() : connection.getToNode());
+				float cost = currentCost + connection.getCost();
+				if (cost < costs[index]) {
+					costs[index] = cost;
+					openList.addOrUpdate(index, cost);
+				}
+			}
+		}
+	}
+
+	/** A task computing the distance table of a landmark. */
+	private class DijkstraTask implements Callable<float[]> {
+		final int source;
+		final boolean backward;
+		final float[][] tables;
+		final int landmark;
+
+		DijkstraTask (int source, boolean backward, float[][] tables, int landmark) {
+			this.source = source;
+			this.backward = backward;
+			this.tables = tables;
+			this.landmark = landmark;
+		}
+
+		@Override
+		public float[] call () {
+			float[] table = dijkstra(source, backward, new IndexedBinaryHeap(nodes.length));
+			tables[landmark] = table;
+			return table;
+		}
+	}
+}
@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+/** A {@code NeighborConsumer} receives the outgoing connections of a node of an {@link ImplicitIndexedGraph} as pairs of node
+ * index and cost, so that no {@link com.badlogic.gdx.ai.pfa.Connection Connection} object is needed. */
+public interface NeighborConsumer {
+
+	/** Accepts a connection to the node with the given index.
+	 * @param toIndex the index of the node the connection leads to
+	 * @param cost the non-negative cost of the connection */
+	public void accept (int toIndex, float cost);
+
+}
@@ -0,0 +1,436 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.PathFinder;
+import com.badlogic.gdx.ai.pfa.PathFinderQueue;
+import com.badlogic.gdx.ai.pfa.PathFinderRequest;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder.Metrics;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** A fully implemented {@link PathFinder} that can perform both interruptible and non-interruptible pathfinding on an
+ * {@link IndexedGraph}.
+ * <p>
+ * This implementation runs the same indexed A* algorithm of the {@link IndexedAStarPathFinder} but uses a struct-of-arrays layout
+ * for the search state. Instead of a node record object per node, the cost so far, the category, the search ID and the incoming
+ * connection of each node are kept in parallel arrays indexed by node index, and the open list is an {@link IndexedOpenList} of
+ * node indices. This way a search touches no per-node objects, generates no garbage and has a much better memory locality, which
+ * makes a difference on very large graphs.
+ * <p>
+ * The open list is an {@link IndexedBinaryHeap} by default, but any other implementation can be passed to the constructor. For
+ * instance, an {@link IndexedBucketQueue} is usually the fastest choice when costs are small integers.
+ * <p>
+ * Since all the arrays are allocated up front, the memory footprint is proportional to the number of nodes of the graph and does
+ * not change while searching.
+ * <p>
+ * If the graph is an {@link ImplicitIndexedGraph}, its neighbors are visited through
+ * {@link ImplicitIndexedGraph#forEachNeighbor(int, NeighborConsumer) forEachNeighbor} and the parent of each node is kept by
+ * index, so no {@link Connection} object is involved in the search.
+ * 
+ * @param <N> Type of node */
+public class PrimitiveIndexedAStarPathFinder<N> implements PathFinder<N> {
+	IndexedGraph<N> graph;
+
+	/** The actual cost from the start node of each node. */
+	float[] costSoFar;
+
+	/** The incoming connection of each node; it's {@code null} for the start node. Not used by implicit graphs. */
+	Connection<N>[] connections;
+
+	/** The graph as an implicit graph; {@code null} if the graph is not implicit. */
+	ImplicitIndexedGraph<N> implicitGraph;
+
+	/** The index of the parent of each node; it's -1 for the start node. Only used by implicit graphs. */
+	int[] parents;
+
+	/** The consumer relaxing the neighbors of the current node of implicit graphs. */
+	NeighborVisitor neighborVisitor;
+
+	/** The ID of the last search that visited each node. */
+	int[] searchIds;
+
+	/** The category of each node: {@link #UNVISITED}, {@link #OPEN} or {@link #CLOSED}. */
+	byte[] categories;
+
+	/** The open list, whose values are the estimated total costs of the nodes. */
+	IndexedOpenList openList;
+
+	/** The index of the current node. */
+	int current;
+
+	/** The start node of the current search. */
+	N startNode;
+
+	public Metrics metrics;
+
+	/** The connected components of the graph, used to reject the searches whose goal can't be reached without running them;
+	 * {@code null} if searches are never rejected. */
+	public ConnectedComponents<N> components;
+
+	/** The unique ID for each search run. Used to mark nodes. */
+	int searchId;
+
+	static final byte UNVISITED = 0;
+	static final byte OPEN = 1;
+	static final byte CLOSED = 2;
+
+	public PrimitiveIndexedAStarPathFinder (IndexedGraph<N> graph) {
+		this(graph, false);
+	}
+
+	public PrimitiveIndexedAStarPathFinder (IndexedGraph<N> graph, boolean calculateMetrics) {
+		this(graph, new IndexedBinaryHeap(graph.getNodeCount()), calculateMetrics);
+	}
+
+	/** Creates a {@code PrimitiveIndexedAStarPathFinder} for the given graph using the given open list.
+	 * @param graph the graph
+	 * @param openList the open list; its capacity is increased to the number of nodes of the graph, if necessary
+	 * @param calculateMetrics whether metrics should be calculated */
+	@SuppressWarnings("unchecked")
+	public PrimitiveIndexedAStarPathFinder (IndexedGraph<N> graph, IndexedOpenList openList, boolean calculateMetrics) {
+		this.graph = graph;
+		int nodeCount = graph.getNodeCount();
+		this.costSoFar = new float[nodeCount];
+		if (graph instanceof ImplicitIndexedGraph) {
+			this.implicitGraph = (ImplicitIndexedGraph<N>)graph;
+			this.parents = new int[nodeCount];
+			this.neighborVisitor = new NeighborVisitor();
+		} else {
+			this.connections = (Connection<N>[])new Connection[nodeCount];
+		}
+		this.searchIds = new int[nodeCount];
+		this.categories = new byte[nodeCount];
+		this.openList = openList;
+		openList.ensureCapacity(nodeCount);
+		if (calculateMetrics) this.metrics = new Metrics();
+	}
+
+	@Override
+	public boolean searchConnectionPath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<Connection<N>> outPath) {
+
+		// Perform AStar
+		boolean found = search(startNode, endNode, heuristic);
+
+		if (found) {
+			// Create a path made of connections
+			generateConnectionPath(outPath);
+		}
+
+		return found;
+	}
+
+	@Override
+	public boolean searchNodePath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<N> outPath) {
+
+		// Perform AStar
+		boolean found = search(startNode, endNode, heuristic);
+
+		if (found) {
+			// Create a path made of nodes
+			generateNodePath(outPath);
+		}
+
+		return found;
+	}
+
+	protected boolean search (N startNode, N endNode, Heuristic<N> heuristic) {
+
+		// Don't search for a goal out of the component of the start node
+		if (isUnreachable(startNode, endNode)) return false;
+
+		initSearch(startNode, endNode, heuristic);
+
+		int endIndex = graph.getIndex(endNode);
+
+		// Iterate through processing each node
+		do {
+			// Retrieve the node with smallest estimated total cost from the open list
+			current = openList.pop();
+			categories[current] = CLOSED;
+			if (metrics != null) metrics.expandedNodes++;
+
+			// Terminate if we reached the goal node
+			if (current == endIndex) return true;
+
+			visitChildren(endNode, heuristic);
+
+		} while (openList.size() > 0);
+
+		// We've run out of nodes without finding the goal, so there's no solution
+		return false;
+	}
+
+	@Override
+	public boolean search (PathFinderRequest<N> request, long timeToRun) {
+
+		long lastTime = TimeUtils.nanoTime();
+
+		// We have to initialize the search if the status has just changed
+		if (request.statusChanged) {
+			if (isUnreachable(request.startNode, request.endNode)) {
+				request.statusChanged = false;
+				request.pathFound = false;
+				return true;
+			}
+			initSearch(request.startNode, request.endNode, request.heuristic);
+			request.statusChanged = false;
+		}
+
+		int endIndex = graph.getIndex(request.endNode);
+
+		// Iterate through processing each node
+		do {
+
+			// Check the available time
+			long currentTime = TimeUtils.nanoTime();
+			timeToRun -= currentTime - lastTime;
+			if (timeToRun <= PathFinderQueue.TIME_TOLERANCE) return false;
+
+			// Retrieve the node with smallest estimated total cost from the open list
+			current = openList.pop();
+			categories[current] = CLOSED;
+			if (metrics != null) metrics.expandedNodes++;
+
+			// Terminate if we reached the goal node; we've found a path.
+			if (current == endIndex) {
+				request.pathFound = true;
+
+				generateNodePath(request.resultPath);
+
+				return true;
+			}
+
+			// Visit current node's children
+			visitChildren(request.endNode, request.heuristic);
+
+			// Store the current time
+			lastTime = currentTime;
+
+		} while (openList.size() > 0);
+
+		// The open list is empty and we've not found a path.
+		request.pathFound = false;
+		return true;
+	}
+
+	/** Returns {@code true} if the {@link #components} tell that the end node can't be reached from the start node; {@code false}
+	 * otherwise. */
+	boolean isUnreachable (N startNode, N endNode) {
+		if (components == null || components.isConnected(startNode, endNode)) return false;
+		if (metrics != null) metrics.reset();
+		return true;
+	}
+
+	protected void initSearch (N startNode, N endNode, Heuristic<N> heuristic) {
+		if (metrics != null) metrics.reset();
+
+		// Increment the search id
+		if (++searchId < 0) searchId = 1;
+
+		// Initialize the open list
+		openList.clear();
+
+		// Initialize the start node and add it to the open list
+		this.startNode = startNode;
+		int startIndex = graph.getIndex(startNode);
+		searchIds[startIndex] = searchId;
+		categories[startIndex] = UNVISITED;
+		if (implicitGraph != null)
+			parents[startIndex] = -1;
+		else
+			connections[startIndex] = null;
+		costSoFar[startIndex] = 0;
+		addToOpenList(startIndex, heuristic.estimate(startNode, endNode));
+
+		current = -1;
+	}
+
+	protected void visitChildren (N endNode, Heuristic<N> heuristic) {
+		float currentCost = costSoFar[current];
+
+		// Let implicit graphs pass the neighbors to the visitor
+		if (implicitGraph != null) {
+			neighborVisitor.endNode = endNode;
+			neighborVisitor.heuristic = heuristic;
+			neighborVisitor.currentCost = currentCost;
+			implicitGraph.forEachNeighbor(current, neighborVisitor);
+			return;
+		}
+
+		// Get current node's outgoing connections
+		Array<Connection<N>> connections = graph.getConnections(getNode(current));
+
+		// Loop through each connection in turn
+		for (int i = 0; i < connections.size; i++) {
+			if (metrics != null) metrics.visitedNodes++;
+
+			Connection<N> connection = connections.get(i);
+
+			// Get the cost estimate for the node
+			N node = connection.getToNode();
+			int index = graph.getIndex(node);
+			float nodeCost = currentCost + connection.getCost();
+
+			float nodeHeuristic;
+			if (searchIds[index] != searchId) { // the node is unvisited
+
+				// We'll need to calculate the heuristic value using the function,
+				// since we don't have a previously calculated value
+				searchIds[index] = searchId;
+				categories[index] = UNVISITED;
+				nodeHeuristic = heuristic.estimate(node, endNode);
+			} else {
+				// The node is either open or closed: if we didn't find a shorter route, skip
+				if (costSoFar[index] <= nodeCost) continue;
+
+				// We can use the node's old cost values to calculate its heuristic
+				// without calling the possibly expensive heuristic function
+				nodeHeuristic = openList.getValue(index) - costSoFar[index];
+			}
+
+			// Update node's cost and connection
+			costSoFar[index] = nodeCost;
+			this.connections[index] = connection;
+
+			// Add it to the open list with the estimated total cost; if the node is
+			// already open its position in the open list is just updated
+			addToOpenList(index, nodeCost + nodeHeuristic);
+		}
+
+	}
+
+	/** Relaxes the neighbor of the current node with the given index, reached at the given cost. Only used by implicit graphs.
+	 * @param index the index of the neighbor
+	 * @param nodeCost the cost from the start node of the neighbor through the current node
+	 * @param endNode the end node
+	 * @param heuristic the heuristic */
+	protected void visitNeighbor (int index, float nodeCost, N endNode, Heuristic<N> heuristic) {
+		if (metrics != null) metrics.visitedNodes++;
+
+		float nodeHeuristic;
+		if (searchIds[index] != searchId) { // the node is unvisited
+			searchIds[index] = searchId;
+			categories[index] = UNVISITED;
+			nodeHeuristic = heuristic.estimate(implicitGraph.getNode(index), endNode);
+		} else {
+			// The node is either open or closed: if we didn't find a shorter route, skip
+			if (costSoFar[index] <= nodeCost) return;
+			nodeHeuristic = openList.getValue(index) - costSoFar[index];
+		}
+
+		// Update node's cost and parent
+		costSoFar[index] = nodeCost;
+		parents[index] = current;
+
+		addToOpenList(index, nodeCost + nodeHeuristic);
+	}
+
+	protected void generateConnectionPath (GraphPath<Connection<N>> outPath) {
+
+		// Work back along the path, accumulating connections
+		// outPath.clear();
+		if (implicitGraph != null) {
+			// Connections are only built for the path
+			int parent;
+			while ((parent = parents[current]) >= 0) {
+				outPath.add(findConnection(implicitGraph, implicitGraph.getNode(parent), current));
+				current = parent;
+			}
+			outPath.reverse();
+			return;
+		}
+		Connection<N> connection;
+		while ((connection = connections[current]) != null) {
+			outPath.add(connection);
+			current = graph.getIndex(connection.getFromNode());
+		}
+
+		// Reverse the path
+		outPath.reverse();
+	}
+
+	protected void generateNodePath (GraphPath<N> outPath) {
+
+		// Work back along the path, accumulating nodes
+		// outPath.clear();
+		if (implicitGraph != null) {
+			do {
+				outPath.add(implicitGraph.getNode(current));
+			} while ((current = parents[current]) >= 0);
+			outPath.reverse();
+			return;
+		}
+		Connection<N> connection;
+		while ((connection = connections[current]) != null) {
+			outPath.add(connection.getToNode());
+			current = graph.getIndex(connection.getFromNode());
+		}
+		outPath.add(startNode);
+
+		// Reverse the path
+		outPath.reverse();
+	}
+
+	protected void addToOpenList (int index, float estimatedTotalCost) {
+		if (categories[index] == OPEN)
+			openList.update(index, estimatedTotalCost);
+		else
+			openList.add(index, estimatedTotalCost);
+		categories[index] = OPEN;
+		if (metrics != null) {
+			metrics.openListAdditions++;
+			metrics.openListPeak = Math.max(metrics.openListPeak, openList.size());
+		}
+	}
+
+	/** Returns the node with the given index, which must have been reached by the current search. */
+	protected N getNode (int index) {
+		if (implicitGraph != null) return implicitGraph.getNode(index);
+		Connection<N> connection = connections[index];
+		return connection == null ? startNode : connection.getToNode();
+	}
+
+	/** Returns the cheapest connection of the given graph from the given node to the node with the given index.
+	 * @throws IllegalArgumentException if there is no such connection */
+	static <N> Connection<N> findConnection (IndexedGraph<N> graph, N fromNode, int toIndex) {
+		Array<Connection<N>> connections = graph.getConnections(fromNode);
+		Connection<N> cheapest = null;
+		for (int i = 0; i < connections.size; i++) {
+			Connection<N> connection = connections.get(i);
+			if (graph.getIndex(connection.getToNode()) == toIndex && (cheapest == null || connection.getCost() < cheapest.getCost()))
+				cheapest = connection;
+		}
+		if (cheapest == null) throw new IllegalArgumentException("No connection to node " + toIndex + " from " + fromNode);
+		return cheapest;
+	}
+
+	/** Relaxes the neighbors of the current node of an implicit graph. */
+	class NeighborVisitor implements NeighborConsumer {
+		N endNode;
+		Heuristic<N> heuristic;
+		float currentCost;
+
+		@Override
+		public void accept (int toIndex, float cost) {
+			visitNeighbor(toIndex, currentCost + cost, endNode, heuristic);
+		}
+	}
+}
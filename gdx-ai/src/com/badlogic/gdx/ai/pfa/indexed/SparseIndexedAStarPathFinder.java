@@ -0,0 +1,506 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.PathFinder;
+import com.badlogic.gdx.ai.pfa.PathFinderQueue;
+import com.badlogic.gdx.ai.pfa.PathFinderRequest;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder.Metrics;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** A fully implemented {@link PathFinder} that can perform both interruptible and non-interruptible pathfinding on huge
+ * {@link IndexedGraph indexed graphs}.
+ * <p>
+ * This implementation runs the same indexed A* algorithm of the {@link IndexedAStarPathFinder}, but its memory footprint is
+ * proportional to the number of nodes reached by the search rather than to the number of nodes of the graph. Each node reached by
+ * the current search is given a slot in a set of parallel primitive arrays, like the ones of the
+ * {@link PrimitiveIndexedAStarPathFinder}, and the slot of a node is found through an open-addressing hash table keyed by node
+ * index. The open list is an {@link IndexedOpenList} of slots, so its capacity is bounded by the search size as well.
+ * <p>
+ * All the arrays grow as needed and are reused by the next searches, so the memory retained by a path finder is given by the
+ * largest search it has run. This makes it possible to keep many path finders on a graph with millions of nodes when a typical
+ * search visits a few thousand nodes only. On the other hand, the hash table lookups make it a bit slower than the
+ * {@link PrimitiveIndexedAStarPathFinder}, which should be preferred when the memory is not an issue.
+ * <p>
+ * Like the {@link PrimitiveIndexedAStarPathFinder}, this path finder searches an {@link ImplicitIndexedGraph} without any
+ * {@link Connection} object, which is what huge procedural graphs usually need.
+ * 
+ * @param <N> Type of node */
+public class SparseIndexedAStarPathFinder<N> implements PathFinder<N> {
+	IndexedGraph<N> graph;
+
+	/** The hash table mapping node indices to slots; each entry is the slot plus one, or 0 if empty. Its length is a power of two
+	 * twice the capacity. */
+	int[] table;
+
+	/** The number of bits to shift the hash code of a node index to get its position in the {@link #table}. */
+	int shift;
+
+	/** The index of the node of each slot. */
+	int[] nodeIndices;
+
+	/** The actual cost from the start node of the node of each slot. */
+	float[] costSoFar;
+
+	/** The incoming connection of the node of each slot; it's {@code null} for the start node. Not used by implicit graphs. */
+	Connection<N>[] connections;
+
+	/** The graph as an implicit graph; {@code null} if the graph is not implicit. */
+	ImplicitIndexedGraph<N> implicitGraph;
+
+	/** The slot of the parent of the node of each slot; it's -1 for the start node. Only used by implicit graphs. */
+	int[] parents;
+
+	/** The consumer relaxing the neighbors of the current node of implicit graphs. */
+	NeighborVisitor neighborVisitor;
+
+	/** The category of the node of each slot: {@link #OPEN} or {@link #CLOSED}. */
+	byte[] categories;
+
+	/** The number of slots used by the current search. */
+	int slotCount;
+
+	/** The open list of slots, whose values are the estimated total costs of their nodes. */
+	IndexedOpenList openList;
+
+	/** The slot of the current node. */
+	int current;
+
+	/** The start node of the current search. */
+	N startNode;
+
+	public Metrics metrics;
+
+	/** The connected components of the graph, used to reject the searches whose goal can't be reached without running them;
+	 * {@code null} if searches are never rejected. */
+	public ConnectedComponents<N> components;
+
+	static final byte OPEN = 1;
+	static final byte CLOSED = 2;
+
+	/** The default initial number of slots. */
+	public static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+	public SparseIndexedAStarPathFinder (IndexedGraph<N> graph) {
+		this(graph, false);
+	}
+
+	public SparseIndexedAStarPathFinder (IndexedGraph<N> graph, boolean calculateMetrics) {
+		this(graph, DEFAULT_INITIAL_CAPACITY, new IndexedBinaryHeap(DEFAULT_INITIAL_CAPACITY), calculateMetrics);
+	}
+
+	/** Creates a {@code SparseIndexedAStarPathFinder} for the given graph using the given open list.
+	 * @param graph the graph
+	 * @param initialCapacity the initial number of nodes that a search can reach before the arrays have to grow
+	 * @param openList the open list; its capacity is increased along with the number of slots, if necessary
+	 * @param calculateMetrics whether metrics should be calculated
+	 * @throws IllegalArgumentException if the initial capacity is not positive */
+	@SuppressWarnings("unchecked")
+	public SparseIndexedAStarPathFinder (IndexedGraph<N> graph, int initialCapacity, IndexedOpenList openList,
+		boolean calculateMetrics) {
+		if (initialCapacity <= 0) throw new IllegalArgumentException("initialCapacity must be positive");
+		this.graph = graph;
+		this.openList = openList;
+		if (graph instanceof ImplicitIndexedGraph) {
+			this.implicitGraph = (ImplicitIndexedGraph<N>)graph;
+			this.neighborVisitor = new NeighborVisitor();
+		}
+		allocate(MathUtils.nextPowerOfTwo(initialCapacity));
+		if (calculateMetrics) this.metrics = new Metrics();
+	}
+
+	/** Returns the number of nodes that a search can reach before the arrays of this path finder have to grow. */
+	public int getCapacity () {
+		return nodeIndices.length;
+	}
+
+	@Override
+	public boolean searchConnectionPath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<Connection<N>> outPath) {
+
+		// Perform AStar
+		boolean found = search(startNode, endNode, heuristic);
+
+		if (found) {
+			// Create a path made of connections
+			generateConnectionPath(outPath);
+		}
+
+		return found;
+	}
+
+	@Override
+	public boolean searchNodePath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<N> outPath) {
+
+		// Perform AStar
+		boolean found = search(startNode, endNode, heuristic);
+
+		if (found) {
+			// Create a path made of nodes
+			generateNodePath(outPath);
+		}
+
+		return found;
+	}
+
+	protected boolean search (N startNode, N endNode, Heuristic<N> heuristic) {
+
+		// Don't search for a goal out of the component of the start node
+		if (isUnreachable(startNode, endNode)) return false;
+
+		initSearch(startNode, endNode, heuristic);
+
+		int endIndex = graph.getIndex(endNode);
+
+		// Iterate through processing each node
+		do {
+			// Retrieve the node with smallest estimated total cost from the open list
+			current = openList.pop();
+			categories[current] = CLOSED;
+			if (metrics != null) metrics.expandedNodes++;
+
+			// Terminate if we reached the goal node
+			if (nodeIndices[current] == endIndex) return true;
+
+			visitChildren(endNode, heuristic);
+
+		} while (openList.size() > 0);
+
+		// We've run out of nodes without finding the goal, so there's no solution
+		return false;
+	}
+
+	@Override
+	public boolean search (PathFinderRequest<N> request, long timeToRun) {
+
+		long lastTime = TimeUtils.nanoTime();
+
+		// We have to initialize the search if the status has just changed
+		if (request.statusChanged) {
+			if (isUnreachable(request.startNode, request.endNode)) {
+				request.statusChanged = false;
+				request.pathFound = false;
+				return true;
+			}
+			initSearch(request.startNode, request.endNode, request.heuristic);
+			request.statusChanged = false;
+		}
+
+		int endIndex = graph.getIndex(request.endNode);
+
+		// Iterate through processing each node
+		do {
+
+			// Check the available time
+			long currentTime = TimeUtils.nanoTime();
+			timeToRun -= currentTime - lastTime;
+			if (timeToRun <= PathFinderQueue.TIME_TOLERANCE) return false;
+
+			// Retrieve the node with smallest estimated total cost from the open list
+			current = openList.pop();
+			categories[current] = CLOSED;
+			if (metrics != null) metrics.expandedNodes++;
+
+			// Terminate if we reached the goal node; we've found a path.
+			if (nodeIndices[current] == endIndex) {
+				request.pathFound = true;
+
+				generateNodePath(request.resultPath);
+
+				return true;
+			}
+
+			// Visit current node's children
+			visitChildren(request.endNode, request.heuristic);
+
+			// Store the current time
+			lastTime = currentTime;
+
+		} while (openList.size() > 0);
+
+		// The open list is empty and we've not found a path.
+		request.pathFound = false;
+		return true;
+	}
+
+	/** Returns {@code true} if the {@link #components} tell that the end node can't be reached from the start node; {@code false}
+	 * otherwise. */
+	boolean isUnreachable (N startNode, N endNode) {
+		if (components == null || components.isConnected(startNode, endNode)) return false;
+		if (metrics != null) metrics.reset();
+		return true;
+	}
+
+	protected void initSearch (N startNode, N endNode, Heuristic<N> heuristic) {
+		if (metrics != null) metrics.reset();
+
+		// Forget the nodes of the previous search
+		if (slotCount > 0) {
+			int[] table = this.table;
+			for (int i = 0, n = table.length; i < n; i++)
+				table[i] = 0;
+			slotCount = 0;
+		}
+
+		// Initialize the open list
+		openList.clear();
+
+		// Initialize the start node and add it to the open list
+		this.startNode = startNode;
+		int startSlot = addSlot(graph.getIndex(startNode));
+		if (implicitGraph != null)
+			parents[startSlot] = -1;
+		else
+			connections[startSlot] = null;
+		costSoFar[startSlot] = 0;
+		addToOpenList(startSlot, heuristic.estimate(startNode, endNode));
+
+		current = -1;
+	}
+
+	protected void visitChildren (N endNode, Heuristic<N> heuristic) {
+		float currentCost = costSoFar[current];
+
+		// Let implicit graphs pass the neighbors to the visitor
+		if (implicitGraph != null) {
+			neighborVisitor.endNode = endNode;
+			neighborVisitor.heuristic = heuristic;
+			neighborVisitor.currentCost = currentCost;
+			implicitGraph.forEachNeighbor(nodeIndices[current], neighborVisitor);
+			return;
+		}
+
+		// Get current node's outgoing connections
+		Array<Connection<N>> connections = graph.getConnections(getNode(current));
+
+		// Loop through each connection in turn
+		for (int i = 0; i < connections.size; i++) {
+			if (metrics != null) metrics.visitedNodes++;
+
+			Connection<N> connection = connections.get(i);
+
+			// Get the cost estimate for the node
+			N node = connection.getToNode();
+			int index = graph.getIndex(node);
+			float nodeCost = currentCost + connection.getCost();
+
+			float nodeHeuristic;
+			int slot = getSlot(index);
+			if (slot < 0) { // the node is unvisited
+
+				// We'll need to calculate the heuristic value using the function,
+				// since we don't have a previously calculated value
+				slot = addSlot(index);
+				nodeHeuristic = heuristic.estimate(node, endNode);
+			} else {
+				// The node is either open or closed: if we didn't find a shorter route, skip
+				if (costSoFar[slot] <= nodeCost) continue;
+
+				// We can use the node's old cost values to calculate its heuristic
+				// without calling the possibly expensive heuristic function
+				nodeHeuristic = openList.getValue(slot) - costSoFar[slot];
+			}
+
+			// Update node's cost and connection
+			costSoFar[slot] = nodeCost;
+			this.connections[slot] = connection;
+
+			// Add it to the open list with the estimated total cost; if the node is
+			// already open its position in the open list is just updated
+			addToOpenList(slot, nodeCost + nodeHeuristic);
+		}
+
+	}
+
+	/** Relaxes the neighbor of the current node with the given index, reached at the given cost. Only used by implicit graphs.
+	 * @param index the index of the neighbor
+	 * @param nodeCost the cost from the start node of the neighbor through the current node
+	 * @param endNode the end node
+	 * @param heuristic the heuristic */
+	protected void visitNeighbor (int index, float nodeCost, N endNode, Heuristic<N> heuristic) {
+		if (metrics != null) metrics.visitedNodes++;
+
+		float nodeHeuristic;
+		int slot = getSlot(index);
+		if (slot < 0) { // the node is unvisited
+			slot = addSlot(index);
+			nodeHeuristic = heuristic.estimate(implicitGraph.getNode(index), endNode);
+		} else {
+			// The node is either open or closed: if we didn't find a shorter route, skip
+			if (costSoFar[slot] <= nodeCost) return;
+			nodeHeuristic = openList.getValue(slot) - costSoFar[slot];
+		}
+
+		// Update node's cost and parent
+		costSoFar[slot] = nodeCost;
+		parents[slot] = current;
+
+		addToOpenList(slot, nodeCost + nodeHeuristic);
+	}
+
+	protected void generateConnectionPath (GraphPath<Connection<N>> outPath) {
+
+		// Work back along the path, accumulating connections
+		// outPath.clear();
+		if (implicitGraph != null) {
+			// Connections are only built for the path
+			int parent;
+			while ((parent = parents[current]) >= 0) {
+				outPath.add(PrimitiveIndexedAStarPathFinder.findConnection(implicitGraph, getNode(parent), nodeIndices[current]));
+				current = parent;
+			}
+			outPath.reverse();
+			return;
+		}
+		Connection<N> connection;
+		while ((connection = connections[current]) != null) {
+			outPath.add(connection);
+			current = getSlot(graph.getIndex(connection.getFromNode()));
+		}
+
+		// Reverse the path
+		outPath.reverse();
+	}
+
+	protected void generateNodePath (GraphPath<N> outPath) {
+
+		// Work back along the path, accumulating nodes
+		// outPath.clear();
+		if (implicitGraph != null) {
+			do {
+				outPath.add(getNode(current));
+			} while ((current = parents[current]) >= 0);
+			outPath.reverse();
+			return;
+		}
+		Connection<N> connection;
+		while ((connection = connections[current]) != null) {
+			outPath.add(connection.getToNode());
+			current = getSlot(graph.getIndex(connection.getFromNode()));
+		}
+		outPath.add(startNode);
+
+		// Reverse the path
+		outPath.reverse();
+	}
+
+	protected void addToOpenList (int slot, float estimatedTotalCost) {
+		if (categories[slot] == OPEN)
+			openList.update(slot, estimatedTotalCost);
+		else
+			openList.add(slot, estimatedTotalCost);
+		categories[slot] = OPEN;
+		if (metrics != null) {
+			metrics.openListAdditions++;
+			metrics.openListPeak = Math.max(metrics.openListPeak, openList.size());
+		}
+	}
+
+	/** Returns the node of the given slot. */
+	protected N getNode (int slot) {
+		if (implicitGraph != null) return implicitGraph.getNode(nodeIndices[slot]);
+		Connection<N> connection = connections[slot];
+		return connection == null ? startNode : connection.getToNode();
+	}
+
+	/** Returns the slot of the node with the given index, or -1 if the node has not been reached by the current search. */
+	protected int getSlot (int index) {
+		int[] table = this.table;
+		int mask = table.length - 1;
+		for (int i = hash(index);; i = (i + 1) & mask) {
+			int entry = table[i];
+			if (entry == 0) return -1;
+			if (nodeIndices[entry - 1] == index) return entry - 1;
+		}
+	}
+
+	/** Gives a new slot to the node with the given index, which must not have been reached by the current search yet.
+	 * @return the new slot */
+	protected int addSlot (int index) {
+		if (slotCount == nodeIndices.length) grow();
+		int slot = slotCount++;
+		nodeIndices[slot] = index;
+		categories[slot] = 0;
+		put(slot);
+		return slot;
+	}
+
+	private void put (int slot) {
+		int[] table = this.table;
+		int mask = table.length - 1;
+		int i = hash(nodeIndices[slot]);
+		while (table[i] != 0)
+			i = (i + 1) & mask;
+		table[i] = slot + 1;
+	}
+
+	/** Relaxes the neighbors of the current node of an implicit graph. */
+	class NeighborVisitor implements NeighborConsumer {
+		N endNode;
+		Heuristic<N> heuristic;
+		float currentCost;
+
+		@Override
+		public void accept (int toIndex, float cost) {
+			visitNeighbor(toIndex, currentCost + cost, endNode, heuristic);
+		}
+	}
+
+	private int hash (int index) {
+		// Fibonacci hashing spreads consecutive indices, like the ones of neighbor tiles, all over the table
+		return (index * 0x9E3779B9) >>> shift;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void allocate (int capacity) {
+		this.table = new int[capacity << 1];
+		this.shift = Integer.numberOfLeadingZeros(table.length) + 1;
+		this.nodeIndices = new int[capacity];
+		this.costSoFar = new float[capacity];
+		if (implicitGraph != null)
+			this.parents = new int[capacity];
+		else
+			this.connections = (Connection<N>[])new Connection[capacity];
+		this.categories = new byte[capacity];
+		openList.ensureCapacity(capacity);
+	}
+
+	private void grow () {
+		int[] oldNodeIndices = nodeIndices;
+		float[] oldCostSoFar = costSoFar;
+		Connection<N>[] oldConnections = connections;
+		int[] oldParents = parents;
+		byte[] oldCategories = categories;
+
+		allocate(oldNodeIndices.length << 1);
+
+		System.arraycopy(oldNodeIndices, 0, nodeIndices, 0, slotCount);
+		System.arraycopy(oldCostSoFar, 0, costSoFar, 0, slotCount);
+		if (implicitGraph != null)
+			System.arraycopy(oldParents, 0, parents, 0, slotCount);
+		else
+			System.arraycopy(oldConnections, 0, connections, 0, slotCount);
+		System.arraycopy(oldCategories, 0, categories, 0, slotCount);
+		for (int slot = 0; slot < slotCount; slot++)
+			put(slot);
+	}
+}
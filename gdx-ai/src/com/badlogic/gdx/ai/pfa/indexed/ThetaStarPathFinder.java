@@ -0,0 +1,477 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.PathFinder;
+import com.badlogic.gdx.ai.pfa.PathFinderQueue;
+import com.badlogic.gdx.ai.pfa.PathFinderRequest;
+import com.badlogic.gdx.ai.pfa.PathSmoother;
+import com.badlogic.gdx.ai.pfa.SmoothableGraphPath;
+import com.badlogic.gdx.ai.utils.Ray;
+import com.badlogic.gdx.ai.utils.RaycastCollisionDetector;
+import com.badlogic.gdx.math.Vector;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** A fully implemented {@link PathFinder} that can perform both interruptible and non-interruptible any-angle pathfinding on an
+ * {@link IndexedGraph} using the Theta* algorithm or its lazy variant.
+ * <p>
+ * Theta* is an A* whose nodes are not constrained to have a neighbor as parent. When a node is reached from the current node, it
+ * is directly linked to the parent of the current node if the latter is in line of sight, as reported by a
+ * {@link RaycastCollisionDetector}. This way the path is smoothed while searching, which gives shorter paths than running a
+ * {@link PathSmoother} over the result of an A* search, in a single pass. The found path only contains the nodes where the path
+ * turns, so it can be given directly to the consumers of a {@link SmoothableGraphPath}.
+ * <p>
+ * Lazy Theta* optimistically assumes that the parent of the current node is always in line of sight and delays the check until
+ * the reached node is expanded, falling back to its best neighbor if the check fails. Since many reached nodes are never
+ * expanded, Lazy Theta* casts far fewer rays, which makes it the best choice when raycasts are expensive, for instance when they
+ * are backed by a physics engine. The found paths are usually the same as Theta*.
+ * <p>
+ * The cost of a line of sight between two nodes is the distance between their positions, so the costs of the connections of the
+ * graph are expected to be the distances between the positions of the nodes they connect. Also, the algorithm assumes that
+ * there is a clear route between any two connected nodes. An euclidean distance heuristic should be used.
+ * 
+ * @param <N> Type of node
+ * @param <V> Type of vector, either 2D or 3D, implementing the {@link Vector} interface */
+public class ThetaStarPathFinder<N, V extends Vector<V>> implements PathFinder<N> {
+	IndexedGraph<N> graph;
+	NodePositionProvider<N, V> positionProvider;
+	RaycastCollisionDetector<V> raycastCollisionDetector;
+	Ray<V> ray;
+
+	/** Whether line of sight checks are delayed until nodes are expanded. */
+	boolean lazy;
+
+	/** The node of each index reached by the current search. */
+	N[] nodes;
+
+	/** The cost from the start node of each node, which is not verified yet for nodes opened by Lazy Theta*. */
+	float[] costSoFar;
+
+	/** The parent of each node; it's the start node itself for the start node. */
+	int[] parents;
+
+	/** The connection from the parent of each node, or {@code null} if the parent is linked through a line of sight. */
+	Connection<N>[] connections;
+
+	/** The cost of the cheapest path from the start node of each node going through an expanded neighbor, used by Lazy Theta*
+	 * when the line of sight from the parent is blocked. */
+	float[] fallbackCosts;
+
+	/** The expanded neighbor each node is reached from through its {@link #fallbackConnections fallback connection}. */
+	int[] fallbackParents;
+
+	/** The connection from the fallback parent of each node. */
+	Connection<N>[] fallbackConnections;
+
+	/** The ID of the last search that visited each node. */
+	int[] searchIds;
+
+	/** The category of each node: {@link #UNVISITED}, {@link #OPEN} or {@link #CLOSED}. */
+	byte[] categories;
+
+	/** The open list, whose values are the estimated total costs of the nodes. */
+	IndexedOpenList openList;
+
+	/** The index of the current node. */
+	int current;
+
+	/** The index of the start node of the current search. */
+	int startIndex;
+
+	public Metrics metrics;
+
+	/** The unique ID for each search run. Used to mark nodes. */
+	int searchId;
+
+	static final byte UNVISITED = 0;
+	static final byte OPEN = 1;
+	static final byte CLOSED = 2;
+
+	/** Creates a Lazy Theta* path finder.
+	 * @param graph the graph
+	 * @param positionProvider the provider of the positions of the nodes
+	 * @param raycastCollisionDetector the raycast collision detector used to check the line of sight between nodes */
+	public ThetaStarPathFinder (IndexedGraph<N> graph, NodePositionProvider<N, V> positionProvider,
+		RaycastCollisionDetector<V> raycastCollisionDetector) {
+		this(graph, positionProvider, raycastCollisionDetector, true, false);
+	}
+
+	/** Creates a Theta* or a Lazy Theta* path finder.
+	 * @param graph the graph
+	 * @param positionProvider the provider of the positions of the nodes
+	 * @param raycastCollisionDetector the raycast collision detector used to check the line of sight between nodes
+	 * @param lazy whether line of sight checks are delayed until nodes are expanded, i.e. Lazy Theta* is used
+	 * @param calculateMetrics whether metrics should be calculated */
+	@SuppressWarnings("unchecked")
+	public ThetaStarPathFinder (IndexedGraph<N> graph, NodePositionProvider<N, V> positionProvider,
+		RaycastCollisionDetector<V> raycastCollisionDetector, boolean lazy, boolean calculateMetrics) {
+		this.graph = graph;
+		this.positionProvider = positionProvider;
+		this.raycastCollisionDetector = raycastCollisionDetector;
+		this.lazy = lazy;
+		int nodeCount = graph.getNodeCount();
+		this.nodes = (N[])new Object[nodeCount];
+		this.costSoFar = new float[nodeCount];
+		this.parents = new int[nodeCount];
+		this.connections = (Connection<N>[])new Connection[nodeCount];
+		if (lazy) {
+			this.fallbackCosts = new float[nodeCount];
+			this.fallbackParents = new int[nodeCount];
+			this.fallbackConnections = (Connection<N>[])new Connection[nodeCount];
+		}
+		this.searchIds = new int[nodeCount];
+		this.categories = new byte[nodeCount];
+		this.openList = new IndexedBinaryHeap(nodeCount);
+		if (calculateMetrics) this.metrics = new Metrics();
+	}
+
+	/** Returns {@code true} if this path finder runs Lazy Theta*; {@code false} if it runs Theta*. */
+	public boolean isLazy () {
+		return lazy;
+	}
+
+	/** Searches a path whose connections are either connections of the graph or {@link LineOfSightConnection line of sight
+	 * connections} between nodes in line of sight. */
+	@Override
+	public boolean searchConnectionPath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<Connection<N>> outPath) {
+
+		// Perform Theta*
+		boolean found = search(startNode, endNode, heuristic);
+
+		if (found) {
+			// Create a path made of connections
+			generateConnectionPath(outPath);
+		}
+
+		return found;
+	}
+
+	/** Searches a path made of the start node, the end node and the nodes where the path turns. */
+	@Override
+	public boolean searchNodePath (N startNode, N endNode, Heuristic<N> heuristic, GraphPath<N> outPath) {
+
+		// Perform Theta*
+		boolean found = search(startNode, endNode, heuristic);
+
+		if (found) {
+			// Create a path made of nodes
+			generateNodePath(outPath);
+		}
+
+		return found;
+	}
+
+	protected boolean search (N startNode, N endNode, Heuristic<N> heuristic) {
+
+		initSearch(startNode, endNode, heuristic);
+
+		int endIndex = graph.getIndex(endNode);
+
+		// Iterate through processing each node
+		do {
+			// Retrieve the node with smallest estimated total cost from the open list
+			expand(openList.pop());
+
+			// Terminate if we reached the goal node
+			if (current == endIndex) return true;
+
+			visitChildren(endNode, heuristic);
+
+		} while (openList.size() > 0);
+
+		// We've run out of nodes without finding the goal, so there's no solution
+		return false;
+	}
+
+	@Override
+	public boolean search (PathFinderRequest<N> request, long timeToRun) {
+
+		long lastTime = TimeUtils.nanoTime();
+
+		// We have to initialize the search if the status has just changed
+		if (request.statusChanged) {
+			initSearch(request.startNode, request.endNode, request.heuristic);
+			request.statusChanged = false;
+		}
+
+		int endIndex = graph.getIndex(request.endNode);
+
+		// Iterate through processing each node
+		do {
+
+			// Check the available time
+			long currentTime = TimeUtils.nanoTime();
+			timeToRun -= currentTime - lastTime;
+			if (timeToRun <= PathFinderQueue.TIME_TOLERANCE) return false;
+
+			// Retrieve the node with smallest estimated total cost from the open list
+			expand(openList.pop());
+
+			// Terminate if we reached the goal node; we've found a path.
+			if (current == endIndex) {
+				request.pathFound = true;
+
+				generateNodePath(request.resultPath);
+
+				return true;
+			}
+
+			// Visit current node's children
+			visitChildren(request.endNode, request.heuristic);
+
+			// Store the current time
+			lastTime = currentTime;
+
+		} while (openList.size() > 0);
+
+		// The open list is empty and we've not found a path.
+		request.pathFound = false;
+		return true;
+	}
+
+	protected void initSearch (N startNode, N endNode, Heuristic<N> heuristic) {
+		if (metrics != null) metrics.reset();
+
+		// Increment the search id
+		if (++searchId < 0) searchId = 1;
+
+		// Initialize the open list
+		openList.clear();
+
+		// Initialize the start node and add it to the open list
+		startIndex = graph.getIndex(startNode);
+		nodes[startIndex] = startNode;
+		searchIds[startIndex] = searchId;
+		categories[startIndex] = UNVISITED;
+		parents[startIndex] = startIndex;
+		connections[startIndex] = null;
+		costSoFar[startIndex] = 0;
+		addToOpenList(startIndex, heuristic.estimate(startNode, endNode));
+
+		current = -1;
+	}
+
+	/** Closes the node with the given index and makes it the current node. Lazy Theta* checks here the line of sight from the
+	 * parent, falling back to the best expanded neighbor if it's blocked. */
+	protected void expand (int index) {
+		current = index;
+		categories[index] = CLOSED;
+		if (metrics != null) metrics.expandedNodes++;
+		if (lazy && connections[index] == null && index != startIndex && !isInLineOfSight(parents[index], index)) {
+			costSoFar[index] = fallbackCosts[index];
+			parents[index] = fallbackParents[index];
+			connections[index] = fallbackConnections[index];
+		}
+	}
+
+	protected void visitChildren (N endNode, Heuristic<N> heuristic) {
+		float currentCost = costSoFar[current];
+		int parent = parents[current];
+
+		// Get current node's outgoing connections
+		Array<Connection<N>> connections = graph.getConnections(nodes[current]);
+
+		// Loop through each connection in turn
+		for (int i = 0; i < connections.size; i++) {
+			if (metrics != null) metrics.visitedNodes++;
+
+			Connection<N> connection = connections.get(i);
+
+			N node = connection.getToNode();
+			int index = graph.getIndex(node);
+			if (searchIds[index] != searchId) { // the node is unvisited
+				searchIds[index] = searchId;
+				categories[index] = UNVISITED;
+				nodes[index] = node;
+				costSoFar[index] = Float.POSITIVE_INFINITY;
+				if (lazy) fallbackCosts[index] = Float.POSITIVE_INFINITY;
+			} else if (categories[index] == CLOSED) {
+				// Closed nodes are never reopened
+				continue;
+			}
+
+			// The cost of the path through the current node, which Lazy Theta* keeps as a fallback
+			float nodeCost = currentCost + connection.getCost();
+			if (lazy && nodeCost < fallbackCosts[index]) {
+				fallbackCosts[index] = nodeCost;
+				fallbackParents[index] = current;
+				fallbackConnections[index] = connection;
+			}
+
+			// The cost of the path linking the parent of the current node, whose line of sight is checked now by Theta* or assumed
+			// by Lazy Theta*
+			int nodeParent = current;
+			Connection<N> nodeConnection = connection;
+			if (parent != current) {
+				float lineCost = costSoFar[parent] + distance(parent, index);
+				if (lineCost < nodeCost && lineCost < costSoFar[index] && (lazy || isInLineOfSight(parent, index))) {
+					nodeCost = lineCost;
+					nodeParent = parent;
+					nodeConnection = null;
+				}
+			}
+
+			// If we didn't find a shorter route, skip
+			if (costSoFar[index] <= nodeCost) continue;
+
+			// We can use the node's old cost values to calculate its heuristic
+			// without calling the possibly expensive heuristic function
+			float nodeHeuristic;
+			if (categories[index] == OPEN)
+				nodeHeuristic = openList.getValue(index) - costSoFar[index];
+			else
+				nodeHeuristic = heuristic.estimate(node, endNode);
+
+			// Update node's cost and parent
+			costSoFar[index] = nodeCost;
+			parents[index] = nodeParent;
+			this.connections[index] = nodeConnection;
+
+			// Add it to the open list with the estimated total cost; if the node is
+			// already open its position in the open list is just updated
+			addToOpenList(index, nodeCost + nodeHeuristic);
+		}
+
+	}
+
+	/** Returns {@code true} if the nodes with the given indices are in line of sight; {@code false} otherwise. */
+	protected boolean isInLineOfSight (int fromIndex, int toIndex) {
+		if (metrics != null) metrics.lineOfSightChecks++;
+		setRay(fromIndex, toIndex);
+		return !raycastCollisionDetector.collides(ray);
+	}
+
+	/** Returns the distance between the positions of the nodes with the given indices. */
+	protected float distance (int fromIndex, int toIndex) {
+		setRay(fromIndex, toIndex);
+		return ray.start.dst(ray.end);
+	}
+
+	private void setRay (int fromIndex, int toIndex) {
+		V from = positionProvider.getNodePosition(nodes[fromIndex]);
+
+		// Make sure the ray is instantiated
+		if (ray == null) ray = new Ray<V>(from.cpy(), from.cpy());
+
+		ray.start.set(from);
+		ray.end.set(positionProvider.getNodePosition(nodes[toIndex]));
+	}
+
+	protected void generateConnectionPath (GraphPath<Connection<N>> outPath) {
+
+		// Work back along the path, accumulating connections
+		// outPath.clear();
+		while (current != startIndex) {
+			int parent = parents[current];
+			Connection<N> connection = connections[current];
+			if (connection == null)
+				connection = new LineOfSightConnection<N>(nodes[parent], nodes[current], costSoFar[current] - costSoFar[parent]);
+			outPath.add(connection);
+			current = parent;
+		}
+
+		// Reverse the path
+		outPath.reverse();
+	}
+
+	protected void generateNodePath (GraphPath<N> outPath) {
+
+		// Work back along the path, accumulating the nodes where the path turns
+		// outPath.clear();
+		while (current != startIndex) {
+			outPath.add(nodes[current]);
+			current = parents[current];
+		}
+		outPath.add(nodes[startIndex]);
+
+		// Reverse the path
+		outPath.reverse();
+	}
+
+	protected void addToOpenList (int index, float estimatedTotalCost) {
+		if (categories[index] == OPEN)
+			openList.update(index, estimatedTotalCost);
+		else
+			openList.add(index, estimatedTotalCost);
+		categories[index] = OPEN;
+		if (metrics != null) {
+			metrics.openListAdditions++;
+			metrics.openListPeak = Math.max(metrics.openListPeak, openList.size());
+		}
+	}
+
+	/** Provides the positions of the nodes, used to cast rays between them and to measure their distances.
+	 * 
+	 * @param <N> Type of node
+	 * @param <V> Type of vector, either 2D or 3D, implementing the {@link Vector} interface */
+	public interface NodePositionProvider<N, V extends Vector<V>> {
+
+		/** Returns the position of the given node. The returned vector is only read before this method is called again, so it can
+		 * be reused.
+		 * @param node the node you want to know the position */
+		public V getNodePosition (N node);
+	}
+
+	/** A connection between two nodes in line of sight that are not necessarily connected in the graph.
+	 * 
+	 * @param <N> Type of node */
+	public static class LineOfSightConnection<N> implements Connection<N> {
+		N fromNode;
+		N toNode;
+		float cost;
+
+		public LineOfSightConnection (N fromNode, N toNode, float cost) {
+			this.fromNode = fromNode;
+			this.toNode = toNode;
+			this.cost = cost;
+		}
+
+		@Override
+		public float getCost () {
+			return cost;
+		}
+
+		@Override
+		public N getFromNode () {
+			return fromNode;
+		}
+
+		@Override
+		public N getToNode () {
+			return toNode;
+		}
+	}
+
+	/** The metrics of a {@link ThetaStarPathFinder}, which also count the line of sight checks. */
+	public static class Metrics extends IndexedAStarPathFinder.Metrics {
+		public int lineOfSightChecks;
+
+		public Metrics () {
+		}
+
+		@Override
+		public void reset () {
+			super.reset();
+			lineOfSightChecks = 0;
+		}
+	}
+}
@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
+import com.badlogic.gdx.ai.pfa.indexed.PrimitiveIndexedAStarPathFinder;
+import com.badlogic.gdx.utils.Array;
+
+public class CachingPathFinderTest {
+
+	@Test
+	public void searchNodePath_WhenSearchingSamePathTwice_ExpectedOneMissAndOneHit () {
+		final MyGraph graph = createGridGraph(10, 10);
+		final CachingPathFinder<MyNode> pathfinder = new CachingPathFinder<>(new PrimitiveIndexedAStarPathFinder<>(graph), graph,
+			8);
+		final ManhattanDistance heuristic = new ManhattanDistance();
+
+		final GraphPath<MyNode> outPath1 = new DefaultGraphPath<>();
+		Assert.assertTrue("Unexpected search result", pathfinder.searchNodePath(graph.get(0, 0), graph.get(9, 9), heuristic,
+			outPath1));
+		final GraphPath<MyNode> outPath2 = new DefaultGraphPath<>();
+		Assert.assertTrue("Unexpected search result", pathfinder.searchNodePath(graph.get(0, 0), graph.get(9, 9), heuristic,
+			outPath2));
+
+		Assert.assertEquals("Unexpected miss count", 1, pathfinder.getMissCount());
+		Assert.assertEquals("Unexpected hit count", 1, pathfinder.getHitCount());
+		Assert.assertEquals("Unexpected number of nodes in path", 19, outPath2.getCount());
+		for (int i = 0; i < outPath1.getCount(); i++)
+			Assert.assertSame("Unexpected node in path", outPath1.get(i), outPath2.get(i));
+	}
+
+	@Test
+	public void searchNodePath_WhenConnectionPathIsCached_ExpectedHit () {
+		final MyGraph graph = createGridGraph(10, 10);
+		final CachingPathFinder<MyNode> pathfinder = new CachingPathFinder<>(new PrimitiveIndexedAStarPathFinder<>(graph), graph,
+			8);
+		final ManhattanDistance heuristic = new ManhattanDistance();
+
+		final GraphPath<Connection<MyNode>> connectionPath = new DefaultGraphPath<>();
+		pathfinder.searchConnectionPath(graph.get(2, 3), graph.get(7, 1), heuristic, connectionPath);
+		final GraphPath<MyNode> nodePath = new DefaultGraphPath<>();
+		Assert.assertTrue("Unexpected search result", pathfinder.searchNodePath(graph.get(2, 3), graph.get(7, 1), heuristic,
+			nodePath));
+
+		Assert.assertEquals("Unexpected hit count", 1, pathfinder.getHitCount());
+		Assert.assertEquals("Unexpected number of nodes in path", connectionPath.getCount() + 1, nodePath.getCount());
+		Assert.assertSame("Unexpected first node", graph.get(2, 3), nodePath.get(0));
+		Assert.assertSame("Unexpected last node", graph.get(7, 1), nodePath.get(nodePath.getCount() - 1));
+	}
+
+	@Test
+	public void searchNodePath_WhenCapacityExceeded_ExpectedLeastRecentlyUsedEvicted () {
+		final MyGraph graph = createGridGraph(10, 10);
+		final CachingPathFinder<MyNode> pathfinder = new CachingPathFinder<>(new PrimitiveIndexedAStarPathFinder<>(graph), graph,
+			2);
+		final ManhattanDistance heuristic = new ManhattanDistance();
+
+		pathfinder.searchNodePath(graph.get(0, 0), graph.get(1, 0), heuristic, new DefaultGraphPath<MyNode>());
+		pathfinder.searchNodePath(graph.get(0, 0), graph.get(2, 0), heuristic, new DefaultGraphPath<MyNode>());
+		pathfinder.searchNodePath(graph.get(0, 0), graph.get(1, 0), heuristic, new DefaultGraphPath<MyNode>()); // hit
+		pathfinder.searchNodePath(graph.get(0, 0), graph.get(3, 0), heuristic, new DefaultGraphPath<MyNode>()); // evicts (2, 0)
+		Assert.assertEquals("Unexpected cache size", 2, pathfinder.size());
+
+		pathfinder.resetStatistics();
+		pathfinder.searchNodePath(graph.get(0, 0), graph.get(1, 0), heuristic, new DefaultGraphPath<MyNode>());
+		pathfinder.searchNodePath(graph.get(0, 0), graph.get(2, 0), heuristic, new DefaultGraphPath<MyNode>());
+		Assert.assertEquals("Unexpected hit count", 1, pathfinder.getHitCount());
+		Assert.assertEquals("Unexpected miss count", 1, pathfinder.getMissCount());
+	}
+
+	@Test
+	public void searchNodePath_WhenGraphVersionChanges_ExpectedCacheInvalidated () {
+		final MyGraph graph = createGridGraph(10, 3);
+		final CachingPathFinder<MyNode> pathfinder = new CachingPathFinder<>(new PrimitiveIndexedAStarPathFinder<>(graph), graph,
+			8);
+		final ManhattanDistance heuristic = new ManhattanDistance();
+
+		Assert.assertTrue("Unexpected search result", pathfinder.searchNodePath(graph.get(0, 0), graph.get(9, 0), heuristic,
+			new DefaultGraphPath<MyNode>()));
+
+		// Build a wall that makes the end node unreachable
+		for (int y = 0; y < 3; y++)
+			graph.removeConnections(graph.get(5, y));
+
+		Assert.assertFalse("Unexpected search result", pathfinder.searchNodePath(graph.get(0, 0), graph.get(9, 0), heuristic,
+			new DefaultGraphPath<MyNode>()));
+		Assert.assertEquals("Unexpected hit count", 0, pathfinder.getHitCount());
+		Assert.assertEquals("Unexpected miss count", 2, pathfinder.getMissCount());
+	}
+
+	@Test
+	public void search_WhenRequestIsCached_ExpectedImmediateCompletion () {
+		final MyGraph graph = createGridGraph(10, 10);
+		final CachingPathFinder<MyNode> pathfinder = new CachingPathFinder<>(new PrimitiveIndexedAStarPathFinder<>(graph), graph,
+			8);
+		final ManhattanDistance heuristic = new ManhattanDistance();
+
+		for (int i = 0; i < 2; i++) {
+			final PathFinderRequest<MyNode> request = new PathFinderRequest<>(graph.get(0, 9), graph.get(9, 0), heuristic,
+				new DefaultGraphPath<MyNode>(), null);
+			request.statusChanged = true;
+			while (!pathfinder.search(request, 1000000)) {
+			}
+			Assert.assertTrue("Unexpected search result", request.pathFound);
+			Assert.assertEquals("Unexpected number of nodes in path", 19, request.resultPath.getCount());
+		}
+
+		Assert.assertEquals("Unexpected hit count", 1, pathfinder.getHitCount());
+		Assert.assertEquals("Unexpected miss count", 1, pathfinder.getMissCount());
+	}
+
+	private static MyGraph createGridGraph (int width, int height) {
+		final MyGraph graph = new MyGraph(width, height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				graph.nodes.add(new MyNode(y * width + x, x, y));
+			}
+		}
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				final MyNode node = graph.get(x, y);
+				if (x > 0) node.connections.add(new DefaultConnection<MyNode>(node, graph.get(x - 1, y)));
+				if (x < width - 1) node.connections.add(new DefaultConnection<MyNode>(node, graph.get(x + 1, y)));
+				if (y > 0) node.connections.add(new DefaultConnection<MyNode>(node, graph.get(x, y - 1)));
+				if (y < height - 1) node.connections.add(new DefaultConnection<MyNode>(node, graph.get(x, y + 1)));
+			}
+		}
+		return graph;
+	}
+
+	private static class MyNode {
+
+		private final int index;
+		private final int x;
+		private final int y;
+		private final Array<Connection<MyNode>> connections;
+
+		public MyNode (final int index, final int x, final int y) {
+			this.index = index;
+			this.x = x;
+			this.y = y;
+			this.connections = new Array<>(4);
+		}
+	}
+
+	private static class MyGraph implements IndexedGraph<MyNode>, VersionedGraph<MyNode> {
+
+		protected Array<MyNode> nodes;
+		protected int width;
+		protected int height;
+		protected int version;
+
+		public MyGraph (int width, int height) {
+			this.nodes = new Array<>(width * height);
+			this.width = width;
+			this.height = height;
+		}
+
+		public MyNode get (int x, int y) {
+			return nodes.get(y * width + x);
+		}
+
+		/** Removes all the connections from and to the given node. */
+		public void removeConnections (MyNode node) {
+			for (int i = 0; i < node.connections.size; i++) {
+				final MyNode neighbor = node.connections.get(i).getToNode();
+				for (int j = neighbor.connections.size - 1; j >= 0; j--) {
+					if (neighbor.connections.get(j).getToNode() == node) neighbor.connections.removeIndex(j);
+				}
+			}
+			node.connections.clear();
+			version++;
+		}
+
+		@Override
+		public int getVersion () {
+			return version;
+		}
+
+		@Override
+		public int getIndex (MyNode node) {
+			return node.index;
+		}
+
+		@Override
+		public Array<Connection<MyNode>> getConnections (MyNode fromNode) {
+			return fromNode.connections;
+		}
+
+		@Override
+		public int getNodeCount () {
+			return nodes.size;
+		}
+	}
+
+	private static class ManhattanDistance implements Heuristic<MyNode> {
+		@Override
+		public float estimate (final MyNode node, final MyNode endNode) {
+			return Math.abs(endNode.x - node.x) + Math.abs(endNode.y - node.y);
+		}
+	}
+
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.msg.MessageDispatcher;
+import com.badlogic.gdx.ai.msg.Telegram;
+import com.badlogic.gdx.ai.msg.Telegraph;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
+import com.badlogic.gdx.ai.pfa.indexed.PrimitiveIndexedAStarPathFinder;
+import com.badlogic.gdx.utils.Array;
+
+public class ConcurrentPathFinderQueueTest {
+
+	private static final int WIDTH = 40;
+	private static final int HEIGHT = 30;
+	private static final int RESPONSE_MESSAGE_CODE = 1;
+
+	@Test
+	public void run_WhenManyRequestsAreSubmitted_ExpectedAllResultsDeliveredOnCallingThread () throws InterruptedException {
+		final MyGraph graph = createGridGraph(WIDTH, HEIGHT);
+
+		final ConcurrentPathFinderQueue<MyNode> queue = new ConcurrentPathFinderQueue<>(
+			new ConcurrentPathFinderQueue.PathFinderFactory<MyNode>() {
+				@Override
+				public PathFinder<MyNode> newPathFinder () {
+					return new PrimitiveIndexedAStarPathFinder<>(graph);
+				}
+			}, 4);
+
+		final MessageDispatcher dispatcher = new MessageDispatcher();
+		final Thread gameThread = Thread.currentThread();
+		final MyClient client = new MyClient(gameThread);
+
+		// Submit requests from the corners to every node of the last row
+		final int requestCount = 2 * WIDTH;
+		for (int i = 0; i < requestCount; i++) {
+			final MyNode startNode = graph.nodes.get(i % 2 == 0 ? 0 : WIDTH - 1);
+			final MyNode endNode = graph.nodes.get((HEIGHT - 1) * WIDTH + i / 2);
+			final PathFinderRequest<MyNode> request = new PathFinderRequest<>(startNode, endNode, new ManhattanDistance(),
+				new DefaultGraphPath<MyNode>(), dispatcher);
+			request.responseMessageCode = RESPONSE_MESSAGE_CODE;
+			request.client = client;
+			queue.submit(request);
+		}
+
+		try {
+			final long deadline = System.currentTimeMillis() + 10000;
+			while (client.responses < requestCount && System.currentTimeMillis() < deadline) {
+				queue.run(1000000);
+				Thread.sleep(1);
+			}
+		} finally {
+			queue.dispose();
+		}
+
+		Assert.assertEquals("Unexpected number of responses", requestCount, client.responses);
+		Assert.assertEquals("Unexpected queue size", 0, queue.size());
+		Assert.assertTrue("Results not delivered on the calling thread", client.sameThread);
+	}
+
+	private static MyGraph createGridGraph (int width, int height) {
+		final Array<MyNode> nodes = new Array<>(width * height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				nodes.add(new MyNode(y * width + x, x, y));
+			}
+		}
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				final MyNode node = nodes.get(y * width + x);
+				if (x > 0) node.connections.add(new DefaultConnection<MyNode>(node, nodes.get(y * width + x - 1)));
+				if (x < width - 1) node.connections.add(new DefaultConnection<MyNode>(node, nodes.get(y * width + x + 1)));
+				if (y > 0) node.connections.add(new DefaultConnection<MyNode>(node, nodes.get((y - 1) * width + x)));
+				if (y < height - 1) node.connections.add(new DefaultConnection<MyNode>(node, nodes.get((y + 1) * width + x)));
+			}
+		}
+		return new MyGraph(nodes);
+	}
+
+	private static class MyClient implements Telegraph {
+		private final Thread expectedThread;
+		int responses;
+		boolean sameThread = true;
+
+		public MyClient (Thread expectedThread) {
+			this.expectedThread = expectedThread;
+		}
+
+		@Override
+		public boolean handleMessage (Telegram msg) {
+			@SuppressWarnings("unchecked")
+			final PathFinderRequest<MyNode> request = (PathFinderRequest<MyNode>)msg.extraInfo;
+			Assert.assertEquals("Unexpected message code", RESPONSE_MESSAGE_CODE, msg.message);
+			Assert.assertTrue("Path not found", request.pathFound);
+			final int expectedCount = Math.abs(request.endNode.x - request.startNode.x)
+				+ Math.abs(request.endNode.y - request.startNode.y) + 1;
+			Assert.assertEquals("Unexpected number of nodes in path", expectedCount, request.resultPath.getCount());
+			if (Thread.currentThread() != expectedThread) sameThread = false;
+			responses++;
+			return true;
+		}
+	}
+
+	private static class MyNode {
+
+		private final int index;
+		private final int x;
+		private final int y;
+		private final Array<Connection<MyNode>> connections;
+
+		public MyNode (final int index, final int x, final int y) {
+			this.index = index;
+			this.x = x;
+			this.y = y;
+			this.connections = new Array<>(4);
+		}
+	}
+
+	private static class MyGraph implements IndexedGraph<MyNode> {
+
+		protected Array<MyNode> nodes;
+
+		public MyGraph (Array<MyNode> nodes) {
+			this.nodes = nodes;
+		}
+
+		@Override
+		public int getIndex (MyNode node) {
+			return node.index;
+		}
+
+		@Override
+		public Array<Connection<MyNode>> getConnections (MyNode fromNode) {
+			return fromNode.connections;
+		}
+
+		@Override
+		public int getNodeCount () {
+			return nodes.size;
+		}
+	}
+
+	private static class ManhattanDistance implements Heuristic<MyNode> {
+		@Override
+		public float estimate (final MyNode node, final MyNode endNode) {
+			return Math.abs(endNode.x - node.x) + Math.abs(endNode.y - node.y);
+		}
+	}
+
+}
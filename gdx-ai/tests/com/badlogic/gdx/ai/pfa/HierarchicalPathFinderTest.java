@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedHierarchicalGraph;
+import com.badlogic.gdx.utils.Array;
+
+public class HierarchicalPathFinderTest {
+
+	@Test
+	public void searchNodePath_WhenEndNodeIsInNextBlock_ExpectedPathToRepresentativeOfNextBlock () {
+		final BlockGraph graph = new BlockGraph(3, 4);
+		final HierarchicalPathFinder<Node> pathfinder = newPathFinder(graph);
+
+		final GraphPath<Node> outPath = new DefaultGraphPath<>();
+		final boolean searchResult = pathfinder.searchNodePath(graph.nodes[0], graph.nodes[6], new NoHeuristic(), outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult);
+		Assert.assertEquals("Unexpected path length", 6, outPath.getCount());
+		Assert.assertEquals("Unexpected last node", graph.nodes[5], outPath.get(outPath.getCount() - 1));
+	}
+
+	@Test
+	public void searchNodePath_WhenEndNodeIsInNextBlockAndRefiningInCorridor_ExpectedPathToEndNode () {
+		final BlockGraph graph = new BlockGraph(3, 4);
+		final HierarchicalPathFinder<Node> pathfinder = newPathFinder(graph);
+		pathfinder.refineInCorridor = true;
+
+		final GraphPath<Node> outPath = new DefaultGraphPath<>();
+		final boolean searchResult = pathfinder.searchNodePath(graph.nodes[0], graph.nodes[6], new NoHeuristic(), outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult);
+		Assert.assertEquals("Unexpected path length", 7, outPath.getCount());
+		Assert.assertEquals("Unexpected last node", graph.nodes[6], outPath.get(outPath.getCount() - 1));
+	}
+
+	@Test
+	public void searchNodePath_WhenEndNodeIsFarAway_ExpectedSameOutputPathWithAndWithoutRefining () {
+		final BlockGraph graph = new BlockGraph(3, 4);
+		final HierarchicalPathFinder<Node> pathfinder = newPathFinder(graph);
+		final HierarchicalPathFinder<Node> refiningPathfinder = newPathFinder(graph);
+		refiningPathfinder.refineInCorridor = true;
+
+		final GraphPath<Node> outPath = new DefaultGraphPath<>();
+		final GraphPath<Node> refinedPath = new DefaultGraphPath<>();
+		pathfinder.searchNodePath(graph.nodes[0], graph.nodes[10], new NoHeuristic(), outPath);
+		refiningPathfinder.searchNodePath(graph.nodes[0], graph.nodes[10], new NoHeuristic(), refinedPath);
+
+		Assert.assertEquals("Unexpected last node", graph.nodes[5], outPath.get(outPath.getCount() - 1));
+		Assert.assertEquals("Unexpected path length", outPath.getCount(), refinedPath.getCount());
+		for (int i = 0; i < outPath.getCount(); i++)
+			Assert.assertEquals("Unexpected node at index " + i, outPath.get(i), refinedPath.get(i));
+	}
+
+	@Test
+	public void searchConnectionPath_WhenEndNodeIsInSameBlock_ExpectedPathToEndNode () {
+		final BlockGraph graph = new BlockGraph(3, 4);
+		final HierarchicalPathFinder<Node> pathfinder = newPathFinder(graph);
+
+		final GraphPath<Connection<Node>> outPath = new DefaultGraphPath<>();
+		final boolean searchResult = pathfinder.searchConnectionPath(graph.nodes[4], graph.nodes[7], new NoHeuristic(), outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult);
+		Assert.assertEquals("Unexpected path length", 3, outPath.getCount());
+		Assert.assertEquals("Unexpected last node", graph.nodes[7], outPath.get(outPath.getCount() - 1).getToNode());
+	}
+
+	private static HierarchicalPathFinder<Node> newPathFinder (final BlockGraph graph) {
+		return new HierarchicalPathFinder<>(graph, new HierarchicalPathFinder.LevelPathFinderFactory<Node>() {
+			@Override
+			public PathFinder<Node> newLevelPathFinder (int level) {
+				return new IndexedAStarPathFinder<>(graph.getLevelView(level));
+			}
+		});
+	}
+
+	private static class Node {
+		final int index;
+		final Array<Connection<Node>> connections = new Array<>();
+
+		Node (int index) {
+			this.index = index;
+		}
+
+		@Override
+		public String toString () {
+			return "Node " + index;
+		}
+	}
+
+	/** A hand-built two-level hierarchy: a row of nodes at level 0, grouped into blocks of consecutive nodes that form a row of
+	 * nodes at level 1. The second node of each block represents the block at level 0. */
+	private static class BlockGraph extends IndexedHierarchicalGraph<Node> {
+		final int blockSize;
+		final int rowLength;
+		final Node[] nodes;
+
+		BlockGraph (int blockCount, int blockSize) {
+			super(2);
+			this.blockSize = blockSize;
+			this.rowLength = blockCount * blockSize;
+			this.nodes = new Node[rowLength + blockCount];
+			for (int i = 0; i < nodes.length; i++)
+				nodes[i] = new Node(i);
+			for (int i = 1; i < rowLength; i++)
+				connect(nodes[i - 1], nodes[i]);
+			for (int i = rowLength + 1; i < nodes.length; i++)
+				connect(nodes[i - 1], nodes[i]);
+		}
+
+		private static void connect (Node a, Node b) {
+			a.connections.add(new DefaultConnection<>(a, b));
+			b.connections.add(new DefaultConnection<>(b, a));
+		}
+
+		@Override
+		public Array<Connection<Node>> getConnections (Node fromNode) {
+			return fromNode.connections;
+		}
+
+		@Override
+		public Array<Connection<Node>> getConnections (Node fromNode, int level) {
+			return fromNode.connections;
+		}
+
+		@Override
+		public int getIndex (Node node) {
+			return node.index;
+		}
+
+		@Override
+		public int getNodeCount () {
+			return nodes.length;
+		}
+
+		@Override
+		public Node convertNodeBetweenLevels (int inputLevel, Node node, int outputLevel) {
+			if (inputLevel == outputLevel) return node;
+			if (inputLevel == 0) return nodes[rowLength + node.index / blockSize];
+			return nodes[(node.index - rowLength) * blockSize + 1];
+		}
+	}
+
+	private static class NoHeuristic implements Heuristic<Node> {
+		@Override
+		public float estimate (Node node, Node endNode) {
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.msg.MessageDispatcher;
+import com.badlogic.gdx.ai.msg.Telegram;
+import com.badlogic.gdx.ai.msg.Telegraph;
+import com.badlogic.gdx.ai.pfa.indexed.ConnectedComponents;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
+import com.badlogic.gdx.ai.pfa.indexed.PrimitiveIndexedAStarPathFinder;
+import com.badlogic.gdx.utils.Array;
+
+public class PathFinderQueueTest {
+
+	private static final int WIDTH = 20;
+	private static final int HEIGHT = 10;
+	private static final int REQUEST_MESSAGE_CODE = 1;
+	private static final int RESPONSE_MESSAGE_CODE = 2;
+
+	@Test
+	public void run_WhenSimilarityIsNotSet_ExpectedEveryRequestSearched () {
+		final MyGraph graph = createGridGraph(WIDTH, HEIGHT);
+		final MyPathFinder pathFinder = new MyPathFinder(graph);
+		final PathFinderQueue<MyNode> queue = new PathFinderQueue<>(pathFinder);
+
+		final MyClient client = runRallyPointRequests(graph, queue);
+
+		Assert.assertEquals("Unexpected number of responses", 4, client.responses);
+		Assert.assertEquals("Unexpected number of searches", 4, pathFinder.searches);
+	}
+
+	@Test
+	public void run_WhenSameGoalSimilarityIsSet_ExpectedRequestsOnThePathCoalesced () {
+		final MyGraph graph = createGridGraph(WIDTH, HEIGHT);
+		final MyPathFinder pathFinder = new MyPathFinder(graph);
+		final PathFinderQueue<MyNode> queue = new PathFinderQueue<>(pathFinder);
+		queue.similarity = new PathFinderRequestSimilarity.SameGoal<>();
+
+		final MyClient client = runRallyPointRequests(graph, queue);
+
+		Assert.assertEquals("Unexpected number of responses", 4, client.responses);
+		Assert.assertEquals("Unexpected number of searches", 2, pathFinder.searches);
+		Assert.assertEquals("Unexpected queue size", 0, queue.size());
+	}
+
+	@Test
+	public void run_WhenSameGoalSimilarityIsSetAndResultPathsAreReused_ExpectedOldNodesDiscarded () {
+		final MyGraph graph = createGridGraph(WIDTH, HEIGHT);
+		final MyPathFinder pathFinder = new MyPathFinder(graph);
+		final PathFinderQueue<MyNode> queue = new PathFinderQueue<>(pathFinder);
+		queue.similarity = new PathFinderRequestSimilarity.SameGoal<>();
+
+		final MyClient client = runRallyPointRequests(graph, queue, true);
+
+		Assert.assertEquals("Unexpected number of responses", 4, client.responses);
+		Assert.assertEquals("Unexpected number of searches", 2, pathFinder.searches);
+	}
+
+	@Test
+	public void shareResult_WhenSameRegionsAndResultPathIsReused_ExpectedOldNodesDiscarded () {
+		final MyGraph graph = createGridGraph(WIDTH, HEIGHT);
+		final MyPathFinder pathFinder = new MyPathFinder(graph);
+		final PathFinderRequestSimilarity<MyNode> similarity = new PathFinderRequestSimilarity.SameRegions<>(new MyRowGraph(graph),
+			1);
+
+		final PathFinderRequest<MyNode> servedRequest = new PathFinderRequest<>(graph.nodes.get(0), graph.nodes.get(WIDTH - 1),
+			new ManhattanDistance(), new DefaultGraphPath<MyNode>());
+		servedRequest.pathFound = pathFinder.searchNodePath(servedRequest.startNode, servedRequest.endNode,
+			servedRequest.heuristic, servedRequest.resultPath);
+		final PathFinderRequest<MyNode> waitingRequest = new PathFinderRequest<>(graph.nodes.get(5), graph.nodes.get(WIDTH - 2),
+			new ManhattanDistance(), newDirtyPath(graph));
+
+		Assert.assertTrue("Unexpected similarity", similarity.isSimilar(servedRequest, waitingRequest));
+		similarity.shareResult(servedRequest, waitingRequest);
+
+		Assert.assertEquals("Unexpected number of nodes in path", WIDTH, waitingRequest.resultPath.getCount());
+		for (int i = 0; i < WIDTH; i++)
+			Assert.assertSame("Unexpected node at index " + i, servedRequest.resultPath.get(i), waitingRequest.resultPath.get(i));
+	}
+
+	@Test
+	public void run_WhenGoalIsInAnotherComponent_ExpectedRequestRejectedWithoutSearch () {
+		final MyGraph graph = createGridGraph(WIDTH, HEIGHT);
+		// An island out of the grid
+		final MyNode island = new MyNode(WIDTH * HEIGHT, WIDTH + 1, 0);
+		graph.nodes.add(island);
+		final MyPathFinder pathFinder = new MyPathFinder(graph);
+		final PathFinderQueue<MyNode> queue = new PathFinderQueue<>(pathFinder);
+		queue.components = new ConnectedComponents<>(graph, graph.nodes);
+
+		final MessageDispatcher dispatcher = new MessageDispatcher();
+		final PathFinderRequest<MyNode> request = new PathFinderRequest<>(graph.nodes.get(0), island, new ManhattanDistance(),
+			new DefaultGraphPath<MyNode>(), dispatcher);
+		request.responseMessageCode = RESPONSE_MESSAGE_CODE;
+		final int[] responses = {0};
+		dispatcher.dispatchMessage(new Telegraph() {
+			@Override
+			public boolean handleMessage (Telegram msg) {
+				Assert.assertFalse("Unexpected path found", ((PathFinderRequest<?>)msg.extraInfo).pathFound);
+				responses[0]++;
+				return true;
+			}
+		}, queue, REQUEST_MESSAGE_CODE, request);
+		queue.run(1000000000L);
+
+		Assert.assertEquals("Unexpected number of responses", 1, responses[0]);
+		Assert.assertEquals("Unexpected number of searches", 0, pathFinder.searches);
+		Assert.assertEquals("Unexpected queue size", 0, queue.size());
+	}
+
+	private static MyClient runRallyPointRequests (MyGraph graph, PathFinderQueue<MyNode> queue) {
+		return runRallyPointRequests(graph, queue, false);
+	}
+
+	/** Sends 4 requests to the rally point at the end of the first row: 3 of them start on the first row, so they lie on the same
+	 * shortest path; the other one starts on the last row. If {@code dirtyPaths} is {@code true} the result paths of the requests
+	 * on the path of the first one already contain some nodes, like the paths of requests reused by the client. Note that the
+	 * path finders themselves expect a clear path. */
+	private static MyClient runRallyPointRequests (MyGraph graph, PathFinderQueue<MyNode> queue, boolean dirtyPaths) {
+		final MessageDispatcher dispatcher = new MessageDispatcher();
+		final MyClient client = new MyClient();
+		final MyNode rallyPoint = graph.nodes.get(WIDTH - 1);
+		final int[] startIndices = {0, 5, (HEIGHT - 1) * WIDTH, 12};
+		for (int i = 0; i < startIndices.length; i++) {
+			final MyNode startNode = graph.nodes.get(startIndices[i]);
+			final boolean coalesced = i > 0 && startNode.y == 0;
+			final PathFinderRequest<MyNode> request = new PathFinderRequest<>(startNode, rallyPoint, new ManhattanDistance(),
+				dirtyPaths && coalesced ? newDirtyPath(graph) : new DefaultGraphPath<MyNode>(), dispatcher);
+			request.responseMessageCode = RESPONSE_MESSAGE_CODE;
+			dispatcher.dispatchMessage(client, queue, REQUEST_MESSAGE_CODE, request);
+		}
+		for (int i = 0; i < 10 && queue.size() > 0; i++)
+			queue.run(1000000000L);
+		return client;
+	}
+
+	private static GraphPath<MyNode> newDirtyPath (MyGraph graph) {
+		final GraphPath<MyNode> path = new DefaultGraphPath<>();
+		path.add(graph.nodes.get(graph.nodes.size - 1));
+		path.add(graph.nodes.get(graph.nodes.size - 2));
+		return path;
+	}
+
+	private static MyGraph createGridGraph (int width, int height) {
+		final Array<MyNode> nodes = new Array<>(width * height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				nodes.add(new MyNode(y * width + x, x, y));
+			}
+		}
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				final MyNode node = nodes.get(y * width + x);
+				if (x > 0) node.connections.add(new DefaultConnection<MyNode>(node, nodes.get(y * width + x - 1)));
+				if (x < width - 1) node.connections.add(new DefaultConnection<MyNode>(node, nodes.get(y * width + x + 1)));
+				if (y > 0) node.connections.add(new DefaultConnection<MyNode>(node, nodes.get((y - 1) * width + x)));
+				if (y < height - 1) node.connections.add(new DefaultConnection<MyNode>(node, nodes.get((y + 1) * width + x)));
+			}
+		}
+		return new MyGraph(nodes);
+	}
+
+	private static class MyPathFinder extends PrimitiveIndexedAStarPathFinder<MyNode> {
+		int searches;
+
+		public MyPathFinder (MyGraph graph) {
+			super(graph);
+		}
+
+		@Override
+		protected void initSearch (MyNode startNode, MyNode endNode, Heuristic<MyNode> heuristic) {
+			searches++;
+			super.initSearch(startNode, endNode, heuristic);
+		}
+	}
+
+	private static class MyClient implements Telegraph {
+		int responses;
+
+		@Override
+		public boolean handleMessage (Telegram msg) {
+			@SuppressWarnings("unchecked")
+			final PathFinderRequest<MyNode> request = (PathFinderRequest<MyNode>)msg.extraInfo;
+			Assert.assertEquals("Unexpected message code", RESPONSE_MESSAGE_CODE, msg.message);
+			Assert.assertTrue("Path not found", request.pathFound);
+			final int expectedCount = Math.abs(request.endNode.x - request.startNode.x)
+				+ Math.abs(request.endNode.y - request.startNode.y) + 1;
+			Assert.assertEquals("Unexpected number of nodes in path", expectedCount, request.resultPath.getCount());
+			Assert.assertSame("Unexpected first node", request.startNode, request.resultPath.get(0));
+			Assert.assertSame("Unexpected last node", request.endNode, request.resultPath.get(expectedCount - 1));
+			responses++;
+			return true;
+		}
+	}
+
+	private static class MyNode {
+
+		private final int index;
+		private final int x;
+		private final int y;
+		private final Array<Connection<MyNode>> connections;
+
+		public MyNode (final int index, final int x, final int y) {
+			this.index = index;
+			this.x = x;
+			this.y = y;
+			this.connections = new Array<>(4);
+		}
+	}
+
+	private static class MyGraph implements IndexedGraph<MyNode> {
+
+		protected Array<MyNode> nodes;
+
+		public MyGraph (Array<MyNode> nodes) {
+			this.nodes = nodes;
+		}
+
+		@Override
+		public int getIndex (MyNode node) {
+			return node.index;
+		}
+
+		@Override
+		public Array<Connection<MyNode>> getConnections (MyNode fromNode) {
+			return fromNode.connections;
+		}
+
+		@Override
+		public int getNodeCount () {
+			return nodes.size;
+		}
+	}
+
+	/** A two-level hierarchy whose regions are the rows of the grid, each one represented by its first node. */
+	private static class MyRowGraph implements HierarchicalGraph<MyNode> {
+		final MyGraph graph;
+
+		public MyRowGraph (MyGraph graph) {
+			this.graph = graph;
+		}
+
+		@Override
+		public Array<Connection<MyNode>> getConnections (MyNode fromNode) {
+			return fromNode.connections;
+		}
+
+		@Override
+		public int getLevelCount () {
+			return 2;
+		}
+
+		@Override
+		public void setLevel (int level) {
+		}
+
+		@Override
+		public Graph<MyNode> getLevelView (int level) {
+			return graph;
+		}
+
+		@Override
+		public MyNode convertNodeBetweenLevels (int inputLevel, MyNode node, int outputLevel) {
+			return outputLevel == 0 ? node : graph.nodes.get(node.y * WIDTH);
+		}
+	}
+
+	private static class ManhattanDistance implements Heuristic<MyNode> {
+		@Override
+		public float estimate (final MyNode node, final MyNode endNode) {
+			return Math.abs(endNode.x - node.x) + Math.abs(endNode.y - node.y);
+		}
+	}
+
+}
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.msg.MessageDispatcher;
+import com.badlogic.gdx.ai.msg.Telegram;
+import com.badlogic.gdx.ai.msg.Telegraph;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
+import com.badlogic.gdx.ai.pfa.indexed.PrimitiveIndexedAStarPathFinder;
+import com.badlogic.gdx.utils.Array;
+
+public class PathFinderStatisticsTest {
+
+	private static final int WIDTH = 40;
+	private static final int HEIGHT = 30;
+
+	@Test
+	public void searchNodePath_WhenMetered_ExpectedSearchMetricsReported () {
+		final MyGraph graph = createGridGraph(WIDTH, HEIGHT);
+		final PrimitiveIndexedAStarPathFinder<MyNode> pathfinder = new PrimitiveIndexedAStarPathFinder<>(graph, true);
+		final PathFinderStatistics statistics = new PathFinderStatistics();
+		final MeteredPathFinder<MyNode> meteredPathfinder = new MeteredPathFinder<>(pathfinder, pathfinder.metrics, statistics);
+
+		for (int i = 0; i < 3; i++) {
+			Assert.assertTrue("Unexpected search result", meteredPathfinder.searchNodePath(graph.nodes.get(i),
+				graph.nodes.get(WIDTH * HEIGHT - 1), new ManhattanDistance(), new DefaultGraphPath<MyNode>()));
+		}
+		final int expandedNodes = pathfinder.metrics.expandedNodes;
+
+		// The isolated node has no connections
+		Assert.assertFalse("Unexpected search result", meteredPathfinder.searchNodePath(graph.isolatedNode, graph.nodes.get(0),
+			new ManhattanDistance(), new DefaultGraphPath<MyNode>()));
+
+		Assert.assertEquals("Unexpected number of searches", 4, statistics.getSearchCount());
+		Assert.assertEquals("Unexpected number of failed searches", 1, statistics.getFailedSearchCount());
+		Assert.assertEquals("Unexpected failure rate", 0.25f, statistics.getSearchFailureRate(), 0);
+		Assert.assertTrue("Unexpected number of expanded nodes", expandedNodes > 0);
+		Assert.assertTrue("Unexpected max number of expanded nodes", statistics.getMaxExpandedNodes() >= expandedNodes);
+		Assert.assertTrue("Unexpected number of heuristic calls", statistics.getHeuristicCalls() >= 3 * (WIDTH + HEIGHT));
+		Assert.assertEquals("Unexpected max percentile", statistics.getMaxSearchTime(), statistics.getSearchTimePercentile(1));
+
+		long searches = 0;
+		for (long count : statistics.getSearchTimeHistogram(new long[PathFinderStatistics.HISTOGRAM_BUCKETS]))
+			searches += count;
+		Assert.assertEquals("Unexpected number of searches in histogram", 4, searches);
+
+		statistics.reset();
+		Assert.assertEquals("Unexpected number of searches after reset", 0, statistics.getSearchCount());
+	}
+
+	@Test
+	public void run_WhenQueueHasMetricsSink_ExpectedRequestMetricsReported () {
+		final MyGraph graph = createGridGraph(WIDTH, HEIGHT);
+		final PathFinderStatistics statistics = new PathFinderStatistics();
+		final PathFinderQueue<MyNode> queue = new PathFinderQueue<>(new MeteredPathFinder<>(
+			new PrimitiveIndexedAStarPathFinder<>(graph), statistics));
+		queue.metricsSink = statistics;
+
+		final MessageDispatcher dispatcher = new MessageDispatcher();
+		final Telegraph client = new Telegraph() {
+			@Override
+			public boolean handleMessage (Telegram msg) {
+				return true;
+			}
+		};
+		final int requestCount = 5;
+		for (int i = 0; i < requestCount; i++) {
+			final MyNode startNode = i < requestCount - 1 ? graph.nodes.get(i) : graph.isolatedNode;
+			final Telegram telegram = new Telegram();
+			telegram.sender = client;
+			telegram.extraInfo = new PathFinderRequest<>(startNode, graph.nodes.get(WIDTH * HEIGHT - 1), new ManhattanDistance(),
+				new DefaultGraphPath<MyNode>(), dispatcher);
+			queue.handleMessage(telegram);
+		}
+
+		// Run the queue with a tiny time budget so that requests need several frames
+		for (int i = 0; i < 100000 && queue.size() + (queue.currentRequest == null ? 0 : 1) > 0; i++)
+			queue.run(20000);
+
+		Assert.assertEquals("Unexpected number of requests", requestCount, statistics.getRequestCount());
+		Assert.assertEquals("Unexpected number of failed requests", 1, statistics.getFailedRequestCount());
+		Assert.assertEquals("Unexpected number of searches", requestCount, statistics.getSearchCount());
+		Assert.assertTrue("Unexpected number of time slices", statistics.getMaxTimeSlices() > 1);
+		Assert.assertTrue("Unexpected mean number of time slices", statistics.getMeanTimeSlices() >= 1);
+		Assert.assertEquals("Unexpected expanded nodes without metrics", 0, statistics.getMeanExpandedNodes(), 0);
+	}
+
+	@Test
+	public void bucketOf_WhenValuesArePowersOfTwo_ExpectedNextBucket () {
+		Assert.assertEquals("Unexpected bucket", 0, PathFinderStatistics.bucketOf(0));
+		Assert.assertEquals("Unexpected bucket", 1, PathFinderStatistics.bucketOf(1));
+		Assert.assertEquals("Unexpected bucket", 2, PathFinderStatistics.bucketOf(3));
+		Assert.assertEquals("Unexpected bucket", 11, PathFinderStatistics.bucketOf(1024));
+		Assert.assertEquals("Unexpected bucket", PathFinderStatistics.HISTOGRAM_BUCKETS - 1, PathFinderStatistics.bucketOf(
+			Long.MAX_VALUE));
+	}
+
+	private static MyGraph createGridGraph (int width, int height) {
+		final Array<MyNode> nodes = new Array<>(width * height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				nodes.add(new MyNode(y * width + x, x, y));
+			}
+		}
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				final MyNode node = nodes.get(y * width + x);
+				if (x > 0) node.connections.add(new DefaultConnection<MyNode>(node, nodes.get(y * width + x - 1)));
+				if (x < width - 1) node.connections.add(new DefaultConnection<MyNode>(node, nodes.get(y * width + x + 1)));
+				if (y > 0) node.connections.add(new DefaultConnection<MyNode>(node, nodes.get((y - 1) * width + x)));
+				if (y < height - 1) node.connections.add(new DefaultConnection<MyNode>(node, nodes.get((y + 1) * width + x)));
+			}
+		}
+		return new MyGraph(nodes, new MyNode(width * height, -1, -1));
+	}
+
+	private static class MyNode {
+
+		private final int index;
+		private final int x;
+		private final int y;
+		private final Array<Connection<MyNode>> connections;
+
+		public MyNode (final int index, final int x, final int y) {
+			this.index = index;
+			this.x = x;
+			this.y = y;
+			this.connections = new Array<>(4);
+		}
+	}
+
+	private static class MyGraph implements IndexedGraph<MyNode> {
+
+		protected Array<MyNode> nodes;
+		protected MyNode isolatedNode;
+
+		public MyGraph (Array<MyNode> nodes, MyNode isolatedNode) {
+			this.nodes = nodes;
+			this.isolatedNode = isolatedNode;
+		}
+
+		@Override
+		public int getIndex (MyNode node) {
+			return node.index;
+		}
+
+		@Override
+		public Array<Connection<MyNode>> getConnections (MyNode fromNode) {
+			return fromNode.connections;
+		}
+
+		@Override
+		public int getNodeCount () {
+			return nodes.size + 1;
+		}
+	}
+
+	private static class ManhattanDistance implements Heuristic<MyNode> {
+		@Override
+		public float estimate (final MyNode node, final MyNode endNode) {
+			return Math.abs(endNode.x - node.x) + Math.abs(endNode.y - node.y);
+		}
+	}
+
+}
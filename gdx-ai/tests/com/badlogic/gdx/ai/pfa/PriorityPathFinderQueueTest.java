@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.msg.MessageDispatcher;
+import com.badlogic.gdx.ai.msg.Telegram;
+import com.badlogic.gdx.ai.msg.Telegraph;
+import com.badlogic.gdx.utils.Array;
+
+public class PriorityPathFinderQueueTest {
+
+	private static final int REQUEST_MESSAGE_CODE = 1;
+
+	private final MessageDispatcher dispatcher = new MessageDispatcher();
+	private final MyPathFinder pathFinder = new MyPathFinder();
+
+	@Test
+	public void run_WhenOrderingIsPriority_ExpectedHighestPriorityServedFirst () {
+		final PriorityPathFinderQueue<Integer> queue = new PriorityPathFinderQueue<>(pathFinder);
+		submit(queue, new MyClient(), 0, 0, PathFinderRequest.NO_DEADLINE);
+		submit(queue, new MyClient(), 1, 0, PathFinderRequest.NO_DEADLINE);
+		submit(queue, new MyClient(), 2, 5, PathFinderRequest.NO_DEADLINE);
+		submit(queue, new MyClient(), 3, 1, PathFinderRequest.NO_DEADLINE);
+
+		queue.run(1000000000L);
+
+		assertServedOrder(2, 3, 0, 1);
+	}
+
+	@Test
+	public void run_WhenOrderingIsEarliestDeadlineFirst_ExpectedEarliestDeadlineServedFirst () {
+		final PriorityPathFinderQueue<Integer> queue = new PriorityPathFinderQueue<>(pathFinder,
+			PriorityPathFinderQueue.Ordering.EARLIEST_DEADLINE_FIRST);
+		submit(queue, new MyClient(), 0, 9, PathFinderRequest.NO_DEADLINE);
+		submit(queue, new MyClient(), 1, 0, 300);
+		submit(queue, new MyClient(), 2, 0, 100);
+		submit(queue, new MyClient(), 3, 1, 300);
+
+		queue.run(1000000000L);
+
+		assertServedOrder(2, 3, 1, 0);
+	}
+
+	@Test
+	public void run_WhenOrderingIsWeightedFair_ExpectedSharesProportionalToWeights () {
+		final PriorityPathFinderQueue<Integer> queue = new PriorityPathFinderQueue<>(pathFinder,
+			PriorityPathFinderQueue.Ordering.WEIGHTED_FAIR);
+		for (int i = 0; i < 8; i++)
+			submit(queue, new MyClient(), i, 0, PathFinderRequest.NO_DEADLINE);
+		for (int i = 8; i < 16; i++)
+			submit(queue, new MyClient(), i, 2, PathFinderRequest.NO_DEADLINE);
+
+		queue.run(1000000000L);
+
+		// Priority 2 has weight 3 and priority 0 has weight 1, so the former gets 3 of every 4 requests
+		int highPriorityCount = 0;
+		for (int i = 0; i < 8; i++)
+			if (pathFinder.servedRequests.get(i).priority == 2) highPriorityCount++;
+		Assert.assertEquals("Unexpected number of high priority requests served first", 6, highPriorityCount);
+		Assert.assertEquals("Unexpected number of served requests", 16, pathFinder.servedRequests.size);
+	}
+
+	@Test
+	public void run_WhenRequestWaitsLongerThanMaxWaitTime_ExpectedRequestServedFirst () throws InterruptedException {
+		final PriorityPathFinderQueue<Integer> queue = new PriorityPathFinderQueue<>(pathFinder);
+		queue.maxWaitTime = 1000000L;
+		submit(queue, new MyClient(), 0, 0, PathFinderRequest.NO_DEADLINE);
+		Thread.sleep(5);
+		submit(queue, new MyClient(), 1, 5, PathFinderRequest.NO_DEADLINE);
+
+		queue.run(1000000000L);
+
+		assertServedOrder(0, 1);
+	}
+
+	@Test
+	public void run_WhenSameClientSendsNewRequest_ExpectedStaleRequestNeverSearched () {
+		final PriorityPathFinderQueue<Integer> queue = new PriorityPathFinderQueue<>(pathFinder);
+		queue.replaceStaleRequests = true;
+		final MyClient client = new MyClient();
+		submit(queue, client, 0, 0, PathFinderRequest.NO_DEADLINE);
+		submit(queue, new MyClient(), 1, 0, PathFinderRequest.NO_DEADLINE);
+		submit(queue, client, 2, 0, PathFinderRequest.NO_DEADLINE);
+
+		Assert.assertEquals("Unexpected queue size", 2, queue.size());
+
+		queue.run(1000000000L);
+
+		assertServedOrder(1, 2);
+		Assert.assertEquals("Unexpected number of responses", 1, client.responses);
+	}
+
+	@Test
+	public void run_WhenSameClientReplacesRequestBeingServed_ExpectedRequestTimeReset () {
+		final PriorityPathFinderQueue<Integer> queue = new PriorityPathFinderQueue<>(pathFinder);
+		queue.replaceStaleRequests = true;
+		queue.metricsSink = new PathFinderStatistics();
+		pathFinder.unfinishedRequest = 0;
+		final MyClient client = new MyClient();
+		submit(queue, client, 0, 0, PathFinderRequest.NO_DEADLINE);
+		queue.run(1000000000L);
+
+		Assert.assertTrue("Unexpected request time", queue.currentRequestTime > 0);
+
+		submit(queue, client, 1, 0, PathFinderRequest.NO_DEADLINE);
+
+		Assert.assertEquals("Unexpected request time", 0, queue.currentRequestTime);
+
+		queue.run(1000000000L);
+
+		assertServedOrder(0, 1);
+		Assert.assertEquals("Unexpected number of responses", 1, client.responses);
+	}
+
+	@Test
+	public void cancel_WhenClientHasWaitingRequests_ExpectedRequestsNeverSearched () {
+		final PriorityPathFinderQueue<Integer> queue = new PriorityPathFinderQueue<>(pathFinder);
+		final MyClient client = new MyClient();
+		submit(queue, client, 0, 0, PathFinderRequest.NO_DEADLINE);
+		submit(queue, new MyClient(), 1, 0, PathFinderRequest.NO_DEADLINE);
+		submit(queue, client, 2, 0, PathFinderRequest.NO_DEADLINE);
+
+		Assert.assertEquals("Unexpected number of cancelled requests", 2, queue.cancel(client));
+
+		queue.run(1000000000L);
+
+		assertServedOrder(1);
+		Assert.assertEquals("Unexpected number of responses", 0, client.responses);
+	}
+
+	private void submit (PriorityPathFinderQueue<Integer> queue, MyClient client, int id, int priority, long deadline) {
+		final PathFinderRequest<Integer> request = new PathFinderRequest<>(id, id, null, new DefaultGraphPath<Integer>(),
+			dispatcher);
+		request.priority = priority;
+		request.deadline = deadline;
+		dispatcher.dispatchMessage(client, queue, REQUEST_MESSAGE_CODE, request);
+	}
+
+	private void assertServedOrder (int... ids) {
+		Assert.assertEquals("Unexpected number of served requests", ids.length, pathFinder.servedRequests.size);
+		for (int i = 0; i < ids.length; i++)
+			Assert.assertEquals("Unexpected request served at position " + i, ids[i],
+				pathFinder.servedRequests.get(i).startNode.intValue());
+	}
+
+	private static class MyPathFinder implements PathFinder<Integer> {
+		final Array<PathFinderRequest<Integer>> servedRequests = new Array<>();
+		int unfinishedRequest = -1;
+
+		@Override
+		public boolean searchConnectionPath (Integer startNode, Integer endNode, Heuristic<Integer> heuristic,
+			GraphPath<Connection<Integer>> outPath) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean searchNodePath (Integer startNode, Integer endNode, Heuristic<Integer> heuristic,
+			GraphPath<Integer> outPath) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean search (PathFinderRequest<Integer> request, long timeToRun) {
+			servedRequests.add(request);
+			if (request.startNode == unfinishedRequest) return false;
+			request.resultPath.add(request.startNode);
+			request.pathFound = true;
+			return true;
+		}
+	}
+
+	private static class MyClient implements Telegraph {
+		int responses;
+
+		@Override
+		public boolean handleMessage (Telegram msg) {
+			responses++;
+			return true;
+		}
+	}
+
+}
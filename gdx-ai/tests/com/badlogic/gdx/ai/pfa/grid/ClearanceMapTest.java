@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.grid;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.PathFinderRequest;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import com.badlogic.gdx.math.MathUtils;
+
+public class ClearanceMapTest {
+
+	@Test
+	public void getClearance_WhenGridHasObstacles_ExpectedLargestSquareSizes () {
+		// @off - disable libgdx formatter
+		// 0123
+		// .... 0
+		// ..#. 1
+		// .... 2
+		// @on - enable libgdx formatter
+		final GridGraph graph = new GridGraph(4, 3);
+		graph.setWalkable(2, 1, false);
+		final ClearanceMap clearanceMap = new ClearanceMap(graph, 3);
+
+		Assert.assertEquals("Unexpected clearance", 2, clearanceMap.getClearance(0, 0));
+		Assert.assertEquals("Unexpected clearance", 1, clearanceMap.getClearance(1, 0));
+		Assert.assertEquals("Unexpected clearance", 2, clearanceMap.getClearance(0, 1));
+		Assert.assertEquals("Unexpected clearance", 0, clearanceMap.getClearance(2, 1));
+		Assert.assertEquals("Unexpected clearance", 1, clearanceMap.getClearance(3, 0));
+		Assert.assertEquals("Unexpected clearance", 1, clearanceMap.getClearance(3, 2));
+		Assert.assertEquals("Unexpected clearance", 0, clearanceMap.getClearance(4, 0));
+	}
+
+	@Test
+	public void update_WhenWalkabilityChanges_ExpectedSameClearancesAsFreshMap () {
+		MathUtils.random.setSeed(42);
+		final GridGraph graph = new GridGraph(24, 16);
+		final ClearanceMap clearanceMap = new ClearanceMap(graph, 4);
+		for (int i = 0; i < 200; i++) {
+			final int x = MathUtils.random(graph.getWidth() - 1);
+			final int y = MathUtils.random(graph.getHeight() - 1);
+			graph.setWalkable(x, y, !graph.isWalkable(x, y));
+			clearanceMap.update(x, y);
+		}
+
+		final ClearanceMap freshClearanceMap = new ClearanceMap(graph, 4);
+		for (int y = 0; y < graph.getHeight(); y++)
+			for (int x = 0; x < graph.getWidth(); x++)
+				Assert.assertEquals("Unexpected clearance at " + x + "," + y, freshClearanceMap.getClearance(x, y),
+					clearanceMap.getClearance(x, y));
+	}
+
+	@Test
+	public void search_WhenAgentIsWiderThanGap_ExpectedPathAroundWall () {
+		final GridGraph graph = new GridGraph(20, 12);
+		// A wall with a 1-wide gap at the bottom and a 2-wide gap at the top
+		for (int y = 1; y < 10; y++)
+			graph.setWalkable(10, y, false);
+
+		final ClearanceGraph<GridNode> clearanceGraph = new ClearanceGraph<>(graph, new ClearanceMap(graph, 2));
+		final ClearancePathFinder<GridNode> pathfinder = new ClearancePathFinder<>(clearanceGraph,
+			new IndexedAStarPathFinder<>(clearanceGraph));
+		final GridNode startNode = graph.getNode(0, 0);
+		final GridNode endNode = graph.getNode(18, 0);
+
+		final GraphPath<Connection<GridNode>> outPath = new DefaultGraphPath<>();
+		Assert.assertTrue("Unexpected search result",
+			pathfinder.searchConnectionPath(startNode, endNode, new OctileDistance(), outPath));
+		Assert.assertEquals("Unexpected gap crossed", 0, getMaxY(outPath));
+
+		outPath.clear();
+		clearanceGraph.setClearance(2);
+		Assert.assertTrue("Unexpected search result",
+			pathfinder.searchConnectionPath(startNode, endNode, new OctileDistance(), outPath));
+		Assert.assertEquals("Unexpected gap crossed", 10, getMaxY(outPath));
+
+		// The clearance of the request wins over the one of the graph
+		final PathFinderRequest<GridNode> request = new PathFinderRequest<>(startNode, endNode, new OctileDistance(),
+			new DefaultGraphPath<GridNode>());
+		request.clearance = 1;
+		request.statusChanged = true;
+		Assert.assertTrue("Search not finished", pathfinder.search(request, Long.MAX_VALUE));
+		Assert.assertTrue("Unexpected search result", request.pathFound);
+		Assert.assertEquals("Unexpected clearance", 1, clearanceGraph.getClearance());
+		for (int i = 0; i < request.resultPath.getCount(); i++)
+			Assert.assertEquals("Unexpected gap crossed", 0, request.resultPath.get(i).y);
+
+		// Close the top gap, now the wide agent can't get through
+		graph.setWalkable(10, 10, false);
+		clearanceGraph.getClearanceMap().update(10, 10);
+		outPath.clear();
+		clearanceGraph.setClearance(2);
+		Assert.assertFalse("Unexpected search result",
+			pathfinder.searchConnectionPath(startNode, endNode, new OctileDistance(), outPath));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void new_WhenMaxClearanceIsOutOfRange_ExpectedIllegalArgumentException () {
+		new ClearanceMap(new GridGraph(4, 4), 256);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setClearance_WhenClearanceExceedsMaxClearance_ExpectedIllegalArgumentException () {
+		final GridGraph graph = new GridGraph(4, 4);
+		new ClearanceGraph<>(graph, new ClearanceMap(graph, 2)).setClearance(3);
+	}
+
+	private static int getMaxY (GraphPath<Connection<GridNode>> path) {
+		int maxY = 0;
+		for (int i = 0; i < path.getCount(); i++)
+			maxY = Math.max(maxY, path.get(i).getToNode().y);
+		return maxY;
+	}
+
+	private static class OctileDistance implements Heuristic<GridNode> {
+		@Override
+		public float estimate (final GridNode node, final GridNode endNode) {
+			final int dx = Math.abs(endNode.x - node.x);
+			final int dy = Math.abs(endNode.y - node.y);
+			return Math.max(dx, dy) + (GridGraph.DIAGONAL_COST - 1) * Math.min(dx, dy);
+		}
+	}
+
+}
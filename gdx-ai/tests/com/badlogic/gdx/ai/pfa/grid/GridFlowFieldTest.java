@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.grid;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultConnection;
+import com.badlogic.gdx.ai.pfa.indexed.IntegrationField;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+public class GridFlowFieldTest {
+
+	// @off - disable libgdx formatter
+	private static final String ROOM =
+		"..........\n" +
+		"..........\n" +
+		".....#....\n" +
+		".....#....\n" +
+		"######.###\n" +
+		"..........";
+	// @on - enable libgdx formatter
+
+	@Test
+	public void compute_WhenSingleGoal_ExpectedShortestPathCosts () {
+		final MyGrid grid = new MyGrid(ROOM, false);
+		final GridFlowField<MyNode> flowField = new GridFlowField<>(grid, 1);
+		flowField.compute(grid.getNode(0, 5));
+		final IntegrationField<MyNode> integrationField = flowField.getIntegrationField();
+
+		Assert.assertEquals("Unexpected goal cost", 0, integrationField.getCost(grid.getNode(0, 5)), 0);
+		Assert.assertEquals("Unexpected cost", 9, integrationField.getCost(grid.getNode(9, 5)), 0);
+		// From (0, 0) to the gap in the wall at (6, 4), then to the goal
+		Assert.assertEquals("Unexpected cost", 6 + 4 + 6 + 1, integrationField.getCost(grid.getNode(0, 0)), 0);
+		Assert.assertFalse("Unexpected reachable wall", integrationField.isReachable(grid.getNode(5, 2)));
+		Assert.assertNull("Unexpected next node of goal", integrationField.getNextNode(grid.getNode(0, 5)));
+		Assert.assertSame("Unexpected next node", grid.getNode(6, 5), integrationField.getNextNode(grid.getNode(6, 4)));
+	}
+
+	@Test
+	public void lookup_WhenMultipleGoals_ExpectedFlowTowardsNearestGoal () {
+		final MyGrid grid = new MyGrid(ROOM, true);
+		final GridFlowField<MyNode> flowField = new GridFlowField<>(grid, 2, 100, 100);
+		final Array<MyNode> goals = new Array<>();
+		goals.add(grid.getNode(0, 0));
+		goals.add(grid.getNode(9, 0));
+		flowField.compute(goals);
+
+		final Vector2 position = new Vector2();
+
+		// Cell (1, 0) flows west, cell (8, 0) flows east
+		Assert.assertEquals("Unexpected flow", new Vector2(-1, 0), flowField.lookup(position.set(103, 101)));
+		Assert.assertEquals("Unexpected flow", new Vector2(1, 0), flowField.lookup(position.set(117, 101)));
+
+		// Cell (1, 1) flows south-west
+		final Vector2 flow = flowField.lookup(position.set(103, 103));
+		Assert.assertEquals("Unexpected flow x", -Math.sqrt(0.5), flow.x, 1e-6);
+		Assert.assertEquals("Unexpected flow y", -Math.sqrt(0.5), flow.y, 1e-6);
+
+		// Goals, walls and positions outside the grid have no flow
+		Assert.assertTrue("Unexpected flow at goal", flowField.lookup(position.set(101, 101)).isZero());
+		Assert.assertTrue("Unexpected flow at wall", flowField.lookup(position.set(111, 105)).isZero());
+		Assert.assertTrue("Unexpected flow outside", flowField.lookup(position.set(99, 101)).isZero());
+	}
+
+	private static class MyNode {
+
+		private final int index;
+		private final int x;
+		private final int y;
+		private final Array<Connection<MyNode>> connections;
+
+		public MyNode (final int index, final int x, final int y) {
+			this.index = index;
+			this.x = x;
+			this.y = y;
+			this.connections = new Array<>(8);
+		}
+
+		@Override
+		public String toString () {
+			return "MyNode [index=" + index + ", x=" + x + ", y=" + y + "]";
+		}
+	}
+
+	private static class MyGrid implements Grid<MyNode> {
+
+		private final int width;
+		private final int height;
+		private final boolean[] walkable;
+		private final MyNode[] nodes;
+
+		public MyGrid (final String gridTextRepresentation, final boolean diagonal) {
+			final String[] rows = gridTextRepresentation.split("\n");
+			this.width = rows[0].length();
+			this.height = rows.length;
+			this.walkable = new boolean[width * height];
+			this.nodes = new MyNode[width * height];
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					walkable[y * width + x] = rows[y].charAt(x) == '.';
+					nodes[y * width + x] = new MyNode(y * width + x, x, y);
+				}
+			}
+
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					if (!isWalkable(x, y)) continue;
+					for (int dx = -1; dx <= 1; dx++) {
+						for (int dy = -1; dy <= 1; dy++) {
+							if (dx == 0 && dy == 0 || !isWalkable(x + dx, y + dy)) continue;
+							if (dx != 0 && dy != 0) {
+								if (!diagonal || !isWalkable(x + dx, y) || !isWalkable(x, y + dy)) continue;
+								getNode(x, y).connections.add(new DiagonalConnection(getNode(x, y), getNode(x + dx, y + dy)));
+							} else {
+								getNode(x, y).connections.add(new DefaultConnection<>(getNode(x, y), getNode(x + dx, y + dy)));
+							}
+						}
+					}
+				}
+			}
+		}
+
+		@Override
+		public int getIndex (MyNode node) {
+			return node.index;
+		}
+
+		@Override
+		public int getNodeCount () {
+			return nodes.length;
+		}
+
+		@Override
+		public Array<Connection<MyNode>> getConnections (MyNode fromNode) {
+			return fromNode.connections;
+		}
+
+		@Override
+		public int getWidth () {
+			return width;
+		}
+
+		@Override
+		public int getHeight () {
+			return height;
+		}
+
+		@Override
+		public boolean isWalkable (int x, int y) {
+			return x >= 0 && y >= 0 && x < width && y < height && walkable[y * width + x];
+		}
+
+		@Override
+		public MyNode getNode (int x, int y) {
+			return nodes[y * width + x];
+		}
+
+		@Override
+		public int getX (MyNode node) {
+			return node.x;
+		}
+
+		@Override
+		public int getY (MyNode node) {
+			return node.y;
+		}
+	}
+
+	private static class DiagonalConnection extends DefaultConnection<MyNode> {
+		public DiagonalConnection (MyNode fromNode, MyNode toNode) {
+			super(fromNode, toNode);
+		}
+
+		@Override
+		public float getCost () {
+			return (float)Math.sqrt(2);
+		}
+	}
+
+}
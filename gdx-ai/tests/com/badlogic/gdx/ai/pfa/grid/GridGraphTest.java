@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.grid;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.PathSmoother;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import com.badlogic.gdx.ai.pfa.indexed.NeighborConsumer;
+import com.badlogic.gdx.ai.pfa.indexed.PrimitiveIndexedAStarPathFinder;
+import com.badlogic.gdx.ai.utils.Collision;
+import com.badlogic.gdx.ai.utils.Ray;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+public class GridGraphTest {
+
+	@Test
+	public void forEachNeighbor_WhenDiagonalMovementChanges_ExpectedCornerCuttingRulesApplied () {
+		// @off - disable libgdx formatter
+		// 012
+		// ..# 0
+		// .S. 1
+		// ... 2
+		// @on - enable libgdx formatter
+		final GridGraph graph = new GridGraph(3, 3, GridGraph.DiagonalMovement.NEVER);
+		graph.setWalkable(2, 0, false);
+		final int center = graph.getIndex(graph.getNode(1, 1));
+
+		Assert.assertEquals("Unexpected neighbors with no diagonals", 4, countNeighbors(graph, center));
+
+		graph.setDiagonalMovement(GridGraph.DiagonalMovement.ONLY_WHEN_NO_OBSTACLES);
+		Assert.assertEquals("Unexpected neighbors without corner cutting", 7, countNeighbors(graph, center));
+
+		// @off - disable libgdx formatter
+		// 012
+		// ..# 0
+		// .S# 1
+		// .#. 2
+		// @on - enable libgdx formatter
+		graph.setWalkable(2, 1, false);
+		graph.setWalkable(1, 2, false);
+		Assert.assertEquals("Unexpected neighbors without corner cutting", 3, countNeighbors(graph, center));
+
+		graph.setDiagonalMovement(GridGraph.DiagonalMovement.IF_AT_MOST_ONE_OBSTACLE);
+		Assert.assertEquals("Unexpected neighbors cutting one corner", 4, countNeighbors(graph, center));
+
+		graph.setDiagonalMovement(GridGraph.DiagonalMovement.ALWAYS);
+		Assert.assertEquals("Unexpected neighbors always cutting corners", 5, countNeighbors(graph, center));
+
+		Assert.assertEquals("Unexpected number of connections", 5, graph.getConnections(graph.getNode(center)).size);
+	}
+
+	@Test
+	public void setWalkable_WhenWallIsClosed_ExpectedVersionChangedAndPathUpdated () {
+		final GridGraph graph = new GridGraph(20, 10);
+		// A wall with a gap at the top
+		for (int y = 0; y < 9; y++)
+			graph.setWalkable(10, y, false);
+
+		final IndexedAStarPathFinder<GridNode> pathfinder = new IndexedAStarPathFinder<>(graph);
+		final PrimitiveIndexedAStarPathFinder<GridNode> implicitPathfinder = new PrimitiveIndexedAStarPathFinder<>(graph);
+		final GraphPath<Connection<GridNode>> outPath = new DefaultGraphPath<>();
+		final GraphPath<Connection<GridNode>> implicitOutPath = new DefaultGraphPath<>();
+		final GridNode startNode = graph.getNode(0, 0);
+		final GridNode endNode = graph.getNode(19, 0);
+
+		Assert.assertTrue("Unexpected search result",
+			pathfinder.searchConnectionPath(startNode, endNode, new OctileDistance(), outPath));
+		Assert.assertTrue("Unexpected search result",
+			implicitPathfinder.searchConnectionPath(startNode, endNode, new OctileDistance(), implicitOutPath));
+		Assert.assertEquals("Unexpected path cost", getCost(outPath), getCost(implicitOutPath), 1e-4f);
+		for (int i = 0; i < outPath.getCount(); i++)
+			Assert.assertFalse("Path crosses the wall", outPath.get(i).getToNode().x == 10 && outPath.get(i).getToNode().y < 9);
+
+		// Close the gap
+		final int version = graph.getVersion();
+		graph.setWalkable(10, 9, false);
+		Assert.assertNotEquals("Version not changed", version, graph.getVersion());
+
+		outPath.clear();
+		Assert.assertFalse("Unexpected search result",
+			pathfinder.searchConnectionPath(startNode, endNode, new OctileDistance(), outPath));
+		Assert.assertFalse("Unexpected search result",
+			implicitPathfinder.searchConnectionPath(startNode, endNode, new OctileDistance(), outPath));
+	}
+
+	@Test
+	public void setCost_WhenCellsAreExpensive_ExpectedPathAvoidsThem () {
+		final GridGraph graph = new GridGraph(10, 3, GridGraph.DiagonalMovement.NEVER);
+		// A swamp on the middle row
+		for (int x = 1; x < 9; x++)
+			graph.setCost(x, 1, 10);
+
+		final PrimitiveIndexedAStarPathFinder<GridNode> pathfinder = new PrimitiveIndexedAStarPathFinder<>(graph);
+		final GraphPath<Connection<GridNode>> outPath = new DefaultGraphPath<>();
+
+		Assert.assertTrue("Unexpected search result",
+			pathfinder.searchConnectionPath(graph.getNode(0, 1), graph.getNode(9, 1), new OctileDistance(), outPath));
+		Assert.assertEquals("Unexpected path cost", 11, getCost(outPath), 1e-4f);
+		Assert.assertEquals("Unexpected cost", 10, graph.getCost(5, 1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setCost_WhenCostIsOutOfRange_ExpectedIllegalArgumentException () {
+		new GridGraph(4, 4).setCost(1, 1, 256);
+	}
+
+	@Test
+	public void searchNodePath_WhenUsingJumpPointSearch_ExpectedSameCostAsAStar () {
+		final GridGraph graph = new GridGraph(30, 20);
+		for (int y = 2; y < 20; y++)
+			graph.setWalkable(8, y, false);
+		for (int y = 0; y < 17; y++)
+			graph.setWalkable(20, y, false);
+
+		final JumpPointSearchPathFinder<GridNode> jpsPathfinder = new JumpPointSearchPathFinder<>(graph, true);
+		final IndexedAStarPathFinder<GridNode> pathfinder = new IndexedAStarPathFinder<>(graph);
+		final GraphPath<Connection<GridNode>> jpsOutPath = new DefaultGraphPath<>();
+		final GraphPath<Connection<GridNode>> outPath = new DefaultGraphPath<>();
+
+		Assert.assertTrue("Unexpected search result", jpsPathfinder.searchConnectionPath(graph.getNode(0, 19),
+			graph.getNode(29, 0), new OctileDistance(), jpsOutPath));
+		Assert.assertTrue("Unexpected search result",
+			pathfinder.searchConnectionPath(graph.getNode(0, 19), graph.getNode(29, 0), new OctileDistance(), outPath));
+		Assert.assertEquals("Unexpected path cost", getCost(outPath), getCost(jpsOutPath), 1e-4f);
+	}
+
+	@Test
+	public void smoothPath_WhenGridIsOpen_ExpectedStraightPath () {
+		final GridGraph graph = new GridGraph(20, 20);
+		graph.setWalkable(5, 5, false);
+
+		final IndexedAStarPathFinder<GridNode> pathfinder = new IndexedAStarPathFinder<>(graph);
+		final GridSmoothableGraphPath<GridNode> path = new GridSmoothableGraphPath<>(graph);
+
+		Assert.assertTrue("Unexpected search result",
+			pathfinder.searchNodePath(graph.getNode(0, 0), graph.getNode(19, 7), new OctileDistance(), path));
+
+		final PathSmoother<GridNode, Vector2> pathSmoother = new PathSmoother<>(new GridRaycastCollisionDetector<>(graph));
+		pathSmoother.smoothPath(path);
+
+		Assert.assertEquals("Unexpected number of nodes in smoothed path", 2, path.getCount());
+	}
+
+	@Test
+	public void findCollision_WhenRayCrossesWalls_ExpectedClosestHitPointAndNormal () {
+		final GridGraph graph = new GridGraph(10, 5);
+		for (int y = 0; y < 5; y++) {
+			graph.setWalkable(3, y, false);
+			graph.setWalkable(6, y, false);
+		}
+		final GridRaycastCollisionDetector<GridNode> detector = new GridRaycastCollisionDetector<>(graph);
+		final Collision<Vector2> collision = new Collision<>(new Vector2(), new Vector2());
+
+		Assert.assertTrue("Unexpected collision result",
+			detector.findCollision(collision, new Ray<>(new Vector2(1.5f, 2.5f), new Vector2(8.5f, 2.5f))));
+		Assert.assertEquals("Unexpected collision point", new Vector2(3, 2.5f), collision.point);
+		Assert.assertEquals("Unexpected collision normal", new Vector2(-1, 0), collision.normal);
+
+		// The walk runs backwards here, yet the closest wall must be reported
+		Assert.assertTrue("Unexpected collision result",
+			detector.findCollision(collision, new Ray<>(new Vector2(8.5f, 2.5f), new Vector2(1.5f, 2.5f))));
+		Assert.assertEquals("Unexpected collision point", new Vector2(7, 2.5f), collision.point);
+		Assert.assertEquals("Unexpected collision normal", new Vector2(1, 0), collision.normal);
+
+		graph.setWalkable(4, 4, false);
+		Assert.assertTrue("Unexpected collision result",
+			detector.findCollision(collision, new Ray<>(new Vector2(4.5f, 0.5f), new Vector2(4.5f, 4.5f))));
+		Assert.assertEquals("Unexpected collision point", new Vector2(4.5f, 4), collision.point);
+		Assert.assertEquals("Unexpected collision normal", new Vector2(0, -1), collision.normal);
+
+		final Ray<Vector2> freeRay = new Ray<>(new Vector2(4.5f, 0.5f), new Vector2(5.5f, 3.5f));
+		Assert.assertFalse("Unexpected collision result", detector.findCollision(collision, freeRay));
+		Assert.assertFalse("Unexpected collision result", detector.collides(freeRay));
+	}
+
+	@Test
+	public void getConnections_WhenReadByManyThreads_ExpectedSameConnectionsAsSequentialRead () throws Exception {
+		final GridGraph graph = new GridGraph(200, 200);
+		for (int i = 0; i < 2000; i++)
+			graph.setWalkable((i * 37) % 200, (i * 91) % 200, false);
+
+		// Each thread sums the target indices of the connections of every node, while the caches are being built
+		final int threadCount = 8;
+		final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		try {
+			final Array<Future<Long>> futures = new Array<>();
+			for (int t = 0; t < threadCount; t++) {
+				futures.add(executor.submit(new Callable<Long>() {
+					@Override
+					public Long call () {
+						long sum = 0;
+						for (int i = 0; i < graph.getNodeCount(); i++)
+							sum += sumTargets(graph.getConnections(graph.getNode(i)));
+						return sum;
+					}
+				}));
+			}
+
+			long expectedSum = 0;
+			for (int i = 0; i < graph.getNodeCount(); i++)
+				expectedSum += sumTargets(graph.getConnections(graph.getNode(i)));
+			for (Future<Long> future : futures)
+				Assert.assertEquals("Unexpected connections", expectedSum, future.get().longValue());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/** Returns the sum of the indices of the target nodes of the given connections, plus 1 each. Arrays are not iterated through
+	 * their iterator, which can't be used by several threads at once. */
+	private static long sumTargets (Array<Connection<GridNode>> connections) {
+		long sum = 0;
+		for (int i = 0; i < connections.size; i++)
+			sum += connections.get(i).getToNode().index + 1;
+		return sum;
+	}
+
+	private static int countNeighbors (GridGraph graph, int index) {
+		final Array<Object> neighbors = new Array<>();
+		graph.forEachNeighbor(index, new NeighborConsumer() {
+			@Override
+			public void accept (int toIndex, float cost) {
+				neighbors.add(toIndex);
+			}
+		});
+		return neighbors.size;
+	}
+
+	private static float getCost (GraphPath<Connection<GridNode>> path) {
+		float cost = 0;
+		for (int i = 0; i < path.getCount(); i++)
+			cost += path.get(i).getCost();
+		return cost;
+	}
+
+	private static class OctileDistance implements Heuristic<GridNode> {
+		@Override
+		public float estimate (final GridNode node, final GridNode endNode) {
+			final int dx = Math.abs(endNode.x - node.x);
+			final int dy = Math.abs(endNode.y - node.y);
+			return Math.max(dx, dy) + (GridGraph.DIAGONAL_COST - 1) * Math.min(dx, dy);
+		}
+	}
+
+}
@@ -0,0 +1,366 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.grid;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultConnection;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.PathFinder;
+import com.badlogic.gdx.ai.pfa.indexed.PrimitiveIndexedAStarPathFinder;
+import com.badlogic.gdx.utils.Array;
+
+public class JumpPointSearchPathFinderTest {
+
+	// @off - disable libgdx formatter
+	private static final String DEAD_ENDS =
+		".#.#.......#..#...............\n" +
+		".#............#.....#..#####..\n" +
+		"...#.#######..#.....#.........\n" +
+		".#.#.#........#.....########..\n" +
+		".###.#....#####.....#......##.\n" +
+		".#...#....#.........#...##....\n" +
+		".#####....#.........#....#....\n" +
+		".#........#.........#....#####\n" +
+		".####....##.........#......#..\n" +
+		"....#...............#......#..";
+	// @on - enable libgdx formatter
+
+	@Test
+	public void searchNodePath_WhenSearchCanHitDeadEnds_ExpectedSameLengthAsAStar () {
+		for (int i = 0; i < 4; i++) {
+			final boolean diagonal = i % 2 == 1;
+			final MyGrid grid = new MyGrid(DEAD_ENDS, diagonal);
+			final PathFinder<MyNode> pathfinder = i < 2 ? new JumpPointSearchPathFinder<>(grid, diagonal)
+				: new JumpPointSearchPlusPathFinder<>(grid, diagonal);
+			final Heuristic<MyNode> heuristic = new OctileDistance();
+
+			final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+			final boolean searchResult = pathfinder.searchNodePath(grid.getNode(0, 0), grid.getNode(2, 7), heuristic, outPath);
+
+			final GraphPath<Connection<MyNode>> expectedPath = new DefaultGraphPath<>();
+			new PrimitiveIndexedAStarPathFinder<>(grid).searchConnectionPath(grid.getNode(0, 0), grid.getNode(2, 7), heuristic,
+				expectedPath);
+
+			Assert.assertTrue("Unexpected search result", searchResult);
+			Assert.assertEquals("Unexpected number of nodes in path", expectedPath.getCount() + 1, outPath.getCount());
+			for (int j = 1; j < outPath.getCount(); j++) {
+				MyNode a = outPath.get(j - 1), b = outPath.get(j);
+				Assert.assertTrue("Non adjacent nodes in path", Math.abs(a.x - b.x) <= 1 && Math.abs(a.y - b.y) <= 1);
+			}
+		}
+	}
+
+	@Test
+	public void searchConnectionPath_WhenSearchingAcrossOpenRoom_ExpectedOptimalCost () {
+		// @off - disable libgdx formatter
+		final String gridDrawing =
+			"..........\n" +
+			"..........\n" +
+			"..........\n" +
+			"....##....\n" +
+			"..........";
+		// @on - enable libgdx formatter
+
+		final MyGrid grid = new MyGrid(gridDrawing, true);
+		final JumpPointSearchPlusPathFinder<MyNode> pathfinder = new JumpPointSearchPlusPathFinder<>(grid, true);
+
+		final GraphPath<Connection<MyNode>> outPath = new DefaultGraphPath<>();
+		final boolean searchResult = pathfinder.searchConnectionPath(grid.getNode(0, 4), grid.getNode(9, 0), new OctileDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult);
+		float cost = 0;
+		for (Connection<MyNode> connection : outPath)
+			cost += connection.getCost();
+		Assert.assertEquals("Unexpected path cost", 5 + 4 * (float)Math.sqrt(2), cost, 0.0001f);
+	}
+
+	@Test
+	public void searchNodePath_WhenDestinationUnreachable_ExpectedNoOuputPathFound () {
+		// @off - disable libgdx formatter
+		final String gridDrawing =
+			".....#....\n" +
+			".....#....\n" +
+			".....#....";
+		// @on - enable libgdx formatter
+
+		final MyGrid grid = new MyGrid(gridDrawing, true);
+		final JumpPointSearchPathFinder<MyNode> pathfinder = new JumpPointSearchPathFinder<>(grid, true);
+
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+		final boolean searchResult = pathfinder.searchNodePath(grid.getNode(0, 0), grid.getNode(9, 0), new OctileDistance(),
+			outPath);
+
+		Assert.assertFalse("Unexpected search result", searchResult);
+	}
+
+	@Test
+	public void searchConnectionPath_WhenSearchingRandomMaps_ExpectedSameCostAsAStar () {
+		for (int seed = 0; seed < 6; seed++) {
+			final Random random = new Random(seed);
+			final boolean diagonal = seed % 2 == 1;
+			final MyGrid grid = new MyGrid(randomDrawing(random, 40, 30, 0.3f), diagonal);
+			final Heuristic<MyNode> heuristic = new OctileDistance();
+			final JumpPointSearchPathFinder<MyNode> jps = new JumpPointSearchPathFinder<>(grid, diagonal);
+			final JumpPointSearchPlusPathFinder<MyNode> jpsPlus = new JumpPointSearchPlusPathFinder<>(grid, diagonal);
+			final PrimitiveIndexedAStarPathFinder<MyNode> aStar = new PrimitiveIndexedAStarPathFinder<>(grid);
+
+			for (int i = 0; i < 30; i++) {
+				final MyNode startNode = randomWalkableNode(random, grid);
+				final MyNode endNode = randomWalkableNode(random, grid);
+				final GraphPath<Connection<MyNode>> expectedPath = new DefaultGraphPath<>();
+				final boolean expectedResult = aStar.searchConnectionPath(startNode, endNode, heuristic, expectedPath);
+
+				final GraphPath<Connection<MyNode>> jpsPath = new DefaultGraphPath<>();
+				final GraphPath<Connection<MyNode>> jpsPlusPath = new DefaultGraphPath<>();
+				final String query = "seed " + seed + ", " + startNode + " -> " + endNode;
+				Assert.assertEquals("Unexpected JPS search result for " + query, expectedResult,
+					jps.searchConnectionPath(startNode, endNode, heuristic, jpsPath));
+				Assert.assertEquals("Unexpected JPS+ search result for " + query, expectedResult,
+					jpsPlus.searchConnectionPath(startNode, endNode, heuristic, jpsPlusPath));
+				if (!expectedResult) continue;
+				Assert.assertEquals("Unexpected JPS path cost for " + query, cost(expectedPath), cost(jpsPath), 0.001f);
+				Assert.assertEquals("Unexpected JPS+ path cost for " + query, cost(expectedPath), cost(jpsPlusPath), 0.001f);
+			}
+		}
+	}
+
+	@Test
+	public void searchNodePath_WhenSearchingOpenMap_ExpectedFewerExpandedNodesThanAStar () {
+		final Random random = new Random(42);
+		final MyGrid grid = new MyGrid(randomDrawing(random, 60, 60, 0.05f), true);
+		final Heuristic<MyNode> heuristic = new OctileDistance();
+		final JumpPointSearchPathFinder<MyNode> jps = new JumpPointSearchPathFinder<>(grid, true, true);
+		final PrimitiveIndexedAStarPathFinder<MyNode> aStar = new PrimitiveIndexedAStarPathFinder<>(grid, true);
+
+		int jpsExpandedNodes = 0, aStarExpandedNodes = 0;
+		for (int i = 0; i < 20; i++) {
+			final MyNode startNode = randomWalkableNode(random, grid);
+			final MyNode endNode = randomWalkableNode(random, grid);
+			final boolean expectedResult = aStar.searchNodePath(startNode, endNode, heuristic, new DefaultGraphPath<MyNode>());
+			Assert.assertEquals("Unexpected search result", expectedResult,
+				jps.searchNodePath(startNode, endNode, heuristic, new DefaultGraphPath<MyNode>()));
+			jpsExpandedNodes += jps.metrics.expandedNodes;
+			aStarExpandedNodes += aStar.metrics.expandedNodes;
+		}
+
+		Assert.assertTrue("Too many expanded nodes: " + jpsExpandedNodes + " >= " + aStarExpandedNodes,
+			jpsExpandedNodes < aStarExpandedNodes);
+	}
+
+	@Test
+	public void searchConnectionPath_WhenRebuiltAfterWalkabilityChanges_ExpectedSameCostAsAStar () {
+		// @off - disable libgdx formatter
+		final String gridDrawing =
+			".....#....\n" +
+			"..........\n" +
+			".....#....";
+		// @on - enable libgdx formatter
+
+		final MyGrid grid = new MyGrid(gridDrawing, true);
+		final JumpPointSearchPlusPathFinder<MyNode> pathfinder = new JumpPointSearchPlusPathFinder<>(grid, true);
+		final MyNode startNode = grid.getNode(0, 0), endNode = grid.getNode(9, 0);
+
+		Assert.assertTrue("Unexpected search result", pathfinder.searchConnectionPath(startNode, endNode, new OctileDistance(),
+			new DefaultGraphPath<Connection<MyNode>>()));
+
+		// Close the gap in the wall
+		grid.setWalkable(5, 1, false);
+		pathfinder.rebuild();
+		Assert.assertFalse("Unexpected search result", pathfinder.searchConnectionPath(startNode, endNode, new OctileDistance(),
+			new DefaultGraphPath<Connection<MyNode>>()));
+
+		// Open a new gap at the bottom
+		grid.setWalkable(5, 2, true);
+		pathfinder.rebuild();
+		final GraphPath<Connection<MyNode>> outPath = new DefaultGraphPath<>();
+		Assert.assertTrue("Unexpected search result", pathfinder.searchConnectionPath(startNode, endNode, new OctileDistance(),
+			outPath));
+		final GraphPath<Connection<MyNode>> expectedPath = new DefaultGraphPath<>();
+		new PrimitiveIndexedAStarPathFinder<>(grid).searchConnectionPath(startNode, endNode, new OctileDistance(), expectedPath);
+		Assert.assertEquals("Unexpected path cost", cost(expectedPath), cost(outPath), 0.0001f);
+	}
+
+	private static String randomDrawing (Random random, int width, int height, float wallRatio) {
+		final StringBuilder drawing = new StringBuilder();
+		for (int y = 0; y < height; y++) {
+			if (y > 0) drawing.append('\n');
+			for (int x = 0; x < width; x++)
+				drawing.append(random.nextFloat() < wallRatio ? '#' : '.');
+		}
+		return drawing.toString();
+	}
+
+	private static MyNode randomWalkableNode (Random random, MyGrid grid) {
+		while (true) {
+			final int x = random.nextInt(grid.getWidth()), y = random.nextInt(grid.getHeight());
+			if (grid.isWalkable(x, y)) return grid.getNode(x, y);
+		}
+	}
+
+	private static float cost (GraphPath<Connection<MyNode>> path) {
+		float cost = 0;
+		for (int i = 0; i < path.getCount(); i++)
+			cost += path.get(i).getCost();
+		return cost;
+	}
+
+	private static class MyNode {
+
+		private final int index;
+		private final int x;
+		private final int y;
+		private final Array<Connection<MyNode>> connections;
+
+		public MyNode (final int index, final int x, final int y) {
+			this.index = index;
+			this.x = x;
+			this.y = y;
+			this.connections = new Array<>(8);
+		}
+
+		@Override
+		public String toString () {
+			return "MyNode [index=" + index + ", x=" + x + ", y=" + y + "]";
+		}
+	}
+
+	private static class MyGrid implements Grid<MyNode> {
+
+		private final int width;
+		private final int height;
+		private final boolean diagonal;
+		private final boolean[] walkable;
+		private final MyNode[] nodes;
+
+		public MyGrid (final String gridTextRepresentation, final boolean diagonal) {
+			final String[] rows = gridTextRepresentation.split("\n");
+			this.width = rows[0].length();
+			this.height = rows.length;
+			this.diagonal = diagonal;
+			this.walkable = new boolean[width * height];
+			this.nodes = new MyNode[width * height];
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					walkable[y * width + x] = rows[y].charAt(x) == '.';
+					nodes[y * width + x] = new MyNode(y * width + x, x, y);
+				}
+			}
+			createConnections();
+		}
+
+		/** Changes the walkability of the given cell and recreates all the connections. */
+		public void setWalkable (int x, int y, boolean walkable) {
+			this.walkable[y * width + x] = walkable;
+			for (MyNode node : nodes)
+				node.connections.clear();
+			createConnections();
+		}
+
+		private void createConnections () {
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					if (!isWalkable(x, y)) continue;
+					for (int dx = -1; dx <= 1; dx++) {
+						for (int dy = -1; dy <= 1; dy++) {
+							if (dx == 0 && dy == 0 || !isWalkable(x + dx, y + dy)) continue;
+							if (dx != 0 && dy != 0) {
+								if (!diagonal || !isWalkable(x + dx, y) || !isWalkable(x, y + dy)) continue;
+								getNode(x, y).connections.add(new DiagonalConnection(getNode(x, y), getNode(x + dx, y + dy)));
+							} else {
+								getNode(x, y).connections.add(new DefaultConnection<>(getNode(x, y), getNode(x + dx, y + dy)));
+							}
+						}
+					}
+				}
+			}
+		}
+
+		@Override
+		public int getIndex (MyNode node) {
+			return node.index;
+		}
+
+		@Override
+		public int getNodeCount () {
+			return nodes.length;
+		}
+
+		@Override
+		public Array<Connection<MyNode>> getConnections (MyNode fromNode) {
+			return fromNode.connections;
+		}
+
+		@Override
+		public int getWidth () {
+			return width;
+		}
+
+		@Override
+		public int getHeight () {
+			return height;
+		}
+
+		@Override
+		public boolean isWalkable (int x, int y) {
+			return x >= 0 && y >= 0 && x < width && y < height && walkable[y * width + x];
+		}
+
+		@Override
+		public MyNode getNode (int x, int y) {
+			return nodes[y * width + x];
+		}
+
+		@Override
+		public int getX (MyNode node) {
+			return node.x;
+		}
+
+		@Override
+		public int getY (MyNode node) {
+			return node.y;
+		}
+	}
+
+	private static class DiagonalConnection extends DefaultConnection<MyNode> {
+		public DiagonalConnection (MyNode fromNode, MyNode toNode) {
+			super(fromNode, toNode);
+		}
+
+		@Override
+		public float getCost () {
+			return (float)Math.sqrt(2);
+		}
+	}
+
+	private static class OctileDistance implements Heuristic<MyNode> {
+		@Override
+		public float estimate (final MyNode node, final MyNode endNode) {
+			final int dx = Math.abs(endNode.x - node.x);
+			final int dy = Math.abs(endNode.y - node.y);
+			return Math.max(dx, dy) + ((float)Math.sqrt(2) - 1) * Math.min(dx, dy);
+		}
+	}
+
+}
@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.PathFinderRequest;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.ManhattanDistance;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.MyNode;
+import com.badlogic.gdx.utils.Array;
+
+public class ARAStarPathFinderTest {
+
+	@Test
+	public void searchNodePath_WhenSearchingAdjacentTile_ExpectedOuputPathLengthEquals2 () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+				"..........\n" +
+				"..........\n" +
+				"..........";
+		// @on - enable libgdx formatter
+
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
+
+		final ARAStarPathFinder<MyNode> pathfinder = new ARAStarPathFinder<>(graph);
+
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// .......... 0
+		// .....S.... 10
+		// .....E.... 20
+		// @on - enable libgdx formatter
+		final boolean searchResult1 = pathfinder.searchNodePath(graph.nodes.get(15), graph.nodes.get(25), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult1);
+		Assert.assertEquals("Unexpected number of nodes in path", 2, outPath.getCount());
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// .......... 0
+		// .....SE... 10
+		// .......... 20
+		// @on - enable libgdx formatter
+		outPath.clear();
+		final boolean searchResult2 = pathfinder.searchNodePath(graph.nodes.get(15), graph.nodes.get(16), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult2);
+		Assert.assertEquals("Unexpected number of nodes in path", 2, outPath.getCount());
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// .......... 0
+		// ....ES.... 10
+		// .......... 20
+		// @on - enable libgdx formatter
+		outPath.clear();
+		final boolean searchResult3 = pathfinder.searchNodePath(graph.nodes.get(15), graph.nodes.get(14), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult3);
+		Assert.assertEquals("Unexpected number of nodes in path", 2, outPath.getCount());
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// .....E.... 0
+		// .....S.... 10
+		// .......... 20
+		// @on - enable libgdx formatter
+		outPath.clear();
+		final boolean searchResult4 = pathfinder.searchNodePath(graph.nodes.get(15), graph.nodes.get(5), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult4);
+		Assert.assertEquals("Unexpected number of nodes in path", 2, outPath.getCount());
+	}
+
+	@Test
+	public void searchNodePath_WhenSearchCanHitDeadEnds_ExpectedOuputPathFound () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			".#.#.......#..#...............\n" +
+			".#............#.....#..#####..\n" +
+			"...#.#######..#.....#.........\n" +
+			".#.#.#........#.....########..\n" +
+			".###.#....#####.....#......##.\n" +
+			".#...#....#.........#...##....\n" +
+			".#####....#.........#....#....\n" +
+			".#........#.........#....#####\n" +
+			".####....##.........#......#..\n" +
+			"....#...............#......#..";
+		// @on - enable libgdx formatter
+
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
+
+		final ARAStarPathFinder<MyNode> pathfinder = new ARAStarPathFinder<>(graph);
+
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+
+		// @off - disable libgdx formatter
+		// 012345678901234567890123456789
+		// S#.#.......#..#............... 0
+		// .#............#.....#..#####.. 30
+		// ...#.#######..#.....#......... 60
+		// .#.#.#........#.....########.. 90
+		// .###.#....#####.....#......##. 120
+		// .#...#....#.........#...##.... 150
+		// .#####....#.........#....#.... 180
+		// .#E.......#.........#....##### 210
+		// .####....##.........#......#.. 240
+		// ....#...............#......#.. 270
+		// @on - enable libgdx formatter
+		final boolean searchResult = pathfinder.searchNodePath(graph.nodes.get(0), graph.nodes.get(212), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult);
+		Assert.assertEquals("Unexpected number of nodes in path", 32, outPath.getCount());
+	}
+
+	@Test
+	public void searchConnectionPath_WhenSearchCanHitDeadEnds_ExpectedOuputPathFound () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			".#.#.......#..#...............\n" +
+			".#............#.....#..#####..\n" +
+			"...#.#######..#.....#.........\n" +
+			".#.#.#........#.....########..\n" +
+			".###.#....#####.....#......##.\n" +
+			".#...#....#.........#...##....\n" +
+			".#####....#.........#....#....\n" +
+			".#........#.........#....#####\n" +
+			".####....##.........#......#..\n" +
+			"....#...............#......#..";
+		// @on - enable libgdx formatter
+
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
+
+		final ARAStarPathFinder<MyNode> pathfinder = new ARAStarPathFinder<>(graph);
+
+		final GraphPath<Connection<MyNode>> outPath = new DefaultGraphPath<>();
+
+		// Search twice to make sure the state of the previous search doesn't affect the next one
+		for (int i = 0; i < 2; i++) {
+			outPath.clear();
+			final boolean searchResult = pathfinder.searchConnectionPath(graph.nodes.get(0), graph.nodes.get(212),
+				new ManhattanDistance(), outPath);
+
+			Assert.assertTrue("Unexpected search result", searchResult);
+			Assert.assertEquals("Unexpected number of connections in path", 31, outPath.getCount());
+			Assert.assertSame("Unexpected first node", graph.nodes.get(0), outPath.get(0).getFromNode());
+			Assert.assertSame("Unexpected last node", graph.nodes.get(212), outPath.get(outPath.getCount() - 1).getToNode());
+		}
+	}
+
+	@Test
+	public void searchNodePath_WhenDestinationUnreachable_ExpectedNoOuputPathFound () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			".....#....\n" +
+			".....#....\n" +
+			".....#....";
+		// @on - enable libgdx formatter
+
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
+
+		final ARAStarPathFinder<MyNode> pathfinder = new ARAStarPathFinder<>(graph);
+
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// S....#...E 0
+		// .....#.... 10
+		// .....#.... 20
+		// @on - enable libgdx formatter
+		final boolean searchResult = pathfinder.searchNodePath(graph.nodes.get(0), graph.nodes.get(9), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertFalse("Unexpected search result", searchResult);
+	}
+
+	@Test
+	public void search_WhenInterruptible_ExpectedImprovedPathsUntilOptimal () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			".#.#.......#..#...............\n" +
+			".#............#.....#..#####..\n" +
+			"...#.#######..#.....#.........\n" +
+			".#.#.#........#.....########..\n" +
+			".###.#....#####.....#......##.\n" +
+			".#...#....#.........#...##....\n" +
+			".#####....#.........#....#....\n" +
+			".#........#.........#....#####\n" +
+			".####....##.........#......#..\n" +
+			"....#...............#......#..";
+		// @on - enable libgdx formatter
+
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
+
+		final ARAStarPathFinder<MyNode> pathfinder = new ARAStarPathFinder<>(graph, 5f, 1f, false);
+
+		final Array<Float> bounds = new Array<>();
+		final PathFinderRequest<MyNode> request = new PathFinderRequest<MyNode>(graph.nodes.get(0), graph.nodes.get(212),
+			new ManhattanDistance(), new DefaultGraphPath<MyNode>()) {
+			@Override
+			public void pathImproved () {
+				Assert.assertTrue("Unexpected path", pathFound);
+				Assert.assertSame("Unexpected first node", graph.nodes.get(0), resultPath.get(0));
+				Assert.assertSame("Unexpected last node", graph.nodes.get(212), resultPath.get(resultPath.getCount() - 1));
+				// The optimal path is made of 31 connections with cost 1
+				Assert.assertTrue("Unexpected path cost", resultPath.getCount() - 1 <= suboptimalityBound * 31);
+				bounds.add(suboptimalityBound);
+			}
+		};
+		request.statusChanged = true;
+
+		// Run the search in many small time slices
+		while (!pathfinder.search(request, 200000)) {
+		}
+
+		Assert.assertTrue("Unexpected search result", request.pathFound);
+		Assert.assertEquals("Unexpected number of nodes in path", 32, request.resultPath.getCount());
+		Assert.assertEquals("Unexpected suboptimality bound", 1f, request.suboptimalityBound, 0);
+		Assert.assertTrue("Unexpected number of improvements", bounds.size >= 1);
+		for (int i = 1; i < bounds.size; i++)
+			Assert.assertTrue("Unexpected suboptimality bound", bounds.get(i) <= bounds.get(i - 1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_WhenInitialEpsilonLessThan1_ExpectedIllegalArgumentException () {
+		new ARAStarPathFinder<>(MyGraph.createGraphFromTextRepresentation("..."), 0.5f, 0.5f, false);
+	}
+
+}
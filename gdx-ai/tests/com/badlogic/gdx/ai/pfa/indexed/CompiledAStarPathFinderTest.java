@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.ManhattanDistance;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.MyNode;
+import com.badlogic.gdx.utils.Array;
+
+public class CompiledAStarPathFinderTest {
+
+	// @off - disable libgdx formatter
+	private static final String DEAD_ENDS_DRAWING =
+		".#.#.......#..#...............\n" +
+		".#............#.....#..#####..\n" +
+		"...#.#######..#.....#.........\n" +
+		".#.#.#........#.....########..\n" +
+		".###.#....#####.....#......##.\n" +
+		".#...#....#.........#...##....\n" +
+		".#####....#.........#....#....\n" +
+		".#........#.........#....#####\n" +
+		".####....##.........#......#..\n" +
+		"....#...............#......#..";
+	// @on - enable libgdx formatter
+
+	@Test
+	public void searchNodePath_WhenSearchCanHitDeadEnds_ExpectedSameOuputPathAsIndexedAStar () {
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(DEAD_ENDS_DRAWING);
+
+		final CompiledAStarPathFinder<MyNode> pathfinder = new CompiledAStarPathFinder<>(
+			new CompiledIndexedGraph<>(graph, graph.nodes));
+		final IndexedAStarPathFinder<MyNode> reference = new IndexedAStarPathFinder<>(graph);
+
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+		final GraphPath<MyNode> expectedPath = new DefaultGraphPath<>();
+
+		final boolean searchResult = pathfinder.searchNodePath(graph.nodes.get(0), graph.nodes.get(212), new ManhattanDistance(),
+			outPath);
+		reference.searchNodePath(graph.nodes.get(0), graph.nodes.get(212), new ManhattanDistance(), expectedPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult);
+		Assert.assertEquals("Unexpected number of nodes in path", 32, outPath.getCount());
+		Assert.assertEquals("Unexpected number of nodes in path", expectedPath.getCount(), outPath.getCount());
+	}
+
+	@Test
+	public void searchConnectionPath_WhenSearchCanHitDeadEnds_ExpectedContiguousOuputPath () {
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(DEAD_ENDS_DRAWING);
+
+		final CompiledAStarPathFinder<MyNode> pathfinder = new CompiledAStarPathFinder<>(
+			new CompiledIndexedGraph<>(graph, graph.nodes));
+
+		final GraphPath<Connection<MyNode>> outPath = new DefaultGraphPath<>();
+
+		final boolean searchResult = pathfinder.searchConnectionPath(graph.nodes.get(0), graph.nodes.get(212),
+			new ManhattanDistance(), outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult);
+		Assert.assertEquals("Unexpected number of connections in path", 31, outPath.getCount());
+		Assert.assertSame("Unexpected first node", graph.nodes.get(0), outPath.get(0).getFromNode());
+		Assert.assertSame("Unexpected last node", graph.nodes.get(212), outPath.get(outPath.getCount() - 1).getToNode());
+		for (int i = 1; i < outPath.getCount(); i++)
+			Assert.assertSame("Unexpected gap in path", outPath.get(i - 1).getToNode(), outPath.get(i).getFromNode());
+	}
+
+	@Test
+	public void searchNodePath_WhenDestinationUnreachable_ExpectedNoOuputPathFound () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			".....#....\n" +
+			".....#....\n" +
+			".....#....";
+		// @on - enable libgdx formatter
+
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
+
+		final CompiledAStarPathFinder<MyNode> pathfinder = new CompiledAStarPathFinder<>(
+			new CompiledIndexedGraph<>(graph, graph.nodes));
+
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+
+		final boolean searchResult = pathfinder.searchNodePath(graph.nodes.get(0), graph.nodes.get(9), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertFalse("Unexpected search result", searchResult);
+		Assert.assertEquals("Unexpected number of nodes in path", 0, outPath.getCount());
+	}
+
+	@Test
+	public void searchNodePath_WhenCostsAreUpdated_ExpectedOuputPathAvoidsExpensiveTile () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			".....\n" +
+			".....";
+		// @on - enable libgdx formatter
+
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
+		final float[] tileCosts = new float[graph.getNodeCount()];
+		Arrays.fill(tileCosts, 1);
+		for (MyNode node : graph.nodes) {
+			final Array<Connection<MyNode>> connections = node.getConnections();
+			for (int i = 0; i < connections.size; i++)
+				connections.set(i, new TileCostConnection(connections.get(i), tileCosts));
+		}
+
+		final CompiledIndexedGraph<MyNode> compiledGraph = new CompiledIndexedGraph<>(graph, graph.nodes);
+		final CompiledAStarPathFinder<MyNode> pathfinder = new CompiledAStarPathFinder<>(compiledGraph);
+
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+
+		// @off - disable libgdx formatter
+		// 01234
+		// S.X.E 0
+		// ..... 5
+		// @on - enable libgdx formatter
+		tileCosts[2] = 10;
+
+		// Costs are not refreshed yet, so the path still goes through the expensive tile
+		pathfinder.searchNodePath(graph.nodes.get(0), graph.nodes.get(4), new ManhattanDistance(), outPath);
+		Assert.assertEquals("Unexpected number of nodes in path", 5, outPath.getCount());
+
+		compiledGraph.updateCosts();
+		outPath.clear();
+		final boolean searchResult = pathfinder.searchNodePath(graph.nodes.get(0), graph.nodes.get(4), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult);
+		Assert.assertEquals("Unexpected number of nodes in path", 7, outPath.getCount());
+		for (MyNode node : outPath)
+			Assert.assertNotSame("Unexpected node in path", graph.nodes.get(2), node);
+	}
+
+	/** A connection whose cost is the cost of the tile it leads to. */
+	private static class TileCostConnection implements Connection<MyNode> {
+		private final Connection<MyNode> connection;
+		private final float[] tileCosts;
+
+		TileCostConnection (Connection<MyNode> connection, float[] tileCosts) {
+			this.connection = connection;
+			this.tileCosts = tileCosts;
+		}
+
+		@Override
+		public float getCost () {
+			return tileCosts[connection.getToNode().getIndex()];
+		}
+
+		@Override
+		public MyNode getFromNode () {
+			return connection.getFromNode();
+		}
+
+		@Override
+		public MyNode getToNode () {
+			return connection.getToNode();
+		}
+	}
+
+}
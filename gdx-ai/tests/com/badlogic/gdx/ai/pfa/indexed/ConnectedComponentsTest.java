@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.PathFinderRequest;
+import com.badlogic.gdx.ai.pfa.grid.GridGraph;
+import com.badlogic.gdx.ai.pfa.grid.GridNode;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.MyNode;
+
+public class ConnectedComponentsTest {
+
+	@Test
+	public void isConnected_WhenConnectionsChange_ExpectedComponentsMergedAndSplit () {
+		// @off - disable libgdx formatter
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(
+			"..#..\n" +
+			"..#..\n" +
+			"..#.#");
+		// @on - enable libgdx formatter
+		final ConnectedComponents<MyNode> components = new ConnectedComponents<>(graph, graph.nodes);
+		final MyNode left = graph.nodes.get(0);
+		final MyNode right = graph.nodes.get(4);
+		final MyNode wall = graph.nodes.get(7);
+
+		Assert.assertEquals("Unexpected number of components", 6, components.getComponentCount());
+		Assert.assertFalse("Unexpected connection", components.isConnected(left, right));
+		Assert.assertTrue("Unexpected disconnection", components.isConnected(left, graph.nodes.get(11)));
+
+		// Open the wall in the middle row
+		connectBothWays(wall, graph.nodes.get(6));
+		connectBothWays(wall, graph.nodes.get(8));
+		components.connectionsAdded(wall);
+		Assert.assertEquals("Unexpected number of components", 4, components.getComponentCount());
+		Assert.assertTrue("Unexpected disconnection", components.isConnected(left, right));
+
+		// Close it again
+		wall.getConnections().clear();
+		graph.nodes.get(6).getConnections().pop();
+		graph.nodes.get(8).getConnections().pop();
+		components.connectionRemoved(wall, graph.nodes.get(8));
+		Assert.assertFalse("Unexpected connection", components.isConnected(left, right));
+		Assert.assertEquals("Unexpected number of components", 6, components.getComponentCount());
+	}
+
+	@Test
+	public void isConnected_WhenVersionedGraphChanges_ExpectedComponentsRecomputed () {
+		final GridGraph graph = new GridGraph(10, 5);
+		for (int y = 0; y < 4; y++)
+			graph.setWalkable(5, y, false);
+		final ConnectedComponents<GridNode> components = new ConnectedComponents<>(graph);
+		final GridNode left = graph.getNode(0, 0);
+		final GridNode right = graph.getNode(9, 0);
+
+		Assert.assertTrue("Unexpected disconnection", components.isConnected(left, right));
+
+		graph.setWalkable(5, 4, false);
+		Assert.assertFalse("Unexpected connection", components.isConnected(left, right));
+
+		graph.setWalkable(5, 4, true);
+		components.connectionsAdded(graph.getNode(5, 4));
+		Assert.assertTrue("Unexpected disconnection", components.isConnected(left, right));
+	}
+
+	@Test
+	public void isConnected_WhenUnreportedChangePrecedesReportedOne_ExpectedComponentsRecomputed () {
+		final GridGraph graph = new GridGraph(10, 5);
+		for (int y = 0; y < 5; y++) {
+			graph.setWalkable(3, y, false);
+			graph.setWalkable(6, y, false);
+		}
+		final ConnectedComponents<GridNode> components = new ConnectedComponents<>(graph);
+		final GridNode left = graph.getNode(0, 0);
+		final GridNode middle = graph.getNode(4, 0);
+		final GridNode right = graph.getNode(9, 0);
+
+		Assert.assertFalse("Unexpected connection", components.isConnected(left, middle));
+		Assert.assertFalse("Unexpected connection", components.isConnected(middle, right));
+
+		graph.setWalkable(3, 0, true); // not reported
+		graph.setWalkable(6, 0, true);
+		components.connectionsAdded(graph.getNode(6, 0));
+		Assert.assertTrue("Unexpected disconnection", components.isConnected(left, middle));
+		Assert.assertTrue("Unexpected disconnection", components.isConnected(middle, right));
+	}
+
+	@Test
+	public void search_WhenGoalIsInAnotherComponent_ExpectedRejectionWithoutExpansions () {
+		final GridGraph graph = new GridGraph(30, 20);
+		for (int y = 0; y < 20; y++)
+			graph.setWalkable(20, y, false);
+		final ConnectedComponents<GridNode> components = new ConnectedComponents<>(graph);
+		final GridNode startNode = graph.getNode(0, 0);
+		final GridNode endNode = graph.getNode(29, 19);
+
+		final IndexedAStarPathFinder<GridNode> pathfinder = new IndexedAStarPathFinder<>(graph, true);
+		final PrimitiveIndexedAStarPathFinder<GridNode> primitivePathfinder = new PrimitiveIndexedAStarPathFinder<>(graph, true);
+		final SparseIndexedAStarPathFinder<GridNode> sparsePathfinder = new SparseIndexedAStarPathFinder<>(graph, true);
+		pathfinder.components = components;
+		primitivePathfinder.components = components;
+		sparsePathfinder.components = components;
+
+		final GraphPath<GridNode> outPath = new DefaultGraphPath<>();
+		Assert.assertFalse("Unexpected search result", pathfinder.searchNodePath(startNode, endNode, new ManhattanDistance(),
+			outPath));
+		Assert.assertEquals("Unexpected expansions", 0, pathfinder.metrics.expandedNodes);
+		Assert.assertFalse("Unexpected search result",
+			primitivePathfinder.searchNodePath(startNode, endNode, new ManhattanDistance(), outPath));
+		Assert.assertEquals("Unexpected expansions", 0, primitivePathfinder.metrics.expandedNodes);
+
+		final PathFinderRequest<GridNode> request = new PathFinderRequest<>(startNode, endNode, new ManhattanDistance(), outPath);
+		request.statusChanged = true;
+		Assert.assertTrue("Search not finished", sparsePathfinder.search(request, Long.MAX_VALUE));
+		Assert.assertFalse("Unexpected search result", request.pathFound);
+		Assert.assertEquals("Unexpected expansions", 0, sparsePathfinder.metrics.expandedNodes);
+
+		// Reachable goals are still searched
+		Assert.assertTrue("Unexpected search result",
+			pathfinder.searchNodePath(startNode, graph.getNode(19, 19), new ManhattanDistance(), outPath));
+	}
+
+	private static void connectBothWays (MyNode node1, MyNode node2) {
+		MyGraph.connect(node1, node2);
+		MyGraph.connect(node2, node1);
+	}
+
+	private static class ManhattanDistance implements Heuristic<GridNode> {
+		@Override
+		public float estimate (final GridNode node, final GridNode endNode) {
+			return Math.abs(endNode.x - node.x) + Math.abs(endNode.y - node.y);
+		}
+	}
+
+}
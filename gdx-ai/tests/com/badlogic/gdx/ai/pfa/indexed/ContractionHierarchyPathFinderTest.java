@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.ManhattanDistance;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.MyNode;
+import com.badlogic.gdx.files.FileHandle;
+
+public class ContractionHierarchyPathFinderTest {
+
+	// @off - disable libgdx formatter
+	private static final String DEAD_ENDS =
+		".#.#.......#..#...............\n" +
+		".#............#.....#..#####..\n" +
+		"...#.#######..#.....#.........\n" +
+		".#.#.#........#.....########..\n" +
+		".###.#....#####.....#......##.\n" +
+		".#...#....#.........#...##....\n" +
+		".#####....#.........#....#....\n" +
+		".#........#.........#....#####\n" +
+		".####....##.........#......#..\n" +
+		"....#...............#......#..";
+	// @on - enable libgdx formatter
+
+	@Test
+	public void searchConnectionPath_WhenPathExists_ExpectedSameCostAsAStar () {
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(DEAD_ENDS);
+		final ContractionHierarchy<MyNode> hierarchy = new ContractionHierarchyBuilder<>(graph, graph.nodes).setThreadCount(2)
+			.build();
+
+		final ContractionHierarchyPathFinder<MyNode> pathfinder = new ContractionHierarchyPathFinder<>(hierarchy);
+		final PrimitiveIndexedAStarPathFinder<MyNode> astar = new PrimitiveIndexedAStarPathFinder<>(graph);
+		for (int i = 0; i < graph.nodes.size; i += 7) {
+			for (int j = 0; j < graph.nodes.size; j += 13) {
+				final MyNode startNode = graph.nodes.get(i);
+				final MyNode endNode = graph.nodes.get(j);
+				final GraphPath<Connection<MyNode>> expectedPath = new DefaultGraphPath<>();
+				final GraphPath<Connection<MyNode>> outPath = new DefaultGraphPath<>();
+				final boolean expected = astar.searchConnectionPath(startNode, endNode, new ManhattanDistance(), expectedPath);
+				Assert.assertEquals("Unexpected search result", expected,
+					pathfinder.searchConnectionPath(startNode, endNode, null, outPath));
+				if (!expected) continue;
+				Assert.assertEquals("Unexpected number of connections in path", expectedPath.getCount(), outPath.getCount());
+				MyNode node = startNode;
+				for (Connection<MyNode> connection : outPath) {
+					Assert.assertSame("Unexpected connection", node, connection.getFromNode());
+					node = connection.getToNode();
+				}
+				Assert.assertSame("Unexpected last node", endNode, node);
+			}
+		}
+	}
+
+	@Test
+	public void searchNodePath_WhenPathExists_ExpectedPathThroughShortcuts () {
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(DEAD_ENDS);
+		final ContractionHierarchy<MyNode> hierarchy = new ContractionHierarchyBuilder<>(graph, graph.nodes).build();
+
+		Assert.assertTrue("Unexpected number of shortcuts", hierarchy.getShortcutCount() > 0);
+
+		final ContractionHierarchyPathFinder<MyNode> pathfinder = new ContractionHierarchyPathFinder<>(hierarchy);
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+		Assert.assertTrue("Unexpected search result", pathfinder.searchNodePath(graph.nodes.get(0), graph.nodes.get(212), null,
+			outPath));
+		Assert.assertEquals("Unexpected number of nodes in path", 32, outPath.getCount());
+		Assert.assertSame("Unexpected first node", graph.nodes.get(0), outPath.get(0));
+		Assert.assertSame("Unexpected last node", graph.nodes.get(212), outPath.get(31));
+	}
+
+	@Test
+	public void load_WhenSaved_ExpectedSamePaths () throws IOException {
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(DEAD_ENDS);
+		final ContractionHierarchy<MyNode> hierarchy = new ContractionHierarchyBuilder<>(graph, graph.nodes).build();
+
+		final File file = File.createTempFile("hierarchy", ".bin");
+		file.deleteOnExit();
+		hierarchy.save(new FileHandle(file));
+		final ContractionHierarchy<MyNode> loaded = ContractionHierarchy.load(graph, graph.nodes, new FileHandle(file));
+
+		Assert.assertEquals("Unexpected number of edges", hierarchy.getEdgeCount(), loaded.getEdgeCount());
+		Assert.assertEquals("Unexpected number of shortcuts", hierarchy.getShortcutCount(), loaded.getShortcutCount());
+
+		final ContractionHierarchyPathFinder<MyNode> pathfinder = new ContractionHierarchyPathFinder<>(hierarchy);
+		final ContractionHierarchyPathFinder<MyNode> loadedPathfinder = new ContractionHierarchyPathFinder<>(loaded);
+		for (int i = 0; i < graph.nodes.size; i += 11) {
+			final GraphPath<MyNode> expectedPath = new DefaultGraphPath<>();
+			final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+			Assert.assertEquals("Unexpected search result",
+				pathfinder.searchNodePath(graph.nodes.get(i), graph.nodes.get(212), null, expectedPath),
+				loadedPathfinder.searchNodePath(graph.nodes.get(i), graph.nodes.get(212), null, outPath));
+			Assert.assertEquals("Unexpected number of nodes in path", expectedPath.getCount(), outPath.getCount());
+		}
+	}
+
+}
@@ -0,0 +1,490 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultConnection;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.PathFinderRequest;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.ManhattanDistance;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.MyNode;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.MyReversibleGraph;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+
+public class DStarLitePathFinderTest {
+
+	private static final float SQRT2 = (float)Math.sqrt(2);
+
+	@Test
+	public void searchNodePath_WhenSearchingAdjacentTile_ExpectedOuputPathLengthEquals2 () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+				"..........\n" +
+				"..........\n" +
+				"..........";
+		// @on - enable libgdx formatter
+
+		final MyReversibleGraph graph = MyGraph.createReversibleGraphFromTextRepresentation(graphDrawing);
+
+		final DStarLitePathFinder<MyNode> pathfinder = new DStarLitePathFinder<>(graph);
+
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// .......... 0
+		// .....S.... 10
+		// .....E.... 20
+		// @on - enable libgdx formatter
+		final boolean searchResult1 = pathfinder.searchNodePath(graph.nodes.get(15), graph.nodes.get(25), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult1);
+		Assert.assertEquals("Unexpected number of nodes in path", 2, outPath.getCount());
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// .......... 0
+		// .....SE... 10
+		// .......... 20
+		// @on - enable libgdx formatter
+		outPath.clear();
+		final boolean searchResult2 = pathfinder.searchNodePath(graph.nodes.get(15), graph.nodes.get(16), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult2);
+		Assert.assertEquals("Unexpected number of nodes in path", 2, outPath.getCount());
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// .......... 0
+		// ....ES.... 10
+		// .......... 20
+		// @on - enable libgdx formatter
+		outPath.clear();
+		final boolean searchResult3 = pathfinder.searchNodePath(graph.nodes.get(15), graph.nodes.get(14), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult3);
+		Assert.assertEquals("Unexpected number of nodes in path", 2, outPath.getCount());
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// .....E.... 0
+		// .....S.... 10
+		// .......... 20
+		// @on - enable libgdx formatter
+		outPath.clear();
+		final boolean searchResult4 = pathfinder.searchNodePath(graph.nodes.get(15), graph.nodes.get(5), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult4);
+		Assert.assertEquals("Unexpected number of nodes in path", 2, outPath.getCount());
+	}
+
+	@Test
+	public void searchNodePath_WhenSearchCanHitDeadEnds_ExpectedOuputPathFound () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			".#.#.......#..#...............\n" +
+			".#............#.....#..#####..\n" +
+			"...#.#######..#.....#.........\n" +
+			".#.#.#........#.....########..\n" +
+			".###.#....#####.....#......##.\n" +
+			".#...#....#.........#...##....\n" +
+			".#####....#.........#....#....\n" +
+			".#........#.........#....#####\n" +
+			".####....##.........#......#..\n" +
+			"....#...............#......#..";
+		// @on - enable libgdx formatter
+
+		final MyReversibleGraph graph = MyGraph.createReversibleGraphFromTextRepresentation(graphDrawing);
+
+		final DStarLitePathFinder<MyNode> pathfinder = new DStarLitePathFinder<>(graph);
+
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+
+		// @off - disable libgdx formatter
+		// 012345678901234567890123456789
+		// S#.#.......#..#............... 0
+		// .#............#.....#..#####.. 30
+		// ...#.#######..#.....#......... 60
+		// .#.#.#........#.....########.. 90
+		// .###.#....#####.....#......##. 120
+		// .#...#....#.........#...##.... 150
+		// .#####....#.........#....#.... 180
+		// .#E.......#.........#....##### 210
+		// .####....##.........#......#.. 240
+		// ....#...............#......#.. 270
+		// @on - enable libgdx formatter
+		final boolean searchResult = pathfinder.searchNodePath(graph.nodes.get(0), graph.nodes.get(212), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult);
+		Assert.assertEquals("Unexpected number of nodes in path", 32, outPath.getCount());
+	}
+
+	@Test
+	public void searchConnectionPath_WhenSearchCanHitDeadEnds_ExpectedOuputPathFound () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			".#.#.......#..#...............\n" +
+			".#............#.....#..#####..\n" +
+			"...#.#######..#.....#.........\n" +
+			".#.#.#........#.....########..\n" +
+			".###.#....#####.....#......##.\n" +
+			".#...#....#.........#...##....\n" +
+			".#####....#.........#....#....\n" +
+			".#........#.........#....#####\n" +
+			".####....##.........#......#..\n" +
+			"....#...............#......#..";
+		// @on - enable libgdx formatter
+
+		final MyReversibleGraph graph = MyGraph.createReversibleGraphFromTextRepresentation(graphDrawing);
+
+		final DStarLitePathFinder<MyNode> pathfinder = new DStarLitePathFinder<>(graph);
+
+		final GraphPath<Connection<MyNode>> outPath = new DefaultGraphPath<>();
+
+		// Search twice to make sure the state of the previous search doesn't affect the next one
+		for (int i = 0; i < 2; i++) {
+			outPath.clear();
+			final boolean searchResult = pathfinder.searchConnectionPath(graph.nodes.get(0), graph.nodes.get(212),
+				new ManhattanDistance(), outPath);
+
+			Assert.assertTrue("Unexpected search result", searchResult);
+			Assert.assertEquals("Unexpected number of connections in path", 31, outPath.getCount());
+			Assert.assertSame("Unexpected first node", graph.nodes.get(0), outPath.get(0).getFromNode());
+			Assert.assertSame("Unexpected last node", graph.nodes.get(212), outPath.get(outPath.getCount() - 1).getToNode());
+		}
+	}
+
+	@Test
+	public void search_WhenInterruptible_ExpectedSameOuputPathAsNonInterruptibleSearch () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			".#.#.......#..#...............\n" +
+			".#............#.....#..#####..\n" +
+			"...#.#######..#.....#.........\n" +
+			".#.#.#........#.....########..\n" +
+			".###.#....#####.....#......##.\n" +
+			".#...#....#.........#...##....\n" +
+			".#####....#.........#....#....\n" +
+			".#........#.........#....#####\n" +
+			".####....##.........#......#..\n" +
+			"....#...............#......#..";
+		// @on - enable libgdx formatter
+
+		final MyReversibleGraph graph = MyGraph.createReversibleGraphFromTextRepresentation(graphDrawing);
+
+		final DStarLitePathFinder<MyNode> pathfinder = new DStarLitePathFinder<>(graph);
+
+		final PathFinderRequest<MyNode> request = new PathFinderRequest<>(graph.nodes.get(0), graph.nodes.get(212),
+			new ManhattanDistance(), new DefaultGraphPath<MyNode>());
+		request.statusChanged = true;
+
+		// Run the search in many small time slices
+		while (!pathfinder.search(request, 200000)) {
+		}
+
+		Assert.assertTrue("Unexpected search result", request.pathFound);
+		Assert.assertEquals("Unexpected number of nodes in path", 32, request.resultPath.getCount());
+		Assert.assertSame("Unexpected first node", graph.nodes.get(0), request.resultPath.get(0));
+		Assert.assertSame("Unexpected last node", graph.nodes.get(212), request.resultPath.get(31));
+	}
+
+	@Test
+	public void searchNodePath_WhenDestinationUnreachable_ExpectedNoOuputPathFound () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			".....#....\n" +
+			".....#....\n" +
+			".....#....";
+		// @on - enable libgdx formatter
+
+		final MyReversibleGraph graph = MyGraph.createReversibleGraphFromTextRepresentation(graphDrawing);
+
+		final DStarLitePathFinder<MyNode> pathfinder = new DStarLitePathFinder<>(graph);
+
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// S....#...E 0
+		// .....#.... 10
+		// .....#.... 20
+		// @on - enable libgdx formatter
+		final boolean searchResult = pathfinder.searchNodePath(graph.nodes.get(0), graph.nodes.get(9), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertFalse("Unexpected search result", searchResult);
+	}
+
+	@Test
+	public void searchConnectionPath_WhenWallIsBuiltAndRemoved_ExpectedSameCostAsSearchFromScratch () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			".#.#.......#..#...............\n" +
+			".#............#.....#..#####..\n" +
+			"...#.#######..#.....#.........\n" +
+			".#.#.#........#.....########..\n" +
+			".###.#....#####.....#......##.\n" +
+			".#...#....#.........#...##....\n" +
+			".#####....#.........#....#....\n" +
+			".#........#.........#....#####\n" +
+			".####....##.........#......#..\n" +
+			"....#...............#......#..";
+		// @on - enable libgdx formatter
+
+		final MyReversibleGraph graph = MyGraph.createReversibleGraphFromTextRepresentation(graphDrawing);
+
+		final DStarLitePathFinder<MyNode> pathfinder = new DStarLitePathFinder<>(graph);
+		final IndexedAStarPathFinder<MyNode> referencePathfinder = new IndexedAStarPathFinder<>(graph);
+
+		final GraphPath<Connection<MyNode>> outPath = new DefaultGraphPath<>();
+		final GraphPath<Connection<MyNode>> referencePath = new DefaultGraphPath<>();
+
+		// @off - disable libgdx formatter
+		// 012345678901234567890123456789
+		// S#.#.......#..#............... 0
+		// .#............#.....#..#####.. 30
+		// ...#.#######..#.....#......... 60
+		// .#.#.#........#.....########.. 90
+		// .###.#....#####.....#......##. 120
+		// .#...#....#.........#...##..E. 150
+		// .#####....#.........#....#.... 180
+		// .#......X.#.........#....##### 210
+		// .####....##.........#......#.. 240
+		// ....#...............#......#.. 270
+		// @on - enable libgdx formatter
+		final MyNode endNode = graph.nodes.get(178);
+		Assert.assertTrue("Unexpected search result",
+			pathfinder.searchConnectionPath(graph.nodes.get(0), endNode, new ManhattanDistance(), outPath));
+
+		// Move along the path, then block a tile the path goes through a few steps ahead
+		final MyNode startNode = outPath.get(2).getToNode();
+		final MyNode blockedNode = graph.nodes.get(218);
+		boolean blockedNodeInPath = false;
+		for (Connection<MyNode> connection : outPath)
+			if (connection.getToNode() == blockedNode) blockedNodeInPath = true;
+		Assert.assertTrue("Unexpected path", blockedNodeInPath);
+		final Array<Connection<MyNode>> removedConnections = disconnect(blockedNode, pathfinder);
+
+		outPath.clear();
+		Assert.assertTrue("Unexpected search result",
+			pathfinder.searchConnectionPath(startNode, endNode, new ManhattanDistance(), outPath));
+		Assert.assertTrue("Unexpected search result",
+			referencePathfinder.searchConnectionPath(startNode, endNode, new ManhattanDistance(), referencePath));
+		Assert.assertEquals("Unexpected number of connections in path", referencePath.getCount(), outPath.getCount());
+		for (Connection<MyNode> connection : outPath)
+			Assert.assertNotSame("Unexpected node in path", blockedNode, connection.getToNode());
+
+		// Remove the wall
+		reconnect(removedConnections, pathfinder);
+
+		outPath.clear();
+		referencePath.clear();
+		Assert.assertTrue("Unexpected search result",
+			pathfinder.searchConnectionPath(startNode, endNode, new ManhattanDistance(), outPath));
+		Assert.assertTrue("Unexpected search result",
+			referencePathfinder.searchConnectionPath(startNode, endNode, new ManhattanDistance(), referencePath));
+		Assert.assertEquals("Unexpected number of connections in path", referencePath.getCount(), outPath.getCount());
+	}
+
+	@Test
+	public void searchNodePath_WhenOnlyWayIsBlocked_ExpectedNoOuputPathFound () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			"..........\n" +
+			".....#....\n" +
+			".....#....";
+		// @on - enable libgdx formatter
+
+		final MyReversibleGraph graph = MyGraph.createReversibleGraphFromTextRepresentation(graphDrawing);
+
+		final DStarLitePathFinder<MyNode> pathfinder = new DStarLitePathFinder<>(graph);
+
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// .......... 0
+		// S....#...E 10
+		// .....#.... 20
+		// @on - enable libgdx formatter
+		final boolean searchResult1 = pathfinder.searchNodePath(graph.nodes.get(10), graph.nodes.get(19), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult1);
+		Assert.assertEquals("Unexpected number of nodes in path", 12, outPath.getCount());
+
+		// Block the only way
+		disconnect(graph.nodes.get(5), pathfinder);
+
+		outPath.clear();
+		final boolean searchResult2 = pathfinder.searchNodePath(graph.nodes.get(10), graph.nodes.get(19), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertFalse("Unexpected search result", searchResult2);
+	}
+
+	@Test
+	public void searchConnectionPath_WhenWallsChangeOnDiagonalGrid_ExpectedSameCostAsSearchFromScratch () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			"................\n" +
+			"................\n" +
+			"................\n" +
+			"................\n" +
+			"................\n" +
+			"................\n" +
+			"................\n" +
+			"................\n" +
+			"................\n" +
+			"................\n" +
+			"................\n" +
+			"................";
+		// @on - enable libgdx formatter
+
+		final MyReversibleGraph graph = MyGraph.createReversibleGraphFromTextRepresentation(graphDrawing);
+		addDiagonalConnections(graph, 16, 12);
+
+		final DStarLitePathFinder<MyNode> pathfinder = new DStarLitePathFinder<>(graph);
+		final IndexedAStarPathFinder<MyNode> referencePathfinder = new IndexedAStarPathFinder<>(graph);
+		final OctileDistance heuristic = new OctileDistance();
+
+		final GraphPath<Connection<MyNode>> outPath = new DefaultGraphPath<>();
+		final GraphPath<Connection<MyNode>> referencePath = new DefaultGraphPath<>();
+
+		// Build and remove walls at random while walking along the path, so that keys mix costs of 1 and sqrt(2) summed in
+		// many different orders
+		final Random random = new Random(1);
+		final IntMap<Array<Connection<MyNode>>> walls = new IntMap<>();
+		final MyNode endNode = graph.nodes.get(graph.getNodeCount() - 1);
+		MyNode startNode = graph.nodes.get(0);
+		for (int i = 0; i < 200; i++) {
+			final int index = random.nextInt(graph.getNodeCount());
+			if (walls.containsKey(index))
+				reconnect(walls.remove(index), pathfinder);
+			else if (index != startNode.getIndex() && index != endNode.getIndex())
+				walls.put(index, disconnect(graph.nodes.get(index), pathfinder));
+
+			outPath.clear();
+			referencePath.clear();
+			final boolean found = pathfinder.searchConnectionPath(startNode, endNode, heuristic, outPath);
+			final boolean referenceFound = referencePathfinder.searchConnectionPath(startNode, endNode, heuristic, referencePath);
+			Assert.assertEquals("Unexpected search result", referenceFound, found);
+			if (!found) {
+				Assert.assertEquals("Unexpected number of connections in path", 0, outPath.getCount());
+				continue;
+			}
+			Assert.assertEquals("Unexpected path cost", getCost(referencePath, startNode, endNode),
+				getCost(outPath, startNode, endNode), 1e-3f);
+
+			// Move one step along the path
+			if (outPath.getCount() > 0 && random.nextBoolean()) startNode = outPath.get(0).getToNode();
+		}
+	}
+
+	/** Removes all the connections of the given node and notifies the path finder.
+	 * @return the removed connections */
+	private static Array<Connection<MyNode>> disconnect (final MyNode node, final DStarLitePathFinder<MyNode> pathfinder) {
+		final Array<Connection<MyNode>> removedConnections = new Array<>();
+		for (Connection<MyNode> connection : node.getConnections()) {
+			connection.getToNode().getIncomingConnections().removeValue(connection, true);
+			removedConnections.add(connection);
+		}
+		for (Connection<MyNode> connection : node.getIncomingConnections()) {
+			connection.getFromNode().getConnections().removeValue(connection, true);
+			removedConnections.add(connection);
+			pathfinder.notifyConnectionsChanged(connection.getFromNode());
+		}
+		node.getConnections().clear();
+		node.getIncomingConnections().clear();
+		pathfinder.notifyConnectionsChanged(node);
+		return removedConnections;
+	}
+
+	/** Adds back the given connections and notifies the path finder. */
+	private static void reconnect (final Array<Connection<MyNode>> connections, final DStarLitePathFinder<MyNode> pathfinder) {
+		for (Connection<MyNode> connection : connections) {
+			connection.getFromNode().getConnections().add(connection);
+			connection.getToNode().getIncomingConnections().add(connection);
+			pathfinder.notifyConnectionsChanged(connection.getFromNode());
+		}
+	}
+
+	/** Connects each node of the given grid to its diagonal neighbors with cost {@code sqrt(2)}. */
+	private static void addDiagonalConnections (final MyGraph graph, final int width, final int height) {
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				final MyNode node = graph.nodes.get(y * width + x);
+				for (int dy = -1; dy <= 1; dy += 2) {
+					for (int dx = -1; dx <= 1; dx += 2) {
+						if (x + dx < 0 || x + dx >= width || y + dy < 0 || y + dy >= height) continue;
+						final MyNode neighbor = graph.nodes.get((y + dy) * width + x + dx);
+						final Connection<MyNode> connection = new DiagonalConnection(node, neighbor);
+						node.getConnections().add(connection);
+						neighbor.getIncomingConnections().add(connection);
+					}
+				}
+			}
+		}
+	}
+
+	/** Returns the cost of the given path, checking that it leads from the start node to the end node without gaps. */
+	private static float getCost (final GraphPath<Connection<MyNode>> path, final MyNode startNode, final MyNode endNode) {
+		float cost = 0;
+		MyNode node = startNode;
+		for (Connection<MyNode> connection : path) {
+			Assert.assertSame("Unexpected gap in path", node, connection.getFromNode());
+			cost += connection.getCost();
+			node = connection.getToNode();
+		}
+		Assert.assertSame("Unexpected last node", endNode, node);
+		return cost;
+	}
+
+	private static class DiagonalConnection extends DefaultConnection<MyNode> {
+		DiagonalConnection (final MyNode fromNode, final MyNode toNode) {
+			super(fromNode, toNode);
+		}
+
+		@Override
+		public float getCost () {
+			return SQRT2;
+		}
+	}
+
+	private static class OctileDistance implements Heuristic<MyNode> {
+		@Override
+		public float estimate (final MyNode node, final MyNode endNode) {
+			final int dx = Math.abs(endNode.x - node.x);
+			final int dy = Math.abs(endNode.y - node.y);
+			return Math.max(dx, dy) + (SQRT2 - 1) * Math.min(dx, dy);
+		}
+	}
+
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.grid.GridGraph;
+import com.badlogic.gdx.ai.pfa.grid.GridNode;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.ManhattanDistance;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.MyNode;
+import com.badlogic.gdx.utils.Array;
+
+public class DistanceMatrixBuilderTest {
+
+	// @off - disable libgdx formatter
+	private static final String DEAD_ENDS =
+		".#.#.......#..#...............\n" +
+		".#............#.....#..#####..\n" +
+		"...#.#######..#.....#.........\n" +
+		".#.#.#........#.....########..\n" +
+		".###.#....#####.....#......##.\n" +
+		".#...#....#.........#...##....\n" +
+		".#####....#.........#....#....\n" +
+		".#........#.........#....#####\n" +
+		".####....##.........#......#..\n" +
+		"....#...............#......#..";
+	// @on - enable libgdx formatter
+
+	@Test
+	public void build_WhenRunInParallel_ExpectedSameCostsAsAStar () {
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(DEAD_ENDS);
+		final Array<MyNode> sources = new Array<>();
+		final Array<MyNode> targets = new Array<>();
+		for (int i = 0; i < graph.nodes.size; i += 13)
+			sources.add(graph.nodes.get(i));
+		for (int i = 5; i < graph.nodes.size; i += 37)
+			targets.add(graph.nodes.get(i));
+
+		final ForkJoinPool pool = new ForkJoinPool(3);
+		try {
+			final float[] matrix = new DistanceMatrixBuilder<>(graph, pool).build(sources, targets);
+			Assert.assertEquals("Unexpected matrix size", sources.size * targets.size, matrix.length);
+
+			final PrimitiveIndexedAStarPathFinder<MyNode> pathfinder = new PrimitiveIndexedAStarPathFinder<>(graph);
+			for (int i = 0; i < sources.size; i++) {
+				for (int j = 0; j < targets.size; j++) {
+					final GraphPath<Connection<MyNode>> outPath = new DefaultGraphPath<>();
+					final float expected = pathfinder.searchConnectionPath(sources.get(i), targets.get(j), new ManhattanDistance(),
+						outPath) ? outPath.getCount() : Float.POSITIVE_INFINITY;
+					Assert.assertEquals("Unexpected cost from " + i + " to " + j, expected, matrix[i * targets.size + j], 0);
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void build_WhenGraphIsGridGraph_ExpectedSameCostsInParallelAndSequentially () {
+		final GridGraph graph = new GridGraph(60, 40);
+		for (int i = 0; i < 600; i++)
+			graph.setWalkable((i * 37) % 60, (i * 91) % 40, false);
+		for (int i = 0; i < 300; i++)
+			graph.setCost((i * 53) % 60, (i * 17) % 40, 1 + i % 5);
+		final Array<GridNode> sources = new Array<>();
+		final Array<GridNode> targets = new Array<>();
+		for (int i = 0; i < graph.getNodeCount(); i += 97)
+			sources.add(graph.getNode(i));
+		for (int i = 11; i < graph.getNodeCount(); i += 131)
+			targets.add(graph.getNode(i));
+
+		final float[] parallelMatrix = new DistanceMatrixBuilder<>(graph).build(sources, targets);
+		final float[] sequentialMatrix = new DistanceMatrixBuilder<>(graph, null).build(sources, targets);
+		Assert.assertArrayEquals("Unexpected costs", sequentialMatrix, parallelMatrix, 0);
+
+		// Check a few rows against a search through the connections
+		final IndexedAStarPathFinder<GridNode> pathfinder = new IndexedAStarPathFinder<>(graph);
+		for (int i = 0; i < sources.size; i += 5) {
+			for (int j = 0; j < targets.size; j++) {
+				final GraphPath<Connection<GridNode>> outPath = new DefaultGraphPath<>();
+				float expected = Float.POSITIVE_INFINITY;
+				if (pathfinder.searchConnectionPath(sources.get(i), targets.get(j), new ZeroHeuristic(), outPath)) {
+					expected = 0;
+					for (int k = 0; k < outPath.getCount(); k++)
+						expected += outPath.get(k).getCost();
+				}
+				Assert.assertEquals("Unexpected cost from " + i + " to " + j, expected, parallelMatrix[i * targets.size + j], 1e-3f);
+			}
+		}
+	}
+
+	@Test
+	public void build_WhenTargetsAreUnreachableOrDuplicated_ExpectedInfiniteAndRepeatedCosts () {
+		// @off - disable libgdx formatter
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(
+			"...#.\n" +
+			".#.##\n" +
+			".....");
+		// @on - enable libgdx formatter
+		final Array<MyNode> sources = new Array<>();
+		sources.add(graph.nodes.get(0));
+		sources.add(graph.nodes.get(14));
+		final Array<MyNode> targets = new Array<>();
+		targets.add(graph.nodes.get(4));
+		targets.add(graph.nodes.get(2));
+		targets.add(graph.nodes.get(4));
+		targets.add(graph.nodes.get(0));
+
+		final DistanceMatrixBuilder<MyNode> builder = new DistanceMatrixBuilder<>(graph, null);
+		final float[] matrix = builder.build(sources, targets);
+		Assert.assertArrayEquals("Unexpected costs", new float[] {Float.POSITIVE_INFINITY, 2, Float.POSITIVE_INFINITY, 0,
+			Float.POSITIVE_INFINITY, 4, Float.POSITIVE_INFINITY, 6}, matrix, 0);
+
+		// Search state is reused by the following builds
+		Assert.assertArrayEquals("Unexpected costs on rebuild", matrix, builder.build(sources, targets), 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void build_WhenOutputIsTooShort_ExpectedIllegalArgumentException () {
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation("...");
+		new DistanceMatrixBuilder<>(graph, null).build(graph.nodes, graph.nodes, new float[8]);
+	}
+
+	private static class ZeroHeuristic implements Heuristic<GridNode> {
+		@Override
+		public float estimate (GridNode node, GridNode endNode) {
+			return 0;
+		}
+	}
+
+}
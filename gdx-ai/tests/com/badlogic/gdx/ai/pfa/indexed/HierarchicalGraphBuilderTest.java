@@ -0,0 +1,343 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultConnection;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.HierarchicalPathFinder;
+import com.badlogic.gdx.ai.pfa.PathFinder;
+import com.badlogic.gdx.ai.pfa.grid.Grid;
+import com.badlogic.gdx.ai.pfa.grid.GridPartitioner;
+import com.badlogic.gdx.utils.Array;
+
+public class HierarchicalGraphBuilderTest {
+
+	// @off - disable libgdx formatter
+	private static final String ROOM_AND_CORRIDOR =
+		"..#.....\n" +
+		"..#.....\n" +
+		"..#.....\n" +
+		"..#.....";
+
+	private static final String DEAD_ENDS =
+		".#.#.......#..#...............\n" +
+		".#............#.....#..#####..\n" +
+		"...#.#######..#.....#.........\n" +
+		".#.#.#........#.....########..\n" +
+		".###.#....#####.....#......##.\n" +
+		".#...#....#.........#...##....\n" +
+		".#####....#.........#....#....\n" +
+		".#........#.........#....#####\n" +
+		".####....##.........#......#..\n" +
+		"....#...............#......#..";
+	// @on - enable libgdx formatter
+
+	@Test
+	public void build_WhenClusterIsSplitByWall_ExpectedOneNodePerRegion () {
+		final MyGrid grid = new MyGrid(ROOM_AND_CORRIDOR);
+		final ClusteredHierarchicalGraph<MyNode> hierarchy = new HierarchicalGraphBuilder<>(grid, grid.nodes,
+			new GridPartitioner<>(grid, 4, 4)).build(2);
+
+		Assert.assertEquals("Unexpected number of clusters", 2, hierarchy.getClusterCount(1));
+		Assert.assertEquals("Unexpected number of nodes at level 1", 3, hierarchy.getLevelNodeCount(1));
+
+		final MyNode room = hierarchy.convertNodeBetweenLevels(0, grid.getNode(0, 0), 1);
+		final MyNode corridor = hierarchy.convertNodeBetweenLevels(0, grid.getNode(3, 0), 1);
+		final MyNode right = hierarchy.convertNodeBetweenLevels(0, grid.getNode(7, 3), 1);
+		Assert.assertSame("Unexpected room node", room, hierarchy.convertNodeBetweenLevels(0, grid.getNode(1, 3), 1));
+		Assert.assertNotSame("Unexpected corridor node", room, corridor);
+		Assert.assertSame("Unexpected node at level 0", corridor, hierarchy.convertNodeBetweenLevels(1, corridor, 0));
+
+		hierarchy.setLevel(1);
+		Assert.assertEquals("Unexpected number of room connections", 0, hierarchy.getConnections(room).size);
+		Assert.assertEquals("Unexpected number of corridor connections", 1, hierarchy.getConnections(corridor).size);
+		Assert.assertSame("Unexpected connected node", right, hierarchy.getConnections(corridor).get(0).getToNode());
+		Assert.assertSame("Unexpected connected node", corridor, hierarchy.getConnections(right).get(0).getToNode());
+		Assert.assertEquals("Unexpected connections of a wall", 0, hierarchy.getConnections(grid.getNode(2, 0)).size);
+	}
+
+	@Test
+	public void searchNodePath_WhenMovingAlongPaths_ExpectedEndNodeReached () {
+		final MyGrid grid = new MyGrid(DEAD_ENDS);
+		final ClusteredHierarchicalGraph<MyNode> hierarchy = new HierarchicalGraphBuilder<>(grid, grid.nodes,
+			new GridPartitioner<>(grid, 3, 3)).build(3);
+		final HierarchicalPathFinder<MyNode> pathfinder = new HierarchicalPathFinder<>(hierarchy,
+			new IndexedAStarPathFinder<>(hierarchy));
+		pathfinder.refineInCorridor = true;
+
+		final MyNode endNode = grid.getNode(28, 5);
+		MyNode node = grid.getNode(0, 0);
+		for (int i = 0; i < 100 && node != endNode; i++) {
+			final GraphPath<Connection<MyNode>> outPath = new DefaultGraphPath<>();
+			Assert.assertTrue("Unexpected search result", pathfinder.searchConnectionPath(node, endNode, new ManhattanDistance(),
+				outPath));
+			for (Connection<MyNode> connection : outPath) {
+				Assert.assertSame("Unexpected connection", node, connection.getFromNode());
+				node = connection.getToNode();
+			}
+		}
+		Assert.assertSame("End node not reached", endNode, node);
+	}
+
+	@Test
+	public void searchConnectionPath_WhenUsingLevelViews_ExpectedSamePathAndLevelUnchanged () {
+		final MyGrid grid = new MyGrid(DEAD_ENDS);
+		final ClusteredHierarchicalGraph<MyNode> hierarchy = new HierarchicalGraphBuilder<>(grid, grid.nodes,
+			new GridPartitioner<>(grid, 3, 3)).build(3);
+		final HierarchicalPathFinder<MyNode> expectedPathfinder = new HierarchicalPathFinder<>(hierarchy,
+			new IndexedAStarPathFinder<>(hierarchy));
+		expectedPathfinder.refineInCorridor = true;
+		final HierarchicalPathFinder<MyNode> pathfinder = newLevelViewPathFinder(hierarchy);
+
+		final GraphPath<Connection<MyNode>> expectedPath = new DefaultGraphPath<>();
+		final GraphPath<Connection<MyNode>> outPath = new DefaultGraphPath<>();
+		Assert.assertTrue("Unexpected search result", expectedPathfinder.searchConnectionPath(grid.getNode(0, 0),
+			grid.getNode(28, 5), new ManhattanDistance(), expectedPath));
+		hierarchy.setLevel(2);
+		Assert.assertTrue("Unexpected search result", pathfinder.searchConnectionPath(grid.getNode(0, 0), grid.getNode(28, 5),
+			new ManhattanDistance(), outPath));
+
+		Assert.assertEquals("Level of the graph has changed", 2, hierarchy.level);
+		Assert.assertEquals("Unexpected path length", expectedPath.getCount(), outPath.getCount());
+		for (int i = 0; i < outPath.getCount(); i++)
+			Assert.assertSame("Unexpected connection", expectedPath.get(i).getToNode(), outPath.get(i).getToNode());
+	}
+
+	@Test
+	public void searchNodePath_WhenSearchingConcurrently_ExpectedSamePathsAsSequentialSearches () throws InterruptedException {
+		final MyGrid grid = new MyGrid(DEAD_ENDS);
+		final ClusteredHierarchicalGraph<MyNode> hierarchy = new HierarchicalGraphBuilder<>(grid, grid.nodes,
+			new GridPartitioner<>(grid, 3, 3)).build(3);
+		final MyNode endNode = grid.getNode(28, 5);
+
+		// Compute the expected paths from every walkable node
+		final HierarchicalPathFinder<MyNode> pathfinder = newLevelViewPathFinder(hierarchy);
+		final Array<GraphPath<MyNode>> expectedPaths = new Array<>();
+		for (MyNode node : grid.nodes) {
+			final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+			if (node.connections.size > 0) pathfinder.searchNodePath(node, endNode, new ManhattanDistance(), outPath);
+			expectedPaths.add(outPath);
+		}
+
+		// Search the same paths on several threads, each one with its own hierarchical path finder
+		final int threadCount = 4;
+		final boolean[] failed = new boolean[threadCount];
+		final Thread[] threads = new Thread[threadCount];
+		for (int t = 0; t < threadCount; t++) {
+			final int threadIndex = t;
+			threads[t] = new Thread(new Runnable() {
+				@Override
+				public void run () {
+					final HierarchicalPathFinder<MyNode> threadPathfinder = newLevelViewPathFinder(hierarchy);
+					for (int repeat = 0; repeat < 10; repeat++) {
+						for (int i = 0; i < grid.nodes.size; i++) {
+							final MyNode node = grid.nodes.get(i);
+							if (node.connections.size == 0) continue;
+							final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+							threadPathfinder.searchNodePath(node, endNode, new ManhattanDistance(), outPath);
+							final GraphPath<MyNode> expectedPath = expectedPaths.get(i);
+							if (outPath.getCount() != expectedPath.getCount()) failed[threadIndex] = true;
+							for (int j = 0; j < outPath.getCount() && !failed[threadIndex]; j++)
+								if (outPath.get(j) != expectedPath.get(j)) failed[threadIndex] = true;
+						}
+					}
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+
+		for (int t = 0; t < threadCount; t++)
+			Assert.assertFalse("Unexpected path found by thread " + t, failed[t]);
+	}
+
+	@Test
+	public void rebuild_WhenTilesChange_ExpectedSameGraphAsFullBuild () {
+		final MyGrid grid = new MyGrid(DEAD_ENDS);
+		final GridPartitioner<MyNode> partitioner = new GridPartitioner<>(grid, 3, 3);
+		final HierarchicalGraphBuilder<MyNode> builder = new HierarchicalGraphBuilder<>(grid, grid.nodes, partitioner);
+		final ClusteredHierarchicalGraph<MyNode> hierarchy = builder.build(3);
+
+		// Open a gap in a wall, then block a corridor
+		builder.rebuild(hierarchy, grid.setWalkable(14, 3, true));
+		builder.rebuild(hierarchy, grid.setWalkable(12, 1, false));
+
+		final ClusteredHierarchicalGraph<MyNode> expected = new HierarchicalGraphBuilder<>(grid, grid.nodes, partitioner).build(3);
+		for (int level = 1; level < 3; level++) {
+			hierarchy.setLevel(level);
+			expected.setLevel(level);
+			for (MyNode node : grid.nodes) {
+				Assert.assertEquals("Unexpected node", expected.isNode(node, level), hierarchy.isNode(node, level));
+				Assert.assertSame("Unexpected representative", expected.convertNodeBetweenLevels(0, node, level),
+					hierarchy.convertNodeBetweenLevels(0, node, level));
+				final Array<Connection<MyNode>> expectedConnections = expected.getConnections(node);
+				final Array<Connection<MyNode>> connections = hierarchy.getConnections(node);
+				Assert.assertEquals("Unexpected number of connections", expectedConnections.size, connections.size);
+				for (Connection<MyNode> expectedConnection : expectedConnections) {
+					boolean found = false;
+					for (Connection<MyNode> connection : connections) {
+						if (connection.getToNode() == expectedConnection.getToNode()) {
+							Assert.assertEquals("Unexpected cost", expectedConnection.getCost(), connection.getCost(), 0);
+							found = true;
+						}
+					}
+					Assert.assertTrue("Missing connection", found);
+				}
+			}
+		}
+	}
+
+	private static HierarchicalPathFinder<MyNode> newLevelViewPathFinder (final ClusteredHierarchicalGraph<MyNode> hierarchy) {
+		final HierarchicalPathFinder<MyNode> pathfinder = new HierarchicalPathFinder<>(hierarchy,
+			new HierarchicalPathFinder.LevelPathFinderFactory<MyNode>() {
+				@Override
+				public PathFinder<MyNode> newLevelPathFinder (int level) {
+					return new IndexedAStarPathFinder<>(hierarchy.getLevelView(level));
+				}
+			});
+		pathfinder.refineInCorridor = true;
+		return pathfinder;
+	}
+
+	private static class MyNode {
+
+		private final int index;
+		private final int x;
+		private final int y;
+		private final Array<Connection<MyNode>> connections;
+
+		public MyNode (final int index, final int x, final int y) {
+			this.index = index;
+			this.x = x;
+			this.y = y;
+			this.connections = new Array<>(4);
+		}
+
+		@Override
+		public String toString () {
+			return "MyNode [index=" + index + ", x=" + x + ", y=" + y + "]";
+		}
+	}
+
+	private static class MyGrid implements Grid<MyNode> {
+
+		private final int width;
+		private final int height;
+		private final boolean[] walkable;
+		private final Array<MyNode> nodes;
+
+		public MyGrid (final String gridTextRepresentation) {
+			final String[] rows = gridTextRepresentation.split("\n");
+			this.width = rows[0].length();
+			this.height = rows.length;
+			this.walkable = new boolean[width * height];
+			this.nodes = new Array<>(width * height);
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					walkable[y * width + x] = rows[y].charAt(x) == '.';
+					nodes.add(new MyNode(y * width + x, x, y));
+				}
+			}
+			for (MyNode node : nodes)
+				connect(node);
+		}
+
+		/** Changes the walkability of the given cell and returns the nodes whose connections have changed. */
+		public Array<MyNode> setWalkable (int x, int y, boolean walkable) {
+			this.walkable[y * width + x] = walkable;
+			final Array<MyNode> changedNodes = new Array<>();
+			changedNodes.add(getNode(x, y));
+			if (x > 0) changedNodes.add(getNode(x - 1, y));
+			if (y > 0) changedNodes.add(getNode(x, y - 1));
+			if (x < width - 1) changedNodes.add(getNode(x + 1, y));
+			if (y < height - 1) changedNodes.add(getNode(x, y + 1));
+			for (MyNode node : changedNodes)
+				connect(node);
+			return changedNodes;
+		}
+
+		private void connect (MyNode node) {
+			node.connections.clear();
+			if (!isWalkable(node.x, node.y)) return;
+			if (isWalkable(node.x - 1, node.y)) node.connections.add(new DefaultConnection<>(node, getNode(node.x - 1, node.y)));
+			if (isWalkable(node.x, node.y - 1)) node.connections.add(new DefaultConnection<>(node, getNode(node.x, node.y - 1)));
+			if (isWalkable(node.x + 1, node.y)) node.connections.add(new DefaultConnection<>(node, getNode(node.x + 1, node.y)));
+			if (isWalkable(node.x, node.y + 1)) node.connections.add(new DefaultConnection<>(node, getNode(node.x, node.y + 1)));
+		}
+
+		@Override
+		public int getIndex (MyNode node) {
+			return node.index;
+		}
+
+		@Override
+		public int getNodeCount () {
+			return nodes.size;
+		}
+
+		@Override
+		public Array<Connection<MyNode>> getConnections (MyNode fromNode) {
+			return fromNode.connections;
+		}
+
+		@Override
+		public int getWidth () {
+			return width;
+		}
+
+		@Override
+		public int getHeight () {
+			return height;
+		}
+
+		@Override
+		public boolean isWalkable (int x, int y) {
+			return x >= 0 && y >= 0 && x < width && y < height && walkable[y * width + x];
+		}
+
+		@Override
+		public MyNode getNode (int x, int y) {
+			return nodes.get(y * width + x);
+		}
+
+		@Override
+		public int getX (MyNode node) {
+			return node.x;
+		}
+
+		@Override
+		public int getY (MyNode node) {
+			return node.y;
+		}
+	}
+
+	private static class ManhattanDistance implements Heuristic<MyNode> {
+		@Override
+		public float estimate (final MyNode node, final MyNode endNode) {
+			return Math.abs(endNode.x - node.x) + Math.abs(endNode.y - node.y);
+		}
+	}
+
+}
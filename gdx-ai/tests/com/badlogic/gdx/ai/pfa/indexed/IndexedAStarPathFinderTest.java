@@ -19,12 +19,10 @@ package com.badlogic.gdx.ai.pfa.indexed;
 import org.junit.Assert;
 import org.junit.Test;
 
-import com.badlogic.gdx.ai.pfa.Connection;
-import com.badlogic.gdx.ai.pfa.DefaultConnection;
 import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
 import com.badlogic.gdx.ai.pfa.GraphPath;
-import com.badlogic.gdx.ai.pfa.Heuristic;
-import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.ManhattanDistance;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.MyNode;
 
 public class IndexedAStarPathFinderTest {
 
@@ -37,7 +35,7 @@ public class IndexedAStarPathFinderTest {
 				"..........";
 		// @on - enable libgdx formatter
 
-		final MyGraph graph = createGraphFromTextRepresentation(graphDrawing);
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
 
 		final IndexedAStarPathFinder<MyNode> pathfinder = new IndexedAStarPathFinder<>(graph);
 
@@ -111,7 +109,7 @@ public class IndexedAStarPathFinderTest {
 			"....#...............#......#..";
 		// @on - enable libgdx formatter
 
-		final MyGraph graph = createGraphFromTextRepresentation(graphDrawing);
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
 
 		final IndexedAStarPathFinder<MyNode> pathfinder = new IndexedAStarPathFinder<>(graph);
 
@@ -146,7 +144,7 @@ public class IndexedAStarPathFinderTest {
 			".....#....";
 		// @on - enable libgdx formatter
 
-		final MyGraph graph = createGraphFromTextRepresentation(graphDrawing);
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
 
 		final IndexedAStarPathFinder<MyNode> pathfinder = new IndexedAStarPathFinder<>(graph);
 
@@ -164,127 +162,4 @@ public class IndexedAStarPathFinderTest {
 		Assert.assertFalse("Unexpected search result", searchResult);
 	}
 
-	private static MyGraph createGraphFromTextRepresentation (final String graphTextRepresentation) {
-		final String[][] tiles = createStringTilesFromGraphTextRepresentation(graphTextRepresentation);
-
-		final int numRows = tiles[0].length;
-		final int numCols = tiles.length;
-
-		final MyNode[][] nodes = new MyNode[numCols][numRows];
-		final Array<MyNode> indexedNodes = new Array<>(numCols * numRows);
-
-		int index = 0;
-		for (int y = 0; y < numRows; y++) {
-			for (int x = 0; x < numCols; x++, index++) {
-				nodes[x][y] = new MyNode(index, x, y, 4);
-				indexedNodes.add(nodes[x][y]);
-			}
-		}
-
-		for (int y = 0; y < numRows; y++, index++) {
-			for (int x = 0; x < numCols; x++, index++) {
-				if (tiles[x][y].equals("#")) {
-					continue;
-				}
-
-				if (x - 1 >= 0 && tiles[x - 1][y].equals(".")) {
-					nodes[x][y].getConnections().add(new DefaultConnection<MyNode>(nodes[x][y], nodes[x - 1][y]));
-				}
-
-				if (x + 1 < numCols && tiles[x + 1][y].equals(".")) {
-					nodes[x][y].getConnections().add(new DefaultConnection<MyNode>(nodes[x][y], nodes[x + 1][y]));
-				}
-
-				if (y - 1 >= 0 && tiles[x][y - 1].equals(".")) {
-					nodes[x][y].getConnections().add(new DefaultConnection<MyNode>(nodes[x][y], nodes[x][y - 1]));
-				}
-
-				if (y + 1 < numRows && tiles[x][y + 1].equals(".")) {
-					nodes[x][y].getConnections().add(new DefaultConnection<MyNode>(nodes[x][y], nodes[x][y + 1]));
-				}
-
-			}
-		}
-
-		return new MyGraph(indexedNodes);
-	}
-
-	private static String[][] createStringTilesFromGraphTextRepresentation (final String graphTextRepresentation) {
-		final String[] rows = graphTextRepresentation.split("\n");
-
-		final int numRows = rows.length;
-		final int numCols = rows[0].length();
-
-		final String[][] tiles = new String[numCols][numRows];
-
-		for (int y = 0; y < numRows; y++) {
-			final String row = rows[y];
-			for (int x = 0; x < numCols; x++) {
-				tiles[x][y] = "" + row.charAt(x);
-			}
-		}
-
-		return tiles;
-	}
-
-	private static class MyNode {
-
-		private final int index;
-		private final int x;
-		private final int y;
-		private final Array<Connection<MyNode>> connections;
-
-		public MyNode (final int index, final int x, final int y, final int capacity) {
-			this.index = index;
-			this.x = x;
-			this.y = y;
-			this.connections = new Array<>(capacity);
-		}
-
-		public int getIndex () {
-			return index;
-		}
-
-		public Array<Connection<MyNode>> getConnections () {
-			return connections;
-		}
-
-		@Override
-		public String toString () {
-			return "IndexedNodeFake [index=" + index + ", x=" + x + ", y=" + y + ", connections=" + connections + "]";
-		}
-
-	}
-
-	private static class MyGraph implements IndexedGraph<MyNode> {
-
-		protected Array<MyNode> nodes;
-
-		public MyGraph (Array<MyNode> nodes) {
-			this.nodes = nodes;
-		}
-
-		@Override
-		public int getIndex (MyNode node) {
-			return node.getIndex();
-		}
-
-		@Override
-		public Array<Connection<MyNode>> getConnections (MyNode fromNode) {
-			return fromNode.getConnections();
-		}
-
-		@Override
-		public int getNodeCount () {
-			return nodes.size;
-		}
-	}
-
-	private static class ManhattanDistance implements Heuristic<MyNode> {
-		@Override
-		public float estimate (final MyNode node, final MyNode endNode) {
-			return Math.abs(endNode.x - node.x) + Math.abs(endNode.y - node.y);
-		}
-	}
-
 }
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IndexedOpenListTest {
+
+	private static final int CAPACITY = 50;
+
+	private static IndexedOpenList[] createOpenLists (int capacity) {
+		return new IndexedOpenList[] {new IndexedBinaryHeap(capacity), new IndexedQuaternaryHeap(capacity),
+			new IndexedPairingHeap(capacity), new IndexedBucketQueue(capacity), new IndexedBucketQueue(capacity, 0.25f),
+			new IndexedRadixHeap(capacity)};
+	}
+
+	@Test
+	public void pop_WhenItemsAdded_ExpectedItemsInValueOrder () {
+		for (IndexedOpenList openList : createOpenLists(CAPACITY)) {
+			final String name = openList.getClass().getSimpleName();
+			final float[] values = {7, 3, 12.5f, 3.25f, 0, 40, 1, 9};
+			for (int i = 0; i < values.length; i++)
+				openList.add(i, values[i]);
+
+			Assert.assertEquals(name + ": unexpected size", values.length, openList.size());
+			float lastValue = -1;
+			while (openList.size() > 0) {
+				final int item = openList.pop();
+				Assert.assertTrue(name + ": unexpected order", openList.getValue(item) >= lastValue);
+				Assert.assertEquals(name + ": unexpected value", values[item], openList.getValue(item), 0);
+				Assert.assertFalse(name + ": unexpected item", openList.contains(item));
+				lastValue = openList.getValue(item);
+			}
+		}
+	}
+
+	@Test
+	public void update_WhenValuesDecreasedAndIncreased_ExpectedNewOrder () {
+		for (IndexedOpenList openList : createOpenLists(CAPACITY)) {
+			final String name = openList.getClass().getSimpleName();
+			for (int i = 0; i < 10; i++)
+				openList.add(i, 10 + i);
+
+			openList.update(9, 5); // decrease the largest
+			openList.update(0, 30); // increase the smallest
+			openList.addOrUpdate(4, 6);
+			openList.addOrUpdate(20, 8);
+			Assert.assertTrue(name + ": unexpected removal", openList.remove(1));
+			Assert.assertFalse(name + ": unexpected removal", openList.remove(1));
+
+			final int[] expected = {9, 4, 20, 2, 3, 5, 6, 7, 8, 0};
+			for (int i = 0; i < expected.length; i++)
+				Assert.assertEquals(name + ": unexpected item", expected[i], openList.pop());
+			Assert.assertEquals(name + ": unexpected size", 0, openList.size());
+		}
+	}
+
+	@Test
+	public void pop_WhenRandomOperations_ExpectedSameResultsAsBinaryHeap () {
+		final int[] capacities = {CAPACITY, 1};
+		for (int capacity : capacities) {
+			final IndexedOpenList[] openLists = createOpenLists(capacity);
+			for (IndexedOpenList openList : openLists) {
+				final String name = openList.getClass().getSimpleName();
+				openList.ensureCapacity(CAPACITY);
+				Assert.assertTrue(name + ": unexpected capacity", openList.getCapacity() >= CAPACITY);
+
+				final IndexedBinaryHeap reference = new IndexedBinaryHeap(CAPACITY);
+				final Random random = new Random(42);
+				for (int i = 0; i < 5000; i++) {
+					final int item = random.nextInt(CAPACITY);
+					final float value = random.nextInt(100);
+					switch (random.nextInt(5)) {
+					case 0:
+					case 1:
+						openList.addOrUpdate(item, value);
+						reference.addOrUpdate(item, value);
+						break;
+					case 2:
+						Assert.assertEquals(name + ": unexpected removal", reference.remove(item), openList.remove(item));
+						break;
+					case 3:
+						if (reference.size == 0) break;
+						final int expectedItem = reference.pop();
+						final float expectedValue = reference.getValue(expectedItem);
+						final int popped = openList.pop();
+						Assert.assertEquals(name + ": unexpected value", expectedValue, openList.getValue(popped), 0);
+						if (popped != expectedItem) {
+							// Items with the same value have been popped in a different order
+							reference.add(expectedItem, expectedValue);
+							reference.remove(popped);
+						}
+						break;
+					default:
+						if (random.nextInt(50) == 0) {
+							openList.clear();
+							reference.clear();
+						}
+					}
+					Assert.assertEquals(name + ": unexpected size", reference.size, openList.size());
+					Assert.assertEquals(name + ": unexpected item", reference.contains(item), openList.contains(item));
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.ManhattanDistance;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.MyNode;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+
+public class LandmarkHeuristicTest {
+
+	// @off - disable libgdx formatter
+	private static final String DEAD_ENDS =
+		".#.#.......#..#...............\n" +
+		".#............#.....#..#####..\n" +
+		"...#.#######..#.....#.........\n" +
+		".#.#.#........#.....########..\n" +
+		".###.#....#####.....#......##.\n" +
+		".#...#....#.........#...##....\n" +
+		".#####....#.........#....#....\n" +
+		".#........#.........#....#####\n" +
+		".####....##.........#......#..\n" +
+		"....#...............#......#..";
+	// @on - enable libgdx formatter
+
+	@Test
+	public void estimate_WhenGoalIsLandmark_ExpectedExactCost () {
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(DEAD_ENDS);
+		final LandmarkHeuristic<MyNode> heuristic = new LandmarkHeuristicBuilder<>(graph, graph.nodes).setThreadCount(2)
+			.build(graph.nodes.get(0), 4);
+
+		Assert.assertEquals("Unexpected number of landmarks", 4, heuristic.getLandmarkCount());
+		Assert.assertFalse("Unexpected directed tables", heuristic.isDirected());
+
+		final PrimitiveIndexedAStarPathFinder<MyNode> pathfinder = new PrimitiveIndexedAStarPathFinder<>(graph);
+		final MyNode landmark = graph.nodes.get(heuristic.getLandmarkIndex(0));
+		for (int i = 0; i < graph.nodes.size; i += 7) {
+			final MyNode node = graph.nodes.get(i);
+			final GraphPath<Connection<MyNode>> outPath = new DefaultGraphPath<>();
+			if (!pathfinder.searchConnectionPath(node, landmark, new ManhattanDistance(), outPath)) continue;
+			Assert.assertEquals("Unexpected estimate", outPath.getCount(), heuristic.estimate(node, landmark), 0);
+		}
+	}
+
+	@Test
+	public void searchNodePath_WhenUsingLandmarks_ExpectedOptimalPathWithFewerExpansions () {
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(DEAD_ENDS);
+		final LandmarkHeuristic<MyNode> heuristic = new LandmarkHeuristicBuilder<>(graph, graph.nodes).build(graph.nodes.get(0), 4);
+
+		final PrimitiveIndexedAStarPathFinder<MyNode> pathfinder = new PrimitiveIndexedAStarPathFinder<>(graph, true);
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+		Assert.assertTrue("Unexpected search result", pathfinder.searchNodePath(graph.nodes.get(0), graph.nodes.get(212),
+			heuristic, outPath));
+		Assert.assertEquals("Unexpected number of nodes in path", 32, outPath.getCount());
+		final int landmarkAdditions = pathfinder.metrics.openListAdditions;
+
+		pathfinder.searchNodePath(graph.nodes.get(0), graph.nodes.get(212), new ManhattanDistance(),
+			new DefaultGraphPath<MyNode>());
+		Assert.assertTrue("Too many open list additions", landmarkAdditions <= pathfinder.metrics.openListAdditions);
+	}
+
+	@Test
+	public void selectFarthestLandmarks_WhenSelectingMany_ExpectedSameLandmarksAsFullSearches () {
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(DEAD_ENDS);
+		final LandmarkHeuristicBuilder<MyNode> builder = new LandmarkHeuristicBuilder<>(graph, graph.nodes);
+		final Array<MyNode> landmarks = builder.selectFarthestLandmarks(graph.nodes.get(0), 8);
+
+		// Farthest selection running a full search from each landmark
+		final IndexedBinaryHeap openList = new IndexedBinaryHeap(graph.nodes.size);
+		float[] minDistances = builder.dijkstra(0, false, openList);
+		for (int i = 0; i < 8; i++) {
+			int farthest = -1;
+			float maxDistance = 0;
+			for (int j = 0; j < minDistances.length; j++) {
+				if (minDistances[j] != Float.POSITIVE_INFINITY && minDistances[j] > maxDistance) {
+					maxDistance = minDistances[j];
+					farthest = j;
+				}
+			}
+			Assert.assertEquals("Unexpected landmark " + i, graph.nodes.get(farthest), landmarks.get(i));
+			final float[] distances = builder.dijkstra(farthest, false, openList);
+			for (int j = 0; j < minDistances.length; j++)
+				minDistances[j] = i == 0 ? distances[j] : Math.min(minDistances[j], distances[j]);
+		}
+	}
+
+	@Test
+	public void build_WhenUsingManyThreads_ExpectedSameEstimatesAsSingleThread () {
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(DEAD_ENDS);
+		final LandmarkHeuristic<MyNode> expected = new LandmarkHeuristicBuilder<>(graph, graph.nodes).setThreadCount(1)
+			.build(graph.nodes.get(0), 6);
+		final LandmarkHeuristic<MyNode> heuristic = new LandmarkHeuristicBuilder<>(graph, graph.nodes).setThreadCount(4)
+			.build(graph.nodes.get(0), 6);
+
+		Assert.assertEquals("Unexpected number of landmarks", 6, heuristic.getLandmarkCount());
+		for (int i = 0; i < 6; i++)
+			Assert.assertEquals("Unexpected landmark " + i, expected.getLandmarkIndex(i), heuristic.getLandmarkIndex(i));
+		for (int i = 0; i < graph.nodes.size; i += 3) {
+			for (int j = 0; j < graph.nodes.size; j += 13) {
+				Assert.assertEquals("Unexpected estimate", expected.estimate(graph.nodes.get(i), graph.nodes.get(j)),
+					heuristic.estimate(graph.nodes.get(i), graph.nodes.get(j)), 0);
+			}
+		}
+	}
+
+	@Test
+	public void load_WhenSaved_ExpectedSameEstimates () throws IOException {
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(DEAD_ENDS);
+		final LandmarkHeuristic<MyNode> heuristic = new LandmarkHeuristicBuilder<>(graph, graph.nodes).build(graph.nodes.get(0), 3);
+
+		final File file = File.createTempFile("landmarks", ".bin");
+		file.deleteOnExit();
+		heuristic.save(new FileHandle(file));
+		final LandmarkHeuristic<MyNode> loaded = LandmarkHeuristic.load(graph, new FileHandle(file));
+
+		Assert.assertEquals("Unexpected number of landmarks", 3, loaded.getLandmarkCount());
+		for (int i = 0; i < graph.nodes.size; i += 5) {
+			for (int j = 0; j < graph.nodes.size; j += 11) {
+				Assert.assertEquals("Unexpected estimate", heuristic.estimate(graph.nodes.get(i), graph.nodes.get(j)),
+					loaded.estimate(graph.nodes.get(i), graph.nodes.get(j)), 0);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultConnection;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.ReversibleGraph;
+import com.badlogic.gdx.utils.Array;
+
+/** The tile graph shared by the tests of the indexed path finders. It's built from a text representation where each row is a
+ * line, {@code '.'} is a walkable tile and {@code '#'} is a wall. Walkable tiles are connected to their walkable neighbors in the
+ * 4 directions with unit cost. */
+class MyGraph implements IndexedGraph<MyGraph.MyNode> {
+
+	protected Array<MyNode> nodes;
+
+	public MyGraph (Array<MyNode> nodes) {
+		this.nodes = nodes;
+	}
+
+	@Override
+	public int getIndex (MyNode node) {
+		return node.getIndex();
+	}
+
+	@Override
+	public Array<Connection<MyNode>> getConnections (MyNode fromNode) {
+		return fromNode.getConnections();
+	}
+
+	@Override
+	public int getNodeCount () {
+		return nodes.size;
+	}
+
+	static MyGraph createGraphFromTextRepresentation (final String graphTextRepresentation) {
+		return new MyGraph(createNodesFromTextRepresentation(graphTextRepresentation));
+	}
+
+	static MyReversibleGraph createReversibleGraphFromTextRepresentation (final String graphTextRepresentation) {
+		return new MyReversibleGraph(createNodesFromTextRepresentation(graphTextRepresentation));
+	}
+
+	/** Adds a connection from the given node to the other one, both as outgoing and incoming connection. */
+	static void connect (final MyNode fromNode, final MyNode toNode) {
+		final Connection<MyNode> connection = new DefaultConnection<MyNode>(fromNode, toNode);
+		fromNode.getConnections().add(connection);
+		toNode.getIncomingConnections().add(connection);
+	}
+
+	private static Array<MyNode> createNodesFromTextRepresentation (final String graphTextRepresentation) {
+		final String[][] tiles = createStringTilesFromGraphTextRepresentation(graphTextRepresentation);
+
+		final int numRows = tiles[0].length;
+		final int numCols = tiles.length;
+
+		final MyNode[][] nodes = new MyNode[numCols][numRows];
+		final Array<MyNode> indexedNodes = new Array<>(numCols * numRows);
+
+		int index = 0;
+		for (int y = 0; y < numRows; y++) {
+			for (int x = 0; x < numCols; x++, index++) {
+				nodes[x][y] = new MyNode(index, x, y, 4);
+				indexedNodes.add(nodes[x][y]);
+			}
+		}
+
+		for (int y = 0; y < numRows; y++) {
+			for (int x = 0; x < numCols; x++) {
+				if (tiles[x][y].equals("#")) {
+					continue;
+				}
+
+				if (x - 1 >= 0 && tiles[x - 1][y].equals(".")) {
+					connect(nodes[x][y], nodes[x - 1][y]);
+				}
+
+				if (x + 1 < numCols && tiles[x + 1][y].equals(".")) {
+					connect(nodes[x][y], nodes[x + 1][y]);
+				}
+
+				if (y - 1 >= 0 && tiles[x][y - 1].equals(".")) {
+					connect(nodes[x][y], nodes[x][y - 1]);
+				}
+
+				if (y + 1 < numRows && tiles[x][y + 1].equals(".")) {
+					connect(nodes[x][y], nodes[x][y + 1]);
+				}
+
+			}
+		}
+
+		return indexedNodes;
+	}
+
+	private static String[][] createStringTilesFromGraphTextRepresentation (final String graphTextRepresentation) {
+		final String[] rows = graphTextRepresentation.split("\n");
+
+		final int numRows = rows.length;
+		final int numCols = rows[0].length();
+
+		final String[][] tiles = new String[numCols][numRows];
+
+		for (int y = 0; y < numRows; y++) {
+			final String row = rows[y];
+			for (int x = 0; x < numCols; x++) {
+				tiles[x][y] = "" + row.charAt(x);
+			}
+		}
+
+		return tiles;
+	}
+
+	static class MyNode {
+
+		final int index;
+		final int x;
+		final int y;
+		private final Array<Connection<MyNode>> connections;
+		private final Array<Connection<MyNode>> incomingConnections;
+
+		public MyNode (final int index, final int x, final int y, final int capacity) {
+			this.index = index;
+			this.x = x;
+			this.y = y;
+			this.connections = new Array<>(capacity);
+			this.incomingConnections = new Array<>(capacity);
+		}
+
+		public int getIndex () {
+			return index;
+		}
+
+		public Array<Connection<MyNode>> getConnections () {
+			return connections;
+		}
+
+		public Array<Connection<MyNode>> getIncomingConnections () {
+			return incomingConnections;
+		}
+
+		@Override
+		public String toString () {
+			return "IndexedNodeFake [index=" + index + ", x=" + x + ", y=" + y + ", connections=" + connections + "]";
+		}
+
+	}
+
+	/** A {@link MyGraph} exposing the incoming connections of its nodes, which makes it directed for the path finders. */
+	static class MyReversibleGraph extends MyGraph implements ReversibleGraph<MyNode> {
+
+		public MyReversibleGraph (Array<MyNode> nodes) {
+			super(nodes);
+		}
+
+		@Override
+		public Array<Connection<MyNode>> getIncomingConnections (MyNode toNode) {
+			return toNode.getIncomingConnections();
+		}
+	}
+
+	static class ManhattanDistance implements Heuristic<MyNode> {
+		@Override
+		public float estimate (final MyNode node, final MyNode endNode) {
+			return Math.abs(endNode.x - node.x) + Math.abs(endNode.y - node.y);
+		}
+	}
+
+}
@@ -0,0 +1,323 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.PathFinderRequest;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.ManhattanDistance;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.MyNode;
+import com.badlogic.gdx.utils.Array;
+
+public class PrimitiveIndexedAStarPathFinderTest {
+
+	@Test
+	public void searchNodePath_WhenSearchingAdjacentTile_ExpectedOuputPathLengthEquals2 () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+				"..........\n" +
+				"..........\n" +
+				"..........";
+		// @on - enable libgdx formatter
+
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
+
+		final PrimitiveIndexedAStarPathFinder<MyNode> pathfinder = new PrimitiveIndexedAStarPathFinder<>(graph);
+
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// .......... 0
+		// .....S.... 10
+		// .....E.... 20
+		// @on - enable libgdx formatter
+		final boolean searchResult1 = pathfinder.searchNodePath(graph.nodes.get(15), graph.nodes.get(25), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult1);
+		Assert.assertEquals("Unexpected number of nodes in path", 2, outPath.getCount());
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// .......... 0
+		// .....SE... 10
+		// .......... 20
+		// @on - enable libgdx formatter
+		outPath.clear();
+		final boolean searchResult2 = pathfinder.searchNodePath(graph.nodes.get(15), graph.nodes.get(16), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult2);
+		Assert.assertEquals("Unexpected number of nodes in path", 2, outPath.getCount());
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// .......... 0
+		// ....ES.... 10
+		// .......... 20
+		// @on - enable libgdx formatter
+		outPath.clear();
+		final boolean searchResult3 = pathfinder.searchNodePath(graph.nodes.get(15), graph.nodes.get(14), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult3);
+		Assert.assertEquals("Unexpected number of nodes in path", 2, outPath.getCount());
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// .....E.... 0
+		// .....S.... 10
+		// .......... 20
+		// @on - enable libgdx formatter
+		outPath.clear();
+		final boolean searchResult4 = pathfinder.searchNodePath(graph.nodes.get(15), graph.nodes.get(5), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult4);
+		Assert.assertEquals("Unexpected number of nodes in path", 2, outPath.getCount());
+	}
+
+	@Test
+	public void searchNodePath_WhenSearchCanHitDeadEnds_ExpectedOuputPathFound () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			".#.#.......#..#...............\n" +
+			".#............#.....#..#####..\n" +
+			"...#.#######..#.....#.........\n" +
+			".#.#.#........#.....########..\n" +
+			".###.#....#####.....#......##.\n" +
+			".#...#....#.........#...##....\n" +
+			".#####....#.........#....#....\n" +
+			".#........#.........#....#####\n" +
+			".####....##.........#......#..\n" +
+			"....#...............#......#..";
+		// @on - enable libgdx formatter
+
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
+
+		final PrimitiveIndexedAStarPathFinder<MyNode> pathfinder = new PrimitiveIndexedAStarPathFinder<>(graph);
+
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+
+		// @off - disable libgdx formatter
+		// 012345678901234567890123456789
+		// S#.#.......#..#............... 0
+		// .#............#.....#..#####.. 30
+		// ...#.#######..#.....#......... 60
+		// .#.#.#........#.....########.. 90
+		// .###.#....#####.....#......##. 120
+		// .#...#....#.........#...##.... 150
+		// .#####....#.........#....#.... 180
+		// .#E.......#.........#....##### 210
+		// .####....##.........#......#.. 240
+		// ....#...............#......#.. 270
+		// @on - enable libgdx formatter
+		final boolean searchResult = pathfinder.searchNodePath(graph.nodes.get(0), graph.nodes.get(212), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult);
+		Assert.assertEquals("Unexpected number of nodes in path", 32, outPath.getCount());
+	}
+
+	@Test
+	public void searchConnectionPath_WhenSearchCanHitDeadEnds_ExpectedOuputPathFound () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			".#.#.......#..#...............\n" +
+			".#............#.....#..#####..\n" +
+			"...#.#######..#.....#.........\n" +
+			".#.#.#........#.....########..\n" +
+			".###.#....#####.....#......##.\n" +
+			".#...#....#.........#...##....\n" +
+			".#####....#.........#....#....\n" +
+			".#........#.........#....#####\n" +
+			".####....##.........#......#..\n" +
+			"....#...............#......#..";
+		// @on - enable libgdx formatter
+
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
+
+		final PrimitiveIndexedAStarPathFinder<MyNode> pathfinder = new PrimitiveIndexedAStarPathFinder<>(graph);
+
+		final GraphPath<Connection<MyNode>> outPath = new DefaultGraphPath<>();
+
+		// Search twice to make sure the state of the previous search doesn't affect the next one
+		for (int i = 0; i < 2; i++) {
+			outPath.clear();
+			final boolean searchResult = pathfinder.searchConnectionPath(graph.nodes.get(0), graph.nodes.get(212),
+				new ManhattanDistance(), outPath);
+
+			Assert.assertTrue("Unexpected search result", searchResult);
+			Assert.assertEquals("Unexpected number of connections in path", 31, outPath.getCount());
+			Assert.assertSame("Unexpected first node", graph.nodes.get(0), outPath.get(0).getFromNode());
+			Assert.assertSame("Unexpected last node", graph.nodes.get(212), outPath.get(outPath.getCount() - 1).getToNode());
+		}
+	}
+
+	@Test
+	public void search_WhenInterruptible_ExpectedSameOuputPathAsNonInterruptibleSearch () {
+		// A serpentine: walls on every 10th column, open alternately at the bottom and at the top
+		final StringBuilder graphDrawing = new StringBuilder();
+		for (int y = 0; y < 100; y++) {
+			if (y > 0) graphDrawing.append('\n');
+			for (int x = 0; x < 100; x++) {
+				final boolean gap = (x / 10) % 2 == 0 ? y == 99 : y == 0;
+				graphDrawing.append(x % 10 == 5 && !gap ? '#' : '.');
+			}
+		}
+
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing.toString());
+		final MyNode startNode = graph.nodes.get(0);
+		final MyNode endNode = graph.nodes.get(graph.nodes.size - 1);
+
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+		Assert.assertTrue("Unexpected search result",
+			new PrimitiveIndexedAStarPathFinder<>(graph).searchNodePath(startNode, endNode, new ManhattanDistance(), outPath));
+
+		final PrimitiveIndexedAStarPathFinder<MyNode> pathfinder = new PrimitiveIndexedAStarPathFinder<>(graph);
+		final PathFinderRequest<MyNode> request = new PathFinderRequest<>(startNode, endNode, new ManhattanDistance(),
+			new DefaultGraphPath<MyNode>());
+		request.statusChanged = true;
+
+		// Run the search in many small time slices
+		int slices = 1;
+		while (!pathfinder.search(request, 20000)) {
+			slices++;
+		}
+
+		Assert.assertTrue("Search not interrupted", slices > 1);
+		Assert.assertTrue("Unexpected search result", request.pathFound);
+		Assert.assertEquals("Unexpected number of nodes in path", outPath.getCount(), request.resultPath.getCount());
+		Assert.assertSame("Unexpected first node", startNode, request.resultPath.get(0));
+		Assert.assertSame("Unexpected last node", endNode, request.resultPath.get(request.resultPath.getCount() - 1));
+	}
+
+	@Test
+	public void searchNodePath_WhenDestinationUnreachable_ExpectedNoOuputPathFound () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			".....#....\n" +
+			".....#....\n" +
+			".....#....";
+		// @on - enable libgdx formatter
+
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
+
+		final PrimitiveIndexedAStarPathFinder<MyNode> pathfinder = new PrimitiveIndexedAStarPathFinder<>(graph);
+
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// S....#...E 0
+		// .....#.... 10
+		// .....#.... 20
+		// @on - enable libgdx formatter
+		final boolean searchResult = pathfinder.searchNodePath(graph.nodes.get(0), graph.nodes.get(9), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertFalse("Unexpected search result", searchResult);
+	}
+
+	@Test
+	public void searchConnectionPath_WhenGraphIsImplicit_ExpectedSamePathsAsExplicitGraph () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			".#.#.......#..#...............\n" +
+			".#............#.....#..#####..\n" +
+			"...#.#######..#.....#.........\n" +
+			".#.#.#........#.....########..\n" +
+			".###.#....#####.....#......##.\n" +
+			".#...#....#.........#...##....\n" +
+			".#####....#.........#....#....\n" +
+			".#........#.........#....#####\n" +
+			".####....##.........#......#..\n" +
+			"....#...............#......#..";
+		// @on - enable libgdx formatter
+
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
+		final MyImplicitGraph implicitGraph = new MyImplicitGraph(graph.nodes);
+
+		final PrimitiveIndexedAStarPathFinder<MyNode> pathfinder = new PrimitiveIndexedAStarPathFinder<>(graph);
+		final PrimitiveIndexedAStarPathFinder<MyNode> implicitPathfinder = new PrimitiveIndexedAStarPathFinder<>(implicitGraph);
+
+		final GraphPath<Connection<MyNode>> outPath = new DefaultGraphPath<>();
+		final GraphPath<Connection<MyNode>> implicitOutPath = new DefaultGraphPath<>();
+		final GraphPath<MyNode> implicitNodePath = new DefaultGraphPath<>();
+
+		for (int i = 0; i < graph.nodes.size; i += 7) {
+			for (int j = 0; j < graph.nodes.size; j += 11) {
+				outPath.clear();
+				implicitOutPath.clear();
+				implicitNodePath.clear();
+				final MyNode startNode = graph.nodes.get(i);
+				final MyNode endNode = graph.nodes.get(j);
+				final boolean found = pathfinder.searchConnectionPath(startNode, endNode, new ManhattanDistance(), outPath);
+				implicitGraph.getConnectionsCalls = 0;
+				final boolean implicitFound = implicitPathfinder.searchNodePath(startNode, endNode, new ManhattanDistance(),
+					implicitNodePath);
+
+				Assert.assertEquals("Unexpected search result from " + i + " to " + j, found, implicitFound);
+				Assert.assertEquals("Connections requested while searching", 0, implicitGraph.getConnectionsCalls);
+				if (!found) continue;
+
+				implicitPathfinder.searchConnectionPath(startNode, endNode, new ManhattanDistance(), implicitOutPath);
+				Assert.assertEquals("Unexpected number of connections in path from " + i + " to " + j, outPath.getCount(),
+					implicitOutPath.getCount());
+				Assert.assertEquals("Unexpected number of nodes in path from " + i + " to " + j, outPath.getCount() + 1,
+					implicitNodePath.getCount());
+				for (int k = 0; k < implicitOutPath.getCount(); k++) {
+					Assert.assertSame("Unexpected connection start", implicitNodePath.get(k), implicitOutPath.get(k).getFromNode());
+					Assert.assertSame("Unexpected connection end", implicitNodePath.get(k + 1), implicitOutPath.get(k).getToNode());
+				}
+			}
+		}
+	}
+
+	/** A graph visiting the neighbors by index; connections are only requested to build connection paths. */
+	private static class MyImplicitGraph extends MyGraph implements ImplicitIndexedGraph<MyNode> {
+		int getConnectionsCalls;
+
+		public MyImplicitGraph (Array<MyNode> nodes) {
+			super(nodes);
+		}
+
+		@Override
+		public Array<Connection<MyNode>> getConnections (MyNode fromNode) {
+			getConnectionsCalls++;
+			return super.getConnections(fromNode);
+		}
+
+		@Override
+		public MyNode getNode (int index) {
+			return nodes.get(index);
+		}
+
+		@Override
+		public void forEachNeighbor (int index, NeighborConsumer consumer) {
+			final Array<Connection<MyNode>> connections = nodes.get(index).getConnections();
+			for (int i = 0; i < connections.size; i++)
+				consumer.accept(connections.get(i).getToNode().getIndex(), connections.get(i).getCost());
+		}
+	}
+
+}
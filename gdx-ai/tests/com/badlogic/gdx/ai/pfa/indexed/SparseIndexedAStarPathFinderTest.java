@@ -0,0 +1,331 @@
+/*******************************************************************************
+ * Copyright 2015 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultConnection;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.ManhattanDistance;
+import com.badlogic.gdx.ai.pfa.indexed.MyGraph.MyNode;
+import com.badlogic.gdx.utils.Array;
+
+public class SparseIndexedAStarPathFinderTest {
+
+	@Test
+	public void searchNodePath_WhenSearchingAdjacentTile_ExpectedOuputPathLengthEquals2 () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+				"..........\n" +
+				"..........\n" +
+				"..........";
+		// @on - enable libgdx formatter
+
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
+
+		final SparseIndexedAStarPathFinder<MyNode> pathfinder = new SparseIndexedAStarPathFinder<>(graph);
+
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// .......... 0
+		// .....S.... 10
+		// .....E.... 20
+		// @on - enable libgdx formatter
+		final boolean searchResult1 = pathfinder.searchNodePath(graph.nodes.get(15), graph.nodes.get(25), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult1);
+		Assert.assertEquals("Unexpected number of nodes in path", 2, outPath.getCount());
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// .......... 0
+		// .....SE... 10
+		// .......... 20
+		// @on - enable libgdx formatter
+		outPath.clear();
+		final boolean searchResult2 = pathfinder.searchNodePath(graph.nodes.get(15), graph.nodes.get(16), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult2);
+		Assert.assertEquals("Unexpected number of nodes in path", 2, outPath.getCount());
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// .......... 0
+		// ....ES.... 10
+		// .......... 20
+		// @on - enable libgdx formatter
+		outPath.clear();
+		final boolean searchResult3 = pathfinder.searchNodePath(graph.nodes.get(15), graph.nodes.get(14), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult3);
+		Assert.assertEquals("Unexpected number of nodes in path", 2, outPath.getCount());
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// .....E.... 0
+		// .....S.... 10
+		// .......... 20
+		// @on - enable libgdx formatter
+		outPath.clear();
+		final boolean searchResult4 = pathfinder.searchNodePath(graph.nodes.get(15), graph.nodes.get(5), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult4);
+		Assert.assertEquals("Unexpected number of nodes in path", 2, outPath.getCount());
+	}
+
+	@Test
+	public void searchNodePath_WhenSearchCanHitDeadEnds_ExpectedOuputPathFound () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			".#.#.......#..#...............\n" +
+			".#............#.....#..#####..\n" +
+			"...#.#######..#.....#.........\n" +
+			".#.#.#........#.....########..\n" +
+			".###.#....#####.....#......##.\n" +
+			".#...#....#.........#...##....\n" +
+			".#####....#.........#....#....\n" +
+			".#........#.........#....#####\n" +
+			".####....##.........#......#..\n" +
+			"....#...............#......#..";
+		// @on - enable libgdx formatter
+
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
+
+		final SparseIndexedAStarPathFinder<MyNode> pathfinder = new SparseIndexedAStarPathFinder<>(graph);
+
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+
+		// @off - disable libgdx formatter
+		// 012345678901234567890123456789
+		// S#.#.......#..#............... 0
+		// .#............#.....#..#####.. 30
+		// ...#.#######..#.....#......... 60
+		// .#.#.#........#.....########.. 90
+		// .###.#....#####.....#......##. 120
+		// .#...#....#.........#...##.... 150
+		// .#####....#.........#....#.... 180
+		// .#E.......#.........#....##### 210
+		// .####....##.........#......#.. 240
+		// ....#...............#......#.. 270
+		// @on - enable libgdx formatter
+		final boolean searchResult = pathfinder.searchNodePath(graph.nodes.get(0), graph.nodes.get(212), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult);
+		Assert.assertEquals("Unexpected number of nodes in path", 32, outPath.getCount());
+	}
+
+	@Test
+	public void searchConnectionPath_WhenSearchCanHitDeadEnds_ExpectedOuputPathFound () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			".#.#.......#..#...............\n" +
+			".#............#.....#..#####..\n" +
+			"...#.#######..#.....#.........\n" +
+			".#.#.#........#.....########..\n" +
+			".###.#....#####.....#......##.\n" +
+			".#...#....#.........#...##....\n" +
+			".#####....#.........#....#....\n" +
+			".#........#.........#....#####\n" +
+			".####....##.........#......#..\n" +
+			"....#...............#......#..";
+		// @on - enable libgdx formatter
+
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
+
+		// Start with a single slot so that the search state has to grow
+		final SparseIndexedAStarPathFinder<MyNode> pathfinder = new SparseIndexedAStarPathFinder<>(graph, 1,
+			new IndexedBinaryHeap(1), false);
+
+		final GraphPath<Connection<MyNode>> outPath = new DefaultGraphPath<>();
+
+		// Search twice to make sure the state of the previous search doesn't affect the next one
+		for (int i = 0; i < 2; i++) {
+			outPath.clear();
+			final boolean searchResult = pathfinder.searchConnectionPath(graph.nodes.get(0), graph.nodes.get(212),
+				new ManhattanDistance(), outPath);
+
+			Assert.assertTrue("Unexpected search result", searchResult);
+			Assert.assertEquals("Unexpected number of connections in path", 31, outPath.getCount());
+			Assert.assertSame("Unexpected first node", graph.nodes.get(0), outPath.get(0).getFromNode());
+			Assert.assertSame("Unexpected last node", graph.nodes.get(212), outPath.get(outPath.getCount() - 1).getToNode());
+		}
+	}
+
+	@Test
+	public void searchNodePath_WhenDestinationUnreachable_ExpectedNoOuputPathFound () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			".....#....\n" +
+			".....#....\n" +
+			".....#....";
+		// @on - enable libgdx formatter
+
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
+
+		final SparseIndexedAStarPathFinder<MyNode> pathfinder = new SparseIndexedAStarPathFinder<>(graph);
+
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+
+		// @off - disable libgdx formatter
+		// 0123456789
+		// S....#...E 0
+		// .....#.... 10
+		// .....#.... 20
+		// @on - enable libgdx formatter
+		final boolean searchResult = pathfinder.searchNodePath(graph.nodes.get(0), graph.nodes.get(9), new ManhattanDistance(),
+			outPath);
+
+		Assert.assertFalse("Unexpected search result", searchResult);
+	}
+
+	@Test
+	public void searchNodePath_WhenComparedWithIndexedAStarPathFinder_ExpectedSamePathLengths () {
+		// @off - disable libgdx formatter
+		final String graphDrawing =
+			".#.#.......#..#...............\n" +
+			".#............#.....#..#####..\n" +
+			"...#.#######..#.....#.........\n" +
+			".#.#.#........#.....########..\n" +
+			".###.#....#####.....#......##.\n" +
+			".#...#....#.........#...##....\n" +
+			".#####....#.........#....#....\n" +
+			".#........#.........#....#####\n" +
+			".####....##.........#......#..\n" +
+			"....#...............#......#..";
+		// @on - enable libgdx formatter
+
+		final MyGraph graph = MyGraph.createGraphFromTextRepresentation(graphDrawing);
+
+		final SparseIndexedAStarPathFinder<MyNode> pathfinder = new SparseIndexedAStarPathFinder<>(graph, 4,
+			new IndexedBinaryHeap(4), false);
+		final IndexedAStarPathFinder<MyNode> referencePathfinder = new IndexedAStarPathFinder<>(graph);
+
+		final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+		final GraphPath<MyNode> referencePath = new DefaultGraphPath<>();
+
+		for (int i = 0; i < graph.nodes.size; i += 7) {
+			for (int j = 0; j < graph.nodes.size; j += 11) {
+				outPath.clear();
+				referencePath.clear();
+				final MyNode startNode = graph.nodes.get(i);
+				final MyNode endNode = graph.nodes.get(j);
+				final boolean found = pathfinder.searchNodePath(startNode, endNode, new ManhattanDistance(), outPath);
+				final boolean referenceFound = referencePathfinder.searchNodePath(startNode, endNode, new ManhattanDistance(),
+					referencePath);
+
+				Assert.assertEquals("Unexpected search result from " + i + " to " + j, referenceFound, found);
+				Assert.assertEquals("Unexpected number of nodes in path from " + i + " to " + j, referencePath.getCount(),
+					outPath.getCount());
+			}
+		}
+	}
+
+	@Test
+	public void searchNodePath_WhenGraphIsHuge_ExpectedCapacityBoundedBySearchSize () {
+		final MyHugeGraph graph = new MyHugeGraph(2048, 2048);
+
+		final SparseIndexedAStarPathFinder<Integer> pathfinder = new SparseIndexedAStarPathFinder<>(graph, 16,
+			new IndexedBinaryHeap(16), false);
+
+		final GraphPath<Integer> outPath = new DefaultGraphPath<>();
+
+		// Search from the center of the map to a node 50 tiles away
+		final int startNode = 1024 * 2048 + 1024;
+		final boolean searchResult = pathfinder.searchNodePath(startNode, startNode + 30 * 2048 + 20, graph, outPath);
+
+		Assert.assertTrue("Unexpected search result", searchResult);
+		Assert.assertEquals("Unexpected number of nodes in path", 51, outPath.getCount());
+		Assert.assertTrue("Capacity not bounded by search size: " + pathfinder.getCapacity(), pathfinder.getCapacity() <= 4096);
+		Assert.assertEquals("Connections requested while searching", 0, graph.getConnectionsCalls);
+
+		// Connections are only created for the path
+		final GraphPath<Connection<Integer>> outConnectionPath = new DefaultGraphPath<>();
+		pathfinder.searchConnectionPath(startNode, startNode + 30 * 2048 + 20, graph, outConnectionPath);
+
+		Assert.assertEquals("Unexpected number of connections in path", 50, outConnectionPath.getCount());
+		Assert.assertEquals("Unexpected number of connection requests", 50, graph.getConnectionsCalls);
+		Assert.assertEquals("Unexpected first node", startNode, outConnectionPath.get(0).getFromNode().intValue());
+	}
+
+	/** A 4-connected grid without obstacles whose nodes are their indices; its neighbors are visited by index and connections are
+	 * only created on demand. */
+	private static class MyHugeGraph implements ImplicitIndexedGraph<Integer>, Heuristic<Integer> {
+		private final int width;
+		private final int height;
+		int getConnectionsCalls;
+
+		public MyHugeGraph (int width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override
+		public int getIndex (Integer node) {
+			return node;
+		}
+
+		@Override
+		public Array<Connection<Integer>> getConnections (Integer fromNode) {
+			getConnectionsCalls++;
+			final int x = fromNode % width;
+			final int y = fromNode / width;
+			final Array<Connection<Integer>> connections = new Array<>(4);
+			if (x > 0) connections.add(new DefaultConnection<Integer>(fromNode, fromNode - 1));
+			if (x < width - 1) connections.add(new DefaultConnection<Integer>(fromNode, fromNode + 1));
+			if (y > 0) connections.add(new DefaultConnection<Integer>(fromNode, fromNode - width));
+			if (y < height - 1) connections.add(new DefaultConnection<Integer>(fromNode, fromNode + width));
+			return connections;
+		}
+
+		@Override
+		public int getNodeCount () {
+			return width * height;
+		}
+
+		@Override
+		public Integer getNode (int index) {
+			return index;
+		}
+
+		@Override
+		public void forEachNeighbor (int index, NeighborConsumer consumer) {
+			final int x = index % width;
+			final int y = index / width;
+			if (x > 0) consumer.accept(index - 1, 1);
+			if (x < width - 1) consumer.accept(index + 1, 1);
+			if (y > 0) consumer.accept(index - width, 1);
+			if (y < height - 1) consumer.accept(index + width, 1);
+		}
+
+		@Override
+		public float estimate (Integer node, Integer endNode) {
+			return Math.abs(endNode % width - node % width) + Math.abs(endNode / width - node / width);
+		}
+	}
+
+}
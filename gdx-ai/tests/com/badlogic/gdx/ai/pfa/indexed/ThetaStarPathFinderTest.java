@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright 2026 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.ai.pfa.indexed;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.utils.Collision;
+import com.badlogic.gdx.ai.utils.Ray;
+import com.badlogic.gdx.ai.utils.RaycastCollisionDetector;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+public class ThetaStarPathFinderTest {
+
+	// @off - disable libgdx formatter
+	private static final String OPEN_ROOM =
+		"..........\n" +
+		"..........\n" +
+		"..........";
+
+	private static final String WALLS =
+		"....................\n" +
+		"....#...............\n" +
+		"....#.......#.......\n" +
+		"....#.......#.......\n" +
+		"....#.......#.......\n" +
+		"............#.......\n" +
+		"....................";
+
+	private static final String ENCLOSED_TILE =
+		".....\n" +
+		".###.\n" +
+		".#.#.\n" +
+		".###.";
+	// @on - enable libgdx formatter
+
+	@Test
+	public void searchNodePath_WhenInLineOfSight_ExpectedOutputPathLengthEquals2 () {
+		final MyGrid grid = new MyGrid(OPEN_ROOM);
+
+		for (boolean lazy : new boolean[] {false, true}) {
+			final ThetaStarPathFinder<MyNode, Vector2> pathfinder = new ThetaStarPathFinder<>(grid, grid, grid, lazy, false);
+			final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+			Assert.assertTrue("Unexpected search result", pathfinder.searchNodePath(grid.getNode(0, 0), grid.getNode(9, 2),
+				new EuclideanDistance(), outPath));
+			Assert.assertEquals("Unexpected number of nodes in path", 2, outPath.getCount());
+			Assert.assertSame("Unexpected start node", grid.getNode(0, 0), outPath.get(0));
+			Assert.assertSame("Unexpected end node", grid.getNode(9, 2), outPath.get(1));
+		}
+	}
+
+	@Test
+	public void searchNodePath_WhenWallsInTheWay_ExpectedPathShorterThanAStarInLineOfSight () {
+		final MyGrid grid = new MyGrid(WALLS);
+		final MyNode startNode = grid.getNode(0, 3);
+		final MyNode endNode = grid.getNode(19, 3);
+
+		final GraphPath<Connection<MyNode>> aStarPath = new DefaultGraphPath<>();
+		Assert.assertTrue("Unexpected A* search result", new IndexedAStarPathFinder<>(grid).searchConnectionPath(startNode,
+			endNode, new EuclideanDistance(), aStarPath));
+		float aStarCost = 0;
+		for (Connection<MyNode> connection : aStarPath)
+			aStarCost += connection.getCost();
+
+		final float[] costs = new float[2];
+		for (int i = 0; i < 2; i++) {
+			final ThetaStarPathFinder<MyNode, Vector2> pathfinder = new ThetaStarPathFinder<>(grid, grid, grid, i == 1, false);
+			final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+			Assert.assertTrue("Unexpected search result", pathfinder.searchNodePath(startNode, endNode, new EuclideanDistance(),
+				outPath));
+			Assert.assertSame("Unexpected start node", startNode, outPath.get(0));
+			Assert.assertSame("Unexpected end node", endNode, outPath.get(outPath.getCount() - 1));
+			for (int j = 1; j < outPath.getCount(); j++) {
+				Assert.assertTrue("Nodes not in line of sight", grid.isInLineOfSight(outPath.get(j - 1), outPath.get(j)));
+				costs[i] += new EuclideanDistance().estimate(outPath.get(j - 1), outPath.get(j));
+			}
+			Assert.assertTrue("Unexpected path cost " + costs[i], costs[i] < aStarCost);
+		}
+		Assert.assertEquals("Unexpected Lazy Theta* path cost", costs[0], costs[1], 0.001f);
+	}
+
+	@Test
+	public void searchConnectionPath_WhenWallsInTheWay_ExpectedChainOfConnectionsWithLineOfSightCosts () {
+		final MyGrid grid = new MyGrid(WALLS);
+		final MyNode startNode = grid.getNode(0, 3);
+		final MyNode endNode = grid.getNode(19, 3);
+
+		final ThetaStarPathFinder<MyNode, Vector2> pathfinder = new ThetaStarPathFinder<>(grid, grid, grid);
+		final GraphPath<Connection<MyNode>> outPath = new DefaultGraphPath<>();
+		Assert.assertTrue("Unexpected search result", pathfinder.searchConnectionPath(startNode, endNode,
+			new EuclideanDistance(), outPath));
+
+		MyNode node = startNode;
+		for (Connection<MyNode> connection : outPath) {
+			Assert.assertSame("Unexpected connection", node, connection.getFromNode());
+			final float distance = new EuclideanDistance().estimate(node, connection.getToNode());
+			Assert.assertEquals("Unexpected connection cost", distance, connection.getCost(), 0.001f);
+			node = connection.getToNode();
+		}
+		Assert.assertSame("End node not reached", endNode, node);
+	}
+
+	@Test
+	public void searchNodePath_WhenLazy_ExpectedFewerLineOfSightChecks () {
+		final MyGrid grid = new MyGrid(WALLS);
+		final ThetaStarPathFinder<MyNode, Vector2> pathfinder = new ThetaStarPathFinder<>(grid, grid, grid, false, true);
+		final ThetaStarPathFinder<MyNode, Vector2> lazyPathfinder = new ThetaStarPathFinder<>(grid, grid, grid, true, true);
+
+		pathfinder.searchNodePath(grid.getNode(0, 3), grid.getNode(19, 3), new EuclideanDistance(), new DefaultGraphPath<MyNode>());
+		lazyPathfinder.searchNodePath(grid.getNode(0, 3), grid.getNode(19, 3), new EuclideanDistance(),
+			new DefaultGraphPath<MyNode>());
+
+		Assert.assertTrue("Unexpected number of line of sight checks " + lazyPathfinder.metrics.lineOfSightChecks,
+			lazyPathfinder.metrics.lineOfSightChecks < pathfinder.metrics.lineOfSightChecks);
+	}
+
+	@Test
+	public void searchNodePath_WhenDestinationUnreachable_ExpectedNoPathFound () {
+		final MyGrid grid = new MyGrid(ENCLOSED_TILE);
+
+		for (boolean lazy : new boolean[] {false, true}) {
+			final ThetaStarPathFinder<MyNode, Vector2> pathfinder = new ThetaStarPathFinder<>(grid, grid, grid, lazy, false);
+			final GraphPath<MyNode> outPath = new DefaultGraphPath<>();
+			Assert.assertFalse("Unexpected search result", pathfinder.searchNodePath(grid.getNode(0, 0), grid.getNode(2, 2),
+				new EuclideanDistance(), outPath));
+			Assert.assertEquals("Unexpected number of nodes in path", 0, outPath.getCount());
+		}
+	}
+
+	private static class MyNode {
+
+		private final int index;
+		private final int x;
+		private final int y;
+		private final Array<Connection<MyNode>> connections;
+
+		public MyNode (final int index, final int x, final int y) {
+			this.index = index;
+			this.x = x;
+			this.y = y;
+			this.connections = new Array<>(8);
+		}
+
+		@Override
+		public String toString () {
+			return "MyNode [index=" + index + ", x=" + x + ", y=" + y + "]";
+		}
+	}
+
+	private static class MyConnection implements Connection<MyNode> {
+
+		private final MyNode fromNode;
+		private final MyNode toNode;
+		private final float cost;
+
+		public MyConnection (final MyNode fromNode, final MyNode toNode) {
+			this.fromNode = fromNode;
+			this.toNode = toNode;
+			this.cost = (float)Math.sqrt((toNode.x - fromNode.x) * (toNode.x - fromNode.x) + (toNode.y - fromNode.y)
+				* (toNode.y - fromNode.y));
+		}
+
+		@Override
+		public float getCost () {
+			return cost;
+		}
+
+		@Override
+		public MyNode getFromNode () {
+			return fromNode;
+		}
+
+		@Override
+		public MyNode getToNode () {
+			return toNode;
+		}
+	}
+
+	/** An 8-connected grid whose tiles are unit squares centered on the positions of their nodes. Diagonal moves cutting the
+	 * corner of a wall are not allowed. */
+	private static class MyGrid implements IndexedGraph<MyNode>, ThetaStarPathFinder.NodePositionProvider<MyNode, Vector2>,
+		RaycastCollisionDetector<Vector2> {
+
+		private final int width;
+		private final int height;
+		private final boolean[] walkable;
+		private final Array<MyNode> nodes;
+		private final Vector2 position;
+
+		public MyGrid (final String gridTextRepresentation) {
+			final String[] rows = gridTextRepresentation.split("\n");
+			this.width = rows[0].length();
+			this.height = rows.length;
+			this.walkable = new boolean[width * height];
+			this.nodes = new Array<>(width * height);
+			this.position = new Vector2();
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					walkable[y * width + x] = rows[y].charAt(x) == '.';
+					nodes.add(new MyNode(y * width + x, x, y));
+				}
+			}
+			for (MyNode node : nodes) {
+				if (!isWalkable(node.x, node.y)) continue;
+				for (int dy = -1; dy <= 1; dy++) {
+					for (int dx = -1; dx <= 1; dx++) {
+						if ((dx != 0 || dy != 0) && isWalkable(node.x + dx, node.y + dy) && isWalkable(node.x + dx, node.y)
+							&& isWalkable(node.x, node.y + dy)) {
+							node.connections.add(new MyConnection(node, getNode(node.x + dx, node.y + dy)));
+						}
+					}
+				}
+			}
+		}
+
+		public MyNode getNode (int x, int y) {
+			return nodes.get(y * width + x);
+		}
+
+		public boolean isWalkable (int x, int y) {
+			return x >= 0 && y >= 0 && x < width && y < height && walkable[y * width + x];
+		}
+
+		public boolean isInLineOfSight (MyNode fromNode, MyNode toNode) {
+			return !collides(new Ray<>(new Vector2(fromNode.x, fromNode.y), new Vector2(toNode.x, toNode.y)));
+		}
+
+		@Override
+		public Vector2 getNodePosition (MyNode node) {
+			return position.set(node.x, node.y);
+		}
+
+		/** Samples the ray, also testing the tiles touched at a small distance from each sample so that rays passing exactly
+		 * through the corner of a wall collide with it. */
+		@Override
+		public boolean collides (Ray<Vector2> ray) {
+			final int samples = (int)(ray.start.dst(ray.end) * 100) + 1;
+			for (int i = 0; i <= samples; i++) {
+				final float px = ray.start.x + (ray.end.x - ray.start.x) * i / samples + 0.5f;
+				final float py = ray.start.y + (ray.end.y - ray.start.y) * i / samples + 0.5f;
+				for (int j = 0; j < 4; j++) {
+					final int x = (int)Math.floor(px + ((j & 1) == 0 ? -0.001f : 0.001f));
+					final int y = (int)Math.floor(py + ((j & 2) == 0 ? -0.001f : 0.001f));
+					if (!isWalkable(x, y)) return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public boolean findCollision (Collision<Vector2> outputCollision, Ray<Vector2> inputRay) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int getIndex (MyNode node) {
+			return node.index;
+		}
+
+		@Override
+		public int getNodeCount () {
+			return nodes.size;
+		}
+
+		@Override
+		public Array<Connection<MyNode>> getConnections (MyNode fromNode) {
+			return fromNode.connections;
+		}
+	}
+
+	private static class EuclideanDistance implements Heuristic<MyNode> {
+
+		@Override
+		public float estimate (final MyNode node, final MyNode endNode) {
+			return (float)Math.sqrt((endNode.x - node.x) * (endNode.x - node.x) + (endNode.y - node.y) * (endNode.y - node.y));
+		}
+	}
+}
@@ -17,6 +17,7 @@
 package com.badlogic.gdx.ai.tests.pfa.tests.tiled.flat;
 
 import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.grid.Grid;
 import com.badlogic.gdx.ai.tests.pfa.tests.tiled.DungeonUtils;
 import com.badlogic.gdx.ai.tests.pfa.tests.tiled.TiledGraph;
 import com.badlogic.gdx.utils.Array;
@@ -24,46 +25,55 @@ import com.badlogic.gdx.utils.Array;
 /** A random generated graph representing a flat tiled map.
  * 
  * @author davebaol */
-public class FlatTiledGraph implements TiledGraph<FlatTiledNode> {
+public class FlatTiledGraph implements TiledGraph<FlatTiledNode>, Grid<FlatTiledNode> {
 	public static final int sizeX = 125; // 200; //100;
 	public static final int sizeY = 75; // 120; //60;
 
+	protected final int width;
+	protected final int height;
 	protected Array<FlatTiledNode> nodes;
 
 	public boolean diagonal;
 	public FlatTiledNode startNode;
 
 	public FlatTiledGraph () {
-		this.nodes = new Array<FlatTiledNode>(sizeX * sizeY);
+		this(sizeX, sizeY);
+	}
+
+	/** Creates a flat tiled map with the given size. Notice that the demos always use the default size. */
+	public FlatTiledGraph (int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.nodes = new Array<FlatTiledNode>(width * height);
 		this.diagonal = false;
 		this.startNode = null;
 	}
 	
 	@Override
 	public void init (int roomCount, int roomMinSize, int roomMaxSize, int squashIterations) {
-		int map[][] = DungeonUtils.generate(sizeX, sizeY, roomCount, roomMinSize, roomMaxSize, squashIterations);
-		for (int x = 0; x < sizeX; x++) {
-			for (int y = 0; y < sizeY; y++) {
-				nodes.add(new FlatTiledNode(x, y, map[x][y], 4));
+		int map[][] = DungeonUtils.generate(width, height, roomCount, roomMinSize, roomMaxSize, squashIterations);
+		for (int x = 0; x < width; x++) {
+			for (int y = 0; y < height; y++) {
+				nodes.add(new FlatTiledNode(x * height + y, x, y, map[x][y], 4));
 			}
 		}
 
 		// Each node has up to 4 neighbors, therefore no diagonal movement is possible
-		for (int x = 0; x < sizeX; x++) {
-			int idx = x * sizeY;
-			for (int y = 0; y < sizeY; y++) {
+		for (int x = 0; x < width; x++) {
+			int idx = x * height;
+			for (int y = 0; y < height; y++) {
 				FlatTiledNode n = nodes.get(idx + y);
 				if (x > 0) addConnection(n, -1, 0);
 				if (y > 0) addConnection(n, 0, -1);
-				if (x < sizeX - 1) addConnection(n, 1, 0);
-				if (y < sizeY - 1) addConnection(n, 0, 1);
+				if (x < width - 1) addConnection(n, 1, 0);
+				if (y < height - 1) addConnection(n, 0, 1);
 			}
 		}
 	}
 
 	@Override
 	public FlatTiledNode getNode (int x, int y) {
-		return nodes.get(x * sizeY + y);
+		return nodes.get(x * height + y);
 	}
 
 	@Override
@@ -86,6 +96,31 @@ public class FlatTiledGraph implements TiledGraph<FlatTiledNode> {
 		return fromNode.getConnections();
 	}
 
+	@Override
+	public int getWidth () {
+		return width;
+	}
+
+	@Override
+	public int getHeight () {
+		return height;
+	}
+
+	@Override
+	public boolean isWalkable (int x, int y) {
+		return x >= 0 && y >= 0 && x < width && y < height && getNode(x, y).type == FlatTiledNode.TILE_FLOOR;
+	}
+
+	@Override
+	public int getX (FlatTiledNode node) {
+		return node.x;
+	}
+
+	@Override
+	public int getY (FlatTiledNode node) {
+		return node.y;
+	}
+
 	private void addConnection (FlatTiledNode n, int xOffset, int yOffset) {
 		FlatTiledNode target = getNode(n.x + xOffset, n.y + yOffset);
 		if (target.type == FlatTiledNode.TILE_FLOOR) n.getConnections().add(new FlatTiledConnection(this, n, target));
@@ -25,13 +25,20 @@ import com.badlogic.gdx.utils.Array;
  * @author davebaol */
 public class FlatTiledNode extends TiledNode<FlatTiledNode> {
 
+	private final int index;
+
 	public FlatTiledNode (int x, int y, int type, int connectionCapacity) {
+		this(x * FlatTiledGraph.sizeY + y, x, y, type, connectionCapacity);
+	}
+
+	public FlatTiledNode (int index, int x, int y, int type, int connectionCapacity) {
 		super(x, y, type, new Array<Connection<FlatTiledNode>>(connectionCapacity));
+		this.index = index;
 	}
 
 	@Override
 	public int getIndex () {
-		return x * FlatTiledGraph.sizeY + y;
+		return index;
 	}
 
 }